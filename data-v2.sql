@@ -1,4 +1,8 @@
 --  -- 기존 테이블 정리 (개발용)
+DROP TABLE IF EXISTS performance_sales_deltas CASCADE;
+DROP TABLE IF EXISTS performance_sales CASCADE;
+DROP TABLE IF EXISTS outbox_events CASCADE;
+DROP SEQUENCE IF EXISTS outbox_events_event_id_seq;
 DROP TABLE IF EXISTS system_metrics CASCADE;
 DROP TABLE IF EXISTS refunds CASCADE;
 DROP TABLE IF EXISTS payments CASCADE;
@@ -6,6 +10,7 @@ DROP TABLE IF EXISTS booking_seats CASCADE;
 DROP TABLE IF EXISTS bookings CASCADE;
 DROP TABLE IF EXISTS seat_locks CASCADE;
 DROP TABLE IF EXISTS schedule_seats CASCADE;
+DROP TABLE IF EXISTS venue_seat_templates CASCADE;
 DROP TABLE IF EXISTS performance_schedules CASCADE;
 DROP TABLE IF EXISTS performances CASCADE;
 DROP TABLE IF EXISTS venues CASCADE;
@@ -102,7 +107,21 @@ CREATE TABLE IF NOT EXISTS schedule_seats (
     version BIGINT DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    UNIQUE(schedule_id, zone, row_label, col_num)
+    -- zone이 없는 좌석도 중복 생성되지 않도록 NULL을 같은 값으로 취급 (PostgreSQL 15+, ON CONFLICT 대상)
+    UNIQUE NULLS NOT DISTINCT (schedule_id, zone, row_label, col_num)
+    );
+
+-- 공연장 좌석 템플릿 (좌석 맵 버전별로 한 번만 전개, 스케줄 좌석 생성 시 INSERT ... SELECT 원본)
+CREATE TABLE IF NOT EXISTS venue_seat_templates (
+                                                    venue_id BIGINT NOT NULL REFERENCES venues(venue_id) ON DELETE CASCADE,
+    fingerprint CHAR(64) NOT NULL,
+    seat_no INTEGER NOT NULL,
+    grade VARCHAR(10) NOT NULL,
+    zone VARCHAR(50),
+    row_label VARCHAR(10) NOT NULL,
+    col_num VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (venue_id, fingerprint, seat_no)
     );
 
 -- 좌석 잠금 테이블
@@ -185,6 +204,41 @@ CREATE TABLE IF NOT EXISTS system_metrics (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
     );
 
+-- 트랜잭션 아웃박스 (커밋 후 비동기로 전달할 부수 효과: 대기열 토큰 사용, 감사 로그 등)
+CREATE SEQUENCE IF NOT EXISTS outbox_events_event_id_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS outbox_events (
+    event_id BIGINT PRIMARY KEY DEFAULT nextval('outbox_events_event_id_seq'),
+    event_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100),
+    idempotency_key VARCHAR(200) NOT NULL UNIQUE,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) CHECK (status IN ('PENDING', 'PROCESSING', 'DISPATCHED', 'FAILED')) DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    dispatched_at TIMESTAMP
+    );
+
+-- 공연별 판매 요약 (CONFIRMED 예매 기준, 증감분 테이블을 주기적으로 병합)
+CREATE TABLE IF NOT EXISTS performance_sales (
+    performance_id BIGINT PRIMARY KEY REFERENCES performances(performance_id) ON DELETE CASCADE,
+    confirmed_bookings INTEGER NOT NULL DEFAULT 0,
+    seat_count INTEGER NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0.00,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    );
+
+-- 판매 요약 증감분 (예매 생성/취소 트랜잭션에서 INSERT만, 요약 행은 잠그지 않음)
+CREATE TABLE IF NOT EXISTS performance_sales_deltas (
+    delta_id BIGSERIAL PRIMARY KEY,
+    performance_id BIGINT NOT NULL REFERENCES performances(performance_id) ON DELETE CASCADE,
+    confirmed_bookings INTEGER NOT NULL,
+    seat_count INTEGER NOT NULL,
+    revenue DECIMAL(14,2) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    );
+
 -- 인덱스 생성 (성능 최적화)
 CREATE INDEX IF NOT EXISTS idx_users_email ON users(email);
 CREATE INDEX IF NOT EXISTS idx_users_username ON users(username);
@@ -203,6 +257,12 @@ CREATE INDEX IF NOT EXISTS idx_bookings_user_id ON bookings(user_id);
 CREATE INDEX IF NOT EXISTS idx_bookings_schedule_id ON bookings(schedule_id);
 CREATE INDEX IF NOT EXISTS idx_bookings_booking_number ON bookings(booking_number);
 CREATE INDEX IF NOT EXISTS idx_bookings_status ON bookings(status);
+CREATE INDEX IF NOT EXISTS idx_bookings_status_booking_id ON bookings(status, booking_id DESC);
+-- 커서 페이지네이션 (created_at, booking_id)
+CREATE INDEX IF NOT EXISTS idx_bookings_created_at_id ON bookings(created_at DESC, booking_id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_status_created_at_id ON bookings(status, created_at DESC, booking_id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_user_created_at_id ON bookings(user_id, created_at DESC, booking_id DESC);
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users(created_at, user_id);
 CREATE INDEX IF NOT EXISTS idx_booking_seats_booking_id ON booking_seats(booking_id);
 CREATE INDEX IF NOT EXISTS idx_booking_seats_seat_id ON booking_seats(seat_id);
 CREATE INDEX IF NOT EXISTS idx_payments_booking_id ON payments(booking_id);
@@ -210,6 +270,9 @@ CREATE INDEX IF NOT EXISTS idx_payments_transaction_id ON payments(transaction_i
 CREATE INDEX IF NOT EXISTS idx_refunds_payment_id ON refunds(payment_id);
 CREATE INDEX IF NOT EXISTS idx_refunds_booking_id ON refunds(booking_id);
 CREATE INDEX IF NOT EXISTS idx_system_metrics_timestamp ON system_metrics(timestamp);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_dispatchable ON outbox_events(next_attempt_at, event_id) WHERE status IN ('PENDING', 'PROCESSING');
+CREATE INDEX IF NOT EXISTS idx_outbox_events_dispatched_at ON outbox_events(dispatched_at) WHERE status = 'DISPATCHED';
+CREATE INDEX IF NOT EXISTS idx_performance_sales_deltas_performance_id ON performance_sales_deltas(performance_id);
 -- JSONB seatmap index
 CREATE INDEX IF NOT EXISTS idx_venues_seatmap ON venues USING gin (seat_map_json);
 
@@ -565,4 +628,7 @@ SELECT setval('seat_locks_lock_id_seq', (SELECT COALESCE(MAX(lock_id), 1) FROM s
 SELECT setval('payments_payment_id_seq', (SELECT COALESCE(MAX(payment_id), 1) FROM payments), true);
 SELECT setval('refunds_refund_id_seq', (SELECT COALESCE(MAX(refund_id), 1) FROM refunds), true);
 SELECT setval('system_metrics_metric_id_seq', (SELECT COALESCE(MAX(metric_id), 1) FROM system_metrics), true);
-SELECT setval('queue_tokens_token_id_seq', (SELECT COALESCE(MAX(token_id), 1) FROM queue_tokens), true);
\ No newline at end of file
+SELECT setval('queue_tokens_token_id_seq', (SELECT COALESCE(MAX(token_id), 1) FROM queue_tokens), true);
+
+-- booking_seats는 Hibernate 시퀀스 풀(allocationSize = 50)로 ID를 할당하므로 증가폭을 맞춤
+ALTER SEQUENCE booking_seats_booking_seat_id_seq INCREMENT BY 50;
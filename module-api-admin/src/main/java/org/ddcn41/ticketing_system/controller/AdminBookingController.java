@@ -8,12 +8,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
+import org.ddcn41.ticketing_system.common.dto.booking.BookingDto;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelJobResponse;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelRequest;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookingDetail200ResponseDto;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookings200ResponseDto;
 import org.ddcn41.ticketing_system.service.AdminBookingService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -42,6 +50,81 @@ public class AdminBookingController {
         return ResponseEntity.ok(adminBookingService.getBookings(status, page, limit));
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "List all bookings by cursor (Admin)", description = "Lists bookings newest first using keyset pagination - Admin only")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or status", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Admin access required", content = @Content)
+    })
+    public ResponseEntity<CursorPage<BookingDto>> getAllBookingsByCursor(
+            @Parameter(description = "Filter by booking status (optional)")
+            @RequestParam(value = "status", required = false) String status,
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor (omit for the first page)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Items per page", example = "20")
+            @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit) {
+        return ResponseEntity.ok(adminBookingService.getBookingsByCursor(status, cursor, limit));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export bookings (Admin)", description = "Streams all bookings as NDJSON (one booking per line) or CSV (one seat per line) - Admin only. " +
+            "Container deployment only: the Lambda deployment buffers responses (6 MB / 60 s) and returns 501")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "Invalid format or status", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Admin access required", content = @Content),
+            @ApiResponse(responseCode = "501", description = "Export is not available in the Lambda deployment", content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @Parameter(description = "Filter by booking status (optional)")
+            @RequestParam(value = "status", required = false) String status,
+            @Parameter(description = "ndjson or csv", example = "ndjson")
+            @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format) {
+        return adminBookingService.exportBookings(status, format);
+    }
+
+    @PostMapping("/bulk-cancel")
+    @Operation(summary = "Bulk cancel bookings (Admin)",
+            description = "Cancels every CONFIRMED booking of a schedule or performance (e.g. cancelled show) as a chunked background job. " +
+                    "Poll GET /v1/admin/bookings/bulk-cancel/{jobId} for progress - Admin only")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Accepted",
+                    content = @Content(schema = @Schema(implementation = BulkCancelJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid scope", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Admin access required", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Schedule or performance not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "A job for the same target is running", content = @Content)
+    })
+    public ResponseEntity<BulkCancelJobResponse> startBulkCancel(@Valid @RequestBody BulkCancelRequest request,
+                                                                 Authentication authentication) {
+        String requestedBy = authentication != null ? authentication.getName() : null;
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(adminBookingService.startBulkCancel(request, requestedBy));
+    }
+
+    @GetMapping("/bulk-cancel/{jobId}")
+    @Operation(summary = "Get bulk cancel job progress (Admin)", description = "Admin only")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = BulkCancelJobResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Admin access required", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Job not found", content = @Content)
+    })
+    public ResponseEntity<BulkCancelJobResponse> getBulkCancelJob(
+            @Parameter(description = "Job ID", required = true)
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(adminBookingService.getBulkCancelJob(jobId));
+    }
+
     @GetMapping("/{bookingId}")
     @Operation(summary = "Get any booking detail (Admin)", description = "Fetches detailed information for any booking - Admin only")
     @SecurityRequirement(name = "bearerAuth")
@@ -0,0 +1,72 @@
+package org.ddcn41.ticketing_system.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.dto.sales.SalesSnapshotResponse;
+import org.ddcn41.ticketing_system.service.AdminSalesService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/admin/sales")
+@Tag(name = "Admin Sales", description = "Live sell-through numbers during on-sale")
+public class AdminSalesController {
+
+    private final AdminSalesService adminSalesService;
+
+    @GetMapping("/performances")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Live sales for performances", description = "Bookings, seats sold, revenue, cancellation rate and bookings/sec summed across all servers")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    public ResponseEntity<List<SalesSnapshotResponse>> getPerformanceSales(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(adminSalesService.getPerformanceSales(ids));
+    }
+
+    @GetMapping("/performances/{performanceId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Live sales for a performance")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = SalesSnapshotResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    public ResponseEntity<SalesSnapshotResponse> getPerformanceSales(
+            @Parameter(description = "Performance ID", required = true)
+            @PathVariable Long performanceId) {
+        return ResponseEntity.ok(adminSalesService.getPerformanceSales(performanceId));
+    }
+
+    @GetMapping("/schedules/{scheduleId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Live sales for a schedule")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = SalesSnapshotResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    public ResponseEntity<SalesSnapshotResponse> getScheduleSales(
+            @Parameter(description = "Schedule ID", required = true)
+            @PathVariable Long scheduleId) {
+        return ResponseEntity.ok(adminSalesService.getScheduleSales(scheduleId));
+    }
+}
@@ -9,14 +9,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.dto.seat.InitializeSeatsJobResponse;
 import org.ddcn41.ticketing_system.common.dto.seat.InitializeSeatsResponse;
 import org.ddcn41.ticketing_system.service.AdminScheduleSeatService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/v1/admin/schedules")
@@ -29,23 +29,52 @@ public class AdminScheduleSeatController {
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
             summary = "Initialize seats for ALL schedules",
-            description = "Runs the seat expansion for every schedule in performance_schedules."
+            description = "Starts an asynchronous job that expands seats for every schedule in performance_schedules. Poll GET /v1/admin/schedules/initialize/jobs/{jobId} for progress."
     )
     @SecurityRequirement(name = "bearerAuth")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "OK",
-                    content = @Content(schema = @Schema(implementation = InitializeSeatsResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Accepted",
+                    content = @Content(schema = @Schema(implementation = InitializeSeatsJobResponse.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
-            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Another job is running", content = @Content)
     })
-    public ResponseEntity<org.ddcn41.ticketing_system.common.dto.ApiResponse<List<InitializeSeatsResponse>>> initializeAllSchedules(
+    public ResponseEntity<org.ddcn41.ticketing_system.common.dto.ApiResponse<InitializeSeatsJobResponse>> initializeAllSchedules(
             @Parameter(description = "Dry run without persisting", required = false)
             @RequestParam(name = "dryRun", required = false, defaultValue = "false") boolean dryRun
     ) {
-        List<InitializeSeatsResponse> results = adminScheduleSeatService.initializeAllSchedules(dryRun);
-        return ResponseEntity.ok(
+        InitializeSeatsJobResponse job = adminScheduleSeatService.initializeAllSchedules(dryRun);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
                 org.ddcn41.ticketing_system.common.dto.ApiResponse
-                        .success(dryRun ? "모든 스케줄 좌석 초기화 미리보기" : "모든 스케줄 좌석 초기화 완료", results)
+                        .success(dryRun ? "모든 스케줄 좌석 초기화 미리보기 작업 시작" : "모든 스케줄 좌석 초기화 작업 시작", job)
+        );
+    }
+
+    @GetMapping("/initialize/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get seat initialization job progress", description = "Use jobId 'latest' for the most recent job.")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<org.ddcn41.ticketing_system.common.dto.ApiResponse<InitializeSeatsJobResponse>> getInitializeJob(
+            @Parameter(description = "Job ID", required = true)
+            @PathVariable String jobId
+    ) {
+        InitializeSeatsJobResponse job = adminScheduleSeatService.getInitializeJob(jobId);
+        return ResponseEntity.ok(
+                org.ddcn41.ticketing_system.common.dto.ApiResponse.success("좌석 초기화 작업 조회", job)
+        );
+    }
+
+    @PostMapping("/initialize/jobs/{jobId}/resume")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Resume an interrupted seat initialization job", description = "Skips schedules already completed by the job and retries failed ones.")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<org.ddcn41.ticketing_system.common.dto.ApiResponse<InitializeSeatsJobResponse>> resumeInitializeJob(
+            @Parameter(description = "Job ID", required = true)
+            @PathVariable String jobId
+    ) {
+        InitializeSeatsJobResponse job = adminScheduleSeatService.resumeInitializeJob(jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                org.ddcn41.ticketing_system.common.dto.ApiResponse.success("좌석 초기화 작업 재개", job)
         );
     }
 
@@ -1,21 +1,99 @@
 package org.ddcn41.ticketing_system.service;
 
-import lombok.RequiredArgsConstructor;
+import feign.Response;
 import org.ddcn41.ticketing_system.common.client.BookingClient;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
+import org.ddcn41.ticketing_system.common.dto.booking.BookingDto;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelJobResponse;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelRequest;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookingDetail200ResponseDto;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookings200ResponseDto;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class AdminBookingService {
 
+    private static final int EXPORT_CHUNK_SIZE = 64 * 1024;
+
     private final BookingClient bookingClient;
+    private final boolean exportEnabled;
+
+    /**
+     * @param exportEnabled Lambda 배포(template.yaml)에서는 false — 프록시 응답이 한 번에 버퍼링되고
+     *                      6MB/함수 타임아웃(60초)에 걸리므로 내보내기는 컨테이너 배포에서만 제공
+     */
+    public AdminBookingService(BookingClient bookingClient,
+                               @Value("${admin.booking.export.enabled:true}") boolean exportEnabled) {
+        this.bookingClient = bookingClient;
+        this.exportEnabled = exportEnabled;
+    }
 
     public GetBookings200ResponseDto getBookings(String status, Integer page, Integer limit) {
         return bookingClient.getBookings(status, page, limit);
     }
 
+    public CursorPage<BookingDto> getBookingsByCursor(String status, String cursor, Integer limit) {
+        return bookingClient.getBookingsByCursor(status, cursor, limit);
+    }
+
+    /**
+     * 예약 내보내기 프록시 — 업스트림 응답 본문을 버퍼링하지 않고 청크 단위로 그대로 전달
+     * - 컨테이너 배포 전용: 내보내기가 꺼진 배포(Lambda)에서는 업스트림을 부르기 전에 501로 거절
+     */
+    public ResponseEntity<StreamingResponseBody> exportBookings(String status, String format) {
+        if (!exportEnabled) {
+            throw new BusinessException(ErrorCode.BOOKING_EXPORT_NOT_SUPPORTED);
+        }
+        Response upstream = bookingClient.exportBookings(status, format);
+
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_DISPOSITION)) {
+            Collection<String> values = upstream.headers().get(name);
+            if (values == null) {
+                values = upstream.headers().get(name.toLowerCase());
+            }
+            if (values != null) {
+                headers.put(name, List.copyOf(values));
+            }
+        }
+
+        StreamingResponseBody body = out -> {
+            try (Response response = upstream) {
+                if (response.body() == null) {
+                    return;
+                }
+                try (InputStream in = response.body().asInputStream()) {
+                    byte[] buffer = new byte[EXPORT_CHUNK_SIZE];
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        out.write(buffer, 0, read);
+                        out.flush();
+                    }
+                }
+            }
+        };
+        return ResponseEntity.status(upstream.status()).headers(headers).body(body);
+    }
+
+    public BulkCancelJobResponse startBulkCancel(BulkCancelRequest request, String requestedBy) {
+        request.setRequestedBy(requestedBy);
+        return bookingClient.startBulkCancel(request);
+    }
+
+    public BulkCancelJobResponse getBulkCancelJob(String jobId) {
+        return bookingClient.getBulkCancelJob(jobId);
+    }
+
     public GetBookingDetail200ResponseDto getBookingDetailById(Long bookingId) {
         return bookingClient.getBookingDetailById(bookingId);
     }
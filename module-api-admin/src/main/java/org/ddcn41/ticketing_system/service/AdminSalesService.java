@@ -0,0 +1,26 @@
+package org.ddcn41.ticketing_system.service;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.client.SalesClient;
+import org.ddcn41.ticketing_system.common.dto.sales.SalesSnapshotResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AdminSalesService {
+    private final SalesClient salesClient;
+
+    public List<SalesSnapshotResponse> getPerformanceSales(List<Long> performanceIds) {
+        return salesClient.getPerformanceSales(performanceIds);
+    }
+
+    public SalesSnapshotResponse getPerformanceSales(Long performanceId) {
+        return salesClient.getPerformanceSales(performanceId);
+    }
+
+    public SalesSnapshotResponse getScheduleSales(Long scheduleId) {
+        return salesClient.getScheduleSales(scheduleId);
+    }
+}
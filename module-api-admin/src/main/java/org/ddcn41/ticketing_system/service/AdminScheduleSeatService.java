@@ -2,18 +2,25 @@ package org.ddcn41.ticketing_system.service;
 
 import lombok.RequiredArgsConstructor;
 import org.ddcn41.ticketing_system.common.client.SeatClient;
+import org.ddcn41.ticketing_system.common.dto.seat.InitializeSeatsJobResponse;
 import org.ddcn41.ticketing_system.common.dto.seat.InitializeSeatsResponse;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class AdminScheduleSeatService {
     private final SeatClient seatClient;
 
-    public List<InitializeSeatsResponse> initializeAllSchedules(boolean dryRun) {
-        return seatClient.initializeAllSchedules(dryRun);
+    public InitializeSeatsJobResponse initializeAllSchedules(boolean dryRun) {
+        return seatClient.startInitializeAllJob(dryRun).getData();
+    }
+
+    public InitializeSeatsJobResponse getInitializeJob(String jobId) {
+        return seatClient.getInitializeJob(jobId).getData();
+    }
+
+    public InitializeSeatsJobResponse resumeInitializeJob(String jobId) {
+        return seatClient.resumeInitializeJob(jobId).getData();
     }
 
     public InitializeSeatsResponse initializeSchedule(Long scheduleId, boolean dryRun) {
@@ -15,17 +15,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.ddcn41.starter.authorization.model.BasicCognitoUser;
 import org.ddcn41.ticketing_system.booking.dto.request.CancelBookingRequestDto;
 import org.ddcn41.ticketing_system.booking.dto.request.CreateBookingRequestDto;
+import org.ddcn41.ticketing_system.booking.dto.response.BookingTicketResponseDto;
 import org.ddcn41.ticketing_system.booking.dto.response.CancelBooking200ResponseDto;
 import org.ddcn41.ticketing_system.booking.dto.response.CreateBookingResponseDto;
+import org.ddcn41.ticketing_system.booking.intake.BookingIntakeService;
 import org.ddcn41.ticketing_system.booking.service.BookingService;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
+import org.ddcn41.ticketing_system.common.dto.booking.BookingDto;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookingDetail200ResponseDto;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookings200ResponseDto;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
 
 @Slf4j
 @RestController
@@ -35,6 +44,7 @@ import org.springframework.web.bind.annotation.*;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingIntakeService bookingIntakeService;
 
     @PostMapping
     @Operation(summary = "Create a booking", description = "Creates a new booking for the authenticated user")
@@ -42,17 +52,57 @@ public class BookingController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Booking created",
                     content = @Content(schema = @Schema(implementation = CreateBookingResponseDto.class))),
+            @ApiResponse(responseCode = "202", description = "Booking request accepted (async intake mode)",
+                    content = @Content(schema = @Schema(implementation = BookingTicketResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Related resource not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Related resource not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Another booking request is in progress", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Intake queue is full", content = @Content)
     })
-    public ResponseEntity<CreateBookingResponseDto> createBooking(
+    public ResponseEntity<?> createBooking(
             @Valid @RequestBody CreateBookingRequestDto body,@AuthenticationPrincipal BasicCognitoUser currentUser) {
 
+        if (bookingIntakeService.isEnabled()) {
+            BookingTicketResponseDto ticket = bookingIntakeService.submit(currentUser.getUserId(), body);
+            URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/v1/bookings/tickets/{ticketId}")
+                    .buildAndExpand(ticket.getTicketId())
+                    .toUri();
+            return ResponseEntity.accepted().location(location).body(ticket);
+        }
+
         CreateBookingResponseDto res = bookingService.createBooking(currentUser.getUserId(), body);
         return ResponseEntity.status(HttpStatus.CREATED).body(res);
     }
 
+    @GetMapping("/tickets/{ticketId}")
+    @Operation(summary = "Get booking request status", description = "Polls the result of an asynchronously accepted booking request")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = BookingTicketResponseDto.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Ticket not found or expired", content = @Content)
+    })
+    public ResponseEntity<BookingTicketResponseDto> getBookingTicket(
+            @Parameter(description = "Ticket ID", required = true)
+            @PathVariable String ticketId,
+            @AuthenticationPrincipal BasicCognitoUser currentUser) {
+        return ResponseEntity.ok(bookingIntakeService.getTicket(currentUser.getUserId(), ticketId));
+    }
+
+    @GetMapping(value = "/tickets/{ticketId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to booking request result",
+            description = "Server-Sent Events stream that sends a single 'booking-ticket' event when the request finishes")
+    @SecurityRequirement(name = "bearerAuth")
+    public SseEmitter streamBookingTicket(
+            @Parameter(description = "Ticket ID", required = true)
+            @PathVariable String ticketId,
+            @AuthenticationPrincipal BasicCognitoUser currentUser) {
+        return bookingIntakeService.subscribe(currentUser.getUserId(), ticketId);
+    }
+
     @GetMapping("/{bookingId}")
     @Operation(summary = "Get my booking detail", description = "Fetches detailed information for user's own booking")
     @SecurityRequirement(name = "bearerAuth")
@@ -103,6 +153,26 @@ public class BookingController {
         ));
     }
 
+    @GetMapping("/me/cursor")
+    @Operation(summary = "List my bookings by cursor", description = "Lists current user's bookings newest first using keyset pagination")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or status", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    public ResponseEntity<CursorPage<BookingDto>> getMyBookingsByCursor(
+            @Parameter(description = "Filter by booking status (optional)")
+            @RequestParam(value = "status", required = false) String status,
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor (omit for the first page)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Items per page", example = "20")
+            @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit,
+            @AuthenticationPrincipal BasicCognitoUser currentUser) {
+        return ResponseEntity.ok(bookingService.getUserBookingsByCursor(
+                currentUser.getUserId(), status, cursor, limit));
+    }
+
     @PatchMapping("/{bookingId}/cancel")
     @Operation(summary = "Cancel a booking", description = "Cancels an existing booking")
     @SecurityRequirement(name = "bearerAuth")
@@ -4,20 +4,34 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.ddcn41.starter.authorization.model.BasicCognitoUser;
 import org.ddcn41.ticketing_system.common.dto.ApiResponse;
+import org.ddcn41.ticketing_system.seat.dto.request.BestAvailableSeatRequest;
 import org.ddcn41.ticketing_system.seat.dto.request.SeatConfirmRequest;
 import org.ddcn41.ticketing_system.seat.dto.request.SeatLockRequest;
 import org.ddcn41.ticketing_system.seat.dto.request.SeatReleaseRequest;
+import org.ddcn41.ticketing_system.seat.dto.response.BestAvailableSeatResponse;
 import org.ddcn41.ticketing_system.seat.dto.response.SeatAvailabilityResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatChangesResponse;
 import org.ddcn41.ticketing_system.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatZoneMapResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatZoneSummaryResponse;
+import org.ddcn41.ticketing_system.seat.service.BestAvailableSeatService;
+import org.ddcn41.ticketing_system.seat.service.SeatCommandService;
 import org.ddcn41.ticketing_system.seat.service.SeatService;
+import org.ddcn41.ticketing_system.seat.service.SeatStreamService;
+import org.ddcn41.ticketing_system.seat.service.SeatZoneService;
 import org.ddcn41.ticketing_system.user.entity.User;
 import org.ddcn41.ticketing_system.user.service.UserService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -31,23 +45,104 @@ public class SeatController {
     private static final String FORBIDDEN = "FORBIDDEN";
 
     private final SeatService seatService;
+    private final SeatCommandService seatCommandService;
+    private final SeatStreamService seatStreamService;
+    private final SeatZoneService seatZoneService;
+    private final BestAvailableSeatService bestAvailableSeatService;
     private final UserService userService;
 
     /**
      * 스케줄의 좌석 가용성 조회
      * GET /api/v1/schedules/{scheduleId}/seats
+     * - 좌석 상태 버전을 ETag로 사용 (If-None-Match 일치 시 304)
      */
     @GetMapping("/schedules/{scheduleId}/seats")
     public ResponseEntity<ApiResponse<SeatAvailabilityResponse>> getScheduleSeats(
-            @PathVariable Long scheduleId) {
+            @PathVariable Long scheduleId,
+            WebRequest webRequest) {
+
+        Long version = seatService.getSeatStateVersion(scheduleId);
+        if (version != null && webRequest.checkNotModified("\"" + scheduleId + "-" + version + "\"")) {
+            return null; // 304 Not Modified (응답 헤더는 checkNotModified에서 설정됨)
+        }
 
-        SeatAvailabilityResponse response = seatService.getSeatsAvailability(scheduleId);
+        SeatAvailabilityResponse response = seatService.getSeatsAvailability(scheduleId, version);
 
         return ResponseEntity.ok(
                 ApiResponse.success("좌석 조회 성공", response)
         );
     }
 
+    /**
+     * 구역/등급별 좌석 상태 요약
+     * GET /api/v1/schedules/{scheduleId}/seats/zones
+     */
+    @GetMapping("/schedules/{scheduleId}/seats/zones")
+    public ResponseEntity<ApiResponse<SeatZoneSummaryResponse>> getScheduleSeatZones(
+            @PathVariable Long scheduleId,
+            WebRequest webRequest) {
+
+        Long version = seatService.getSeatStateVersion(scheduleId);
+        if (version != null && webRequest.checkNotModified("\"" + scheduleId + "-zones-" + version + "\"")) {
+            return null;
+        }
+
+        return ResponseEntity.ok(
+                ApiResponse.success("구역별 좌석 요약 조회 성공", seatZoneService.getZoneSummary(scheduleId, version))
+        );
+    }
+
+    /**
+     * 구역 단위 좌석 맵 조회 (등급/가격은 섹션 단위, 좌석 상태는 행 단위 문자열)
+     * GET /api/v1/schedules/{scheduleId}/seats/zones/{zone}
+     */
+    @GetMapping("/schedules/{scheduleId}/seats/zones/{zone}")
+    public ResponseEntity<ApiResponse<SeatZoneMapResponse>> getScheduleZoneSeats(
+            @PathVariable Long scheduleId,
+            @PathVariable String zone,
+            WebRequest webRequest) {
+
+        Long version = seatService.getSeatStateVersion(scheduleId);
+        if (version != null && webRequest.checkNotModified(zoneEtag(scheduleId, zone, version))) {
+            return null;
+        }
+
+        return ResponseEntity.ok(
+                ApiResponse.success("구역 좌석 조회 성공", seatZoneService.getZoneSeatMap(scheduleId, zone, version))
+        );
+    }
+
+    /**
+     * 특정 버전 이후 변경된 좌석만 조회
+     * GET /api/v1/schedules/{scheduleId}/seats/changes?since={version}
+     * - 버전이 너무 오래된 경우 fullSnapshot=true 와 함께 전체 스냅샷 반환
+     */
+    @GetMapping("/schedules/{scheduleId}/seats/changes")
+    public ResponseEntity<ApiResponse<SeatChangesResponse>> getScheduleSeatChanges(
+            @PathVariable Long scheduleId,
+            @RequestParam long since) {
+
+        SeatChangesResponse response = seatService.getSeatChanges(scheduleId, since);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        response.isFullSnapshot() ? "좌석 전체 스냅샷 조회 성공" : "좌석 변경분 조회 성공",
+                        response
+                )
+        );
+    }
+
+    /**
+     * 스케줄 좌석 상태 실시간 구독 (SSE)
+     * GET /api/v1/schedules/{scheduleId}/seats/stream
+     * - seat-version: 연결 직후 현재 버전
+     * - seat-changes: 락/해제/예매로 바뀐 좌석 (flush 주기마다 병합 전송, reset=true면 스냅샷 재조회)
+     */
+    @GetMapping(value = "/schedules/{scheduleId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScheduleSeats(@PathVariable Long scheduleId) {
+        return seatStreamService.subscribe(scheduleId);
+    }
+
     /**
      * 특정 좌석들의 가용성 확인
      * POST /api/v1/seats/check-availability
@@ -101,7 +196,8 @@ public class SeatController {
         String effectiveUserId = User.Role.ADMIN.equals(authenticatedUser.getRole()) ?
                 request.getUserId() : authenticatedUser.getUserId();
 
-        SeatLockResponse response = seatService.lockSeats(
+        SeatLockResponse response = seatCommandService.lockSeats(
+                scheduleId,
                 request.getSeatIds(),
                 effectiveUserId,  // 인증된 사용자 ID 사용
                 request.getSessionId()
@@ -118,6 +214,44 @@ public class SeatController {
         }
     }
 
+    /**
+     * 연속 좌석 자동 배정 (N석, 등급/구역 조건) 후 락
+     * POST /api/v1/schedules/{scheduleId}/seats/best-available
+     */
+    @PostMapping("/schedules/{scheduleId}/seats/best-available")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<BestAvailableSeatResponse>> allocateBestAvailableSeats(
+            @PathVariable Long scheduleId,
+            @Valid @RequestBody BestAvailableSeatRequest request,
+            @AuthenticationPrincipal BasicCognitoUser currentUser) {
+
+        String username = currentUser.getUsername();
+        User authenticatedUser = userService.findByUsername(username);
+
+        // 관리자가 아닌 경우, 요청의 userId와 인증된 사용자가 일치하는지 검증
+        if (!User.Role.ADMIN.equals(authenticatedUser.getRole()) &&
+                !authenticatedUser.getUserId().equals(request.getUserId())) {
+            return ResponseEntity.status(403).body(
+                    ApiResponse.error("본인의 좌석만 배정받을 수 있습니다", FORBIDDEN, null)
+            );
+        }
+
+        String effectiveUserId = User.Role.ADMIN.equals(authenticatedUser.getRole()) ?
+                request.getUserId() : authenticatedUser.getUserId();
+
+        BestAvailableSeatResponse response = bestAvailableSeatService.allocate(scheduleId, request, effectiveUserId);
+
+        if (response.isSuccess()) {
+            return ResponseEntity.ok(
+                    ApiResponse.success(response.getMessage(), response)
+            );
+        } else {
+            return ResponseEntity.status(409).body(
+                    ApiResponse.error(response.getMessage(), "SEAT_ALLOCATION_FAILED", response)
+            );
+        }
+    }
+
     /**
      * 스케줄의 좌석 락 해제
      * DELETE /api/v1/schedules/{scheduleId}/seats/lock
@@ -153,7 +287,8 @@ public class SeatController {
         String effectiveUserId = User.Role.ADMIN.equals(authenticatedUser.getRole()) ?
                 request.getUserId() : authenticatedUser.getUserId();
 
-        boolean released = seatService.releaseSeats(
+        boolean released = seatCommandService.releaseSeats(
+                scheduleId,
                 request.getSeatIds(),
                 effectiveUserId,  // 인증된 사용자 ID 사용
                 request.getSessionId()
@@ -193,7 +328,7 @@ public class SeatController {
         String effectiveUserId = User.Role.ADMIN.equals(authenticatedUser.getRole()) ?
                 request.getUserId() : authenticatedUser.getUserId();
 
-        boolean confirmed = seatService.confirmSeats(
+        boolean confirmed = seatCommandService.confirmSeats(
                 request.getSeatIds(),
                 effectiveUserId  // 인증된 사용자 ID 사용
         );
@@ -255,4 +390,12 @@ public class SeatController {
                 ApiResponse.success("만료된 락 정리 완료")
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 구역 좌석 맵 ETag (구역명은 따옴표/비ASCII 문자가 올 수 있으므로 해시로 표기)
+     */
+    private static String zoneEtag(Long scheduleId, String zone, Long version) {
+        String zoneHash = DigestUtils.md5DigestAsHex(zone.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+        return "\"" + scheduleId + "-z" + zoneHash + "-" + version + "\"";
+    }
+}
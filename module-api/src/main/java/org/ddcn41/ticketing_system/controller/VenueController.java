@@ -1,10 +1,13 @@
 package org.ddcn41.ticketing_system.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.venue.dto.SeatMapUpdateResponse;
 import org.ddcn41.ticketing_system.venue.dto.VenueDto;
+import org.ddcn41.ticketing_system.venue.service.SeatMapMigrationService;
 import org.ddcn41.ticketing_system.venue.service.VenueService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -15,6 +18,7 @@ import java.util.List;
 public class VenueController {
 
     private final VenueService venueService;
+    private final SeatMapMigrationService seatMapMigrationService;
 
     // 모든 공연장 조회
     @GetMapping
@@ -62,4 +66,12 @@ public class VenueController {
                 .header("Content-Type", "application/json")
                 .body(seatMapJson);
     }
-}
\ No newline at end of file
+
+    // 공연장 좌석 배치도 변경 (예정 스케줄 좌석에 차이만 반영)
+    @PutMapping(value = "/{venueId}/seatmap", consumes = "application/json")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SeatMapUpdateResponse> updateVenueSeatMap(@PathVariable Long venueId,
+                                                                    @RequestBody String seatMapJson) {
+        return ResponseEntity.ok(seatMapMigrationService.updateSeatMap(venueId, seatMapJson));
+    }
+}
@@ -8,13 +8,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.booking.service.BookingBulkCancelJobService;
+import org.ddcn41.ticketing_system.booking.service.BookingExportService;
 import org.ddcn41.ticketing_system.booking.service.BookingService;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
+import org.ddcn41.ticketing_system.common.dto.booking.BookingDto;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelJobResponse;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelRequest;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookingDetail200ResponseDto;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookings200ResponseDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -24,6 +34,8 @@ import org.springframework.web.bind.annotation.*;
 public class InternalBookingController {
 
     private final BookingService bookingService;
+    private final BookingExportService bookingExportService;
+    private final BookingBulkCancelJobService bookingBulkCancelJobService;
 
     @GetMapping
     @Operation(summary = "List all bookings (internal)", description = "Lists all bookings filtered by status with pagination - Admin only")
@@ -44,6 +56,76 @@ public class InternalBookingController {
         return ResponseEntity.ok(bookingService.getBookings(status, page, limit));
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "List all bookings by cursor (internal)", description = "Lists bookings newest first using keyset pagination - Admin only")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or status", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Admin access required", content = @Content)
+    })
+    public ResponseEntity<CursorPage<BookingDto>> getAllBookingsByCursor(
+            @Parameter(description = "Filter by booking status (optional)")
+            @RequestParam(value = "status", required = false) String status,
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor (omit for the first page)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Items per page", example = "20")
+            @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit) {
+        return ResponseEntity.ok(bookingService.getBookingsByCursor(status, cursor, limit));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export bookings (internal)", description = "Streams all bookings as NDJSON (one booking per line) or CSV (one seat per line) - Admin only")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "Invalid format or status", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Admin access required", content = @Content)
+    })
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @Parameter(description = "Filter by booking status (optional)")
+            @RequestParam(value = "status", required = false) String status,
+            @Parameter(description = "ndjson or csv", example = "ndjson")
+            @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format) {
+        BookingExportService.Format exportFormat = BookingExportService.Format.parse(format);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.contentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"bookings." + exportFormat.extension() + "\"")
+                .body(bookingExportService.export(status, exportFormat));
+    }
+
+    @PostMapping("/bulk-cancel")
+    @Operation(summary = "Bulk cancel bookings (internal)",
+            description = "Starts a background job that cancels every CONFIRMED booking of a schedule or performance in chunks - Admin only")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Accepted",
+                    content = @Content(schema = @Schema(implementation = BulkCancelJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid scope", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Schedule or performance not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "A job for the same target is running", content = @Content)
+    })
+    public ResponseEntity<BulkCancelJobResponse> startBulkCancel(@Valid @RequestBody BulkCancelRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bookingBulkCancelJobService.start(request));
+    }
+
+    @GetMapping("/bulk-cancel/{jobId}")
+    @Operation(summary = "Get bulk cancel job progress (internal)", description = "Admin only")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = BulkCancelJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found", content = @Content)
+    })
+    public ResponseEntity<BulkCancelJobResponse> getBulkCancelJob(
+            @Parameter(description = "Job ID", required = true)
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(bookingBulkCancelJobService.getStatus(jobId));
+    }
+
     @GetMapping("/{bookingId}")
     @Operation(summary = "Get any booking detail (internal)", description = "Fetches detailed information for any booking - Admin only")
     @SecurityRequirement(name = "bearerAuth")
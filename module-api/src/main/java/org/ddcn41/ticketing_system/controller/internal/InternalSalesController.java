@@ -0,0 +1,65 @@
+package org.ddcn41.ticketing_system.controller.internal;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.dto.sales.SalesSnapshotResponse;
+import org.ddcn41.ticketing_system.sales.service.SalesMetricsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/internal/sales")
+@Tag(name = "Sales internal", description = "Live sales counters per performance and schedule")
+public class InternalSalesController {
+
+    private final SalesMetricsService salesMetricsService;
+
+    @GetMapping("/performances")
+    @Operation(summary = "Live sales for performances", description = "Bookings, seats sold, revenue, cancellation rate and bookings/sec summed across all servers")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    public ResponseEntity<List<SalesSnapshotResponse>> getPerformanceSales(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(salesMetricsService.getPerformanceSales(ids));
+    }
+
+    @GetMapping("/performances/{performanceId}")
+    @Operation(summary = "Live sales for a performance")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = SalesSnapshotResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    public ResponseEntity<SalesSnapshotResponse> getPerformanceSales(
+            @Parameter(description = "Performance ID", required = true)
+            @PathVariable Long performanceId) {
+        return ResponseEntity.ok(salesMetricsService.getPerformanceSales(performanceId));
+    }
+
+    @GetMapping("/schedules/{scheduleId}")
+    @Operation(summary = "Live sales for a schedule")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(schema = @Schema(implementation = SalesSnapshotResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    public ResponseEntity<SalesSnapshotResponse> getScheduleSales(
+            @Parameter(description = "Schedule ID", required = true)
+            @PathVariable Long scheduleId) {
+        return ResponseEntity.ok(salesMetricsService.getScheduleSales(scheduleId));
+    }
+}
@@ -9,42 +9,78 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.dto.seat.InitializeSeatsJobResponse;
 import org.ddcn41.ticketing_system.common.dto.seat.InitializeSeatsResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatReconcileResponse;
+import org.ddcn41.ticketing_system.seat.reconcile.SeatStateReconciler;
 import org.ddcn41.ticketing_system.seat.service.ScheduleSeatInitializationService;
+import org.ddcn41.ticketing_system.seat.service.SeatInitializationJobService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/v1/internal/seat")
 @Tag(name = "Admin Schedules internal", description = "Admin APIs for schedule seat generation")
 public class InternalSeatController {
     private final ScheduleSeatInitializationService scheduleSeatInitializationService;
+    private final SeatInitializationJobService seatInitializationJobService;
+    private final SeatStateReconciler seatStateReconciler;
 
     @PostMapping("/initialize")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(
             summary = "Initialize seats for ALL schedules",
-            description = "Runs the seat expansion for every schedule in performance_schedules."
+            description = "Starts an asynchronous job that expands seats for every schedule in performance_schedules. Poll the returned job id for progress."
     )
     @SecurityRequirement(name = "bearerAuth")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "OK",
-                    content = @Content(schema = @Schema(implementation = InitializeSeatsResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Accepted",
+                    content = @Content(schema = @Schema(implementation = InitializeSeatsJobResponse.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
-            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Another job is running", content = @Content)
     })
-    public ResponseEntity<org.ddcn41.ticketing_system.common.dto.ApiResponse<List<InitializeSeatsResponse>>> initializeAllSchedules(
+    public ResponseEntity<org.ddcn41.ticketing_system.common.dto.ApiResponse<InitializeSeatsJobResponse>> initializeAllSchedules(
             @Parameter(description = "Dry run without persisting", required = false)
             @RequestParam(name = "dryRun", required = false, defaultValue = "false") boolean dryRun
     ) {
-        List<InitializeSeatsResponse> results = scheduleSeatInitializationService.initializeAll(dryRun);
-        return ResponseEntity.ok(
+        InitializeSeatsJobResponse job = seatInitializationJobService.start(dryRun);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
                 org.ddcn41.ticketing_system.common.dto.ApiResponse
-                        .success(dryRun ? "모든 스케줄 좌석 초기화 미리보기" : "모든 스케줄 좌석 초기화 완료", results)
+                        .success(dryRun ? "모든 스케줄 좌석 초기화 미리보기 작업 시작" : "모든 스케줄 좌석 초기화 작업 시작", job)
+        );
+    }
+
+    @GetMapping("/initialize/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get seat initialization job progress", description = "Use jobId 'latest' for the most recent job.")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<org.ddcn41.ticketing_system.common.dto.ApiResponse<InitializeSeatsJobResponse>> getInitializeJob(
+            @Parameter(description = "Job ID", required = true)
+            @PathVariable String jobId
+    ) {
+        InitializeSeatsJobResponse job = "latest".equals(jobId)
+                ? seatInitializationJobService.getLatestStatus()
+                : seatInitializationJobService.getStatus(jobId);
+        return ResponseEntity.ok(
+                org.ddcn41.ticketing_system.common.dto.ApiResponse.success("좌석 초기화 작업 조회", job)
+        );
+    }
+
+    @PostMapping("/initialize/jobs/{jobId}/resume")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Resume an interrupted seat initialization job", description = "Skips schedules already completed by the job and retries failed ones.")
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<org.ddcn41.ticketing_system.common.dto.ApiResponse<InitializeSeatsJobResponse>> resumeInitializeJob(
+            @Parameter(description = "Job ID", required = true)
+            @PathVariable String jobId
+    ) {
+        InitializeSeatsJobResponse job = seatInitializationJobService.resume(jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                org.ddcn41.ticketing_system.common.dto.ApiResponse.success("좌석 초기화 작업 재개", job)
         );
     }
 
@@ -72,4 +108,24 @@ public class InternalSeatController {
                         .success(dryRun ? "좌석 초기화 미리보기" : "좌석 초기화 완료", result)
         );
     }
+
+    @PostMapping("/reconcile/{scheduleId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Reconcile seat lock state for one schedule",
+            description = "Compares Redis seat locks, seat_locks rows and seat status. With repair=true, drift that persisted past the grace period is repaired."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<org.ddcn41.ticketing_system.common.dto.ApiResponse<SeatReconcileResponse>> reconcileSeats(
+            @Parameter(description = "Schedule ID", required = true)
+            @PathVariable Long scheduleId,
+            @Parameter(description = "Repair detected drift", required = false)
+            @RequestParam(name = "repair", required = false, defaultValue = "false") boolean repair
+    ) {
+        SeatReconcileResponse result = seatStateReconciler.reconcile(scheduleId, repair);
+        return ResponseEntity.ok(
+                org.ddcn41.ticketing_system.common.dto.ApiResponse
+                        .success(repair ? "좌석 상태 정합성 복구" : "좌석 상태 정합성 점검", result)
+        );
+    }
 }
@@ -9,9 +9,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
 import org.ddcn41.ticketing_system.common.dto.user.UserCreateRequest;
 import org.ddcn41.ticketing_system.common.dto.user.UserResponse;
 import org.ddcn41.ticketing_system.user.service.UserFacadeService;
+import org.ddcn41.ticketing_system.user.service.UserSummaryService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -39,6 +41,23 @@ public class InternalUserController {
         return ResponseEntity.ok(users);
     }
 
+    // 유저 커서 조회
+    @GetMapping("/cursor")
+    @Operation(summary = "List users by cursor", description = "Lists users in creation order using keyset pagination")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    public ResponseEntity<CursorPage<UserResponse>> getUsersByCursor(
+            @Parameter(description = "Opaque cursor from the previous page's nextCursor (omit for the first page)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Items per page", example = "50")
+            @RequestParam(value = "limit", required = false, defaultValue = "50") Integer limit) {
+        return ResponseEntity.ok(userFacadeService.getUsersByCursor(cursor, limit));
+    }
+
     // 유저 생성
     @PostMapping
     @Operation(summary = "Create user", description = "Create new user")
@@ -92,6 +111,20 @@ public class InternalUserController {
         return ResponseEntity.ok(users);
     }
 
+    // 유저 요약 일괄 조회
+    @GetMapping("/summaries")
+    @Operation(summary = "Get user summaries", description = "Get name, username and phone for multiple user ids")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    public ResponseEntity<List<UserSummaryService.UserSummary>> getUserSummaries(
+            @RequestParam List<String> ids) {
+
+        return ResponseEntity.ok(userFacadeService.getUserSummaries(ids));
+    }
+
     // 유저 조회
     @GetMapping("/{userId}")
     @Operation(summary = "get user", description = "Get user by Id")
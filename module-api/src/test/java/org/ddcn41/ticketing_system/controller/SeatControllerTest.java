@@ -0,0 +1,154 @@
+package org.ddcn41.ticketing_system.controller;
+
+import org.ddcn41.ticketing_system.seat.dto.response.SeatAvailabilityResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatZoneMapResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatZoneSummaryResponse;
+import org.ddcn41.ticketing_system.seat.service.BestAvailableSeatService;
+import org.ddcn41.ticketing_system.seat.service.SeatCommandService;
+import org.ddcn41.ticketing_system.seat.service.SeatService;
+import org.ddcn41.ticketing_system.seat.service.SeatStreamService;
+import org.ddcn41.ticketing_system.seat.service.SeatZoneService;
+import org.ddcn41.ticketing_system.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class SeatControllerTest {
+
+    private static final long SCHEDULE_ID = 16L;
+    private static final String ZONE = "A구역";
+
+    private final SeatService seatService = mock(SeatService.class);
+    private final SeatZoneService seatZoneService = mock(SeatZoneService.class);
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SeatController controller = new SeatController(seatService, mock(SeatCommandService.class),
+                mock(SeatStreamService.class), seatZoneService, mock(BestAvailableSeatService.class),
+                mock(UserService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void seatsAreServedWithVersionEtagAndRevalidatedWith304() throws Exception {
+        when(seatService.getSeatStateVersion(SCHEDULE_ID)).thenReturn(7L);
+        when(seatService.getSeatsAvailability(SCHEDULE_ID, 7L)).thenReturn(seats(7L));
+
+        String etag = mockMvc.perform(get("/v1/schedules/{scheduleId}/seats", SCHEDULE_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"16-7\""))
+                .andExpect(jsonPath("$.data.version").value(7))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v1/schedules/{scheduleId}/seats", SCHEDULE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void seatsChangedSinceTheEtagAreServedAgainWithANewEtag() throws Exception {
+        when(seatService.getSeatStateVersion(SCHEDULE_ID)).thenReturn(8L);
+        when(seatService.getSeatsAvailability(SCHEDULE_ID, 8L)).thenReturn(seats(8L));
+
+        mockMvc.perform(get("/v1/schedules/{scheduleId}/seats", SCHEDULE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"16-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"16-8\""))
+                .andExpect(jsonPath("$.data.version").value(8));
+    }
+
+    @Test
+    void seatsWithoutVersionAreServedWithoutEtag() throws Exception {
+        when(seatService.getSeatStateVersion(SCHEDULE_ID)).thenReturn(null);
+        when(seatService.getSeatsAvailability(SCHEDULE_ID, null)).thenReturn(seats(null));
+
+        mockMvc.perform(get("/v1/schedules/{scheduleId}/seats", SCHEDULE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"16-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void zoneSummaryHasItsOwnEtag() throws Exception {
+        when(seatService.getSeatStateVersion(SCHEDULE_ID)).thenReturn(7L);
+        when(seatZoneService.getZoneSummary(SCHEDULE_ID, 7L)).thenReturn(
+                SeatZoneSummaryResponse.builder().scheduleId(SCHEDULE_ID).version(7L).zones(List.of()).build());
+
+        // 같은 버전이라도 전체 좌석 ETag로는 구역 요약이 304가 되지 않음
+        mockMvc.perform(get("/v1/schedules/{scheduleId}/seats/zones", SCHEDULE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"16-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"16-zones-7\""));
+
+        mockMvc.perform(get("/v1/schedules/{scheduleId}/seats/zones", SCHEDULE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"16-zones-7\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void zoneSeatMapEtagIsPerZoneAndVersion() throws Exception {
+        when(seatService.getSeatStateVersion(SCHEDULE_ID)).thenReturn(7L);
+        when(seatZoneService.getZoneSeatMap(SCHEDULE_ID, ZONE, 7L)).thenReturn(
+                SeatZoneMapResponse.builder().scheduleId(SCHEDULE_ID).version(7L).zone(ZONE).sections(List.of()).build());
+
+        String etag = mockMvc.perform(get("/v1/schedules/{scheduleId}/seats/zones/{zone}", SCHEDULE_ID, ZONE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // 구역명은 해시로 들어가므로 비ASCII 구역명도 헤더에 그대로 실리지 않음
+        assertThat(etag).matches("\"16-z[0-9a-f]{16}-7\"");
+
+        mockMvc.perform(get("/v1/schedules/{scheduleId}/seats/zones/{zone}", SCHEDULE_ID, ZONE)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        when(seatService.getSeatStateVersion(SCHEDULE_ID)).thenReturn(8L);
+        when(seatZoneService.getZoneSeatMap(SCHEDULE_ID, ZONE, 8L)).thenReturn(
+                SeatZoneMapResponse.builder().scheduleId(SCHEDULE_ID).version(8L).zone(ZONE).sections(List.of()).build());
+
+        String changed = mockMvc.perform(get("/v1/schedules/{scheduleId}/seats/zones/{zone}", SCHEDULE_ID, ZONE)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag).endsWith("-8\"");
+    }
+
+    @Test
+    void notModifiedSeatsAreNotLoaded() throws Exception {
+        when(seatService.getSeatStateVersion(SCHEDULE_ID)).thenReturn(7L);
+
+        mockMvc.perform(get("/v1/schedules/{scheduleId}/seats", SCHEDULE_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"16-7\""))
+                .andExpect(status().isNotModified());
+
+        verify(seatService, never()).getSeatsAvailability(SCHEDULE_ID, 7L);
+    }
+
+    private static SeatAvailabilityResponse seats(Long version) {
+        return SeatAvailabilityResponse.builder()
+                .scheduleId(SCHEDULE_ID)
+                .version(version)
+                .totalSeats(0)
+                .availableSeats(0)
+                .seats(List.of())
+                .build();
+    }
+}
@@ -1,9 +1,14 @@
 package org.ddcn41.ticketing_system.user.repository;
 
 import org.ddcn41.ticketing_system.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +18,15 @@ public interface UserRepository extends JpaRepository<User, String> {
     // 이메일 로그인
     Optional<User> findByEmail(String email);
 
+    /**
+     * 커서 페이지: (createdAt, userId) 오름차순으로 커서 위치 다음 사용자 조회
+     */
+    @Query("SELECT u FROM User u WHERE (u.createdAt, u.userId) > (:createdAt, :userId) " +
+            "ORDER BY u.createdAt, u.userId")
+    List<User> findAfter(@Param("createdAt") LocalDateTime createdAt,
+                         @Param("userId") String userId,
+                         Pageable pageable);
+
     // 회원가입 기능을 안 쓰더라도, 중복 체크가 필요하면 유지
     boolean existsByUsername(String username);
 }
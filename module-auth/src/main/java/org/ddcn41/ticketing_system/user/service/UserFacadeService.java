@@ -1,6 +1,8 @@
 package org.ddcn41.ticketing_system.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
+import org.ddcn41.ticketing_system.common.dto.KeysetCursor;
 import org.ddcn41.ticketing_system.common.dto.user.UserCreateRequest;
 import org.ddcn41.ticketing_system.common.dto.user.UserResponse;
 import org.ddcn41.ticketing_system.common.exception.BusinessException;
@@ -13,6 +15,7 @@ import software.amazon.awssdk.services.cognitoidentityprovider.model.CognitoIden
 import software.amazon.awssdk.services.cognitoidentityprovider.model.UserNotFoundException;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.UsernameExistsException;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -22,6 +25,7 @@ public class UserFacadeService {
 
     private final UserService userService;
     private final UserCognitoService userCognitoService;
+    private final UserSummaryService userSummaryService;
 
     // 유저 생성
     public UserResponse createUser(UserCreateRequest request) {
@@ -70,6 +74,7 @@ public class UserFacadeService {
     // 유저 삭제
     public void deleteUser(String userId) {
         User user = userService.findById(userId);
+        userSummaryService.evict(userId);
 
         try {
             userCognitoService.deleteCognitoUser(user.getUsername());
@@ -98,6 +103,23 @@ public class UserFacadeService {
                 .toList();
     }
 
+    // 유저 커서 조회 (생성 시각 오름차순)
+    public CursorPage<UserResponse> getUsersByCursor(String cursor, int limit) {
+        int size = Math.max(limit, 1);
+        KeysetCursor position = KeysetCursor.decodeOr(cursor, KeysetCursor.START);
+        List<User> users = userService.findAfter(position.createdAt(), position.id(), size);
+
+        boolean hasNext = users.size() > size;
+        List<User> page = hasNext ? users.subList(0, size) : users;
+        User last = hasNext ? page.get(page.size() - 1) : null;
+
+        return CursorPage.<UserResponse>builder()
+                .items(page.stream().map(this::toResponse).toList())
+                .nextCursor(last == null ? null : new KeysetCursor(last.getCreatedAt(), last.getUserId()).encode())
+                .hasNext(hasNext)
+                .build();
+    }
+
     // 유저 목록 검색
     public List<UserResponse> searchUsers(String username, String role, String status) {
         List<User> users = userService.findAll();
@@ -118,6 +140,11 @@ public class UserFacadeService {
         return toResponse(user);
     }
 
+    // 유저 요약 일괄 조회 (캐시 공유)
+    public List<UserSummaryService.UserSummary> getUserSummaries(Collection<String> userIds) {
+        return List.copyOf(userSummaryService.getSummaries(userIds).values());
+    }
+
     // 유저 조회
     public UserResponse getUserByUsername(String username) {
         User user = userService.findByUsername(username);
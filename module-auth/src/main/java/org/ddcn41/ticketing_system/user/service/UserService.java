@@ -6,6 +6,7 @@ import org.ddcn41.ticketing_system.common.exception.BusinessException;
 import org.ddcn41.ticketing_system.common.exception.ErrorCode;
 import org.ddcn41.ticketing_system.user.entity.User;
 import org.ddcn41.ticketing_system.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -77,6 +78,13 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * 커서 위치 다음 사용자 조회 (limit + 1건)
+     */
+    public List<User> findAfter(LocalDateTime createdAt, String userId, int limit) {
+        return userRepository.findAfter(createdAt, userId, PageRequest.of(0, limit + 1));
+    }
+
     // v1 Auth Legacy
     public String resolveUsernameFromEmailOrUsername(String usernameOrEmail) {
         if (usernameOrEmail.contains("@")) {
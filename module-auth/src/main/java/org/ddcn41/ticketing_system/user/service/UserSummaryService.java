@@ -0,0 +1,111 @@
+package org.ddcn41.ticketing_system.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.user.entity.User;
+import org.ddcn41.ticketing_system.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 요약 정보(이름, 아이디, 전화번호) 일괄 조회 + 짧은 TTL 캐시
+ * - 목록 화면처럼 여러 행의 사용자를 표시할 때 행마다 findById를 호출하지 않도록
+ *   고유 userId를 모아 findAllById 한 번으로 조회
+ * - 캐시 TTL이 짧아(기본 30초) 사용자 정보 변경은 늦어도 TTL 후 반영되며, 삭제 시에는 evict로 즉시 제거
+ */
+@Slf4j
+@Service
+public class UserSummaryService {
+
+    private final UserRepository userRepository;
+    private final long ttlMs;
+    private final int maxEntries;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public UserSummaryService(UserRepository userRepository,
+                              @Value("${user.summary-cache.ttl-ms:30000}") long ttlMs,
+                              @Value("${user.summary-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.ttlMs = ttlMs;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * 단건 조회 (없으면 USER_NOT_FOUND)
+     */
+    public UserSummary getSummary(String userId) {
+        UserSummary summary = getSummaries(List.of(userId)).get(userId);
+        if (summary == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND, "userId: " + userId);
+        }
+        return summary;
+    }
+
+    /**
+     * 여러 사용자 요약 일괄 조회 — 캐시에 없는 userId만 모아 한 번에 조회
+     *
+     * @return userId → 요약 (존재하지 않는 사용자는 결과에서 빠짐)
+     */
+    public Map<String, UserSummary> getSummaries(Collection<String> userIds) {
+        long now = System.currentTimeMillis();
+        Map<String, UserSummary> result = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+
+        for (String userId : userIds) {
+            if (userId == null || result.containsKey(userId)) {
+                continue;
+            }
+            Entry entry = cache.get(userId);
+            if (entry != null && entry.expiresAt() > now) {
+                result.put(userId, entry.summary());
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            if (cache.size() + misses.size() > maxEntries) {
+                evictExpired(now);
+            }
+            long expiresAt = now + ttlMs;
+            for (User user : userRepository.findAllById(misses)) {
+                UserSummary summary = UserSummary.of(user);
+                result.put(user.getUserId(), summary);
+                if (cache.size() < maxEntries) {
+                    cache.put(user.getUserId(), new Entry(summary, expiresAt));
+                }
+            }
+            log.debug("사용자 요약 조회 - requested: {}, loaded: {}", misses.size(), result.size());
+        }
+        return result;
+    }
+
+    public void evict(String userId) {
+        if (userId != null) {
+            cache.remove(userId);
+        }
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private record Entry(UserSummary summary, long expiresAt) {
+    }
+
+    public record UserSummary(String userId, String username, String name, String phone) {
+
+        static UserSummary of(User user) {
+            return new UserSummary(user.getUserId(), user.getUsername(), user.getName(), user.getPhone());
+        }
+    }
+}
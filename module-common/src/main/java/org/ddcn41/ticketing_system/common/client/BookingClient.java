@@ -1,10 +1,17 @@
 package org.ddcn41.ticketing_system.common.client;
 
+import feign.Response;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
+import org.ddcn41.ticketing_system.common.dto.booking.BookingDto;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelJobResponse;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelRequest;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookingDetail200ResponseDto;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookings200ResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 @FeignClient(name = "booking-service", url = "${booking.service.url:http://localhost:8082}")
@@ -14,6 +21,24 @@ public interface BookingClient {
                                           @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
                                           @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit);
 
+    @GetMapping("/v1/internal/bookings/cursor")
+    CursorPage<BookingDto> getBookingsByCursor(@RequestParam(value = "status", required = false) String status,
+                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                               @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit);
+
+    /**
+     * 예약 내보내기 — 본문을 디코딩하지 않은 원시 응답으로 받아 스트림 그대로 전달 (호출자가 close)
+     */
+    @GetMapping("/v1/internal/bookings/export")
+    Response exportBookings(@RequestParam(value = "status", required = false) String status,
+                            @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format);
+
+    @PostMapping("/v1/internal/bookings/bulk-cancel")
+    BulkCancelJobResponse startBulkCancel(@RequestBody BulkCancelRequest request);
+
+    @GetMapping("/v1/internal/bookings/bulk-cancel/{jobId}")
+    BulkCancelJobResponse getBulkCancelJob(@PathVariable("jobId") String jobId);
+
     @GetMapping("/v1/internal/bookings/{bookingId}")
     GetBookingDetail200ResponseDto getBookingDetailById(@PathVariable("bookingId") Long bookingId);
 }
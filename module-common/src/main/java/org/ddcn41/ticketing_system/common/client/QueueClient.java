@@ -7,6 +7,7 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 @FeignClient(name = "queue-service", url = "${queue.service.url:http://localhost:8083}")
 public interface QueueClient {
@@ -17,6 +18,10 @@ public interface QueueClient {
             @RequestBody TokenVerifyRequest request
     );
 
+    /**
+     * 재시도 시 중복 처리되지 않도록 멱등 키를 함께 전달
+     */
     @PostMapping("/v1/queue/token/{token}/use")
-    ApiResponse<Void> useToken(@PathVariable("token") String token);
-}
\ No newline at end of file
+    ApiResponse<Void> useToken(@PathVariable("token") String token,
+                               @RequestHeader("Idempotency-Key") String idempotencyKey);
+}
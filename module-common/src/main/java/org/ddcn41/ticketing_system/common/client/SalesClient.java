@@ -0,0 +1,21 @@
+package org.ddcn41.ticketing_system.common.client;
+
+import org.ddcn41.ticketing_system.common.dto.sales.SalesSnapshotResponse;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@FeignClient(name = "sales-service", url = "${booking.service.url:http://localhost:8082}")
+public interface SalesClient {
+    @GetMapping("/v1/internal/sales/performances")
+    List<SalesSnapshotResponse> getPerformanceSales(@RequestParam("ids") List<Long> performanceIds);
+
+    @GetMapping("/v1/internal/sales/performances/{performanceId}")
+    SalesSnapshotResponse getPerformanceSales(@PathVariable("performanceId") Long performanceId);
+
+    @GetMapping("/v1/internal/sales/schedules/{scheduleId}")
+    SalesSnapshotResponse getScheduleSales(@PathVariable("scheduleId") Long scheduleId);
+}
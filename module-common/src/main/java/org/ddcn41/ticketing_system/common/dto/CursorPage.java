@@ -0,0 +1,22 @@
+package org.ddcn41.ticketing_system.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * - nextCursor를 다음 요청의 cursor로 그대로 전달 (hasNext가 false면 null)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,58 @@
+package org.ddcn41.ticketing_system.common.dto;
+
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 위치 (정렬 키: 생성 시각 + 식별자)
+ * - 클라이언트에는 내용을 해석하지 않는 불투명 문자열(base64url)로 전달
+ */
+public record KeysetCursor(LocalDateTime createdAt, String id) {
+
+    /**
+     * 내림차순 첫 페이지용 위치 (모든 행보다 뒤)
+     */
+    public static final KeysetCursor END = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 0, 0), null);
+
+    /**
+     * 오름차순 첫 페이지용 위치 (모든 행보다 앞)
+     */
+    public static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(1970, 1, 1, 0, 0), "");
+
+    public String encode() {
+        String raw = createdAt + "|" + (id == null ? "" : id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 클라이언트가 보낸 커서 (없으면 first 반환)
+     */
+    public static KeysetCursor decodeOr(String cursor, KeysetCursor first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서");
+        }
+    }
+
+    public Long idAsLong() {
+        try {
+            return id == null || id.isEmpty() ? Long.MAX_VALUE : Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서");
+        }
+    }
+}
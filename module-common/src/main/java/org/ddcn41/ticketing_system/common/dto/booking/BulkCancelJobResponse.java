@@ -0,0 +1,62 @@
+package org.ddcn41.ticketing_system.common.dto.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예매 일괄 취소 작업 진행 상황 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCancelJobResponse {
+
+    private String jobId;
+
+    /**
+     * RUNNING / COMPLETED / PARTIAL(재시도 후에도 CONFIRMED 예매가 남음) / FAILED / INTERRUPTED
+     */
+    private String status;
+
+    /**
+     * SCHEDULE / PERFORMANCE
+     */
+    private String scope;
+
+    private Long targetId;
+
+    private List<Long> scheduleIds;
+
+    /**
+     * 작업 시작 시점의 CONFIRMED 예매 수
+     */
+    private long total;
+
+    private long cancelled;
+
+    private long seatsRestored;
+
+    private BigDecimal refundAmount;
+
+    private int chunks;
+
+    /**
+     * 작업 종료 시점에 남은 CONFIRMED 예매 수 (실행 중이면 null)
+     */
+    private Long remaining;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    private String error;
+}
@@ -0,0 +1,33 @@
+package org.ddcn41.ticketing_system.common.dto.booking;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예매 일괄 취소 요청
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCancelRequest {
+
+    /**
+     * SCHEDULE / PERFORMANCE
+     */
+    @NotNull
+    private String scope;
+
+    @NotNull
+    private Long targetId;
+
+    private String reason;
+
+    /**
+     * 요청한 관리자 (감사 로그 principal, 관리자 API에서 채움)
+     */
+    private String requestedBy;
+}
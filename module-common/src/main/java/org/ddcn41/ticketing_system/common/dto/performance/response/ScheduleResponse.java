@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -15,4 +17,6 @@ public class ScheduleResponse {
     private Integer availableSeats;
     private Integer totalSeats;
     private String status;
-}
\ No newline at end of file
+    /** 등급 → 잔여 좌석 수 (잔여 0이면 매진 등급) */
+    private Map<String, Integer> availableByGrade;
+}
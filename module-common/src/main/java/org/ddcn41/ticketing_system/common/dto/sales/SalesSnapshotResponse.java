@@ -0,0 +1,31 @@
+package org.ddcn41.ticketing_system.common.dto.sales;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 공연/회차별 실시간 판매 현황 (전체 서버 합산)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesSnapshotResponse {
+    /** performance | schedule */
+    private String scope;
+    private Long id;
+    private long bookings;
+    private long seatsSold;
+    private BigDecimal revenue;
+    private long cancellations;
+    private long cancelledSeats;
+    /** 취소 건수 / 예매 건수 */
+    private double cancellationRate;
+    /** 최근 rateWindowSeconds 동안의 초당 예매 건수 */
+    private double bookingsPerSecond;
+    private int rateWindowSeconds;
+}
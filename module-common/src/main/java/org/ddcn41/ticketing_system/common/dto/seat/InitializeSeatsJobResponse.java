@@ -0,0 +1,60 @@
+package org.ddcn41.ticketing_system.common.dto.seat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 전체 스케줄 좌석 초기화 작업 진행 상황 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InitializeSeatsJobResponse {
+
+    private String jobId;
+
+    /**
+     * RUNNING / COMPLETED / INTERRUPTED
+     */
+    private String status;
+
+    private boolean dryRun;
+
+    /**
+     * 대상 스케줄 수
+     */
+    private int total;
+
+    private int done;
+
+    private int failed;
+
+    private int remaining;
+
+    /**
+     * 생성된 좌석 수 (dryRun이면 생성 예정 좌석 수)
+     */
+    private long rowsCreated;
+
+    /**
+     * 초당 생성 좌석 수 (작업 시작 ~ 마지막 갱신 기준)
+     */
+    private double rowsPerSecond;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    /**
+     * 실패한 스케줄 ID → 사유
+     */
+    private Map<Long, String> failures;
+}
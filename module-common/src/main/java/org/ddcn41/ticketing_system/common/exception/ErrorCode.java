@@ -16,9 +16,20 @@ public enum ErrorCode {
     SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, "스케줄을 찾을 수 없습니다"),
     BOOKING_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "이미 취소된 예매입니다"),
     BOOKING_CANNOT_CANCEL(HttpStatus.BAD_REQUEST, "취소할 수 없는 예매입니다"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다"),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 처리 중입니다"),
+    BOOKING_INTAKE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "예매 요청이 많아 접수할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    BOOKING_INTAKE_IN_PROGRESS(HttpStatus.CONFLICT, "처리 중인 예매 요청이 있습니다"),
+    BOOKING_INTAKE_ABORTED(HttpStatus.SERVICE_UNAVAILABLE, "서버 종료로 예매 요청이 처리되지 않았습니다. 다시 시도해주세요"),
+    BOOKING_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "예매 요청을 찾을 수 없습니다"),
+    BOOKING_CANCEL_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "예매 일괄 취소 작업을 찾을 수 없습니다"),
+    BOOKING_CANCEL_JOB_RUNNING(HttpStatus.CONFLICT, "같은 대상의 예매 일괄 취소 작업이 진행 중입니다"),
+    BOOKING_NUMBER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "예매번호를 발급할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    BOOKING_EXPORT_NOT_SUPPORTED(HttpStatus.NOT_IMPLEMENTED, "이 배포 환경에서는 예매 내보내기를 지원하지 않습니다. 컨테이너 관리자 API를 사용해주세요"),
 
     // 좌석 관련 (3xxx)
     INVALID_SEAT_MAP(HttpStatus.BAD_REQUEST, "좌석 맵 정보가 올바르지 않습니다"),
+    SEAT_MAP_CHANGE_BLOCKED(HttpStatus.CONFLICT, "예약 중이거나 예매된 좌석이 있어 좌석 맵을 변경할 수 없습니다"),
     SEAT_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 좌석입니다"),
     SEAT_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "예약 불가능한 좌석입니다"),
     SEAT_ALREADY_BOOKED(HttpStatus.CONFLICT, "다른 사용자가 먼저 예약한 좌석이 있습니다"),
@@ -26,6 +37,9 @@ public enum ErrorCode {
     SEAT_CANCEL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "좌석 취소 실패"),
     SEAT_LOCK_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "좌석 락 실패"),
     SEAT_LOCK_CANCEL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "좌석 락 해제 실패"),
+    SEAT_ACTOR_NOT_OWNER(HttpStatus.SERVICE_UNAVAILABLE, "다른 서버에서 처리 중인 스케줄입니다. 잠시 후 다시 시도해주세요"),
+    SEAT_INIT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "좌석 초기화 작업을 찾을 수 없습니다"),
+    SEAT_INIT_JOB_RUNNING(HttpStatus.CONFLICT, "진행 중인 좌석 초기화 작업입니다"),
 
     // 대기열 관련 (4xxx)
     QUEUE_TOKEN_REQUIRED(HttpStatus.BAD_REQUEST, "대기열 토큰이 필요합니다"),
@@ -44,6 +58,7 @@ public enum ErrorCode {
     // 공연 관련 (7xxx)
     PERFORMANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "공연을 찾을 수 없습니다"),
     SCHEDULE_SOLD_OUT(HttpStatus.CONFLICT, "이미 매진된 스케줄입니다"),
+    SCHEDULE_CLOSED(HttpStatus.CONFLICT, "예매가 마감된 스케줄입니다"),
 
     // 파일/S3 관련 (8xxx)
     FILE_REQUIRED(HttpStatus.BAD_REQUEST, "업로드할 파일이 없습니다"),
@@ -0,0 +1,47 @@
+package org.ddcn41.ticketing_system.booking.number;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예매번호 생성 처리량 측정
+ * - 기존 UUID 앞 8자리 방식과 비교
+ * - snowflakeContended는 4개 스레드가 같은 생성기를 공유해 CAS 경합 시 처리량 확인
+ *
+ * 실행: ./gradlew :module-core:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookingNumberGeneratorBenchmark {
+
+    private BookingNumberGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new BookingNumberGenerator(1, 1000);
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String snowflakeContended() {
+        return generator.next();
+    }
+
+    @Benchmark
+    public long snowflakeIdOnly() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    public String uuidPrefix() {
+        return "DDCN-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
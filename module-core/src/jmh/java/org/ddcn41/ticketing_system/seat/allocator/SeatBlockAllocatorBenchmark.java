@@ -0,0 +1,76 @@
+package org.ddcn41.ticketing_system.seat.allocator;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연석 배정 지연 시간 측정
+ * - 20,000석 (40구역 x 20행 x 25열) 공연장 기준
+ * - claim 후 곧바로 release 하여 매 반복마다 동일한 점유율을 유지
+ *
+ * 실행: ./gradlew :module-core:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatBlockAllocatorBenchmark {
+
+    private static final int ZONES = 40;
+    private static final int ROWS = 20;
+    private static final int COLS = 25;
+
+    @Param({"0.0", "0.5", "0.9"})
+    public double occupancy;
+
+    @Param({"2", "4"})
+    public int count;
+
+    private SeatBlockAllocator allocator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<SeatBlockAllocator.SeatSlot> slots = new ArrayList<>(ZONES * ROWS * COLS);
+        long seatId = 1;
+        // 결정적인 패턴으로 점유 좌석 분포 (재현성 확보)
+        long seed = 42;
+        for (int z = 0; z < ZONES; z++) {
+            String grade = z < 4 ? "VIP" : (z < 16 ? "R" : "S");
+            for (int r = 0; r < ROWS; r++) {
+                String rowLabel = String.valueOf((char) ('A' + r));
+                for (int c = 1; c <= COLS; c++) {
+                    seed = seed * 6364136223846793005L + 1442695040888963407L;
+                    double sample = (seed >>> 11) / (double) (1L << 53);
+                    slots.add(new SeatBlockAllocator.SeatSlot(
+                            seatId++, "Z" + z, grade, rowLabel, c, sample >= occupancy));
+                }
+            }
+        }
+        allocator = new SeatBlockAllocator(slots);
+    }
+
+    @Benchmark
+    public Optional<SeatBlockAllocator.Block> claimAnyGrade() {
+        return claimAndRelease(null);
+    }
+
+    @Benchmark
+    public Optional<SeatBlockAllocator.Block> claimByGrade() {
+        return claimAndRelease("S");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Optional<SeatBlockAllocator.Block> claimContended() {
+        return claimAndRelease("R");
+    }
+
+    private Optional<SeatBlockAllocator.Block> claimAndRelease(String grade) {
+        Optional<SeatBlockAllocator.Block> block = allocator.claim(count, grade, null);
+        block.ifPresent(b -> allocator.release(b.seatIds()));
+        return block;
+    }
+}
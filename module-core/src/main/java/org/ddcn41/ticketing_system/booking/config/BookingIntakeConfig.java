@@ -0,0 +1,26 @@
+package org.ddcn41.ticketing_system.booking.config;
+
+import org.ddcn41.ticketing_system.booking.intake.BookingIntakeService;
+import org.ddcn41.ticketing_system.booking.intake.BookingTicketStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 비동기 예매 접수 결과 pub/sub 구독 설정
+ * - 티켓을 처리한 파드와 SSE 구독이 연결된 파드가 다를 수 있으므로 모든 파드가 결과 채널을 구독
+ */
+@Configuration
+public class BookingIntakeConfig {
+
+    @Bean
+    public RedisMessageListenerContainer bookingTicketListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       BookingIntakeService bookingIntakeService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(bookingIntakeService, new ChannelTopic(BookingTicketStore.EVENT_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,12 @@
+package org.ddcn41.ticketing_system.booking.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 목록 커서 정렬 키 (created_at, booking_id)
+ */
+public interface BookingKeyProjection {
+    Long getBookingId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -3,6 +3,9 @@ package org.ddcn41.ticketing_system.booking.dto;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+/**
+ * 예약 목록 한 행 (예약당 한 행, 좌석은 BookingSeatProjection으로 따로 조회)
+ */
 public interface BookingProjection {
     Long getBookingId();
 
@@ -22,21 +25,6 @@ public interface BookingProjection {
     // Venue
     String getVenueName();
 
-    // Seat
-    String getSeatCode(); // concatenated seat_row + seat_number
-
-    String getSeatZone();
-
-    Long getBookingSeatId();
-
-    String getSeatGrade();
-
-    String getSeatRowLabel();
-
-    String getSeatColNum();
-
-    java.math.BigDecimal getSeatPrice();
-
     // Booking
     Integer getSeatCount();
 
@@ -0,0 +1,27 @@
+package org.ddcn41.ticketing_system.booking.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 목록의 좌석 한 행
+ */
+public interface BookingSeatProjection {
+    Long getBookingId();
+
+    Long getBookingSeatId();
+
+    Long getSeatId();
+
+    BigDecimal getSeatPrice();
+
+    String getGrade();
+
+    String getZone();
+
+    String getRowLabel();
+
+    String getColNum();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,32 @@
+package org.ddcn41.ticketing_system.booking.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 예매 접수 티켓 상태
+ * - status: QUEUED → PROCESSING → SUCCEEDED | FAILED
+ * - SUCCEEDED면 bookingId/bookingNumber, FAILED면 errorCode/message 채움
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingTicketResponseDto {
+    private String ticketId;
+    private String status;
+    private Long scheduleId;
+
+    private Long bookingId;
+    private String bookingNumber;
+
+    private String errorCode;
+    private String message;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -19,8 +19,13 @@ import java.time.LocalDateTime;
 @Builder
 public class BookingSeat {
 
+    /**
+     * 시퀀스 풀(50개 단위) 할당 — IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있음
+     * (DB 시퀀스 INCREMENT BY와 allocationSize가 같아야 함)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seat_seq")
+    @SequenceGenerator(name = "booking_seat_seq", sequenceName = "booking_seats_booking_seat_id_seq", allocationSize = 50)
     @Column(name = "booking_seat_id")
     private Long bookingSeatId;
 
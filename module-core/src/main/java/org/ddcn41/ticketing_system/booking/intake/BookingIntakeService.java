@@ -0,0 +1,319 @@
+package org.ddcn41.ticketing_system.booking.intake;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.booking.dto.request.CreateBookingRequestDto;
+import org.ddcn41.ticketing_system.booking.dto.response.BookingTicketResponseDto;
+import org.ddcn41.ticketing_system.booking.dto.response.CreateBookingResponseDto;
+import org.ddcn41.ticketing_system.booking.service.BookingService;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 예매 접수 (booking.intake.enabled=true)
+ * - 요청 스레드는 가벼운 검증 후 티켓만 발급하고 202로 응답 (DB 커넥션을 잡지 않음)
+ * - scheduleId 기준으로 고정된 단일 스레드 파티션 큐에 넣어 처리하므로
+ *   파드당 동시에 DB를 쓰는 예매 처리 수 = partitions (전체는 partitions × 파드 수),
+ *   같은 파드에 접수된 같은 스케줄 요청끼리는 좌석 경합 없이 순서대로 처리
+ * - 파티션 큐가 가득 차면 접수 거절 (503), 사용자당 처리 중인 티켓은 하나만 허용 (409)
+ * - 큐는 파드 메모리에 있으므로 처리 전 티켓/사용자 표시는 짧은 TTL로 두고 이 파드가 연장
+ *   (파드가 죽으면 claim-ttl-seconds 안에 만료되어 다시 접수 가능)
+ * - 연장에 실패해 사용자 표시를 잃은 티켓은 취소 표시, 워커는 예매 생성 직전에 다시 점유를 확인하고 잃었으면 건너뜀
+ *   (사용자가 그사이 다시 접수한 요청과 중복 예매되지 않도록)
+ * - 결과는 티켓 조회(polling) 또는 SSE 구독(push)으로 전달, 다른 파드의 결과는 Redis pub/sub으로 수신
+ */
+@Slf4j
+@Service
+public class BookingIntakeService implements MessageListener {
+
+    private static final String RESULT_EVENT = "booking-ticket";
+
+    private final BookingService bookingService;
+    private final BookingTicketStore ticketStore;
+    private final boolean enabled;
+    private final long emitterTimeoutMs;
+
+    private final ThreadPoolExecutor[] partitions;
+    private final Map<String, List<TicketSubscriber>> subscribers = new ConcurrentHashMap<>();
+    /** 이 파드가 접수해 아직 끝나지 않은 티켓 → 처리 작업 (TTL 연장 대상) */
+    private final Map<String, IntakeTask> pendingTickets = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService claimRenewer;
+
+    public BookingIntakeService(BookingService bookingService,
+                                BookingTicketStore ticketStore,
+                                MeterRegistry meterRegistry,
+                                @Value("${booking.intake.enabled:false}") boolean enabled,
+                                @Value("${booking.intake.partitions:8}") int partitionCount,
+                                @Value("${booking.intake.queue-capacity:500}") int queueCapacity,
+                                @Value("${booking.intake.stream-timeout-ms:60000}") long emitterTimeoutMs) {
+        this.bookingService = bookingService;
+        this.ticketStore = ticketStore;
+        this.enabled = enabled;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+
+        this.partitions = new ThreadPoolExecutor[enabled ? Math.max(1, partitionCount) : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            String threadName = "booking-intake-" + i;
+            partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity), r -> new Thread(r, threadName));
+        }
+        this.claimRenewer = enabled ? Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "booking-intake-renew");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        if (claimRenewer != null) {
+            long renewIntervalMs = Math.max(1000, ticketStore.claimTtl().toMillis() / 3);
+            claimRenewer.scheduleWithFixedDelay(this::renewClaims, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        Gauge.builder("booking.intake.queue.size", this, BookingIntakeService::queuedCount)
+                .description("처리 대기 중인 비동기 예매 요청 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 예매 요청 접수 (좌석 검증/예매 생성은 워커에서 수행)
+     */
+    public BookingTicketResponseDto submit(String userId, CreateBookingRequestDto req) {
+        if (!enabled) {
+            throw new IllegalStateException("booking.intake.enabled=false");
+        }
+        String ticketId = UUID.randomUUID().toString();
+        if (!ticketStore.claimUser(userId, ticketId)) {
+            throw new BusinessException(ErrorCode.BOOKING_INTAKE_IN_PROGRESS,
+                    "ticketId: " + ticketStore.findUserTicket(userId));
+        }
+
+        ticketStore.create(ticketId, userId, req.getScheduleId());
+        IntakeTask task = new IntakeTask(ticketId, userId, req);
+        pendingTickets.put(ticketId, task);
+        try {
+            partitionOf(req.getScheduleId()).execute(task);
+        } catch (RejectedExecutionException e) {
+            pendingTickets.remove(ticketId);
+            ticketStore.delete(ticketId);
+            ticketStore.releaseUser(userId, ticketId);
+            throw new BusinessException(ErrorCode.BOOKING_INTAKE_FULL, "scheduleId: " + req.getScheduleId());
+        }
+        return ticketStore.find(ticketId, userId);
+    }
+
+    public BookingTicketResponseDto getTicket(String userId, String ticketId) {
+        BookingTicketResponseDto ticket = ticketStore.find(ticketId, userId);
+        if (ticket == null) {
+            throw new BusinessException(ErrorCode.BOOKING_TICKET_NOT_FOUND, "ticketId: " + ticketId);
+        }
+        return ticket;
+    }
+
+    /**
+     * 티켓 결과 구독 — 처리가 끝나면 결과 한 건을 보내고 연결 종료
+     */
+    public SseEmitter subscribe(String userId, String ticketId) {
+        getTicket(userId, ticketId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        TicketSubscriber subscriber = new TicketSubscriber(userId, emitter);
+        subscribers.computeIfAbsent(ticketId, id -> new CopyOnWriteArrayList<>()).add(subscriber);
+
+        Runnable remove = () -> removeSubscriber(ticketId, subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // 등록 전에 끝난 티켓은 알림을 받지 못하므로 등록 후 한 번 더 확인
+        BookingTicketResponseDto ticket = ticketStore.find(ticketId, userId);
+        if (ticket != null && BookingTicketStore.isFinished(ticket)) {
+            deliver(ticketId, subscriber, ticket);
+        }
+        return emitter;
+    }
+
+    /**
+     * 티켓 처리 완료 알림 (모든 파드에서 수신, 이 파드의 구독자에게만 전달)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String ticketId = new String(message.getBody(), StandardCharsets.UTF_8);
+        List<TicketSubscriber> ticketSubscribers = subscribers.get(ticketId);
+        if (ticketSubscribers == null) {
+            return;
+        }
+        for (TicketSubscriber subscriber : ticketSubscribers) {
+            try {
+                BookingTicketResponseDto ticket = ticketStore.find(ticketId, subscriber.userId());
+                if (ticket != null && BookingTicketStore.isFinished(ticket)) {
+                    deliver(ticketId, subscriber, ticket);
+                }
+            } catch (Exception e) {
+                log.warn("예매 티켓 결과 전달 실패 - ticketId: {}, error: {}", ticketId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 종료 시 아직 시작하지 않은 요청은 실패 처리 (처리 중인 요청은 완료까지 대기)
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor partition : partitions) {
+            List<Runnable> pending = new ArrayList<>();
+            partition.getQueue().drainTo(pending);
+            partition.shutdown();
+            for (Runnable runnable : pending) {
+                if (runnable instanceof IntakeTask task) {
+                    finishFailed(task, ErrorCode.BOOKING_INTAKE_ABORTED.name(), ErrorCode.BOOKING_INTAKE_ABORTED.getMessage());
+                }
+            }
+        }
+        try {
+            for (ThreadPoolExecutor partition : partitions) {
+                partition.awaitTermination(30, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 처리 중인 요청이 끝날 때까지는 연장을 계속함
+            if (claimRenewer != null) {
+                claimRenewer.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * 이 파드가 맡은 처리 전 티켓의 TTL 연장 (사용자 표시를 잃은 티켓은 취소 표시 후 더 연장하지 않음)
+     */
+    void renewClaims() {
+        pendingTickets.forEach((ticketId, task) -> {
+            try {
+                if (!ticketStore.renewClaim(task.userId, ticketId)) {
+                    log.warn("예매 티켓 점유 만료 - ticketId: {}, userId: {}", ticketId, task.userId);
+                    task.cancelled = true;
+                    pendingTickets.remove(ticketId, task);
+                }
+            } catch (Exception e) {
+                log.debug("예매 티켓 점유 연장 실패 - ticketId: {}, error: {}", ticketId, e.getMessage());
+            }
+        });
+    }
+
+    // === Private Helper Methods ===
+
+    private ThreadPoolExecutor partitionOf(Long scheduleId) {
+        return partitions[Math.floorMod(Long.hashCode(scheduleId), partitions.length)];
+    }
+
+    private void process(IntakeTask task) {
+        CreateBookingResponseDto booking;
+        try {
+            // 점유를 잃은 티켓은 사용자가 다시 접수했을 수 있으므로 예매하지 않음 (연장 주기 사이에 만료된 경우도 여기서 확인)
+            if (task.cancelled || !ticketStore.renewClaim(task.userId, task.ticketId)) {
+                log.warn("점유를 잃은 예매 티켓 처리 생략 - ticketId: {}, userId: {}", task.ticketId, task.userId);
+                pendingTickets.remove(task.ticketId, task);
+                return;
+            }
+            ticketStore.markProcessing(task.ticketId);
+            booking = bookingService.createBooking(task.userId, task.request);
+        } catch (BusinessException e) {
+            finishFailed(task, e.getErrorCode().name(), e.getMessage());
+            return;
+        } catch (Exception e) {
+            log.error("비동기 예매 처리 실패 - ticketId: {}, scheduleId: {}",
+                    task.ticketId, task.request.getScheduleId(), e);
+            finishFailed(task, ErrorCode.INTERNAL_SERVER_ERROR.name(), ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+            return;
+        }
+
+        // 예매는 커밋됐으므로 결과 기록 실패를 예매 실패로 바꾸지 않음 (사용자는 예매 목록에서 확인 가능)
+        pendingTickets.remove(task.ticketId);
+        try {
+            ticketStore.succeed(task.ticketId, booking.getBookingId(), booking.getBookingNumber());
+            ticketStore.releaseUser(task.userId, task.ticketId);
+        } catch (Exception e) {
+            log.warn("예매 티켓 성공 기록 실패 - ticketId: {}, bookingId: {}, error: {}",
+                    task.ticketId, booking.getBookingId(), e.getMessage());
+        }
+    }
+
+    private void finishFailed(IntakeTask task, String errorCode, String message) {
+        pendingTickets.remove(task.ticketId);
+        try {
+            ticketStore.fail(task.ticketId, errorCode, message);
+            ticketStore.releaseUser(task.userId, task.ticketId);
+        } catch (Exception e) {
+            log.warn("예매 티켓 실패 기록 실패 - ticketId: {}, error: {}", task.ticketId, e.getMessage());
+        }
+    }
+
+    private void deliver(String ticketId, TicketSubscriber subscriber, BookingTicketResponseDto ticket) {
+        try {
+            subscriber.emitter().send(SseEmitter.event().name(RESULT_EVENT).data(ticket));
+            subscriber.emitter().complete();
+        } catch (IOException | IllegalStateException e) {
+            removeSubscriber(ticketId, subscriber);
+        }
+    }
+
+    private void removeSubscriber(String ticketId, TicketSubscriber subscriber) {
+        subscribers.computeIfPresent(ticketId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private double queuedCount() {
+        long queued = 0;
+        for (ThreadPoolExecutor partition : partitions) {
+            queued += partition.getQueue().size();
+        }
+        return queued;
+    }
+
+    private final class IntakeTask implements Runnable {
+        private final String ticketId;
+        private final String userId;
+        private final CreateBookingRequestDto request;
+        /** 사용자 표시를 잃음 → 아직 시작하지 않았으면 처리하지 않음 */
+        private volatile boolean cancelled;
+
+        private IntakeTask(String ticketId, String userId, CreateBookingRequestDto request) {
+            this.ticketId = ticketId;
+            this.userId = userId;
+            this.request = request;
+        }
+
+        @Override
+        public void run() {
+            process(this);
+        }
+    }
+
+    private record TicketSubscriber(String userId, SseEmitter emitter) {
+    }
+}
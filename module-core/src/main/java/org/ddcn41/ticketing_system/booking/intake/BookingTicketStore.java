@@ -0,0 +1,190 @@
+package org.ddcn41.ticketing_system.booking.intake;
+
+import org.ddcn41.ticketing_system.booking.dto.response.BookingTicketResponseDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비동기 예매 접수 티켓 저장소 (Redis)
+ * - 어느 파드에서든 티켓 상태를 조회할 수 있도록 처리 결과를 Redis에 기록
+ * - 상태가 끝나면(SUCCEEDED/FAILED) 티켓 채널로 ticketId를 발행하여 SSE 구독자에게 알림
+ * - 처리 전(QUEUED/PROCESSING) 티켓과 사용자 표시는 짧은 TTL(claim-ttl-seconds)로 두고 접수한 파드가 연장
+ *   → 파드가 죽어 메모리 큐가 사라지면 곧 만료되어 사용자가 다시 접수할 수 있음 (끝난 티켓은 ticket-ttl-seconds 보관)
+ *
+ * Redis 키
+ * - booking_ticket:{ticketId}       : 티켓 해시 (status, userId, scheduleId, bookingId, bookingNumber, errorCode, message, createdAt, updatedAt)
+ * - booking_intake:user:{userId}    : 사용자별 처리 중인 ticketId (동시에 하나만 접수)
+ */
+@Component
+public class BookingTicketStore {
+
+    public static final String EVENT_CHANNEL = "booking_ticket_events";
+
+    static final String STATUS_QUEUED = "QUEUED";
+    static final String STATUS_PROCESSING = "PROCESSING";
+    static final String STATUS_SUCCEEDED = "SUCCEEDED";
+    static final String STATUS_FAILED = "FAILED";
+
+    private static final String TICKET_KEY_PREFIX = "booking_ticket:";
+    private static final String USER_KEY_PREFIX = "booking_intake:user:";
+    private static final int MAX_MESSAGE_LENGTH = 200;
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 사용자 표시가 아직 이 티켓이면 사용자 표시와 티켓의 TTL 연장
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              redis.call('PEXPIRE', KEYS[2], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+    private final Duration claimTtl;
+
+    public BookingTicketStore(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                              @Value("${booking.intake.ticket-ttl-seconds:600}") long ttlSeconds,
+                              @Value("${booking.intake.claim-ttl-seconds:30}") long claimTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.claimTtl = Duration.ofSeconds(claimTtlSeconds);
+    }
+
+    public Duration claimTtl() {
+        return claimTtl;
+    }
+
+    /**
+     * 사용자별 처리 중 표시 (이미 처리 중인 티켓이 있으면 false)
+     */
+    public boolean claimUser(String userId, String ticketId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(USER_KEY_PREFIX + userId, ticketId, claimTtl));
+    }
+
+    /**
+     * 처리 전 티켓의 짧은 TTL 연장 (접수한 파드가 주기적으로 호출)
+     *
+     * @return 사용자 표시가 다른 티켓으로 바뀌었거나 만료됐으면 false
+     */
+    public boolean renewClaim(String userId, String ticketId) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(USER_KEY_PREFIX + userId, ticketKey(ticketId)),
+                ticketId, String.valueOf(claimTtl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    public String findUserTicket(String userId) {
+        return redisTemplate.opsForValue().get(USER_KEY_PREFIX + userId);
+    }
+
+    /**
+     * 처리 중 표시 해제 (다른 티켓이 다시 점유한 경우는 유지)
+     */
+    public void releaseUser(String userId, String ticketId) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(USER_KEY_PREFIX + userId), ticketId);
+    }
+
+    public void create(String ticketId, String userId, Long scheduleId) {
+        String now = String.valueOf(System.currentTimeMillis());
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", STATUS_QUEUED);
+        fields.put("userId", userId);
+        fields.put("scheduleId", String.valueOf(scheduleId));
+        fields.put("createdAt", now);
+        fields.put("updatedAt", now);
+        redisTemplate.opsForHash().putAll(ticketKey(ticketId), fields);
+        redisTemplate.expire(ticketKey(ticketId), claimTtl);
+    }
+
+    public void markProcessing(String ticketId) {
+        redisTemplate.opsForHash().putAll(ticketKey(ticketId), Map.of(
+                "status", STATUS_PROCESSING,
+                "updatedAt", String.valueOf(System.currentTimeMillis())));
+    }
+
+    public void succeed(String ticketId, Long bookingId, String bookingNumber) {
+        finish(ticketId, Map.of(
+                "status", STATUS_SUCCEEDED,
+                "bookingId", String.valueOf(bookingId),
+                "bookingNumber", bookingNumber,
+                "updatedAt", String.valueOf(System.currentTimeMillis())));
+    }
+
+    public void fail(String ticketId, String errorCode, String message) {
+        String reason = message == null ? "" : message;
+        finish(ticketId, Map.of(
+                "status", STATUS_FAILED,
+                "errorCode", errorCode,
+                "message", reason.length() > MAX_MESSAGE_LENGTH ? reason.substring(0, MAX_MESSAGE_LENGTH) : reason,
+                "updatedAt", String.valueOf(System.currentTimeMillis())));
+    }
+
+    public void delete(String ticketId) {
+        redisTemplate.delete(ticketKey(ticketId));
+    }
+
+    /**
+     * 티켓 조회 (없거나 다른 사용자의 티켓이면 null)
+     */
+    public BookingTicketResponseDto find(String ticketId, String userId) {
+        Map<String, String> ticket = redisTemplate.<String, String>opsForHash().entries(ticketKey(ticketId));
+        if (ticket.isEmpty() || !userId.equals(ticket.get("userId"))) {
+            return null;
+        }
+        return BookingTicketResponseDto.builder()
+                .ticketId(ticketId)
+                .status(ticket.get("status"))
+                .scheduleId(parseLong(ticket.get("scheduleId")))
+                .bookingId(parseLong(ticket.get("bookingId")))
+                .bookingNumber(ticket.get("bookingNumber"))
+                .errorCode(ticket.get("errorCode"))
+                .message(ticket.get("message"))
+                .createdAt(toLocalDateTime(ticket.get("createdAt")))
+                .updatedAt(toLocalDateTime(ticket.get("updatedAt")))
+                .build();
+    }
+
+    public static boolean isFinished(BookingTicketResponseDto ticket) {
+        return STATUS_SUCCEEDED.equals(ticket.getStatus()) || STATUS_FAILED.equals(ticket.getStatus());
+    }
+
+    private void finish(String ticketId, Map<String, String> fields) {
+        redisTemplate.opsForHash().putAll(ticketKey(ticketId), fields);
+        redisTemplate.expire(ticketKey(ticketId), ttl);
+        redisTemplate.convertAndSend(EVENT_CHANNEL, ticketId);
+    }
+
+    private static String ticketKey(String ticketId) {
+        return TICKET_KEY_PREFIX + ticketId;
+    }
+
+    private static Long parseLong(String value) {
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    private static LocalDateTime toLocalDateTime(String epochMillis) {
+        return epochMillis == null ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,102 @@
+package org.ddcn41.ticketing_system.booking.number;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서 예매번호 생성기 (Snowflake 방식)
+ * - 63비트 = 41비트 밀리초(EPOCH_MS 기준) | 10비트 노드 | 12비트 시퀀스
+ * - 마지막 (타임스탬프, 시퀀스)를 AtomicLong 하나에 담아 CAS로 갱신하므로 락 없이 단조 증가
+ * - 같은 밀리초에 시퀀스를 다 쓰거나 시계가 뒤로 가면 다음 밀리초를 미리 사용하고,
+ *   앞서간 시간이 maxDriftMs를 넘으면 시계가 따라올 때까지 대기
+ * - Crockford base32 13자리 고정 길이라 문자열 정렬 순서 = 생성 순서 (인덱스 삽입 위치가 몰림)
+ */
+public class BookingNumberGenerator {
+
+    public static final String PREFIX = "DDCN-";
+
+    /**
+     * 2025-01-01T00:00:00Z
+     */
+    static final long EPOCH_MS = 1_735_689_600_000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13; // ceil(63 / 5)
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final LongSupplier clock;
+    private final long maxDriftMs;
+    private final AtomicLong last = new AtomicLong();
+    private volatile long nodeBits;
+
+    public BookingNumberGenerator(int nodeId, long maxDriftMs) {
+        this(nodeId, maxDriftMs, System::currentTimeMillis);
+    }
+
+    BookingNumberGenerator(int nodeId, long maxDriftMs, LongSupplier clock) {
+        this.clock = clock;
+        this.maxDriftMs = Math.max(0, maxDriftMs);
+        setNodeId(nodeId);
+    }
+
+    /**
+     * 노드 변경 (리스를 다시 받은 경우) — 노드 구간이 달라지므로 시퀀스 상태는 그대로 사용
+     */
+    public void setNodeId(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    public int getNodeId() {
+        return (int) (nodeBits >>> SEQUENCE_BITS);
+    }
+
+    /**
+     * "DDCN-" + Crockford base32 13자리
+     */
+    public String next() {
+        return encode(nextId());
+    }
+
+    public long nextId() {
+        long state = nextState();
+        long timestamp = state >>> SEQUENCE_BITS;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (state & SEQUENCE_MASK);
+    }
+
+    /**
+     * (타임스탬프 << SEQUENCE_BITS | 시퀀스) 다음 값
+     * - 현재 시각이 마지막 타임스탬프보다 크면 새 밀리초의 시퀀스 0
+     * - 아니면 +1 (시퀀스가 넘치면 자연스럽게 다음 밀리초로 올림)
+     */
+    private long nextState() {
+        while (true) {
+            long previous = last.get();
+            long now = clock.getAsLong() - EPOCH_MS;
+            long candidate = now > (previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+            if ((candidate >>> SEQUENCE_BITS) - now > maxDriftMs) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (last.compareAndSet(previous, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    static String encode(long id) {
+        char[] chars = new char[PREFIX.length() + ENCODED_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+}
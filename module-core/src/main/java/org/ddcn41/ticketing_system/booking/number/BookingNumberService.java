@@ -0,0 +1,179 @@
+package org.ddcn41.ticketing_system.booking.number;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예매번호 발급
+ * - booking.number.node-id (0~1023)가 지정되면 그대로 사용
+ * - 지정되지 않으면 Redis 리스(booking_number:node:{n})로 노드 번호를 점유하고 주기적으로 갱신
+ * - 리스를 잃으면 새 노드 번호를 다시 점유 (다른 파드와 같은 노드 번호로 발급하지 않도록)
+ * - 점유는 기동 시점이 아니라 갱신 주기/첫 발급 때 시도하므로 Redis 장애 중에도 기동은 가능
+ * - 마지막 점유/갱신 시도 시각 + lease-ms - lease-margin-ms가 지나면 (다른 파드가 같은 번호를 가져갈 수 있으므로) 발급 중단
+ */
+@Slf4j
+@Service
+public class BookingNumberService {
+
+    private static final String NODE_KEY_PREFIX = "booking_number:node:";
+
+    /**
+     * 리스가 없을 때 발급 요청에서 Redis를 다시 시도하는 최소 간격 (장애 중 요청마다 Redis 타임아웃을 기다리지 않도록)
+     */
+    private static final long REFRESH_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long leaseMs;
+    private final long leaseMarginMs;
+    private final long maxDriftMs;
+    private final boolean leased;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 리스 방식이면 첫 점유 전까지 null
+     */
+    private volatile BookingNumberGenerator generator;
+
+    /**
+     * 리스가 확실히 유효한 시각 (System.nanoTime 기준)
+     */
+    private volatile long leaseValidUntilNanos;
+    private volatile long lastAttemptNanos = System.nanoTime() - REFRESH_BACKOFF_NANOS;
+
+    public BookingNumberService(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                @Value("${booking.number.node-id:-1}") int nodeId,
+                                @Value("${booking.number.lease-ms:60000}") long leaseMs,
+                                @Value("${booking.number.lease-margin-ms:5000}") long leaseMarginMs,
+                                @Value("${booking.number.max-drift-ms:1000}") long maxDriftMs) {
+        this.redisTemplate = redisTemplate;
+        this.leaseMs = leaseMs;
+        this.leaseMarginMs = Math.min(Math.max(0, leaseMarginMs), leaseMs / 2);
+        this.maxDriftMs = maxDriftMs;
+        this.leased = nodeId < 0;
+        if (!leased) {
+            this.generator = new BookingNumberGenerator(nodeId, maxDriftMs);
+            log.info("예매번호 생성기 노드 - nodeId: {}", nodeId);
+        }
+    }
+
+    public String next() {
+        if (leased && !leaseValid()) {
+            if (System.nanoTime() - lastAttemptNanos >= REFRESH_BACKOFF_NANOS) {
+                refreshLease();
+            }
+            if (!leaseValid()) {
+                throw new BusinessException(ErrorCode.BOOKING_NUMBER_UNAVAILABLE);
+            }
+        }
+        return generator.next();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.number.lease-renew-interval-ms:20000}")
+    public void renewLease() {
+        if (leased) {
+            refreshLease();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        BookingNumberGenerator current = generator;
+        if (!leased || current == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(NODE_KEY_PREFIX + current.getNodeId()), instanceId);
+        } catch (Exception e) {
+            log.warn("예매번호 노드 리스 반납 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보유한 노드 리스 갱신, 없거나 잃었으면 새로 점유 (실패하면 유효 시각을 늘리지 않음)
+     */
+    private synchronized void refreshLease() {
+        long attemptedAt = System.nanoTime();
+        lastAttemptNanos = attemptedAt;
+        BookingNumberGenerator current = generator;
+        try {
+            if (current != null) {
+                int nodeId = current.getNodeId();
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(NODE_KEY_PREFIX + nodeId),
+                        instanceId, String.valueOf(leaseMs));
+                if (renewed != null && renewed == 1L) {
+                    extendLease(attemptedAt);
+                    return;
+                }
+                log.warn("예매번호 노드 리스 상실, 재점유 - previous: {}", nodeId);
+            }
+            int acquired = acquireNode();
+            if (current == null) {
+                generator = new BookingNumberGenerator(acquired, maxDriftMs);
+            } else {
+                current.setNodeId(acquired);
+            }
+            extendLease(attemptedAt);
+            log.info("예매번호 생성기 노드 점유 - nodeId: {}", acquired);
+        } catch (Exception e) {
+            log.warn("예매번호 노드 리스 갱신 실패 - nodeId: {}, error: {}",
+                    current == null ? null : current.getNodeId(), e.getMessage());
+        }
+    }
+
+    private boolean leaseValid() {
+        return generator != null && System.nanoTime() - leaseValidUntilNanos < 0;
+    }
+
+    /**
+     * Redis의 만료 시각은 시도 시각 + lease-ms 이후이므로, 시도 시각 기준으로 여유를 두고 계산
+     */
+    private void extendLease(long attemptedAtNanos) {
+        leaseValidUntilNanos = attemptedAtNanos + TimeUnit.MILLISECONDS.toNanos(leaseMs - leaseMarginMs);
+    }
+
+    /**
+     * 임의 위치부터 빈 노드 번호를 찾아 점유
+     */
+    private int acquireNode() {
+        int nodes = BookingNumberGenerator.MAX_NODE_ID + 1;
+        int start = ThreadLocalRandom.current().nextInt(nodes);
+        for (int i = 0; i < nodes; i++) {
+            int nodeId = (start + i) % nodes;
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(NODE_KEY_PREFIX + nodeId, instanceId,
+                    Duration.ofMillis(leaseMs));
+            if (Boolean.TRUE.equals(acquired)) {
+                return nodeId;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 예매번호 노드가 없습니다");
+    }
+}
@@ -0,0 +1,123 @@
+package org.ddcn41.ticketing_system.booking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스케줄 단위 예매 일괄 취소 JDBC 저장소
+ * - 예매/좌석/환불을 청크마다 집합 연산 한 번씩으로 처리 (예매 엔티티를 적재하지 않음)
+ * - 모든 메서드는 호출자 트랜잭션 안에서 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingBulkCancelRepository {
+
+    private static final String COUNT_CONFIRMED_SQL =
+            "SELECT COUNT(*) FROM bookings WHERE schedule_id = ANY(?) AND status = 'CONFIRMED'";
+
+    /**
+     * CONFIRMED 예매를 booking_id 순으로 limit개 잠그고 취소 (다른 트랜잭션이 잡고 있는 예매는 다음 청크로)
+     */
+    private static final String CANCEL_CHUNK_SQL =
+            "WITH target AS (" +
+            "    SELECT booking_id FROM bookings " +
+            "    WHERE schedule_id = ANY(?) AND status = 'CONFIRMED' " +
+            "    ORDER BY booking_id LIMIT ? FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "UPDATE bookings b SET status = 'CANCELLED', cancelled_at = ?, cancellation_reason = ?, updated_at = ? " +
+            "FROM target t, performance_schedules ps " +
+            "WHERE b.booking_id = t.booking_id AND ps.schedule_id = b.schedule_id " +
+            "RETURNING b.booking_id, b.user_id, b.schedule_id, ps.performance_id, b.seat_count, b.total_amount";
+
+    private static final String RESTORE_SEATS_SQL =
+            "UPDATE schedule_seats s SET status = 'AVAILABLE', version = COALESCE(s.version, 0) + 1, updated_at = ? " +
+            "FROM booking_seats bs " +
+            "WHERE bs.booking_id = ANY(?) AND s.seat_id = bs.seat_id AND s.status = 'BOOKED' " +
+            "RETURNING s.schedule_id, s.seat_id, s.zone, s.grade";
+
+    /**
+     * 예매별 환불 요청 (완료된 결제가 있으면 연결)
+     */
+    private static final String INSERT_REFUNDS_SQL =
+            "INSERT INTO refunds (payment_id, booking_id, refund_amount, reason, status, requested_at, created_at, updated_at) " +
+            "SELECT (SELECT p.payment_id FROM payments p " +
+            "        WHERE p.booking_id = b.booking_id AND p.status = 'COMPLETED' ORDER BY p.payment_id DESC LIMIT 1), " +
+            "       b.booking_id, b.total_amount, ?, 'REQUESTED', ?, ?, ? " +
+            "FROM bookings b WHERE b.booking_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long countConfirmed(List<Long> scheduleIds) {
+        Long count = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(COUNT_CONFIRMED_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            return ps;
+        }, rs -> rs.next() ? rs.getLong(1) : 0L);
+        return count == null ? 0L : count;
+    }
+
+    public List<CancelledBooking> cancelChunk(List<Long> scheduleIds, int limit, String reason, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(CANCEL_CHUNK_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            ps.setInt(2, limit);
+            ps.setTimestamp(3, timestamp);
+            ps.setString(4, reason);
+            ps.setTimestamp(5, timestamp);
+            return ps;
+        }, (rs, rowNum) -> new CancelledBooking(
+                rs.getLong("booking_id"),
+                rs.getString("user_id"),
+                rs.getLong("schedule_id"),
+                rs.getLong("performance_id"),
+                rs.getInt("seat_count"),
+                rs.getBigDecimal("total_amount")));
+    }
+
+    /**
+     * 취소된 예매의 BOOKED 좌석을 AVAILABLE로 복원
+     *
+     * @return 복원된 좌석의 상태 전이 (좌석 변경 이벤트 발행용)
+     */
+    public List<SeatTransition> restoreSeats(List<Long> bookingIds, LocalDateTime now) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(RESTORE_SEATS_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setArray(2, connection.createArrayOf("bigint", bookingIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new SeatTransition(
+                rs.getLong("schedule_id"),
+                rs.getLong("seat_id"),
+                rs.getString("zone"),
+                rs.getString("grade"),
+                SeatStatus.BOOKED,
+                SeatStatus.AVAILABLE));
+    }
+
+    public int insertRefunds(List<Long> bookingIds, String reason, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_REFUNDS_SQL);
+            ps.setString(1, reason);
+            ps.setTimestamp(2, timestamp);
+            ps.setTimestamp(3, timestamp);
+            ps.setTimestamp(4, timestamp);
+            ps.setArray(5, connection.createArrayOf("bigint", bookingIds.toArray()));
+            return ps;
+        });
+    }
+
+    public record CancelledBooking(Long bookingId, String userId, Long scheduleId, Long performanceId,
+                                   int seatCount, BigDecimal totalAmount) {
+    }
+}
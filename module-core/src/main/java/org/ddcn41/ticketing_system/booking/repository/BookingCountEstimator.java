@@ -0,0 +1,44 @@
+package org.ddcn41.ticketing_system.booking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.booking.entity.Booking.BookingStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 예약 건수 추정 (PostgreSQL 통계 기반, COUNT(*) 없이 상수 시간)
+ * - 전체: pg_class.reltuples
+ * - 상태별: 플래너 추정 행 수 (EXPLAIN의 rows=)
+ * - 통계가 없으면(ANALYZE 전) -1 반환 → 호출자가 정확한 COUNT로 대체
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingCountEstimator {
+
+    private static final String RELTUPLES_SQL =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = 'bookings'::regclass";
+
+    private static final Pattern ROWS = Pattern.compile("rows=(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long estimateAll() {
+        Long estimate = jdbcTemplate.queryForObject(RELTUPLES_SQL, Long.class);
+        return estimate == null ? -1 : estimate;
+    }
+
+    public long estimateByStatus(BookingStatus status) {
+        // status는 enum 이름이므로 SQL에 직접 넣어도 안전
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT 1 FROM bookings WHERE status = '" + status.name() + "'", String.class);
+        if (plan.isEmpty()) {
+            return -1;
+        }
+        Matcher matcher = ROWS.matcher(plan.get(0));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+}
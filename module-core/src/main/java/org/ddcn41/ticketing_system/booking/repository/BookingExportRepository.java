@@ -0,0 +1,78 @@
+package org.ddcn41.ticketing_system.booking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.booking.entity.Booking.BookingStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 내보내기용 전방향(forward-only) 스트리밍 조회
+ * - fetch size 단위로 서버 커서에서 읽어 전체 결과를 메모리에 올리지 않음
+ * - PostgreSQL은 autocommit이 꺼진 상태(트랜잭션 안)에서만 fetch size를 커서로 사용하므로 호출자가 트랜잭션을 열어야 함
+ * - 예약당 좌석 수만큼 행이 나오며 booking_id 순으로 정렬되어 있음 (좌석이 없는 예약은 좌석 컬럼이 NULL인 한 행)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingExportRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT b.booking_id, b.booking_number, b.user_id, b.schedule_id, s.show_datetime, p.title, v.venue_name, " +
+            "       b.seat_count, b.total_amount, b.status, b.booked_at, b.cancelled_at, b.created_at, " +
+            "       ss.zone, ss.row_label, ss.col_num, ss.grade, bs.seat_price " +
+            "FROM bookings b " +
+            "JOIN performance_schedules s ON s.schedule_id = b.schedule_id " +
+            "JOIN performances p ON p.performance_id = s.performance_id " +
+            "JOIN venues v ON v.venue_id = p.venue_id " +
+            "LEFT JOIN booking_seats bs ON bs.booking_id = b.booking_id " +
+            "LEFT JOIN schedule_seats ss ON ss.seat_id = bs.seat_id ";
+
+    private static final String ORDER_SQL = "ORDER BY b.booking_id, bs.booking_seat_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void stream(BookingStatus status, int fetchSize, ExportRowHandler handler) {
+        String sql = status == null ? SELECT_SQL + ORDER_SQL : SELECT_SQL + "WHERE b.status = ? " + ORDER_SQL;
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            if (status != null) {
+                ps.setString(1, status.name());
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.handle(new ExportRow(
+                rs.getLong(1), rs.getString(2), rs.getString(3), rs.getLong(4), toLocal(rs.getTimestamp(5)),
+                rs.getString(6), rs.getString(7), rs.getInt(8), rs.getBigDecimal(9), rs.getString(10),
+                toLocal(rs.getTimestamp(11)), toLocal(rs.getTimestamp(12)), toLocal(rs.getTimestamp(13)),
+                rs.getString(14), rs.getString(15), rs.getString(16), rs.getString(17), rs.getBigDecimal(18))));
+    }
+
+    private static LocalDateTime toLocal(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    @FunctionalInterface
+    public interface ExportRowHandler {
+        void handle(ExportRow row) throws SQLException;
+    }
+
+    public record ExportRow(long bookingId, String bookingNumber, String userId, long scheduleId,
+                            LocalDateTime showDatetime, String performanceTitle, String venueName,
+                            int seatCount, BigDecimal totalAmount, String status,
+                            LocalDateTime bookedAt, LocalDateTime cancelledAt, LocalDateTime createdAt,
+                            String seatZone, String seatRowLabel, String seatColNum, String seatGrade,
+                            BigDecimal seatPrice) {
+
+        public boolean hasSeat() {
+            return seatRowLabel != null;
+        }
+    }
+}
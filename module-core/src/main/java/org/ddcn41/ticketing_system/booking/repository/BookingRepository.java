@@ -1,17 +1,22 @@
 package org.ddcn41.ticketing_system.booking.repository;
 
+import jakarta.persistence.LockModeType;
+import org.ddcn41.ticketing_system.booking.dto.BookingKeyProjection;
 import org.ddcn41.ticketing_system.booking.dto.BookingProjection;
 import org.ddcn41.ticketing_system.booking.entity.Booking;
 import org.ddcn41.ticketing_system.booking.entity.Booking.BookingStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -44,6 +49,13 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b WHERE b.schedule.scheduleId = :scheduleId")
     Page<Booking> findByScheduleId(@Param("scheduleId") Long scheduleId, Pageable pageable);
 
+    /**
+     * 상태 변경용 조회 (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.bookingId = :bookingId")
+    Optional<Booking> findByIdForUpdate(@Param("bookingId") Long bookingId);
+
     /**
      * 예약 번호로 조회
      */
@@ -58,59 +70,56 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
                                            @Param("endDate") LocalDateTime endDate);
 
     /**
-     * 효율적인 예약 목록 조회 (DTO Projection 사용)
-     * 필요한 데이터만 JOIN으로 한 번에 조회
+     * 목록 1단계: 페이지의 예약 ID만 조회 (PK/상태 인덱스만 사용, 좌석·공연 JOIN 없음)
      */
-    @Query("SELECT " +
-            "b.bookingId as bookingId, " +
-            "b.bookingNumber as bookingNumber, " +
-            "b.userId as userId, " +
-            "b.schedule.scheduleId as scheduleId, " +
-            "b.schedule.showDatetime as showDatetime, " +
-            "b.schedule.performance.title as performanceTitle, " +
-            "b.schedule.performance.venue.venueName as venueName, " +
-            "CONCAT(ss.rowLabel, ss.colNum) as seatCode, " +
-            "ss.zone as seatZone, " +
-            "bs.bookingSeatId as bookingSeatId, " +
-            "ss.grade as seatGrade, " +
-            "ss.rowLabel as seatRowLabel, " +
-            "ss.colNum as seatColNum, " +
-            "bs.seatPrice as seatPrice, " +
-            "b.seatCount as seatCount, " +
-            "b.totalAmount as totalAmount, " +
-            "b.status as status, " +
-            "b.expiresAt as expiresAt, " +
-            "b.bookedAt as bookedAt, " +
-            "b.cancelledAt as cancelledAt, " +
-            "b.cancellationReason as cancellationReason, " +
-            "b.createdAt as createdAt, " +
-            "b.updatedAt as updatedAt " +
-            "FROM Booking b " +
-            "JOIN b.schedule " +
-            "JOIN b.schedule.performance " +
-            "JOIN b.schedule.performance.venue " +
-            "LEFT JOIN b.bookingSeats bs " +
-            "LEFT JOIN bs.seat ss ")
-    Page<BookingProjection> findAllWithDetails(Pageable pageable);
+    @Query("SELECT b.bookingId FROM Booking b ORDER BY b.bookingId DESC")
+    List<Long> findPageIds(Pageable pageable);
+
+    @Query("SELECT b.bookingId FROM Booking b WHERE b.status = :status ORDER BY b.bookingId DESC")
+    List<Long> findPageIdsByStatus(@Param("status") BookingStatus status, Pageable pageable);
+
+    long countByStatus(BookingStatus status);
+
+    /**
+     * 커서 페이지: (createdAt, bookingId) 내림차순으로 커서 위치 다음 예약 키 조회
+     * OFFSET 없이 인덱스 (created_at, booking_id)에서 바로 이어 읽음
+     */
+    @Query("SELECT b.bookingId as bookingId, b.createdAt as createdAt FROM Booking b " +
+            "WHERE (b.createdAt, b.bookingId) < (:createdAt, :bookingId) " +
+            "ORDER BY b.createdAt DESC, b.bookingId DESC")
+    List<BookingKeyProjection> findKeysBefore(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("bookingId") Long bookingId,
+                                              Pageable pageable);
+
+    @Query("SELECT b.bookingId as bookingId, b.createdAt as createdAt FROM Booking b " +
+            "WHERE b.status = :status AND (b.createdAt, b.bookingId) < (:createdAt, :bookingId) " +
+            "ORDER BY b.createdAt DESC, b.bookingId DESC")
+    List<BookingKeyProjection> findKeysByStatusBefore(@Param("status") BookingStatus status,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("bookingId") Long bookingId,
+                                                      Pageable pageable);
+
+    @Query("SELECT b.bookingId as bookingId, b.createdAt as createdAt FROM Booking b " +
+            "WHERE b.userId = :userId AND (:status IS NULL OR b.status = :status) " +
+            "AND (b.createdAt, b.bookingId) < (:createdAt, :bookingId) " +
+            "ORDER BY b.createdAt DESC, b.bookingId DESC")
+    List<BookingKeyProjection> findUserKeysBefore(@Param("userId") String userId,
+                                                  @Param("status") BookingStatus status,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("bookingId") Long bookingId,
+                                                  Pageable pageable);
 
     /**
-     * 상태별 효율적인 예약 목록 조회
+     * 목록 2단계: 예약 ID 목록의 예약·공연·공연장 정보 (예약당 한 행)
      */
     @Query("SELECT " +
             "b.bookingId as bookingId, " +
             "b.bookingNumber as bookingNumber, " +
             "b.userId as userId, " +
-            "b.schedule.scheduleId as scheduleId, " +
-            "b.schedule.showDatetime as showDatetime, " +
-            "b.schedule.performance.title as performanceTitle, " +
-            "b.schedule.performance.venue.venueName as venueName, " +
-            "CONCAT(ss.rowLabel, ss.colNum) as seatCode, " +
-            "ss.zone as seatZone, " +
-            "bs.bookingSeatId as bookingSeatId, " +
-            "ss.grade as seatGrade, " +
-            "ss.rowLabel as seatRowLabel, " +
-            "ss.colNum as seatColNum, " +
-            "bs.seatPrice as seatPrice, " +
+            "s.scheduleId as scheduleId, " +
+            "s.showDatetime as showDatetime, " +
+            "p.title as performanceTitle, " +
+            "v.venueName as venueName, " +
             "b.seatCount as seatCount, " +
             "b.totalAmount as totalAmount, " +
             "b.status as status, " +
@@ -121,11 +130,9 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             "b.createdAt as createdAt, " +
             "b.updatedAt as updatedAt " +
             "FROM Booking b " +
-            "JOIN b.schedule " +
-            "JOIN b.schedule.performance " +
-            "JOIN b.schedule.performance.venue " +
-            "LEFT JOIN b.bookingSeats bs " +
-            "LEFT JOIN bs.seat ss " +
-            "WHERE b.status = :status")
-    Page<BookingProjection> findAllByStatusWithDetails(@Param("status") BookingStatus status, Pageable pageable);
+            "JOIN b.schedule s " +
+            "JOIN s.performance p " +
+            "JOIN p.venue v " +
+            "WHERE b.bookingId IN :bookingIds")
+    List<BookingProjection> findListRowsByIds(@Param("bookingIds") Collection<Long> bookingIds);
 }
@@ -1,9 +1,34 @@
 package org.ddcn41.ticketing_system.booking.repository;
 
+import org.ddcn41.ticketing_system.booking.dto.BookingSeatProjection;
 import org.ddcn41.ticketing_system.booking.entity.BookingSeat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface BookingSeatRepository extends JpaRepository<BookingSeat, Long> {
+
+    /**
+     * 여러 예약의 좌석을 한 번에 조회 (예약 목록 조립용)
+     */
+    @Query("SELECT " +
+            "bs.booking.bookingId as bookingId, " +
+            "bs.bookingSeatId as bookingSeatId, " +
+            "ss.seatId as seatId, " +
+            "bs.seatPrice as seatPrice, " +
+            "ss.grade as grade, " +
+            "ss.zone as zone, " +
+            "ss.rowLabel as rowLabel, " +
+            "ss.colNum as colNum, " +
+            "bs.createdAt as createdAt " +
+            "FROM BookingSeat bs " +
+            "JOIN bs.seat ss " +
+            "WHERE bs.booking.bookingId IN :bookingIds " +
+            "ORDER BY bs.booking.bookingId, bs.bookingSeatId")
+    List<BookingSeatProjection> findListRowsByBookingIds(@Param("bookingIds") Collection<Long> bookingIds);
 }
@@ -2,8 +2,8 @@ package org.ddcn41.ticketing_system.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import org.ddcn41.ticketing_system.booking.entity.Booking;
-import org.ddcn41.ticketing_system.metric.dto.AuditLogDto;
-import org.ddcn41.ticketing_system.metric.service.AuditEventService;
+import org.ddcn41.ticketing_system.booking.repository.BookingBulkCancelRepository.CancelledBooking;
+import org.ddcn41.ticketing_system.outbox.service.OutboxService;
 import org.ddcn41.ticketing_system.user.entity.User;
 import org.springframework.stereotype.Service;
 
@@ -18,7 +18,7 @@ public class BookingAuditService {
 
     private static final String SYSTEM_PRINCIPAL = "system";
 
-    private final AuditEventService auditEventService;
+    private final OutboxService outboxService;
 
     public void logBookingCreated(User user, Booking booking, List<Long> seatIds) {
         Map<String, Object> data = new HashMap<>();
@@ -29,13 +29,7 @@ public class BookingAuditService {
         data.put("totalAmount", toPlainAmount(booking.getTotalAmount()));
         data.put("seatIds", seatIds);
 
-        AuditLogDto auditLogDto = AuditLogDto.builder()
-                .principal(resolvePrincipal(user))
-                .type("BOOKING_CREATED")
-                .data(data)
-                .build();
-
-        auditEventService.addAuditEvent(auditLogDto);
+        enqueue(resolvePrincipal(user), "BOOKING_CREATED", booking, data);
     }
 
     public void logBookingCancelled(String actorUsername, Booking booking, String reason) {
@@ -46,13 +40,41 @@ public class BookingAuditService {
         data.put("refundAmount", toPlainAmount(booking.getTotalAmount()));
         data.put("reason", reason);
 
-        AuditLogDto auditLogDto = AuditLogDto.builder()
-                .principal(actorUsername != null ? actorUsername : "userId: " + booking.getUserId())
-                .type("BOOKING_CANCELLED")
-                .data(data)
-                .build();
+        enqueue(actorUsername != null ? actorUsername : "userId: " + booking.getUserId(), "BOOKING_CANCELLED", booking, data);
+    }
+
+    /**
+     * 일괄 취소 청크의 감사 로그 (단건 취소와 같은 형식/멱등 키, INSERT는 트랜잭션 flush 때 배치로 전송)
+     */
+    public void logBookingsCancelled(String actorUsername, List<CancelledBooking> bookings, String reason) {
+        String principal = actorUsername != null ? actorUsername : SYSTEM_PRINCIPAL;
+        for (CancelledBooking booking : bookings) {
+            Map<String, Object> data = new HashMap<>();
+
+            data.put("bookingId", booking.bookingId());
+            data.put("scheduleId", booking.scheduleId());
+            data.put("refundAmount", toPlainAmount(booking.totalAmount()));
+            data.put("reason", reason);
+            data.put("bulk", true);
+
+            enqueue(principal, "BOOKING_CANCELLED", booking.bookingId(), data);
+        }
+    }
+
+    /**
+     * 감사 로그는 예매 트랜잭션과 함께 아웃박스에 기록하고 커밋 후 relay가 전달
+     */
+    private void enqueue(String principal, String type, Booking booking, Map<String, Object> data) {
+        enqueue(principal, type, booking.getBookingId(), data);
+    }
+
+    private void enqueue(String principal, String type, Long bookingId, Map<String, Object> data) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("principal", principal);
+        payload.put("type", type);
+        payload.put("data", data);
 
-        auditEventService.addAuditEvent(auditLogDto);
+        outboxService.enqueue(OutboxService.AUDIT_EVENT, "booking:" + bookingId, type + ":" + bookingId, payload);
     }
 
     private String resolvePrincipal(User user) {
@@ -0,0 +1,398 @@
+package org.ddcn41.ticketing_system.booking.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.booking.service.BookingBulkCancelService.ChunkResult;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelJobResponse;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelRequest;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceRepository;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 공연/스케줄 단위 예매 일괄 취소 비동기 작업
+ * - 시작 시 대상 스케줄을 CLOSED로 바꿔 새 예매를 막고, 공연 단위면 공연을 CANCELLED로 변경
+ * - CONFIRMED 예매를 chunk-size개씩 청크 트랜잭션으로 취소 (BookingBulkCancelService.cancelChunk)
+ * - 청크 사이에 pause-ms만큼 쉬어 일반 트래픽의 DB 커넥션/락 대기를 줄임
+ * - 다른 트랜잭션이 잡고 있는 예매만 남으면 간격을 늘려가며 재시도하고, 그래도 남으면 PARTIAL(remaining에 남은 수)
+ * - 끝나면 대상 스케줄의 가용 좌석 수를 한 번만 다시 계산 (상태는 CLOSED 유지)
+ * - 진행 상황은 Redis에 기록하여 어느 파드에서든 조회 가능, 같은 대상에는 작업 하나만 실행 (SET NX로 선점)
+ *
+ * Redis 키
+ * - booking_cancel_job:{jobId}                   : 작업 상태 해시 (status, scope, targetId, scheduleIds, total, cancelled, seatsRestored, refundAmountMinor, chunks, remaining, startedAt, updatedAt, finishedAt, error)
+ * - booking_cancel_job:target:{scope}:{targetId} : 진행 중인 작업 ID
+ */
+@Slf4j
+@Service
+public class BookingBulkCancelJobService {
+
+    private static final String JOB_KEY_PREFIX = "booking_cancel_job:";
+    private static final String TARGET_KEY_PREFIX = JOB_KEY_PREFIX + "target:";
+
+    private static final String SCOPE_SCHEDULE = "SCHEDULE";
+    private static final String SCOPE_PERFORMANCE = "PERFORMANCE";
+
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+    private static final String STATUS_PARTIAL = "PARTIAL";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final String STATUS_INTERRUPTED = "INTERRUPTED";
+
+    /**
+     * 다른 트랜잭션이 잠근 예매만 남아 청크가 비었을 때 재시도 횟수와 최대 대기 간격 (idle-backoff-ms부터 두 배씩)
+     */
+    private static final int MAX_IDLE_ROUNDS = 10;
+    private static final long IDLE_BACKOFF_MAX_MS = 5_000;
+    private static final int MAX_ERROR_LENGTH = 200;
+
+    /**
+     * 대상 키가 아직 끝난(또는 멈춘) 작업을 가리킬 때만 새 작업으로 교체
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final BookingBulkCancelService bulkCancelService;
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final PerformanceRepository performanceRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final long idleBackoffMs;
+    private final Duration ttl;
+    private final long staleMs;
+
+    private final ThreadPoolExecutor executor;
+    private final Set<String> localJobs = ConcurrentHashMap.newKeySet();
+    private volatile boolean shuttingDown;
+
+    public BookingBulkCancelJobService(BookingBulkCancelService bulkCancelService,
+                                       PerformanceScheduleRepository scheduleRepository,
+                                       PerformanceRepository performanceRepository,
+                                       @Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                       @Value("${booking.bulk-cancel.workers:1}") int workers,
+                                       @Value("${booking.bulk-cancel.chunk-size:500}") int chunkSize,
+                                       @Value("${booking.bulk-cancel.pause-ms:50}") long pauseMs,
+                                       @Value("${booking.bulk-cancel.idle-backoff-ms:200}") long idleBackoffMs,
+                                       @Value("${booking.bulk-cancel.ttl-hours:72}") long ttlHours,
+                                       @Value("${booking.bulk-cancel.stale-ms:300000}") long staleMs) {
+        this.bulkCancelService = bulkCancelService;
+        this.scheduleRepository = scheduleRepository;
+        this.performanceRepository = performanceRepository;
+        this.redisTemplate = redisTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMs = Math.max(0, pauseMs);
+        this.idleBackoffMs = Math.max(0, idleBackoffMs);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.staleMs = staleMs;
+
+        int threads = Math.max(1, workers);
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(threads * 4), r -> new Thread(r, "booking-bulk-cancel"));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public BulkCancelJobResponse start(BulkCancelRequest request) {
+        String scope = request.getScope() == null ? "" : request.getScope().trim().toUpperCase(Locale.ROOT);
+        List<Long> scheduleIds = resolveScheduleIds(scope, request.getTargetId());
+
+        String targetKey = TARGET_KEY_PREFIX + scope + ":" + request.getTargetId();
+        String jobId = UUID.randomUUID().toString();
+        String now = String.valueOf(System.currentTimeMillis());
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", STATUS_RUNNING);
+        fields.put("scope", scope);
+        fields.put("targetId", String.valueOf(request.getTargetId()));
+        fields.put("scheduleIds", scheduleIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        fields.put("total", "0");
+        fields.put("cancelled", "0");
+        fields.put("seatsRestored", "0");
+        fields.put("refundAmountMinor", "0");
+        fields.put("chunks", "0");
+        fields.put("startedAt", now);
+        fields.put("updatedAt", now);
+        // 대상 선점 전에 작업 해시를 만들어 두어야 다른 요청이 이 작업을 멈춘 작업으로 보지 않음
+        redisTemplate.opsForHash().putAll(jobKey(jobId), fields);
+        redisTemplate.expire(jobKey(jobId), ttl);
+
+        Long cancelledPerformanceId = SCOPE_PERFORMANCE.equals(scope) ? request.getTargetId() : null;
+        long total;
+        try {
+            claimTarget(targetKey, jobId);
+            try {
+                bulkCancelService.close(scheduleIds, cancelledPerformanceId);
+                total = bulkCancelService.countConfirmed(scheduleIds);
+            } catch (RuntimeException e) {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(targetKey), jobId);
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            redisTemplate.delete(jobKey(jobId));
+            throw e;
+        }
+        redisTemplate.opsForHash().put(jobKey(jobId), "total", String.valueOf(total));
+
+        String reason = request.getReason() == null || request.getReason().isBlank()
+                ? "공연 취소에 따른 일괄 취소" : request.getReason();
+        localJobs.add(jobId);
+        try {
+            executor.execute(() -> run(jobId, targetKey, scheduleIds, reason, request.getRequestedBy()));
+        } catch (RejectedExecutionException e) {
+            // 스케줄은 이미 마감됐으므로 다시 요청하면 이어서 취소함
+            localJobs.remove(jobId);
+            redisTemplate.delete(jobKey(jobId));
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(targetKey), jobId);
+            throw new BusinessException(ErrorCode.BOOKING_CANCEL_JOB_RUNNING, "실행 대기 중인 작업이 많습니다");
+        }
+
+        log.info("예매 일괄 취소 작업 시작 - jobId: {}, scope: {}, targetId: {}, schedules: {}, total: {}",
+                jobId, scope, request.getTargetId(), scheduleIds.size(), total);
+        return getStatus(jobId);
+    }
+
+    public BulkCancelJobResponse getStatus(String jobId) {
+        Map<String, String> job = redisTemplate.<String, String>opsForHash().entries(jobKey(jobId));
+        if (job.isEmpty()) {
+            throw new BusinessException(ErrorCode.BOOKING_CANCEL_JOB_NOT_FOUND, "jobId: " + jobId);
+        }
+
+        String status = job.get("status");
+        if (STATUS_RUNNING.equals(status) && !isActive(jobId, job)) {
+            status = STATUS_INTERRUPTED; // 실행하던 파드가 종료됨
+        }
+        String scheduleIds = job.getOrDefault("scheduleIds", "");
+
+        return BulkCancelJobResponse.builder()
+                .jobId(jobId)
+                .status(status)
+                .scope(job.get("scope"))
+                .targetId(parseLong(job.get("targetId")))
+                .scheduleIds(scheduleIds.isEmpty() ? List.of()
+                        : Arrays.stream(scheduleIds.split(",")).map(Long::valueOf).toList())
+                .total(parseLong(job.get("total")))
+                .cancelled(parseLong(job.get("cancelled")))
+                .seatsRestored(parseLong(job.get("seatsRestored")))
+                .refundAmount(BigDecimal.valueOf(parseLong(job.get("refundAmountMinor")), 2))
+                .chunks((int) parseLong(job.get("chunks")))
+                .remaining(job.containsKey("remaining") ? parseLong(job.get("remaining")) : null)
+                .startedAt(toLocalDateTime(parseLong(job.get("startedAt"))))
+                .updatedAt(toLocalDateTime(parseLong(job.get("updatedAt"))))
+                .finishedAt(job.containsKey("finishedAt") ? toLocalDateTime(parseLong(job.get("finishedAt"))) : null)
+                .error(job.get("error"))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private List<Long> resolveScheduleIds(String scope, Long targetId) {
+        if (targetId == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "targetId는 필수입니다");
+        }
+        return switch (scope) {
+            case SCOPE_SCHEDULE -> {
+                if (!scheduleRepository.existsById(targetId)) {
+                    throw new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND, "scheduleId: " + targetId);
+                }
+                yield List.of(targetId);
+            }
+            case SCOPE_PERFORMANCE -> {
+                if (!performanceRepository.existsById(targetId)) {
+                    throw new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND, "performanceId: " + targetId);
+                }
+                yield scheduleRepository.findScheduleIdsByPerformanceId(targetId);
+            }
+            default -> throw new BusinessException(ErrorCode.INVALID_INPUT, "scope는 SCHEDULE 또는 PERFORMANCE: " + scope);
+        };
+    }
+
+    /**
+     * 대상 선점 (SET NX) — 이미 선점한 작업이 실행 중이면 409, 끝났거나 멈춘 작업이면 교체
+     */
+    private void claimTarget(String targetKey, String jobId) {
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(targetKey, jobId, ttl))) {
+            return;
+        }
+        String running = redisTemplate.opsForValue().get(targetKey);
+        if (running == null) {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(targetKey, jobId, ttl))) {
+                return;
+            }
+        } else if (!isActive(running, redisTemplate.<String, String>opsForHash().entries(jobKey(running)))) {
+            Long replaced = redisTemplate.execute(REPLACE_SCRIPT, List.of(targetKey),
+                    running, jobId, String.valueOf(ttl.toMillis()));
+            if (replaced != null && replaced == 1L) {
+                return;
+            }
+        }
+        throw new BusinessException(ErrorCode.BOOKING_CANCEL_JOB_RUNNING,
+                "jobId: " + redisTemplate.opsForValue().get(targetKey));
+    }
+
+    private void run(String jobId, String targetKey, List<Long> scheduleIds, String reason, String actorUsername) {
+        String status = STATUS_COMPLETED;
+        String error = null;
+        Long remaining = null;
+        try {
+            int idleRounds = 0;
+            while (!shuttingDown && !scheduleIds.isEmpty()) {
+                ChunkResult result = bulkCancelService.cancelChunk(scheduleIds, chunkSize, reason, actorUsername);
+                if (result.cancelled() > 0) {
+                    idleRounds = 0;
+                    recordChunk(jobId, result);
+                    if (pauseMs > 0) {
+                        Thread.sleep(pauseMs);
+                    }
+                    continue;
+                }
+                remaining = bulkCancelService.countConfirmed(scheduleIds);
+                if (remaining == 0 || ++idleRounds > MAX_IDLE_ROUNDS) {
+                    break;
+                }
+                // 남은 예매는 다른 트랜잭션이 잡고 있음 → 간격을 늘려가며 재시도
+                Thread.sleep(Math.min(idleBackoffMs << (idleRounds - 1), IDLE_BACKOFF_MAX_MS));
+            }
+            if (shuttingDown) {
+                status = STATUS_INTERRUPTED;
+            } else if (remaining != null && remaining > 0) {
+                status = STATUS_PARTIAL;
+                log.warn("예매 일괄 취소 후 CONFIRMED 예매가 남음 - jobId: {}, remaining: {}", jobId, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = STATUS_INTERRUPTED;
+        } catch (RuntimeException e) {
+            log.error("예매 일괄 취소 실패 - jobId: {}", jobId, e);
+            status = STATUS_FAILED;
+            error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        } finally {
+            // 중단/실패해도 이미 커밋된 청크만큼은 가용 좌석 수에 반영
+            try {
+                if (!scheduleIds.isEmpty()) {
+                    bulkCancelService.recompute(scheduleIds);
+                }
+            } catch (RuntimeException e) {
+                log.error("예매 일괄 취소 후 좌석 집계 실패 - jobId: {}", jobId, e);
+                status = STATUS_FAILED;
+                error = e.getMessage();
+            }
+            if (!STATUS_COMPLETED.equals(status) && !STATUS_PARTIAL.equals(status)) {
+                remaining = countRemaining(scheduleIds);
+            }
+            finish(jobId, status, error, remaining);
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(targetKey), jobId);
+        }
+    }
+
+    private Long countRemaining(List<Long> scheduleIds) {
+        try {
+            return bulkCancelService.countConfirmed(scheduleIds);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void recordChunk(String jobId, ChunkResult result) {
+        try {
+            redisTemplate.opsForHash().increment(jobKey(jobId), "cancelled", result.cancelled());
+            redisTemplate.opsForHash().increment(jobKey(jobId), "seatsRestored", result.seatsRestored());
+            redisTemplate.opsForHash().increment(jobKey(jobId), "refundAmountMinor",
+                    result.refundAmount().movePointRight(2).longValue());
+            redisTemplate.opsForHash().increment(jobKey(jobId), "chunks", 1);
+            redisTemplate.opsForHash().put(jobKey(jobId), "updatedAt", String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("예매 일괄 취소 진행 기록 실패 - jobId: {}", jobId, e);
+        }
+    }
+
+    private void finish(String jobId, String status, String error, Long remaining) {
+        localJobs.remove(jobId);
+        try {
+            String now = String.valueOf(System.currentTimeMillis());
+            Map<String, String> fields = new HashMap<>(Map.of("status", status, "updatedAt", now, "finishedAt", now));
+            if (remaining != null) {
+                fields.put("remaining", String.valueOf(remaining));
+            }
+            if (error != null) {
+                fields.put("error", error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            }
+            redisTemplate.opsForHash().putAll(jobKey(jobId), fields);
+        } catch (Exception e) {
+            log.warn("예매 일괄 취소 작업 종료 기록 실패 - jobId: {}", jobId, e);
+        }
+        log.info("예매 일괄 취소 작업 종료 - jobId: {}, status: {}, remaining: {}", jobId, status, remaining);
+    }
+
+    /**
+     * 이 파드에서 실행 중이거나, 다른 파드가 최근까지 진행 상황을 갱신한 작업
+     */
+    private boolean isActive(String jobId, Map<String, String> job) {
+        if (localJobs.contains(jobId)) {
+            return true;
+        }
+        return STATUS_RUNNING.equals(job.get("status"))
+                && System.currentTimeMillis() - parseLong(job.get("updatedAt")) < staleMs;
+    }
+
+    private static String jobKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId;
+    }
+
+    private static long parseLong(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
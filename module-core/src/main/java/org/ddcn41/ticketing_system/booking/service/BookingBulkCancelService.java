@@ -0,0 +1,119 @@
+package org.ddcn41.ticketing_system.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.booking.repository.BookingBulkCancelRepository;
+import org.ddcn41.ticketing_system.booking.repository.BookingBulkCancelRepository.CancelledBooking;
+import org.ddcn41.ticketing_system.performance.entity.Performance.PerformanceStatus;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceRepository;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceSalesRepository;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.sales.event.BookingSalesEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatJdbcRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예매 일괄 취소 청크 처리 (청크마다 별도 트랜잭션, 작업 진행은 BookingBulkCancelJobService)
+ * - 예매 취소/좌석 복원/환불 요청을 각각 집합 연산 한 번으로 처리
+ * - 감사 로그는 아웃박스에 같은 트랜잭션으로 기록, 판매 요약은 공연별로 합산해 한 번씩 차감
+ * - 복원한 좌석은 청크마다 좌석 변경 이벤트로 발행 (좌석 actor/좌석 스트림/좌석 집계가 BOOKED로 남지 않도록)
+ * - 스케줄 가용 좌석 수는 작업이 끝날 때 recompute에서 한 번만 다시 계산
+ *   (스케줄은 시작 전에 close로 CLOSED 처리하고, 상태는 다시 계산하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingBulkCancelService {
+
+    private final BookingBulkCancelRepository bulkCancelRepository;
+    private final BookingAuditService bookingAuditService;
+    private final PerformanceSalesRepository performanceSalesRepository;
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final PerformanceRepository performanceRepository;
+    private final ScheduleSeatJdbcRepository scheduleSeatJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public long countConfirmed(List<Long> scheduleIds) {
+        return bulkCancelRepository.countConfirmed(scheduleIds);
+    }
+
+    /**
+     * 첫 청크 전에 대상 스케줄을 CLOSED로 바꿔 새 예매를 막음 (공연 단위면 공연도 CANCELLED)
+     * - 예매의 가용 좌석 차감과 같은 스케줄 행을 잠그므로, 이 트랜잭션 이후 커밋되는 예매는 없음
+     *
+     * @param performanceId 공연 단위 취소면 공연 ID, 스케줄 단위면 null
+     */
+    @Transactional
+    public void close(List<Long> scheduleIds, Long performanceId) {
+        if (!scheduleIds.isEmpty()) {
+            scheduleRepository.closeSchedules(scheduleIds);
+        }
+        if (performanceId != null) {
+            performanceRepository.updateStatus(performanceId, PerformanceStatus.CANCELLED);
+        }
+    }
+
+    @Transactional
+    public ChunkResult cancelChunk(List<Long> scheduleIds, int chunkSize, String reason, String actorUsername) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CancelledBooking> cancelled = bulkCancelRepository.cancelChunk(scheduleIds, chunkSize, reason, now);
+        if (cancelled.isEmpty()) {
+            return ChunkResult.EMPTY;
+        }
+
+        List<Long> bookingIds = cancelled.stream().map(CancelledBooking::bookingId).toList();
+        List<SeatTransition> restored = bulkCancelRepository.restoreSeats(bookingIds, now);
+        SeatStatusChangedEvent.groupBySchedule(restored).forEach(eventPublisher::publishEvent);
+        bulkCancelRepository.insertRefunds(bookingIds, reason, now);
+        bookingAuditService.logBookingsCancelled(actorUsername, cancelled, reason);
+
+        Map<Long, SalesDelta> salesByPerformance = new LinkedHashMap<>();
+        BigDecimal refundAmount = BigDecimal.ZERO;
+        for (CancelledBooking booking : cancelled) {
+            BigDecimal amount = booking.totalAmount() == null ? BigDecimal.ZERO : booking.totalAmount();
+            refundAmount = refundAmount.add(amount);
+            salesByPerformance.computeIfAbsent(booking.performanceId(), id -> new SalesDelta())
+                    .add(booking.seatCount(), amount);
+            eventPublisher.publishEvent(BookingSalesEvent.cancelled(booking.performanceId(), booking.scheduleId(),
+                    booking.seatCount(), booking.totalAmount()));
+        }
+        salesByPerformance.forEach((performanceId, delta) -> performanceSalesRepository.apply(performanceId,
+                -delta.bookings, -delta.seats, delta.amount.negate()));
+
+        return new ChunkResult(cancelled.size(), restored.size(), refundAmount);
+    }
+
+    /**
+     * 좌석 상태 기준으로 가용 좌석 수만 다시 계산
+     * - 스케줄 상태는 건드리지 않음 (close로 마감한 스케줄을 OPEN/SOLDOUT으로 되돌리지 않도록)
+     */
+    @Transactional
+    public void recompute(List<Long> scheduleIds) {
+        scheduleSeatJdbcRepository.refreshScheduleCounts(scheduleIds);
+    }
+
+    public record ChunkResult(int cancelled, int seatsRestored, BigDecimal refundAmount) {
+        static final ChunkResult EMPTY = new ChunkResult(0, 0, BigDecimal.ZERO);
+    }
+
+    private static final class SalesDelta {
+        private int bookings;
+        private int seats;
+        private BigDecimal amount = BigDecimal.ZERO;
+
+        void add(int seatCount, BigDecimal totalAmount) {
+            bookings++;
+            seats += seatCount;
+            amount = amount.add(totalAmount);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package org.ddcn41.ticketing_system.booking.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.booking.entity.Booking.BookingStatus;
+import org.ddcn41.ticketing_system.booking.repository.BookingExportRepository;
+import org.ddcn41.ticketing_system.booking.repository.BookingExportRepository.ExportRow;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 예약 내보내기 (NDJSON / CSV 스트리밍)
+ * - 읽기 전용 트랜잭션 안에서 전방향 커서로 읽으면서 바로 응답 스트림에 기록 (전체 결과를 메모리에 올리지 않음)
+ * - NDJSON: 예약당 한 줄 (좌석 배열 포함), CSV: 좌석당 한 줄 (예약 컬럼 반복)
+ * - flush-every 건마다 flush하여 클라이언트/프록시가 청크 단위로 받도록 함
+ */
+@Slf4j
+@Service
+public class BookingExportService {
+
+    private static final String[] CSV_HEADER = {
+            "booking_id", "booking_number", "user_id", "schedule_id", "show_datetime", "performance_title",
+            "venue_name", "seat_count", "total_amount", "status", "booked_at", "cancelled_at", "created_at",
+            "seat_zone", "seat_row_label", "seat_col_num", "seat_grade", "seat_price"
+    };
+
+    private final BookingExportRepository exportRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int flushEvery;
+
+    public BookingExportService(BookingExportRepository exportRepository,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                @Value("${booking.export.fetch-size:1000}") int fetchSize,
+                                @Value("${booking.export.flush-every:500}") int flushEvery) {
+        this.exportRepository = exportRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = Math.max(1, fetchSize);
+        this.flushEvery = Math.max(1, flushEvery);
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            if (value == null || value.isBlank()) {
+                return NDJSON;
+            }
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "지원하지 않는 내보내기 형식: " + value);
+            }
+        }
+    }
+
+    /**
+     * 응답 스트림에 기록하는 본문 생성 (상태 값 검증은 즉시, 조회는 스트리밍 시점에 수행)
+     */
+    public StreamingResponseBody export(String status, Format format) {
+        BookingStatus bookingStatus = parseStatus(status);
+        return out -> {
+            long startedAt = System.currentTimeMillis();
+            RowSink sink = format == Format.CSV ? new CsvSink(out) : new NdjsonSink(out);
+            try {
+                readOnlyTx.executeWithoutResult(tx ->
+                        exportRepository.stream(bookingStatus, fetchSize, row -> {
+                            try {
+                                sink.accept(row);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }));
+                sink.finish();
+            } catch (UncheckedIOException e) {
+                log.warn("예약 내보내기 중단 (클라이언트 연결 종료 등) - format: {}, rows: {}", format, sink.rows());
+                throw e.getCause();
+            }
+            log.info("예약 내보내기 완료 - format: {}, status: {}, rows: {}, elapsed: {}ms",
+                    format, bookingStatus, sink.rows(), System.currentTimeMillis() - startedAt);
+        };
+    }
+
+    private static BookingStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return BookingStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 상태 값");
+        }
+    }
+
+    private abstract class RowSink {
+        private long rows;
+
+        abstract void write(ExportRow row) throws IOException;
+
+        abstract void flush() throws IOException;
+
+        void accept(ExportRow row) throws IOException {
+            write(row);
+            if (++rows % flushEvery == 0) {
+                flush();
+            }
+        }
+
+        void finish() throws IOException {
+            flush();
+        }
+
+        long rows() {
+            return rows;
+        }
+    }
+
+    /**
+     * 예약당 한 줄 — 행이 booking_id 순이므로 같은 예약의 좌석만 모았다가 예약이 바뀔 때 기록
+     */
+    private class NdjsonSink extends RowSink {
+        private final OutputStream out;
+        private final JsonGenerator generator;
+        private ExportRow current;
+        private final List<ExportRow> seats = new ArrayList<>();
+
+        NdjsonSink(OutputStream out) throws IOException {
+            this.out = new BufferedOutputStream(out, 64 * 1024);
+            this.generator = objectMapper.getFactory().createGenerator(this.out);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(ExportRow row) throws IOException {
+            if (current != null && current.bookingId() != row.bookingId()) {
+                writeBooking();
+            }
+            current = row;
+            if (row.hasSeat()) {
+                seats.add(row);
+            }
+        }
+
+        @Override
+        void flush() throws IOException {
+            generator.flush();
+            out.flush();
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (current != null) {
+                writeBooking();
+            }
+            super.finish();
+        }
+
+        private void writeBooking() throws IOException {
+            ExportRow b = current;
+            generator.writeStartObject();
+            generator.writeNumberField("bookingId", b.bookingId());
+            generator.writeStringField("bookingNumber", b.bookingNumber());
+            generator.writeStringField("userId", b.userId());
+            generator.writeNumberField("scheduleId", b.scheduleId());
+            generator.writeStringField("showDatetime", text(b.showDatetime()));
+            generator.writeStringField("performanceTitle", b.performanceTitle());
+            generator.writeStringField("venueName", b.venueName());
+            generator.writeNumberField("seatCount", b.seatCount());
+            generator.writeNumberField("totalAmount", b.totalAmount() == null ? BigDecimal.ZERO : b.totalAmount());
+            generator.writeStringField("status", b.status());
+            generator.writeStringField("bookedAt", text(b.bookedAt()));
+            generator.writeStringField("cancelledAt", text(b.cancelledAt()));
+            generator.writeStringField("createdAt", text(b.createdAt()));
+            generator.writeArrayFieldStart("seats");
+            for (ExportRow seat : seats) {
+                generator.writeStartObject();
+                generator.writeStringField("zone", seat.seatZone());
+                generator.writeStringField("rowLabel", seat.seatRowLabel());
+                generator.writeStringField("colNum", seat.seatColNum());
+                generator.writeStringField("grade", seat.seatGrade());
+                generator.writeNumberField("price", seat.seatPrice() == null ? BigDecimal.ZERO : seat.seatPrice());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            seats.clear();
+        }
+    }
+
+    /**
+     * 좌석당 한 줄 (RFC 4180 인용)
+     */
+    private class CsvSink extends RowSink {
+        private final Writer writer;
+
+        CsvSink(OutputStream out) throws IOException {
+            this.writer = new OutputStreamWriter(new BufferedOutputStream(out, 64 * 1024), StandardCharsets.UTF_8);
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write("\r\n");
+        }
+
+        @Override
+        void write(ExportRow r) throws IOException {
+            Object[] values = {
+                    r.bookingId(), r.bookingNumber(), r.userId(), r.scheduleId(), text(r.showDatetime()),
+                    r.performanceTitle(), r.venueName(), r.seatCount(), plain(r.totalAmount()), r.status(),
+                    text(r.bookedAt()), text(r.cancelledAt()), text(r.createdAt()),
+                    r.seatZone(), r.seatRowLabel(), r.seatColNum(), r.seatGrade(), plain(r.seatPrice())
+            };
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csv(values[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static String text(LocalDateTime value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static String plain(BigDecimal value) {
+        return value == null ? null : value.toPlainString();
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,235 @@
+package org.ddcn41.ticketing_system.booking.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.booking.dto.BookingKeyProjection;
+import org.ddcn41.ticketing_system.booking.dto.BookingProjection;
+import org.ddcn41.ticketing_system.booking.dto.BookingSeatProjection;
+import org.ddcn41.ticketing_system.booking.entity.Booking.BookingStatus;
+import org.ddcn41.ticketing_system.booking.repository.BookingCountEstimator;
+import org.ddcn41.ticketing_system.booking.repository.BookingRepository;
+import org.ddcn41.ticketing_system.booking.repository.BookingSeatRepository;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
+import org.ddcn41.ticketing_system.common.dto.KeysetCursor;
+import org.ddcn41.ticketing_system.common.dto.booking.BookingDto;
+import org.ddcn41.ticketing_system.common.dto.booking.BookingSeatDto;
+import org.ddcn41.ticketing_system.common.dto.booking.GetBookings200ResponseDto;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.user.service.UserSummaryService;
+import org.ddcn41.ticketing_system.user.service.UserSummaryService.UserSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 예약 목록 조회 (2단계)
+ * 1. 페이지의 예약 ID만 인덱스로 조회 (좌석 JOIN이 없어 페이지/건수가 예약 단위로 정확함)
+ * 2. 해당 ID의 예약 정보와 좌석을 각각 IN 쿼리 한 번으로 조회해 메모리에서 BookingDto로 조립
+ * 페이지 번호(OFFSET) 방식과 커서(created_at, booking_id) 방식을 함께 제공
+ *
+ * booking.list.count-mode
+ * - exact: COUNT(*) (기본값)
+ * - estimated: PostgreSQL 통계로 추정, 추정치가 exact-threshold 미만이면 정확한 COUNT 사용
+ */
+@Slf4j
+@Service
+public class BookingListingService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingSeatRepository bookingSeatRepository;
+    private final BookingCountEstimator countEstimator;
+    private final UserSummaryService userSummaryService;
+    private final boolean estimatedCount;
+    private final long exactThreshold;
+
+    public BookingListingService(BookingRepository bookingRepository,
+                                 BookingSeatRepository bookingSeatRepository,
+                                 BookingCountEstimator countEstimator,
+                                 UserSummaryService userSummaryService,
+                                 @Value("${booking.list.count-mode:exact}") String countMode,
+                                 @Value("${booking.list.exact-threshold:100000}") long exactThreshold) {
+        this.bookingRepository = bookingRepository;
+        this.bookingSeatRepository = bookingSeatRepository;
+        this.countEstimator = countEstimator;
+        this.userSummaryService = userSummaryService;
+        this.estimatedCount = "estimated".equals(countMode.trim().toLowerCase(Locale.ROOT));
+        this.exactThreshold = exactThreshold;
+    }
+
+    @Transactional(readOnly = true)
+    public GetBookings200ResponseDto getBookings(String status, int page, int limit) {
+        BookingStatus bookingStatus = parseStatus(status);
+        PageRequest pr = PageRequest.of(Math.max(page - 1, 0), Math.max(limit, 1));
+
+        List<Long> ids = bookingStatus == null
+                ? bookingRepository.findPageIds(pr)
+                : bookingRepository.findPageIdsByStatus(bookingStatus, pr);
+
+        return GetBookings200ResponseDto.builder()
+                .bookings(assemble(ids))
+                .total(Math.toIntExact(Math.min(Integer.MAX_VALUE, count(bookingStatus))))
+                .page(page)
+                .build();
+    }
+
+    /**
+     * 커서 페이지 조회 (created_at, booking_id 내림차순) — 깊은 페이지도 OFFSET 없이 일정한 비용
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookingDto> getBookingsByCursor(String status, String cursor, int limit) {
+        BookingStatus bookingStatus = parseStatus(status);
+        KeysetCursor position = KeysetCursor.decodeOr(cursor, KeysetCursor.END);
+        PageRequest pr = PageRequest.of(0, Math.max(limit, 1) + 1);
+
+        List<BookingKeyProjection> keys = bookingStatus == null
+                ? bookingRepository.findKeysBefore(position.createdAt(), position.idAsLong(), pr)
+                : bookingRepository.findKeysByStatusBefore(bookingStatus, position.createdAt(), position.idAsLong(), pr);
+        return toCursorPage(keys, limit);
+    }
+
+    /**
+     * 사용자별 커서 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BookingDto> getUserBookingsByCursor(String userId, String status, String cursor, int limit) {
+        BookingStatus bookingStatus = parseStatus(status);
+        KeysetCursor position = KeysetCursor.decodeOr(cursor, KeysetCursor.END);
+        PageRequest pr = PageRequest.of(0, Math.max(limit, 1) + 1);
+
+        return toCursorPage(bookingRepository.findUserKeysBefore(userId, bookingStatus,
+                position.createdAt(), position.idAsLong(), pr), limit);
+    }
+
+    /**
+     * limit + 1건을 읽어 다음 페이지 존재 여부를 판단하고, 마지막 행의 키로 다음 커서 생성
+     */
+    private CursorPage<BookingDto> toCursorPage(List<BookingKeyProjection> keys, int limit) {
+        int size = Math.max(limit, 1);
+        boolean hasNext = keys.size() > size;
+        List<BookingKeyProjection> page = hasNext ? keys.subList(0, size) : keys;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BookingKeyProjection last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), String.valueOf(last.getBookingId())).encode();
+        }
+
+        return CursorPage.<BookingDto>builder()
+                .items(assemble(page.stream().map(BookingKeyProjection::getBookingId).toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 예약 ID 목록을 같은 순서의 BookingDto 목록으로 조립 (예약 1회 + 좌석 1회 + 사용자 1회 조회)
+     */
+    List<BookingDto> assemble(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BookingProjection> rows = new HashMap<>();
+        Set<String> userIds = new HashSet<>();
+        for (BookingProjection row : bookingRepository.findListRowsByIds(ids)) {
+            rows.put(row.getBookingId(), row);
+            userIds.add(row.getUserId());
+        }
+
+        Map<Long, List<BookingSeatDto>> seats = new HashMap<>();
+        for (BookingSeatProjection seat : bookingSeatRepository.findListRowsByBookingIds(ids)) {
+            seats.computeIfAbsent(seat.getBookingId(), k -> new ArrayList<>()).add(toSeatDto(seat));
+        }
+
+        Map<String, UserSummary> users = userSummaryService.getSummaries(userIds);
+
+        List<BookingDto> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BookingProjection row = rows.get(id);
+            if (row != null) {
+                items.add(toDto(row, seats.getOrDefault(id, List.of()), users));
+            }
+        }
+        return items;
+    }
+
+    private long count(BookingStatus status) {
+        if (estimatedCount) {
+            long estimate = status == null ? countEstimator.estimateAll() : countEstimator.estimateByStatus(status);
+            if (estimate >= exactThreshold) {
+                return estimate;
+            }
+        }
+        return status == null ? bookingRepository.count() : bookingRepository.countByStatus(status);
+    }
+
+    private static BookingStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return BookingStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 상태 값");
+        }
+    }
+
+    private BookingDto toDto(BookingProjection p, List<BookingSeatDto> seats, Map<String, UserSummary> users) {
+        UserSummary user = users.get(p.getUserId());
+        if (user == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        return BookingDto.builder()
+                .bookingId(p.getBookingId())
+                .bookingNumber(p.getBookingNumber())
+                .userId(user.userId())
+                .userName(user.username())
+                .userPhone(user.phone())
+                .scheduleId(p.getScheduleId())
+                .performanceTitle(p.getPerformanceTitle())
+                .venueName(p.getVenueName())
+                .showDate(odt(p.getShowDatetime()))
+                .seatCount(p.getSeatCount())
+                .totalAmount(p.getTotalAmount() == null ? 0.0 : p.getTotalAmount().doubleValue())
+                .seats(seats)
+                .status(p.getStatus() == null ? null : BookingDto.StatusEnum.valueOf(p.getStatus()))
+                .expiresAt(odt(p.getExpiresAt()))
+                .bookedAt(odt(p.getBookedAt()))
+                .cancelledAt(odt(p.getCancelledAt()))
+                .cancellationReason(p.getCancellationReason())
+                .createdAt(odt(p.getCreatedAt()))
+                .updatedAt(odt(p.getUpdatedAt()))
+                .build();
+    }
+
+    private BookingSeatDto toSeatDto(BookingSeatProjection s) {
+        return BookingSeatDto.builder()
+                .bookingSeatId(s.getBookingSeatId())
+                .bookingId(s.getBookingId())
+                .seatId(s.getSeatId())
+                .seatPrice(s.getSeatPrice() == null ? 0.0 : s.getSeatPrice().doubleValue())
+                .grade(s.getGrade())
+                .zone(s.getZone())
+                .rowLabel(s.getRowLabel())
+                .colNum(s.getColNum())
+                .createdAt(odt(s.getCreatedAt()))
+                .build();
+    }
+
+    private OffsetDateTime odt(LocalDateTime ldt) {
+        return ldt == null ? null : ldt.atOffset(ZoneOffset.UTC);
+    }
+}
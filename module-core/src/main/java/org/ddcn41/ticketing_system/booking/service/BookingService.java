@@ -1,9 +1,7 @@
 package org.ddcn41.ticketing_system.booking.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.ddcn41.ticketing_system.booking.dto.BookingProjection;
 import org.ddcn41.ticketing_system.booking.dto.request.CancelBookingRequestDto;
 import org.ddcn41.ticketing_system.booking.dto.request.CreateBookingRequestDto;
 import org.ddcn41.ticketing_system.booking.dto.response.CancelBooking200ResponseDto;
@@ -11,9 +9,11 @@ import org.ddcn41.ticketing_system.booking.dto.response.CreateBookingResponseDto
 import org.ddcn41.ticketing_system.booking.entity.Booking;
 import org.ddcn41.ticketing_system.booking.entity.Booking.BookingStatus;
 import org.ddcn41.ticketing_system.booking.entity.BookingSeat;
+import org.ddcn41.ticketing_system.booking.number.BookingNumberService;
 import org.ddcn41.ticketing_system.booking.repository.BookingRepository;
 import org.ddcn41.ticketing_system.booking.repository.BookingSeatRepository;
 import org.ddcn41.ticketing_system.common.client.QueueClient;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
 import org.ddcn41.ticketing_system.common.dto.booking.BookingDto;
 import org.ddcn41.ticketing_system.common.dto.booking.BookingSeatDto;
 import org.ddcn41.ticketing_system.common.dto.booking.GetBookingDetail200ResponseDto;
@@ -21,20 +21,32 @@ import org.ddcn41.ticketing_system.common.dto.booking.GetBookings200ResponseDto;
 import org.ddcn41.ticketing_system.common.dto.queue.TokenVerifyRequest;
 import org.ddcn41.ticketing_system.common.exception.BusinessException;
 import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.outbox.service.OutboxService;
 import org.ddcn41.ticketing_system.performance.entity.Performance;
 import org.ddcn41.ticketing_system.performance.entity.PerformanceSchedule;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceSalesRepository;
 import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.sales.event.BookingSalesEvent;
+import org.ddcn41.ticketing_system.seat.actor.SeatActorService;
 import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat;
+import org.ddcn41.ticketing_system.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatJdbcRepository;
 import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
 import org.ddcn41.ticketing_system.seat.service.SeatService;
 import org.ddcn41.ticketing_system.user.entity.User;
 import org.ddcn41.ticketing_system.user.repository.UserRepository;
+import org.ddcn41.ticketing_system.user.service.UserSummaryService;
+import org.ddcn41.ticketing_system.user.service.UserSummaryService.UserSummary;
 import org.ddcn41.ticketing_system.venue.entity.Venue;
+import org.ddcn41.ticketing_system.venue.seatmap.CompiledSeatMap;
+import org.ddcn41.ticketing_system.venue.seatmap.SeatMapDiff.SeatCoordinate;
+import org.ddcn41.ticketing_system.venue.seatmap.SeatMapRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,11 +67,21 @@ public class BookingService {
     private final BookingSeatRepository bookingSeatRepository;
     private final PerformanceScheduleRepository scheduleRepository;
     private final ScheduleSeatRepository scheduleSeatRepository;
+    private final ScheduleSeatJdbcRepository scheduleSeatJdbcRepository;
 
     private final SeatService seatService;
     private final BookingAuditService bookingAuditService;
     private final QueueClient queueClient;
     private final UserRepository userRepository;
+    private final UserSummaryService userSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatMapRegistry seatMapRegistry;
+    private final OutboxService outboxService;
+    private final BookingListingService bookingListingService;
+    private final PerformanceSalesRepository performanceSalesRepository;
+    private final BookingNumberService bookingNumberService;
+    private final SeatActorService seatActorService;
+    private final EntityManager entityManager;
 
 
     @Transactional(rollbackFor = Exception.class)
@@ -67,37 +89,44 @@ public class BookingService {
         // 유저 + 스케줄 조회
         User user = findUser(userId);
         PerformanceSchedule schedule = findSchedule(req.getScheduleId());
+        if (schedule.getStatus() == PerformanceSchedule.ScheduleStatus.CLOSED) {
+            throw new BusinessException(ErrorCode.SCHEDULE_CLOSED);
+        }
 
         // 대기열 토큰 검증 todo: 임시 정지 상태
         validateQueueTokenIfRequired(req, user, schedule);
 
         // 좌석 매핑 및 검증
-        JsonNode root = parseSeatMap(schedule);
-        JsonNode sections = root.path("sections");
-        JsonNode pricingNode = root.path("pricing");
+        CompiledSeatMap seatMap = seatMapRegistry.get(schedule.getPerformance().getVenue());
 
-        List<ScheduleSeat> requestedSeats = mapAndValidateSeats(req, schedule, sections, pricingNode);
+        List<SeatSelection> selections = mapAndValidateSeats(req, schedule, seatMap);
+        List<ScheduleSeat> requestedSeats = selections.stream().map(SeatSelection::seat).toList();
 
-        // 좌석 락킹 및 가용 좌석 감소
-        lockSeatsAndUpdateAvailability(requestedSeats, schedule);
+        // 좌석 상태 BOOKED 전환(조건부 UPDATE 1회) 및 가용 좌석 감소
+        bookSeatsAndUpdateAvailability(requestedSeats, schedule);
 
         // 예매 엔티티 생성
-        Booking booking = createBookingEntity(user, schedule, requestedSeats);
+        Booking booking = createBookingEntity(user, schedule, selections);
 
         // 대기열 토큰 사용
-        processQueueToken(req, user);
-
-        // BookingSeat 생성
-        List<BookingSeat> savedSeats = saveBookingSeats(booking, requestedSeats);
-        booking.setBookingSeats(savedSeats);
+        processQueueToken(req, booking);
 
-        // 좌석 상태 BOOKED로 전환
-        updateSeatStatusToBooked(requestedSeats);
+        // BookingSeat 생성 (시퀀스 풀에서 ID 할당, INSERT는 마지막 flush에서 배치로 전송)
+        booking.setBookingSeats(saveBookingSeats(booking, selections));
 
-        // 감사 로그 기록
+        // 감사 로그 기록 (아웃박스 INSERT도 아래 flush 한 번에 함께 전송 → 커밋 시 두 번째 flush가 생기지 않음)
         bookingAuditService.logBookingCreated(user, booking,
                 requestedSeats.stream().map(ScheduleSeat::getSeatId).toList());
 
+        // 쓰기 지연된 INSERT를 한 번에 반영
+        bookingSeatRepository.flush();
+
+        // 공연별 판매 요약 증가분 기록 (같은 트랜잭션에서 INSERT만, 요약 행 반영은 주기 병합)
+        performanceSalesRepository.apply(schedule.getPerformance().getPerformanceId(),
+                1, booking.getSeatCount(), booking.getTotalAmount());
+        eventPublisher.publishEvent(BookingSalesEvent.created(schedule.getPerformance().getPerformanceId(),
+                schedule.getScheduleId(), booking.getSeatCount(), booking.getTotalAmount()));
+
         return toCreateResponse(booking);
     }
 
@@ -111,73 +140,106 @@ public class BookingService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
     }
 
-    private JsonNode parseSeatMap(PerformanceSchedule schedule) {
-        try {
-            ObjectMapper om = new ObjectMapper();
-            String seatMapJson = schedule.getPerformance().getVenue().getSeatMapJson();
-            return om.readTree(seatMapJson == null ? "{}" : seatMapJson);
-        } catch (Exception e) {
-            throw new BusinessException(ErrorCode.INVALID_SEAT_MAP);
+    private List<SeatSelection> mapAndValidateSeats(CreateBookingRequestDto req,
+                                                   PerformanceSchedule schedule,
+                                                   CompiledSeatMap seatMap) {
+        // 1단계: 요청 좌표 정규화 + 좌석 맵 검증 + 중복 좌표 거부 (DB 접근 없음)
+        Map<String, RequestedSeat> requested = new LinkedHashMap<>();
+        for (var sel : req.getSeats()) {
+            RequestedSeat seat = new RequestedSeat(safeUpper(sel.getGrade()), safeUpper(sel.getZone()),
+                    safeUpper(sel.getRowLabel()), sel.getColNum());
+            if (!seatMap.contains(seat.grade(), seat.zone(), seat.rowLabel(), seat.colNum())) {
+                throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE,
+                        String.format("유효하지 않은 좌석: %s/%s-%s%s", seat.grade(), seat.zone(), seat.rowLabel(), seat.colNum()));
+            }
+            if (requested.putIfAbsent(seat.key(), seat) != null) {
+                throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE,
+                        String.format("중복 선택된 좌석: %s-%s%s", seat.zone(), seat.rowLabel(), seat.colNum()));
+            }
+        }
+
+        // 2단계: 요청 좌표 전체를 한 번에 조회
+        Map<String, ScheduleSeat> found = findSeatsByCoordinates(schedule.getScheduleId(), requested.values());
+
+        // 3단계: 조회 결과 맵 기준 검증 (좌석 엔티티는 변경하지 않고 적용 가격만 함께 반환)
+        List<SeatSelection> selections = new ArrayList<>(requested.size());
+        for (Map.Entry<String, RequestedSeat> entry : requested.entrySet()) {
+            RequestedSeat sel = entry.getValue();
+            ScheduleSeat seat = found.get(entry.getKey());
+            if (seat == null) throw new BusinessException(ErrorCode.SEAT_NOT_FOUND);
+            if (!Objects.equals(safeUpper(seat.getGrade()), sel.grade())
+                    || !Objects.equals(safeUpper(seat.getZone()), sel.zone())) {
+                throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE);
+            }
+
+            if (seat.getStatus() != ScheduleSeat.SeatStatus.AVAILABLE) {
+                throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE);
+            }
+
+            BigDecimal price = seatMap.priceOf(sel.grade());
+            selections.add(new SeatSelection(seat, price != null ? price : seat.getPrice()));
         }
+        return selections;
     }
-    private List<ScheduleSeat> mapAndValidateSeats(CreateBookingRequestDto req,
-                                                   PerformanceSchedule schedule,
-                                                   JsonNode sections,
-                                                   JsonNode pricingNode) {
-        return req.getSeats().stream()
-                .map(sel -> {
-                    String grade = safeUpper(sel.getGrade());
-                    String zone = safeUpper(sel.getZone());
-                    String rowLabel = safeUpper(sel.getRowLabel());
-                    String colNum = sel.getColNum();
-
-                    if (!validateBySeatMap(sections, grade, zone, rowLabel, colNum)) {
-                        throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE,
-                                String.format("유효하지 않은 좌석: %s/%s-%s%s", grade, zone, rowLabel, colNum));
-                    }
-
-                    ScheduleSeat seat = scheduleSeatRepository.findBySchedule_ScheduleIdAndZoneAndRowLabelAndColNum(
-                            schedule.getScheduleId(), zone, rowLabel, colNum);
-                    if (seat == null) throw new BusinessException(ErrorCode.SEAT_NOT_FOUND);
-                    if (!safeUpper(seat.getGrade()).equals(grade)
-                            || !safeUpper(seat.getZone()).equals(zone)) {
-                        throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE);
-                    }
-
-                    BigDecimal price = priceByGrade(pricingNode, grade);
-                    if (price != null) seat.setPrice(price);
-                    if (seat.getStatus() != ScheduleSeat.SeatStatus.AVAILABLE) {
-                        throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE);
-                    }
-
-                    seat.setStatus(ScheduleSeat.SeatStatus.LOCKED);
-                    return seat;
-                })
+
+    /**
+     * 요청 좌표의 좌석을 좌석 수와 관계없이 쿼리 두 번으로 조회 (좌표 키 → 좌석)
+     * - 좌표 배열 조인으로 정확히 일치하는 좌석 ID만 찾고 (구역 없는 좌석은 zone IS NOT DISTINCT FROM), ID로 엔티티 적재
+     */
+    private Map<String, ScheduleSeat> findSeatsByCoordinates(Long scheduleId, Collection<RequestedSeat> requested) {
+        List<SeatCoordinate> coordinates = requested.stream()
+                .map(sel -> new SeatCoordinate(sel.zone(), sel.rowLabel(), sel.colNum(), null, null))
                 .toList();
+        List<Long> seatIds = scheduleSeatJdbcRepository.findSeatIdsByCoordinates(scheduleId, coordinates);
+
+        Map<String, ScheduleSeat> seats = new HashMap<>();
+        for (ScheduleSeat seat : scheduleSeatRepository.findAllById(seatIds)) {
+            seats.put(RequestedSeat.key(seat.getZone(), seat.getRowLabel(), seat.getColNum()), seat);
+        }
+        return seats;
     }
 
-    private void lockSeatsAndUpdateAvailability(List<ScheduleSeat> seats, PerformanceSchedule schedule) {
-        try {
-            scheduleSeatRepository.saveAll(seats);
-            scheduleSeatRepository.flush();
+    /**
+     * AVAILABLE 좌석만 BOOKED로 바꾸는 버전 증가 UPDATE 한 번 — 일부라도 선점되었으면 전체 롤백
+     */
+    private void bookSeatsAndUpdateAvailability(List<ScheduleSeat> seats, PerformanceSchedule schedule) {
+        if (seats.isEmpty()) {
+            return;
+        }
 
-            if (!seats.isEmpty()) {
-                int affected = scheduleRepository.decrementAvailableSeats(schedule.getScheduleId(), seats.size());
-                if (affected == 0) throw new BusinessException(ErrorCode.INSUFFICIENT_SEATS);
-                scheduleRepository.refreshScheduleStatus(schedule.getScheduleId());
-            }
-        } catch (ObjectOptimisticLockingFailureException e) {
+        List<Long> seatIds = seats.stream().map(ScheduleSeat::getSeatId).toList();
+        // 단일 writer 스케줄은 DB에 아직 반영되지 않은 actor 락이 있을 수 있으므로 actor에서 먼저 선점
+        if (seatActorService.isManaged(schedule.getScheduleId())
+                && !seatActorService.reserveForBooking(schedule.getScheduleId(), seatIds)) {
             throw new BusinessException(ErrorCode.SEAT_ALREADY_BOOKED);
         }
+        int booked = scheduleSeatRepository.markBookedIfAvailable(seatIds);
+        if (booked != seatIds.size()) throw new BusinessException(ErrorCode.SEAT_ALREADY_BOOKED);
+        // 벌크 UPDATE로 DB와 달라진(AVAILABLE, 이전 version) 좌석 엔티티는 영속성 컨텍스트에서 분리
+        seats.forEach(entityManager::detach);
+
+        // 위 조회 이후 마감(일괄 취소 등)된 스케줄은 여기서 걸러짐
+        int affected = scheduleRepository.decrementAvailableSeatsIfOpen(schedule.getScheduleId(), seats.size());
+        if (affected == 0) {
+            throw new BusinessException(
+                    scheduleRepository.findStatusById(schedule.getScheduleId()) == PerformanceSchedule.ScheduleStatus.CLOSED
+                            ? ErrorCode.SCHEDULE_CLOSED : ErrorCode.INSUFFICIENT_SEATS);
+        }
+        scheduleRepository.refreshScheduleStatus(schedule.getScheduleId());
+
+        List<SeatTransition> transitions = seats.stream()
+                .map(seat -> SeatTransition.of(seat, ScheduleSeat.SeatStatus.AVAILABLE, ScheduleSeat.SeatStatus.BOOKED))
+                .toList();
+        SeatStatusChangedEvent.groupBySchedule(transitions).forEach(eventPublisher::publishEvent);
     }
 
-    private Booking createBookingEntity(User user, PerformanceSchedule schedule, List<ScheduleSeat> seats) {
+    private Booking createBookingEntity(User user, PerformanceSchedule schedule, List<SeatSelection> seats) {
         BigDecimal total = seats.stream()
-                .map(ScheduleSeat::getPrice)
+                .map(SeatSelection::price)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         Booking booking = Booking.builder()
-                .bookingNumber("DDCN-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                .bookingNumber(bookingNumberService.next())
                 .userId(user.getUserId())
                 .schedule(schedule)
                 .seatCount(seats.size())
@@ -188,31 +250,26 @@ public class BookingService {
         return bookingRepository.save(booking);
     }
 
-    private void processQueueToken(CreateBookingRequestDto req, User user) {
+    /**
+     * 대기열 토큰 사용은 아웃박스에 기록하고 커밋 후 relay가 전달 (예매 트랜잭션 안에서 외부 호출 없음)
+     */
+    private void processQueueToken(CreateBookingRequestDto req, Booking booking) {
         if (req.getQueueToken() == null || req.getQueueToken().trim().isEmpty()) return;
 
-        try {
-            queueClient.useToken(req.getQueueToken());
-            log.info("토큰 사용 완료 - 사용자: {}, 토큰: {}", user.getUsername(), req.getQueueToken());
-        } catch (Exception e) {
-            log.warn("토큰 사용 처리 중 오류 발생: {}", e.getMessage());
-        }
+        outboxService.enqueue(OutboxService.QUEUE_TOKEN_USE, "booking:" + booking.getBookingId(),
+                OutboxService.QUEUE_TOKEN_USE + ":" + booking.getBookingId(),
+                Map.of("token", req.getQueueToken(), "userId", booking.getUserId()));
     }
 
-    private List<BookingSeat> saveBookingSeats(Booking booking, List<ScheduleSeat> seats) {
-        return seats.stream()
-                .map(seat -> BookingSeat.builder()
+    private List<BookingSeat> saveBookingSeats(Booking booking, List<SeatSelection> seats) {
+        List<BookingSeat> bookingSeats = seats.stream()
+                .map(selection -> BookingSeat.builder()
                         .booking(booking)
-                        .seat(seat)
-                        .seatPrice(seat.getPrice())
+                        .seat(selection.seat())
+                        .seatPrice(selection.price())
                         .build())
-                .map(bookingSeatRepository::save)
                 .toList();
-    }
-
-    private void updateSeatStatusToBooked(List<ScheduleSeat> seats) {
-        seats.forEach(seat -> seat.setStatus(ScheduleSeat.SeatStatus.BOOKED));
-        scheduleSeatRepository.saveAll(seats);
+        return bookingSeatRepository.saveAll(bookingSeats);
     }
 
 
@@ -284,34 +341,24 @@ public class BookingService {
     }
 
     /**
-     * 예약 목록 조회 (DTO Projection 사용 - 성능 최적화)
+     * 예약 목록 조회 (예약 ID 페이지 → 예약/좌석 일괄 조회 2단계, BookingListingService 참고)
      */
-    @Transactional(readOnly = true)
     public GetBookings200ResponseDto getBookings(String status, int page, int limit) {
-        PageRequest pr = PageRequest.of(Math.max(page - 1, 0), Math.max(limit, 1));
-
-        Page<BookingProjection> result;
-        if (status != null && !status.isBlank()) {
-            BookingStatus bs;
-            try {
-                bs = BookingStatus.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 상태 값");
-            }
-            result = bookingRepository.findAllByStatusWithDetails(bs, pr);
-        } else {
-            result = bookingRepository.findAllWithDetails(pr);
-        }
+        return bookingListingService.getBookings(status, page, limit);
+    }
 
-        List<BookingDto> items = result.getContent().stream()
-                .map(this::toListDtoFromProjection)
-                .toList();
+    /**
+     * 예약 목록 커서 조회 (관리자용)
+     */
+    public CursorPage<BookingDto> getBookingsByCursor(String status, String cursor, int limit) {
+        return bookingListingService.getBookingsByCursor(status, cursor, limit);
+    }
 
-        return GetBookings200ResponseDto.builder()
-                .bookings(items)
-                .total(Math.toIntExact(result.getTotalElements()))
-                .page(page)
-                .build();
+    /**
+     * 사용자별 예약 목록 커서 조회
+     */
+    public CursorPage<BookingDto> getUserBookingsByCursor(String userId, String status, String cursor, int limit) {
+        return bookingListingService.getUserBookingsByCursor(userId, status, cursor, limit);
     }
 
     /**
@@ -334,8 +381,9 @@ public class BookingService {
             result = bookingRepository.findAll(pr);
         }
 
+        Map<String, UserSummary> users = resolveUsers(result.getContent(), Booking::getUserId);
         List<BookingDto> items = result.getContent().stream()
-                .map(this::toListDto)
+                .map(b -> toListDto(b, users))
                 .toList();
 
         return GetBookings200ResponseDto.builder()
@@ -350,7 +398,8 @@ public class BookingService {
      */
     @Transactional(rollbackFor = Exception.class)
     public CancelBooking200ResponseDto cancelBooking(Long bookingId, CancelBookingRequestDto req, String actorUsername) {
-        Booking booking = bookingRepository.findById(bookingId)
+        // 행 잠금: 동시 취소가 둘 다 CONFIRMED를 보고 판매 요약/카운터를 두 번 차감하지 않도록
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.BOOKING_NOT_FOUND));
 
         if (booking.getStatus() == BookingStatus.CANCELLED) {
@@ -375,7 +424,13 @@ public class BookingService {
             booking.setCancellationReason(req.getReason());
         }
 
-        bookingRepository.save(booking);
+        bookingRepository.saveAndFlush(booking);
+
+        // 공연별 판매 요약 차감분 기록 (같은 트랜잭션에서 INSERT만, 요약 행 반영은 주기 병합)
+        performanceSalesRepository.apply(booking.getSchedule().getPerformance().getPerformanceId(),
+                -1, -booking.getSeatCount(), booking.getTotalAmount() == null ? null : booking.getTotalAmount().negate());
+        eventPublisher.publishEvent(BookingSalesEvent.cancelled(booking.getSchedule().getPerformance().getPerformanceId(),
+                booking.getSchedule().getScheduleId(), booking.getSeatCount(), booking.getTotalAmount()));
 
         CancelBooking200ResponseDto response = CancelBooking200ResponseDto.builder()
                 .message("예매 취소 성공")
@@ -412,8 +467,9 @@ public class BookingService {
             result = bookingRepository.findByUserId(user.getUserId(), pr);
         }
 
+        Map<String, UserSummary> users = resolveUsers(result.getContent(), Booking::getUserId);
         List<BookingDto> items = result.getContent().stream()
-                .map(this::toListDto)
+                .map(b -> toListDto(b, users))
                 .toList();
 
         return GetBookings200ResponseDto.builder()
@@ -426,48 +482,22 @@ public class BookingService {
     // === Private Helper Methods (DTO 변환) ===
 
     /**
-     * BookingProjection을 BookingDto로 변환 (성능 최적화)
+     * 페이지의 고유 userId를 모아 사용자 요약을 한 번에 조회 (행마다 findById 하지 않음)
      */
-    private BookingDto toListDtoFromProjection(BookingProjection p) {
-        User user = userRepository.findById(p.getUserId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        List<BookingSeatDto> seatDtos = new ArrayList<>();
-        if (p.getBookingSeatId() != null) {
-            seatDtos.add(BookingSeatDto.builder()
-                    .bookingSeatId(p.getBookingSeatId())
-                    .bookingId(p.getBookingId())
-                    .seatId(null)
-                    .seatPrice(p.getSeatPrice() == null ? 0.0 : p.getSeatPrice().doubleValue())
-                    .grade(p.getSeatGrade())
-                    .zone(p.getSeatZone())
-                    .rowLabel(p.getSeatRowLabel())
-                    .colNum(p.getSeatColNum())
-                    .createdAt(null)
-                    .build());
+    private <T> Map<String, UserSummary> resolveUsers(List<T> rows, Function<T, String> userIdGetter) {
+        Set<String> userIds = new HashSet<>();
+        for (T row : rows) {
+            userIds.add(userIdGetter.apply(row));
         }
+        return userSummaryService.getSummaries(userIds);
+    }
 
-        return BookingDto.builder()
-                .bookingId(p.getBookingId())
-                .bookingNumber(p.getBookingNumber())
-                .userId(user.getUserId())
-                .userName(user.getUsername())
-                .userPhone(user.getPhone())
-                .scheduleId(p.getScheduleId())
-                .performanceTitle(p.getPerformanceTitle())
-                .venueName(p.getVenueName())
-                .showDate(odt(p.getShowDatetime()))
-                .seatCount(p.getSeatCount())
-                .totalAmount(p.getTotalAmount() == null ? 0.0 : p.getTotalAmount().doubleValue())
-                .seats(seatDtos.isEmpty() ? List.of() : seatDtos)
-                .status(p.getStatus() == null ? null : BookingDto.StatusEnum.valueOf(p.getStatus()))
-                .expiresAt(odt(p.getExpiresAt()))
-                .bookedAt(odt(p.getBookedAt()))
-                .cancelledAt(odt(p.getCancelledAt()))
-                .cancellationReason(p.getCancellationReason())
-                .createdAt(odt(p.getCreatedAt()))
-                .updatedAt(odt(p.getUpdatedAt()))
-                .build();
+    private UserSummary requireUser(Map<String, UserSummary> users, String userId) {
+        UserSummary user = users.get(userId);
+        if (user == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        return user;
     }
 
     private CreateBookingResponseDto toCreateResponse(Booking b) {
@@ -500,16 +530,15 @@ public class BookingService {
                 .build();
     }
 
-    private BookingDto toListDto(Booking b) {
-        User user = userRepository.findById(b.getUserId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    private BookingDto toListDto(Booking b, Map<String, UserSummary> users) {
+        UserSummary user = requireUser(users, b.getUserId());
 
         return BookingDto.builder()
                 .bookingId(b.getBookingId())
                 .bookingNumber(b.getBookingNumber())
-                .userId(user != null ? user.getUserId() : null)
-                .userName(user != null ? user.getName() : null)
-                .userPhone(user != null ? user.getPhone() : null)
+                .userId(user.userId())
+                .userName(user.name())
+                .userPhone(user.phone())
                 .scheduleId(b.getSchedule() != null ? b.getSchedule().getScheduleId() : null)
                 .performanceTitle(b.getSchedule() != null && b.getSchedule().getPerformance() != null ? b.getSchedule().getPerformance().getTitle() : null)
                 .venueName(b.getSchedule() != null && b.getSchedule().getPerformance() != null && b.getSchedule().getPerformance().getVenue() != null ? b.getSchedule().getPerformance().getVenue().getVenueName() : null)
@@ -528,8 +557,7 @@ public class BookingService {
     }
 
     private GetBookingDetail200ResponseDto toDetailDto(Booking booking) {
-        User user = userRepository.findById(booking.getUserId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        UserSummary user = userSummaryService.getSummary(booking.getUserId());
 
         PerformanceSchedule schedule = booking.getSchedule();
         Performance performance = schedule != null ? schedule.getPerformance() : null;
@@ -541,9 +569,9 @@ public class BookingService {
         return GetBookingDetail200ResponseDto.builder()
                 .bookingId(booking.getBookingId())
                 .bookingNumber(booking.getBookingNumber())
-                .userId(user.getUserId())
-                .userName(user.getName())
-                .userPhone(user.getPhone())
+                .userId(user.userId())
+                .userName(user.name())
+                .userPhone(user.phone())
                 .scheduleId(idOrNull(schedule))
                 .performanceTitle(textOrNull(performance, Performance::getTitle))
                 .venueName(textOrNull(venue, Venue::getVenueName))
@@ -612,125 +640,20 @@ public class BookingService {
         return value == null ? null : value.trim().toUpperCase();
     }
 
-    private static boolean validateBySeatMap(JsonNode sections, String grade, String zone, String rowLabel, String colNum) {
-        if (!sections.isArray() || rowLabel == null || colNum == null) {
-            return false;
-        }
-
-        String normalizedRow = rowLabel.trim().toUpperCase();
-        String normalizedCol = colNum.trim();
-        String normalizedGrade = grade == null ? null : grade.trim().toUpperCase();
-        String normalizedZone = zone == null ? null : zone.trim().toUpperCase();
-
-        for (JsonNode section : sections) {
-            if (!isValidSection(section, normalizedGrade, normalizedZone)) {
-                continue;
-            }
-
-            if (isSeatInSection(section, normalizedRow, normalizedCol)) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private static boolean isValidSection(JsonNode section, String normalizedGrade, String normalizedZone) {
-        int rows = section.path("rows").asInt(0);
-        int cols = section.path("cols").asInt(0);
-        if (rows <= 0 || cols <= 0) return false;
-
-        String sectionRowStart = safeUpper(textOrNull(section, "rowLabelFrom"));
-        if (sectionRowStart == null || sectionRowStart.isBlank()) return false;
-
-        String sectionGrade = safeUpper(textOrNull(section, "grade"));
-        String sectionZone = safeUpper(textOrNull(section, "zone"));
-
-        boolean gradeMatch = normalizedGrade == null || normalizedGrade.isBlank() || normalizedGrade.equals(sectionGrade);
-        boolean zoneMatch = normalizedZone == null || normalizedZone.isBlank() || normalizedZone.equals(sectionZone);
-
-        return gradeMatch && zoneMatch;
-    }
-
-    private static boolean isSeatInSection(JsonNode section, String targetRow, String targetCol) {
-        int rows = section.path("rows").asInt(0);
-        int cols = section.path("cols").asInt(0);
-        int seatStart = section.path("seatStart").asInt(1);
-        String rowStart = safeUpper(textOrNull(section, "rowLabelFrom"));
-
-        for (int r = 0; r < rows; r++) {
-            String currentRow = incrementAlpha(rowStart, r);
-            if (!currentRow.equals(targetRow)) continue;
-
-            int colNum = Integer.parseInt(targetCol);
-            int minCol = seatStart;
-            int maxCol = seatStart + cols - 1;
-
-            // 숫자 범위만 비교하므로 내부 루프 제거 (복잡도 ↓)
-            return colNum >= minCol && colNum <= maxCol;
-        }
-        return false;
-    }
-
-    private static BigDecimal priceByGrade(JsonNode pricingNode, String grade) {
-        if (pricingNode == null || !pricingNode.isObject() || grade == null) {
-            return null;
-        }
-
-        JsonNode direct = pricingNode.get(grade);
-        if (direct != null) {
-            try {
-                return new BigDecimal(direct.asText());
-            } catch (NumberFormatException ignored) {
-                return null;
-            }
-        }
-
-        String normalizedGrade = grade.trim().toUpperCase();
-
-        for (var entry : pricingNode.properties()) {
-            if (normalizedGrade.equals(entry.getKey().trim().toUpperCase())) {
-                try {
-                    return new BigDecimal(entry.getValue().asText());
-                } catch (NumberFormatException ignored) {
-                    return null;
-                }
-            }
-        }
-
-        return null;
-    }
-
-    private static String textOrNull(JsonNode node, String field) {
-        JsonNode value = node.get(field);
-        return value == null || value.isNull() ? null : value.asText();
+    /**
+     * 검증을 통과한 좌석과 적용 가격 (좌석 맵 등급 가격 우선)
+     */
+    private record SeatSelection(ScheduleSeat seat, BigDecimal price) {
     }
 
-    private static String incrementAlpha(String start, int offset) {
-        int baseValue = alphaToInt(start) + offset;
-        return intToAlpha(baseValue);
-    }
+    private record RequestedSeat(String grade, String zone, String rowLabel, String colNum) {
 
-    private static int alphaToInt(String s) {
-        int value = 0;
-        for (int i = 0; i < s.length(); i++) {
-            char ch = s.charAt(i);
-            if (ch < 'A' || ch > 'Z') {
-                throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid row label: " + s);
-            }
-            value = value * 26 + (ch - 'A' + 1);
+        String key() {
+            return key(zone, rowLabel, colNum);
         }
-        return value - 1;
-    }
 
-    private static String intToAlpha(int value) {
-        value = value + 1;
-        StringBuilder sb = new StringBuilder();
-        while (value > 0) {
-            int remainder = (value - 1) % 26;
-            sb.append((char) ('A' + remainder));
-            value = (value - 1) / 26;
+        static String key(String zone, String rowLabel, String colNum) {
+            return zone + "|" + rowLabel + "|" + colNum;
         }
-        return sb.reverse().toString();
     }
 }
@@ -0,0 +1,212 @@
+package org.ddcn41.ticketing_system.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.dto.ApiResponse;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 예매 생성 요청 Idempotency-Key 처리
+ * - 최초 요청만 컨트롤러(예매 트랜잭션)까지 진행하고 최종 응답을 Redis에 저장
+ * - 완료된 키의 중복 요청은 저장된 응답을 그대로 반환 (Idempotent-Replayed: true)
+ * - 처리 중인 키의 중복 요청은 wait-ms(기본 3초) 동안 저장소를 poll-interval-ms 간격으로 확인하며 결과를 기다렸다가 그대로 반환,
+ *   그때까지 끝나지 않으면 409 (재시도 클라이언트가 409 대신 원래 응답을 받도록, 대기는 짧게 두어 요청 스레드 점유를 제한)
+ * - 같은 키로 본문이 다른 요청은 422
+ * - 5xx 응답은 저장하지 않고 키를 비워 재시도가 다시 처리되도록 함
+ * - Redis 장애 시에는 중복 방지 없이 그대로 처리 (예매 자체를 막지 않음)
+ *
+ * 키는 인증 사용자 단위로 구분하며, 헤더가 없거나 인증 정보가 없는 요청은 그대로 통과
+ * Spring Security 필터 체인 이후(기본 순서)에 실행되어야 인증 사용자를 알 수 있음
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final List<String> paths;
+    private final long waitMs;
+    private final long pollIntervalMs;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             @Value("${idempotency.paths:/v1/bookings}") List<String> paths,
+                             @Value("${idempotency.wait-ms:3000}") long waitMs,
+                             @Value("${idempotency.poll-interval-ms:100}") long pollIntervalMs) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.paths = paths;
+        this.waitMs = waitMs;
+        this.pollIntervalMs = Math.max(10, pollIntervalMs);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equalsIgnoreCase(request.getMethod())
+                || !paths.contains(request.getRequestURI())
+                || !StringUtils.hasText(request.getHeader(HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(HEADER).trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INVALID_INPUT, HEADER + " 길이는 " + MAX_KEY_LENGTH + "자 이하여야 합니다");
+            return;
+        }
+
+        CachedBodyRequestWrapper cachedRequest = new CachedBodyRequestWrapper(request);
+        String scope = request.getRequestURI() + ":" + authentication.getName();
+        String fingerprint = fingerprint(cachedRequest.getBody());
+
+        long deadline = System.currentTimeMillis() + waitMs;
+        while (true) {
+            String claim;
+            IdempotencyRecord record = null;
+            try {
+                claim = store.tryBegin(scope, key, fingerprint);
+                if (claim == null) {
+                    record = store.find(scope, key);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Idempotency 저장소 오류, 중복 방지 없이 처리 - scope: {}, error: {}", scope, e.getMessage());
+                chain.doFilter(cachedRequest, response);
+                return;
+            }
+
+            if (claim != null) {
+                proceed(cachedRequest, response, chain, scope, key, fingerprint, claim);
+                return;
+            }
+            if (record != null && !fingerprint.equals(record.getFingerprint())) {
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED, null);
+                return;
+            }
+            if (record != null && record.isCompleted()) {
+                replay(response, record);
+                return;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS, null);
+                return;
+            }
+            // 처리 중이거나(record != null) 선점한 요청이 실패해 키가 막 비워진 경우 모두 잠시 후 재시도
+            sleep(Math.min(pollIntervalMs, remaining));
+        }
+    }
+
+    private void proceed(CachedBodyRequestWrapper request, HttpServletResponse response, FilterChain chain,
+                         String scope, String key, String fingerprint, String claim) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, cachedResponse);
+
+            int status = cachedResponse.getStatus();
+            if (status < 500) {
+                stored = true;
+                boolean saved = store.complete(scope, key, claim, IdempotencyRecord.builder()
+                        .completed(true)
+                        .fingerprint(fingerprint)
+                        .status(status)
+                        .contentType(cachedResponse.getContentType())
+                        .body(new String(cachedResponse.getContentAsByteArray(), StandardCharsets.UTF_8))
+                        .build());
+                if (!saved) {
+                    log.warn("Idempotency 처리 중 표시가 만료되어 응답을 저장하지 못함 - scope: {}, key: {}", scope, key);
+                }
+            }
+        } catch (RuntimeException e) {
+            if (!stored) {
+                throw e;
+            }
+            // 응답 저장 실패(Redis 장애)는 처리 결과를 그대로 돌려줌 (처리 중 표시는 TTL로 만료)
+            log.warn("Idempotency 응답 저장 실패 - scope: {}, key: {}, error: {}", scope, key, e.getMessage());
+        } finally {
+            if (!stored) {
+                abandonQuietly(scope, key, claim);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void abandonQuietly(String scope, String key, String claim) {
+        try {
+            store.abandon(scope, key, claim);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency 처리 중 표시 해제 실패 - scope: {}, key: {}, error: {}", scope, key, e.getMessage());
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        response.setStatus(record.getStatus());
+        if (record.getContentType() != null) {
+            response.setContentType(record.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getBody() != null) {
+            byte[] body = record.getBody().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode, String detail) throws IOException {
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error(errorCode.getMessage(), detail != null ? detail : errorCode.getMessage(), null));
+    }
+
+    private static void sleep(long millis) throws ServletException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Idempotency 대기 중 인터럽트", e);
+        }
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.ddcn41.ticketing_system.global.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key 저장 값
+ * - 처리 중: completed=false (요청 지문 + 선점한 요청 식별자 보관)
+ * - 완료: 최종 응답 상태/헤더/본문 보관 → 중복 요청에 그대로 재전송
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord {
+    private boolean completed;
+    /** 요청 본문 SHA-256 (같은 키로 다른 요청을 보내는 경우 거부) */
+    private String fingerprint;
+    /** 처리 중 표시를 선점한 요청 식별자 (완료/해제는 자신이 선점한 표시일 때만) */
+    private String owner;
+    private int status;
+    private String contentType;
+    private String body;
+}
@@ -0,0 +1,174 @@
+package org.ddcn41.ticketing_system.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idempotency-Key 상태 저장소 (Redis)
+ * - 최초 요청이 SET NX로 처리 중 표시를 선점하고, 완료되면 최종 응답으로 덮어씀
+ * - 처리 중 표시는 짧은 TTL(in-flight-ttl-ms)로 두어 처리 중 인스턴스가 죽어도 키가 영구히 막히지 않음
+ * - 처리 중인 동안은 TTL의 1/3 주기로 연장하여 느린 요청의 키가 만료되어 다른 요청이 중복 처리하지 않게 함
+ * - 완료/해제는 자신이 쓴 처리 중 표시가 그대로 있을 때만 반영 (Lua 비교 후 쓰기)
+ *
+ * 키 구조
+ * - idempotency:{scope}:{key}  IdempotencyRecord JSON
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration inFlightTtl;
+    private final Duration responseTtl;
+
+    /** 처리 중인 키 → 선점 시 쓴 값 (연장 대상) */
+    private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewer;
+
+    public IdempotencyStore(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                            @Value("${idempotency.in-flight-ttl-ms:30000}") long inFlightTtlMs,
+                            @Value("${idempotency.response-ttl-seconds:86400}") long responseTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.inFlightTtl = Duration.ofMillis(inFlightTtlMs);
+        this.responseTtl = Duration.ofSeconds(responseTtlSeconds);
+
+        long renewIntervalMs = Math.max(100, inFlightTtlMs / 3);
+        this.renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "idempotency-renew");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewer.scheduleWithFixedDelay(this::renewInFlight, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 처리 중 표시 선점
+     *
+     * @return 선점했으면 선점 값(complete/abandon에 전달), 이미 다른 요청이 선점했거나 완료된 키면 null
+     */
+    public String tryBegin(String scope, String key, String fingerprint) {
+        String redisKey = redisKey(scope, key);
+        String claim = write(IdempotencyRecord.builder()
+                .completed(false)
+                .fingerprint(fingerprint)
+                .owner(UUID.randomUUID().toString())
+                .build());
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(redisKey, claim, inFlightTtl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            return null;
+        }
+        inFlight.put(redisKey, claim);
+        return claim;
+    }
+
+    /**
+     * @return 저장된 상태 (없으면 null)
+     * @throws IllegalStateException 저장 값을 읽을 수 없는 경우
+     */
+    public IdempotencyRecord find(String scope, String key) {
+        String value = redisTemplate.opsForValue().get(redisKey(scope, key));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 레코드 파싱 실패 - scope: " + scope + ", key: " + key, e);
+        }
+    }
+
+    /**
+     * 최종 응답 저장 (선점 값이 그대로 있을 때만)
+     *
+     * @return 저장했으면 true, 처리 중 표시가 만료되어 다른 요청이 선점한 경우 false
+     */
+    public boolean complete(String scope, String key, String claim, IdempotencyRecord record) {
+        String redisKey = redisKey(scope, key);
+        inFlight.remove(redisKey, claim);
+        Long updated = redisTemplate.execute(COMPLETE_SCRIPT, List.of(redisKey),
+                claim, write(record), String.valueOf(responseTtl.toMillis()));
+        return updated != null && updated == 1L;
+    }
+
+    /**
+     * 처리 실패(재시도 가능) 시 표시 제거 — 다음 재시도가 새로 처리하도록 함 (선점 값이 그대로 있을 때만)
+     */
+    public void abandon(String scope, String key, String claim) {
+        String redisKey = redisKey(scope, key);
+        inFlight.remove(redisKey, claim);
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(redisKey), claim);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    void renewInFlight() {
+        String ttlMs = String.valueOf(inFlightTtl.toMillis());
+        inFlight.forEach((redisKey, claim) -> {
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(redisKey), claim, ttlMs);
+                if (renewed == null || renewed == 0L) {
+                    inFlight.remove(redisKey, claim);
+                }
+            } catch (Exception e) {
+                log.warn("Idempotency 처리 중 표시 연장 실패 - key: {}, error: {}", redisKey, e.getMessage());
+            }
+        });
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 레코드 직렬화 실패", e);
+        }
+    }
+
+    private static String redisKey(String scope, String key) {
+        return KEY_PREFIX + scope + ":" + key;
+    }
+}
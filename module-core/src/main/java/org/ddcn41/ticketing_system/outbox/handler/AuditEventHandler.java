@@ -0,0 +1,44 @@
+package org.ddcn41.ticketing_system.outbox.handler;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.metric.dto.AuditLogDto;
+import org.ddcn41.ticketing_system.metric.service.AuditEventService;
+import org.ddcn41.ticketing_system.outbox.entity.OutboxEvent;
+import org.ddcn41.ticketing_system.outbox.service.OutboxService;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 감사 로그 기록 (payload: principal, type, data)
+ * - data에 eventKey(멱등 키)를 넣어 조회 측에서 중복 기록을 걸러낼 수 있게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditEventHandler implements OutboxEventHandler {
+
+    private final AuditEventService auditEventService;
+    private final OutboxService outboxService;
+
+    @Override
+    public String eventType() {
+        return OutboxService.AUDIT_EVENT;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handle(OutboxEvent event) throws Exception {
+        Map<String, Object> payload = outboxService.readPayload(event, Map.class);
+        Map<String, Object> data = payload.get("data") instanceof Map<?, ?> map
+                ? new HashMap<>((Map<String, Object>) map)
+                : new HashMap<>();
+        data.put("eventKey", event.getIdempotencyKey());
+
+        auditEventService.addAuditEvent(AuditLogDto.builder()
+                .principal((String) payload.get("principal"))
+                .type((String) payload.get("type"))
+                .data(data)
+                .build());
+    }
+}
@@ -0,0 +1,15 @@
+package org.ddcn41.ticketing_system.outbox.handler;
+
+import org.ddcn41.ticketing_system.outbox.entity.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트 유형별 전달 처리
+ * - 최소 한 번(at-least-once) 전달이므로 구현은 idempotencyKey 기준으로 멱등해야 함
+ * - 예외를 던지면 relay가 백오프 후 재시도
+ */
+public interface OutboxEventHandler {
+
+    String eventType();
+
+    void handle(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,44 @@
+package org.ddcn41.ticketing_system.outbox.handler;
+
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.client.QueueClient;
+import org.ddcn41.ticketing_system.outbox.entity.OutboxEvent;
+import org.ddcn41.ticketing_system.outbox.service.OutboxService;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 예매 완료 후 대기열 토큰 사용 처리
+ * - 같은 멱등 키 재시도는 대기열 서비스가 한 번만 처리 (처리 중이면 409 → 재시도)
+ * - 그 외 4xx(이미 사용/만료된 토큰 등)는 재시도해도 결과가 같으므로 경고만 남기고 완료 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueTokenUseHandler implements OutboxEventHandler {
+
+    private final QueueClient queueClient;
+    private final OutboxService outboxService;
+
+    @Override
+    public String eventType() {
+        return OutboxService.QUEUE_TOKEN_USE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        String token = (String) outboxService.readPayload(event, Map.class).get("token");
+        try {
+            queueClient.useToken(token, event.getIdempotencyKey());
+        } catch (FeignException e) {
+            if (e.status() >= 400 && e.status() < 500 && e.status() != 408 && e.status() != 409 && e.status() != 429) {
+                log.warn("대기열 토큰 사용 거절 - eventId: {}, status: {}, error: {}", event.getEventId(), e.status(), e.getMessage());
+                return;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.ddcn41.ticketing_system.outbox.repository;
+
+import org.ddcn41.ticketing_system.outbox.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달 가능한 이벤트 잠금 조회 (다른 relay 인스턴스가 잡은 행은 건너뜀)
+     * - PROCESSING이라도 임대 시간(next_attempt_at)이 지났으면 relay 중단으로 간주하고 다시 가져감
+     */
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE status IN ('PENDING', 'PROCESSING') AND next_attempt_at <= :now " +
+            "ORDER BY event_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = 'PROCESSING', e.attempts = e.attempts + 1, e.nextAttemptAt = :leaseUntil " +
+            "WHERE e.eventId IN :eventIds")
+    int markProcessing(@Param("eventIds") List<Long> eventIds, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 선점한 relay가 아직 임대를 보유한 경우에만 임대 연장
+     * - 임대가 만료되어 다른 relay가 다시 선점했으면 attempts가 증가해 있으므로 0건
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :leaseUntil " +
+            "WHERE e.eventId = :eventId AND e.status = 'PROCESSING' AND e.attempts = :attempts")
+    int renewLease(@Param("eventId") Long eventId, @Param("attempts") int attempts,
+                   @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = 'DISPATCHED', e.dispatchedAt = :now, e.lastError = null " +
+            "WHERE e.eventId IN :eventIds AND e.status = 'PROCESSING'")
+    int markDispatched(@Param("eventIds") List<Long> eventIds, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = 'PENDING', e.nextAttemptAt = :nextAttemptAt, e.lastError = :error " +
+            "WHERE e.eventId = :eventId AND e.status = 'PROCESSING'")
+    int markRetry(@Param("eventId") Long eventId, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = 'FAILED', e.lastError = :error " +
+            "WHERE e.eventId = :eventId AND e.status = 'PROCESSING'")
+    int markFailed(@Param("eventId") Long eventId, @Param("error") String error);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = 'DISPATCHED' AND e.dispatchedAt < :cutoff")
+    int deleteDispatchedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
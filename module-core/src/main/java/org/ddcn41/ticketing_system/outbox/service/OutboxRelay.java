@@ -0,0 +1,136 @@
+package org.ddcn41.ticketing_system.outbox.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.outbox.entity.OutboxEvent;
+import org.ddcn41.ticketing_system.outbox.handler.OutboxEventHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트 전달
+ * - batch-size 단위로 선점(FOR UPDATE SKIP LOCKED)하여 여러 인스턴스가 동시에 돌아도 같은 이벤트를 나눠 갖지 않음
+ * - 선점 트랜잭션은 즉시 커밋되므로 외부 호출 동안 DB 커넥션/행 잠금을 잡지 않음
+ * - 실패 시 지수 백오프로 재시도하고 max-attempts를 넘기면 FAILED로 남김
+ * - 선점 후 relay가 중단되면 임대 시간(lease-ms)이 지난 뒤 다른 relay가 다시 가져감
+ * - 배치를 순서대로 보내는 동안 뒤쪽 이벤트의 임대가 만료될 수 있으므로 이벤트마다 전달 직전에 임대를 연장하고,
+ *   이미 다른 relay가 다시 가져간 이벤트는 건너뜀 (임대 시간은 Feign read-timeout보다 길어야 함)
+ * - 전달 완료 표시는 모아서 반영하되 임대 시간의 절반이 지나면 중간에 반영
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxService outboxService;
+    private final Map<String, OutboxEventHandler> handlers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final long retentionHours;
+    private final long leaseMs;
+
+    public OutboxRelay(OutboxService outboxService,
+                       List<OutboxEventHandler> handlers,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.backoff-ms:2000}") long backoffMs,
+                       @Value("${outbox.relay.max-backoff-ms:300000}") long maxBackoffMs,
+                       @Value("${outbox.retention-hours:72}") long retentionHours,
+                       @Value("${outbox.relay.lease-ms:60000}") long leaseMs) {
+        this.outboxService = outboxService;
+        this.handlers = handlers.stream().collect(Collectors.toMap(OutboxEventHandler::eventType, Function.identity()));
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.retentionHours = retentionHours;
+        this.leaseMs = leaseMs;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        try {
+            // 한 배치가 가득 찼으면 밀린 이벤트가 있으므로 곧바로 다음 배치 처리
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == batchSize);
+        } catch (Exception e) {
+            log.error("아웃박스 전달 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        try {
+            int purged = outboxService.purgeDispatchedBefore(LocalDateTime.now().minusHours(retentionHours));
+            if (purged > 0) {
+                log.info("전달 완료 아웃박스 이벤트 정리 - {}건", purged);
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * @return 선점한 이벤트 수
+     */
+    int dispatchBatch() {
+        List<OutboxEvent> events = outboxService.claim(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> dispatched = new ArrayList<>(events.size());
+        long flushAt = System.currentTimeMillis() + leaseMs / 2;
+        for (OutboxEvent event : events) {
+            if (System.currentTimeMillis() >= flushAt) {
+                outboxService.markDispatched(List.copyOf(dispatched));
+                dispatched.clear();
+                flushAt = System.currentTimeMillis() + leaseMs / 2;
+            }
+            OutboxEventHandler handler = handlers.get(event.getEventType());
+            if (handler == null) {
+                outboxService.markFailed(event.getEventId(), "처리기가 없는 이벤트 유형: " + event.getEventType());
+                continue;
+            }
+            if (!outboxService.renewLease(event)) {
+                log.warn("아웃박스 이벤트 임대 만료, 다른 relay가 처리 - eventId: {}, type: {}",
+                        event.getEventId(), event.getEventType());
+                continue;
+            }
+            try {
+                handler.handle(event);
+                dispatched.add(event.getEventId());
+            } catch (Exception e) {
+                onFailure(event, e);
+            }
+        }
+        outboxService.markDispatched(dispatched);
+        return events.size();
+    }
+
+    private void onFailure(OutboxEvent event, Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (event.getAttempts() >= maxAttempts) {
+            log.error("아웃박스 이벤트 전달 포기 - eventId: {}, type: {}, attempts: {}, error: {}",
+                    event.getEventId(), event.getEventType(), event.getAttempts(), error);
+            outboxService.markFailed(event.getEventId(), error);
+            return;
+        }
+
+        long delay = Math.min(maxBackoffMs, backoffMs << Math.min(event.getAttempts() - 1, 20));
+        log.warn("아웃박스 이벤트 전달 실패, {}ms 후 재시도 - eventId: {}, type: {}, attempts: {}, error: {}",
+                delay, event.getEventId(), event.getEventType(), event.getAttempts(), error);
+        outboxService.markRetry(event.getEventId(), LocalDateTime.now().plus(Duration.ofMillis(delay)), error);
+    }
+}
@@ -0,0 +1,107 @@
+package org.ddcn41.ticketing_system.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.outbox.entity.OutboxEvent;
+import org.ddcn41.ticketing_system.outbox.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 기록 및 relay용 상태 전이
+ * - enqueue는 반드시 호출자 트랜잭션 안에서 실행 (업무 데이터와 함께 커밋/롤백)
+ * - 저장은 쓰기 지연되어 호출자 트랜잭션의 flush에 배치로 포함됨
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final String QUEUE_TOKEN_USE = "QUEUE_TOKEN_USE";
+    public static final String AUDIT_EVENT = "AUDIT_EVENT";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.relay.lease-ms:60000}")
+    private long leaseMs;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String eventType, String aggregateId, String idempotencyKey, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "아웃박스 페이로드 직렬화 실패: " + eventType);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .idempotencyKey(idempotencyKey)
+                .payload(json)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 전달 가능한 이벤트를 최대 limit개 선점 (PROCESSING + 임대 시간 설정 후 즉시 커밋)
+     */
+    @Transactional
+    public List<OutboxEvent> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockDispatchable(now, limit);
+        if (events.isEmpty()) {
+            return events;
+        }
+        outboxEventRepository.markProcessing(events.stream().map(OutboxEvent::getEventId).toList(),
+                now.plus(Duration.ofMillis(leaseMs)));
+        events.forEach(e -> e.setAttempts(e.getAttempts() + 1));
+        return events;
+    }
+
+    /**
+     * 이벤트 하나를 전달하기 직전에 임대 연장 (배치 앞쪽 이벤트 처리 중 뒤쪽 이벤트의 임대가 만료될 수 있으므로)
+     *
+     * @return 아직 이 relay가 보유 중이어서 연장했으면 true
+     */
+    @Transactional
+    public boolean renewLease(OutboxEvent event) {
+        return outboxEventRepository.renewLease(event.getEventId(), event.getAttempts(),
+                LocalDateTime.now().plus(Duration.ofMillis(leaseMs))) > 0;
+    }
+
+    @Transactional
+    public void markDispatched(List<Long> eventIds) {
+        if (!eventIds.isEmpty()) {
+            outboxEventRepository.markDispatched(eventIds, LocalDateTime.now());
+        }
+    }
+
+    @Transactional
+    public void markRetry(Long eventId, LocalDateTime nextAttemptAt, String error) {
+        outboxEventRepository.markRetry(eventId, nextAttemptAt, error);
+    }
+
+    @Transactional
+    public void markFailed(Long eventId, String error) {
+        outboxEventRepository.markFailed(eventId, error);
+    }
+
+    @Transactional
+    public int purgeDispatchedBefore(LocalDateTime cutoff) {
+        return outboxEventRepository.deleteDispatchedBefore(cutoff);
+    }
+
+    public <T> T readPayload(OutboxEvent event, Class<T> type) throws JsonProcessingException {
+        return objectMapper.readValue(event.getPayload(), type);
+    }
+}
@@ -0,0 +1,40 @@
+package org.ddcn41.ticketing_system.performance.config;
+
+import org.ddcn41.ticketing_system.performance.repository.PerformanceSalesRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 판매 요약 증감분 병합
+ * - 예매 트랜잭션이 남긴 증감분을 주기적으로 performance_sales에 더함 (요약 행 갱신은 이 작업만 함)
+ * - 한 주기에 배치가 가득 차면 밀린 증감분이 없어질 때까지 이어서 병합
+ */
+@Component
+public class PerformanceSalesMergeScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PerformanceSalesMergeScheduler.class);
+
+    private final PerformanceSalesRepository performanceSalesRepository;
+    private final int batchSize;
+
+    public PerformanceSalesMergeScheduler(PerformanceSalesRepository performanceSalesRepository,
+                                          @Value("${performance.sales.merge-batch-size:5000}") int batchSize) {
+        this.performanceSalesRepository = performanceSalesRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${performance.sales.merge-interval-ms:1000}")
+    public void mergeDeltas() {
+        try {
+            int merged;
+            do {
+                merged = performanceSalesRepository.merge(batchSize);
+            } while (merged >= batchSize);
+        } catch (Exception e) {
+            log.warn("판매 요약 증감분 병합 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.ddcn41.ticketing_system.performance.repository;
 import org.ddcn41.ticketing_system.performance.entity.Performance;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +22,10 @@ public interface PerformanceRepository extends JpaRepository<Performance, Long>
     @Override
     List<Performance> findAll();
 
+    @Modifying(clearAutomatically = false, flushAutomatically = false)
+    @Query("UPDATE Performance p SET p.status = :status WHERE p.performanceId = :performanceId")
+    int updateStatus(@Param("performanceId") Long performanceId, @Param("status") Performance.PerformanceStatus status);
+
     @Query("SELECT DISTINCT p FROM Performance p " +
             "LEFT JOIN FETCH p.venue " +
             "LEFT JOIN FETCH p.schedules")
@@ -0,0 +1,147 @@
+package org.ddcn41.ticketing_system.performance.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 공연별 판매 요약 (performance_sales) JDBC 저장소
+ * - 예매 생성/취소 트랜잭션은 apply로 증감분 행(performance_sales_deltas)만 INSERT → 인기 공연이라도 요약 한 행에서 직렬화되지 않음
+ * - merge가 주기적으로 증감분을 요약 행에 더하고 지움 (한 문장이라 중복/누락 없이 한 번만 반영)
+ * - 요약 행이 없는 공연(도입 이전 공연)은 backfill이 bookings 집계로 채우고, 그 집계에 이미 들어간 증감분을 같은 문장에서 지움
+ * - 조회는 요약 행 + 아직 병합되지 않은 증감분 합 → 병합 주기와 무관하게 커밋된 예매가 바로 보임
+ */
+@Repository
+@RequiredArgsConstructor
+public class PerformanceSalesRepository {
+
+    private static final String SEED_SQL =
+            "INSERT INTO performance_sales (performance_id) VALUES (?) ON CONFLICT (performance_id) DO NOTHING";
+
+    private static final String APPLY_SQL =
+            "INSERT INTO performance_sales_deltas (performance_id, confirmed_bookings, seat_count, revenue) " +
+            "VALUES (?, ?, ?, ?)";
+
+    /**
+     * 요약 행이 있는 공연의 증감분을 delta_id 순으로 최대 ?건 옮김
+     * - SKIP LOCKED로 여러 인스턴스가 동시에 돌아도 같은 증감분을 두 번 옮기지 않음
+     * - 요약 행이 없는 공연의 증감분은 남겨 둠 (backfill 집계가 해당 예매를 세고 지움)
+     */
+    private static final String MERGE_SQL =
+            "WITH moved AS (" +
+            "  DELETE FROM performance_sales_deltas WHERE delta_id IN (" +
+            "    SELECT d.delta_id FROM performance_sales_deltas d " +
+            "    WHERE EXISTS (SELECT 1 FROM performance_sales s WHERE s.performance_id = d.performance_id) " +
+            "    ORDER BY d.delta_id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "  RETURNING performance_id, confirmed_bookings, seat_count, revenue), " +
+            "sums AS (" +
+            "  SELECT performance_id, SUM(confirmed_bookings) AS bookings, SUM(seat_count) AS seats, " +
+            "         SUM(revenue) AS revenue, COUNT(*) AS merged " +
+            "  FROM moved GROUP BY performance_id), " +
+            "updated AS (" +
+            "  UPDATE performance_sales s SET confirmed_bookings = s.confirmed_bookings + sums.bookings, " +
+            "         seat_count = s.seat_count + sums.seats, revenue = s.revenue + sums.revenue, updated_at = now() " +
+            "  FROM sums WHERE s.performance_id = sums.performance_id RETURNING sums.merged) " +
+            "SELECT COALESCE(SUM(merged), 0) FROM updated";
+
+    private static final String FIND_SQL =
+            "SELECT s.performance_id, s.confirmed_bookings + COALESCE(d.bookings, 0), " +
+            "       s.seat_count + COALESCE(d.seats, 0), s.revenue + COALESCE(d.revenue, 0) " +
+            "FROM performance_sales s " +
+            "LEFT JOIN (SELECT performance_id, SUM(confirmed_bookings) AS bookings, SUM(seat_count) AS seats, " +
+            "                  SUM(revenue) AS revenue " +
+            "           FROM performance_sales_deltas WHERE performance_id = ANY(?) " +
+            "           GROUP BY performance_id) d ON d.performance_id = s.performance_id " +
+            "WHERE s.performance_id = ANY(?)";
+
+    /**
+     * 요청한 공연 전부에 대해 행을 만들고(예매가 없으면 0) CONFIRMED 예매 집계로 채움
+     * - 집계와 증감분 삭제가 같은 스냅샷을 보므로, 집계에 들어간 예매의 증감분만 지워지고
+     *   그 뒤에 커밋된 예매의 증감분은 남아 merge로 더해짐
+     */
+    private static final String BACKFILL_SQL =
+            "WITH inserted AS (" +
+            "  INSERT INTO performance_sales (performance_id, confirmed_bookings, seat_count, revenue) " +
+            "  SELECT ids.performance_id, COALESCE(a.bookings, 0), COALESCE(a.seats, 0), COALESCE(a.revenue, 0) " +
+            "  FROM unnest(?::bigint[]) AS ids(performance_id) " +
+            "  JOIN performances p ON p.performance_id = ids.performance_id " +
+            "  LEFT JOIN (SELECT s.performance_id, COUNT(*) AS bookings, SUM(b.seat_count) AS seats, " +
+            "                    SUM(b.total_amount) AS revenue " +
+            "             FROM bookings b JOIN performance_schedules s ON s.schedule_id = b.schedule_id " +
+            "             WHERE b.status = 'CONFIRMED' AND s.performance_id = ANY(?) " +
+            "             GROUP BY s.performance_id) a ON a.performance_id = ids.performance_id " +
+            "  ON CONFLICT (performance_id) DO NOTHING " +
+            "  RETURNING performance_id), " +
+            "absorbed AS (" +
+            "  DELETE FROM performance_sales_deltas d USING inserted i WHERE d.performance_id = i.performance_id) " +
+            "SELECT COUNT(*) FROM inserted";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void seed(Long performanceId) {
+        jdbcTemplate.update(SEED_SQL, performanceId);
+    }
+
+    /**
+     * 판매 요약 증감 기록 (취소 시 음수)
+     * - 호출한 트랜잭션과 함께 커밋되고, 요약 행 반영은 merge가 나중에 함
+     */
+    public void apply(Long performanceId, int bookingsDelta, int seatsDelta, BigDecimal revenueDelta) {
+        BigDecimal revenue = revenueDelta == null ? BigDecimal.ZERO : revenueDelta;
+        jdbcTemplate.update(APPLY_SQL, performanceId, bookingsDelta, seatsDelta, revenue);
+    }
+
+    /**
+     * 증감분을 요약 행에 병합하고 병합한 건수를 반환
+     * - 삭제와 요약 UPDATE가 한 문장이라 실패(교착 포함)하면 통째로 롤백되고 다음 주기에 다시 옮김
+     */
+    public int merge(int limit) {
+        Integer merged = jdbcTemplate.queryForObject(MERGE_SQL, Integer.class, limit);
+        return merged == null ? 0 : merged;
+    }
+
+    public Map<Long, SalesSummary> findByPerformanceIds(Collection<Long> performanceIds) {
+        Map<Long, SalesSummary> result = new HashMap<>();
+        if (performanceIds.isEmpty()) {
+            return result;
+        }
+        Long[] ids = performanceIds.toArray(Long[]::new);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(FIND_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setArray(2, connection.createArrayOf("bigint", ids));
+            return ps;
+        }, (RowCallbackHandler) rs ->
+                result.put(rs.getLong(1), new SalesSummary(rs.getInt(2), rs.getInt(3), rs.getBigDecimal(4))));
+        return result;
+    }
+
+    /**
+     * 요약 행이 없는 공연을 bookings 집계(GROUP BY 한 번)로 채우고 채운 행 수를 반환
+     */
+    public int backfill(Collection<Long> performanceIds) {
+        if (performanceIds.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = performanceIds.toArray(Long[]::new);
+        Integer inserted = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(BACKFILL_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", ids));
+            ps.setArray(2, connection.createArrayOf("bigint", ids));
+            return ps;
+        }, rs -> rs.next() ? rs.getInt(1) : 0);
+        return inserted == null ? 0 : inserted;
+    }
+
+    public record SalesSummary(int confirmedBookings, int seatCount, BigDecimal revenue) {
+
+        public static final SalesSummary EMPTY = new SalesSummary(0, 0, BigDecimal.ZERO);
+    }
+}
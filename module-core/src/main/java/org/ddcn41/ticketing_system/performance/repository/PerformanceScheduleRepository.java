@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,21 @@ public interface PerformanceScheduleRepository extends JpaRepository<Performance
     
     List<PerformanceSchedule> findByPerformance_PerformanceIdOrderByShowDatetimeAsc(Long performanceId);
 
+    @Query("SELECT s.scheduleId FROM PerformanceSchedule s ORDER BY s.scheduleId")
+    List<Long> findAllScheduleIds();
+
+    @Query("SELECT s.scheduleId FROM PerformanceSchedule s " +
+            "WHERE s.performance.performanceId = :performanceId ORDER BY s.scheduleId")
+    List<Long> findScheduleIdsByPerformanceId(@Param("performanceId") Long performanceId);
+
+    @Query("SELECT s.scheduleId FROM PerformanceSchedule s " +
+            "WHERE s.performance.venue.venueId = :venueId AND s.showDatetime > :now ORDER BY s.scheduleId")
+    List<Long> findUpcomingScheduleIdsByVenueId(@Param("venueId") Long venueId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT s.scheduleId FROM PerformanceSchedule s " +
+            "WHERE s.status = 'OPEN' AND s.showDatetime > :now ORDER BY s.scheduleId")
+    List<Long> findOpenScheduleIds(@Param("now") LocalDateTime now);
+
     @Modifying(clearAutomatically = false, flushAutomatically = false)
     @Query("UPDATE PerformanceSchedule s SET s.availableSeats = s.availableSeats + :delta WHERE s.scheduleId = :scheduleId AND s.availableSeats + :delta <= s.totalSeats")
     int incrementAvailableSeats(@Param("scheduleId") Long scheduleId, @Param("delta") int delta);
@@ -22,11 +38,33 @@ public interface PerformanceScheduleRepository extends JpaRepository<Performance
     @Query("UPDATE PerformanceSchedule s SET s.availableSeats = s.availableSeats - :delta WHERE s.scheduleId = :scheduleId AND s.availableSeats >= :delta")
     int decrementAvailableSeats(@Param("scheduleId") Long scheduleId, @Param("delta") int delta);
 
+    /**
+     * 예매용 가용 좌석 차감 — CLOSED 스케줄은 차감하지 않음 (0 반환)
+     * 스케줄 행 잠금을 잡으므로 마감(closeSchedules)과 직렬화되어, 마감 이후 커밋되는 예매가 생기지 않음
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = false)
+    @Query("UPDATE PerformanceSchedule s SET s.availableSeats = s.availableSeats - :delta " +
+            "WHERE s.scheduleId = :scheduleId AND s.availableSeats >= :delta AND s.status <> 'CLOSED'")
+    int decrementAvailableSeatsIfOpen(@Param("scheduleId") Long scheduleId, @Param("delta") int delta);
+
+    @Query("SELECT s.status FROM PerformanceSchedule s WHERE s.scheduleId = :scheduleId")
+    PerformanceSchedule.ScheduleStatus findStatusById(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 판매 마감 (일괄 취소 등) — CLOSED는 상태 재계산에서도 유지됨
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = false)
+    @Query("UPDATE PerformanceSchedule s SET s.status = 'CLOSED' WHERE s.scheduleId IN :scheduleIds")
+    int closeSchedules(@Param("scheduleIds") List<Long> scheduleIds);
+
+    /**
+     * 가용 좌석 수 기준 OPEN/SOLDOUT 재계산 (CLOSED는 다시 열지 않음)
+     */
     @Modifying(clearAutomatically = false, flushAutomatically = false)
     @Query("""
             UPDATE PerformanceSchedule s
             SET s.status = CASE
-                    WHEN s.showDatetime <= CURRENT_TIMESTAMP THEN 'CLOSED'
+                    WHEN s.status = 'CLOSED' OR s.showDatetime <= CURRENT_TIMESTAMP THEN 'CLOSED'
                     WHEN s.availableSeats <= 0 THEN 'SOLDOUT'
                     ELSE 'OPEN'
                 END
@@ -46,7 +84,7 @@ public interface PerformanceScheduleRepository extends JpaRepository<Performance
     @Query("""
             UPDATE PerformanceSchedule s
             SET s.status = CASE
-                    WHEN s.showDatetime <= CURRENT_TIMESTAMP THEN 'CLOSED'
+                    WHEN s.status = 'CLOSED' OR s.showDatetime <= CURRENT_TIMESTAMP THEN 'CLOSED'
                     WHEN s.availableSeats <= 0 THEN 'SOLDOUT'
                     ELSE 'OPEN'
                 END
@@ -1,8 +1,6 @@
 package org.ddcn41.ticketing_system.performance.service;
 
 import lombok.RequiredArgsConstructor;
-import org.ddcn41.ticketing_system.booking.entity.Booking;
-import org.ddcn41.ticketing_system.booking.repository.BookingRepository;
 import org.ddcn41.ticketing_system.common.dto.performance.request.PerformanceRequest;
 import org.ddcn41.ticketing_system.common.dto.performance.request.PerformanceScheduleRequest;
 import org.ddcn41.ticketing_system.common.dto.performance.response.AdminPerformanceResponse;
@@ -14,17 +12,20 @@ import org.ddcn41.ticketing_system.common.exception.ErrorCode;
 import org.ddcn41.ticketing_system.performance.entity.Performance;
 import org.ddcn41.ticketing_system.performance.entity.PerformanceSchedule;
 import org.ddcn41.ticketing_system.performance.repository.PerformanceRepository;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceSalesRepository;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceSalesRepository.SalesSummary;
 import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
 import org.ddcn41.ticketing_system.seat.service.ScheduleSeatInitializationService;
+import org.ddcn41.ticketing_system.seat.service.SeatAvailabilityStatsService;
 import org.ddcn41.ticketing_system.venue.entity.Venue;
 import org.ddcn41.ticketing_system.venue.repository.VenueRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
@@ -34,11 +35,12 @@ public class PerformanceService {
     private final PerformanceRepository performanceRepository;
     private final PerformanceScheduleRepository performanceScheduleRepository;
 
-    private final BookingRepository bookingRepository;
+    private final PerformanceSalesRepository performanceSalesRepository;
     private final VenueRepository venueRepository;
     private final S3Service s3ImageService;
 
     private final ScheduleSeatInitializationService initializationService;
+    private final SeatAvailabilityStatsService seatAvailabilityStatsService;
 
     public PerformanceResponse getPerformanceById(Long performanceId) {
         return convertToPerformanceResponse(performanceRepository.findById(performanceId)
@@ -46,17 +48,11 @@ public class PerformanceService {
     }
 
     public List<PerformanceResponse> getAllPerformances() {
-        return performanceRepository.findAllWithVenueAndSchedules()
-                .stream()
-                .map(this::convertToPerformanceResponse)
-                .toList();
+        return convertToPerformanceResponses(performanceRepository.findAllWithVenueAndSchedules());
     }
 
     public List<AdminPerformanceResponse> getAllAdminPerformances() {
-        return performanceRepository.findAllWithVenueAndSchedules()
-                .stream()
-                .map(this::convertToAdminPerformanceResponse)
-                .toList();
+        return convertToAdminPerformanceResponses(performanceRepository.findAllWithVenueAndSchedules());
     }
 
     public List<PerformanceResponse> searchPerformances(String name, String venue, String status) {
@@ -71,19 +67,23 @@ public class PerformanceService {
             }
         }
 
-        return performanceRepository.searchPerformances(
+        return convertToPerformanceResponses(performanceRepository.searchPerformances(
                 name != null && !name.trim().isEmpty() ? name : null,
                 venue != null && !venue.trim().isEmpty() ? venue : null,
                 performanceStatus
-        ).stream().map(this::convertToPerformanceResponse).toList();
+        ));
     }
 
     public PerformanceSchedulesResponse getPerformanceSchedulesResponse(Long performanceId) {
         performanceRepository.findById(performanceId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PERFORMANCE_NOT_FOUND, "performanceId: " + performanceId));
 
-        return PerformanceSchedulesResponse.builder().schedules(performanceScheduleRepository.findByPerformance_PerformanceIdOrderByShowDatetimeAsc(performanceId).stream()
-                        .map(this::toScheduleResponse)
+        List<PerformanceSchedule> schedules = performanceScheduleRepository.findByPerformance_PerformanceIdOrderByShowDatetimeAsc(performanceId);
+        Map<Long, Map<String, Integer>> availability = seatAvailabilityStatsService.getAvailableByGrade(
+                schedules.stream().map(PerformanceSchedule::getScheduleId).toList());
+
+        return PerformanceSchedulesResponse.builder().schedules(schedules.stream()
+                        .map(schedule -> toScheduleResponse(schedule, availability))
                         .toList())
                 .build();
     }
@@ -126,6 +126,7 @@ public class PerformanceService {
         }
 
         Performance savedPerformance = performanceRepository.save(performance);
+        performanceSalesRepository.seed(savedPerformance.getPerformanceId());
 
         if (savedPerformance.getSchedules() != null && !savedPerformance.getSchedules().isEmpty()) {
             for (PerformanceSchedule schedule : savedPerformance.getSchedules()) {
@@ -210,31 +211,40 @@ public class PerformanceService {
         }
     }
 
-    private List<Booking> getBookingsByPerformanceId(Long performanceId) {
-        return bookingRepository.findAll().
-                stream().
-                filter(
-                        book -> book.getSchedule().
-                                getPerformance().
-                                getPerformanceId().
-                                equals(performanceId))
-                .toList();
-    }
-
-    private ScheduleResponse toScheduleResponse(PerformanceSchedule schedule) {
+    private ScheduleResponse toScheduleResponse(PerformanceSchedule schedule, Map<Long, Map<String, Integer>> availability) {
         return ScheduleResponse.builder()
                 .scheduleId(schedule.getScheduleId())
                 .showDatetime(schedule.getShowDatetime().toString())
                 .availableSeats(schedule.getAvailableSeats())
                 .totalSeats(schedule.getTotalSeats())
                 .status(schedule.getStatus().toString())
+                .availableByGrade(availability.getOrDefault(schedule.getScheduleId(), Map.of()))
                 .build();
     }
 
+    /**
+     * 여러 공연 변환 (전체 회차의 등급별 잔여 좌석을 한 번에 조회)
+     */
+    private List<PerformanceResponse> convertToPerformanceResponses(List<Performance> performances) {
+        Map<Long, Map<String, Integer>> availability = seatAvailabilityStatsService.getAvailableByGrade(
+                performances.stream()
+                        .filter(p -> p.getSchedules() != null)
+                        .flatMap(p -> p.getSchedules().stream())
+                        .map(PerformanceSchedule::getScheduleId)
+                        .toList());
+        return performances.stream()
+                .map(performance -> convertToPerformanceResponse(performance, availability))
+                .toList();
+    }
+
     private PerformanceResponse convertToPerformanceResponse(Performance performance) {
+        return convertToPerformanceResponses(List.of(performance)).getFirst();
+    }
+
+    private PerformanceResponse convertToPerformanceResponse(Performance performance, Map<Long, Map<String, Integer>> availability) {
         List<ScheduleResponse> scheduleResponses = performance.getSchedules() != null
                 ? performance.getSchedules().stream()
-                .map(this::toScheduleResponse)
+                .map(schedule -> toScheduleResponse(schedule, availability))
                 .toList()
                 : new ArrayList<>();
 
@@ -259,17 +269,38 @@ public class PerformanceService {
     }
 
     private AdminPerformanceResponse convertToAdminPerformanceResponse(Performance performance) {
-        PerformanceResponse performanceResponse = convertToPerformanceResponse(performance);
-        List<Booking> bookings = getBookingsByPerformanceId(performanceResponse.getPerformanceId());
-
-        int totalBookings = bookings.stream().mapToInt(Booking::getSeatCount).sum();
-        BigDecimal revenue = bookings.stream().map(Booking::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        return convertToAdminPerformanceResponses(List.of(performance)).getFirst();
+    }
 
-        return AdminPerformanceResponse.builder()
-                .performanceResponse(performanceResponse)
-                .totalBookings(totalBookings)
-                .revenue(revenue)
-                .build();
+    /**
+     * 관리자용 공연 변환 — 판매 요약(CONFIRMED 예매 수/좌석 수/매출)은 목록 전체에 대해 한 번만 조회
+     */
+    private List<AdminPerformanceResponse> convertToAdminPerformanceResponses(List<Performance> performances) {
+        Map<Long, SalesSummary> sales = loadSales(performances.stream().map(Performance::getPerformanceId).toList());
+        List<PerformanceResponse> responses = convertToPerformanceResponses(performances);
+
+        return responses.stream()
+                .map(response -> {
+                    SalesSummary summary = sales.getOrDefault(response.getPerformanceId(), SalesSummary.EMPTY);
+                    return AdminPerformanceResponse.builder()
+                            .performanceResponse(response)
+                            .totalBookings(summary.seatCount())
+                            .revenue(summary.revenue())
+                            .build();
+                })
+                .toList();
     }
 
+    /**
+     * 판매 요약 조회 — 요약 행이 없는 공연만 예매 집계(GROUP BY 한 번)로 채운 뒤 다시 조회
+     */
+    private Map<Long, SalesSummary> loadSales(List<Long> performanceIds) {
+        Map<Long, SalesSummary> sales = performanceSalesRepository.findByPerformanceIds(performanceIds);
+        List<Long> missing = performanceIds.stream().filter(id -> !sales.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            performanceSalesRepository.backfill(missing);
+            sales.putAll(performanceSalesRepository.findByPerformanceIds(missing));
+        }
+        return sales;
+    }
 }
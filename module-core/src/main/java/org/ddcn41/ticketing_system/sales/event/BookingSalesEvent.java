@@ -0,0 +1,21 @@
+package org.ddcn41.ticketing_system.sales.event;
+
+import java.math.BigDecimal;
+
+/**
+ * 예매 생성/취소 판매 이벤트 (커밋 후 판매 카운터에 반영)
+ */
+public record BookingSalesEvent(Long performanceId, Long scheduleId, Type type, int seats, BigDecimal amount) {
+
+    public enum Type {
+        CREATED, CANCELLED
+    }
+
+    public static BookingSalesEvent created(Long performanceId, Long scheduleId, int seats, BigDecimal amount) {
+        return new BookingSalesEvent(performanceId, scheduleId, Type.CREATED, seats, amount);
+    }
+
+    public static BookingSalesEvent cancelled(Long performanceId, Long scheduleId, int seats, BigDecimal amount) {
+        return new BookingSalesEvent(performanceId, scheduleId, Type.CANCELLED, seats, amount);
+    }
+}
@@ -0,0 +1,316 @@
+package org.ddcn41.ticketing_system.sales.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.dto.sales.SalesSnapshotResponse;
+import org.ddcn41.ticketing_system.sales.event.BookingSalesEvent;
+import org.ddcn41.ticketing_system.sales.service.SalesMetricsStore.Delta;
+import org.ddcn41.ticketing_system.sales.service.SalesMetricsStore.Totals;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 공연/회차별 실시간 판매 카운터
+ * - 예매 생성/취소 커밋 후 이벤트로 서버 내 LongAdder에 누적 (요청 스레드는 락 없이 더하기만 함)
+ * - flush-interval-ms마다 누적분을 비우면서 Redis에 합산 → 전체 서버 합계
+ * - 이 서버에서 판매가 발생한 공연은 Micrometer 게이지로 노출 (게이지 값은 flush 때 Redis에서 갱신한 스냅샷)
+ * - idle-expire-ms 동안 판매가 없는 대상은 누적분 항목과 게이지를 정리 (공연이 쌓여도 meter/Redis 조회가 늘지 않도록)
+ * - Redis 반영에 실패한 묶음은 누적분에 되돌리지 않고 그대로 보관했다가 같은 batchId로 재시도
+ *   (일부 반영 후 예외가 나도 두 번 더해지지 않음)
+ * - bookings 테이블은 조회하지 않음
+ */
+@Slf4j
+@Service
+public class SalesMetricsService {
+
+    static final String PERFORMANCE = "performance";
+    static final String SCHEDULE = "schedule";
+
+    private final SalesMetricsStore store;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long idleExpireMs;
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final Map<Long, SalesSnapshotResponse> gaugeSnapshots = new ConcurrentHashMap<>();
+    /** 게이지를 등록한 공연 → 등록한 게이지 (등록/해제는 이 맵으로 동기화) */
+    private final Map<Long, List<Meter>> performanceGauges = new ConcurrentHashMap<>();
+
+    /** Redis 반영에 실패해 재시도할 묶음 (flush 스레드만 접근) */
+    private PendingBatch pending;
+
+    public SalesMetricsService(SalesMetricsStore store,
+                               MeterRegistry meterRegistry,
+                               @Value("${sales.metrics.enabled:true}") boolean enabled,
+                               @Value("${sales.metrics.idle-expire-ms:1800000}") long idleExpireMs) {
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.idleExpireMs = idleExpireMs;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingSales(BookingSalesEvent event) {
+        if (!enabled || event.performanceId() == null) {
+            return;
+        }
+        long revenueMinor = toMinor(event.amount());
+        record(PERFORMANCE, event.performanceId(), event, revenueMinor);
+        if (event.scheduleId() != null) {
+            record(SCHEDULE, event.scheduleId(), event, revenueMinor);
+        }
+        if (!performanceGauges.containsKey(event.performanceId())) {
+            registerGauges(event.performanceId());
+        }
+    }
+
+    /**
+     * 서버 내 누적분을 Redis에 합산하고 게이지 스냅샷 갱신
+     * - 이전 주기에 실패한 묶음이 있으면 먼저 같은 batchId로 재시도 (성공할 때까지 새 누적분은 LongAdder에 계속 쌓임)
+     */
+    @Scheduled(fixedDelayString = "${sales.metrics.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (!enabled || counters.isEmpty()) {
+            return;
+        }
+        long now = Instant.now().getEpochSecond();
+        if (pending != null) {
+            if (!merge(pending)) {
+                return;
+            }
+            pending = null;
+        }
+
+        List<Delta> deltas = new ArrayList<>();
+        for (Counters c : counters.values()) {
+            Delta delta = c.drain();
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        }
+        if (!deltas.isEmpty()) {
+            PendingBatch batch = new PendingBatch(UUID.randomUUID().toString(), deltas, now);
+            if (!merge(batch)) {
+                pending = batch;
+                return;
+            }
+        }
+
+        expireIdle(System.currentTimeMillis() - idleExpireMs);
+
+        if (!performanceGauges.isEmpty()) {
+            try {
+                gaugeSnapshots.putAll(snapshots(PERFORMANCE, performanceGauges.keySet(), now));
+            } catch (Exception e) {
+                log.debug("판매 게이지 갱신 실패 - error: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean merge(PendingBatch batch) {
+        try {
+            store.merge(batch.batchId(), batch.deltas(), batch.epochSecond());
+            return true;
+        } catch (Exception e) {
+            log.warn("판매 카운터 Redis 반영 실패 - batch: {}, entries: {}, error: {}",
+                    batch.batchId(), batch.deltas().size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * cutoff 이후 판매가 없고 비어 있는 누적분 항목 제거, 공연 항목이 빠지면 그 공연의 게이지도 해제
+     * - 제거 표시(retired)를 먼저 세우고 비었는지 확인하므로, 동시에 더한 요청은 record에서 살아 있는 항목으로 옮김
+     */
+    private void expireIdle(long cutoff) {
+        for (String key : List.copyOf(counters.keySet())) {
+            Counters[] expired = new Counters[1];
+            counters.computeIfPresent(key, (k, c) -> {
+                if (c.lastRecordedAt >= cutoff) {
+                    return c;
+                }
+                c.retired = true;
+                if (!c.isEmpty()) {
+                    c.retired = false;
+                    return c;
+                }
+                expired[0] = c;
+                return null;
+            });
+            if (expired[0] != null && PERFORMANCE.equals(expired[0].scope)) {
+                unregisterGauges(expired[0].id);
+            }
+        }
+    }
+
+    public SalesSnapshotResponse getPerformanceSales(Long performanceId) {
+        return getSales(PERFORMANCE, List.of(performanceId)).getFirst();
+    }
+
+    public List<SalesSnapshotResponse> getPerformanceSales(Collection<Long> performanceIds) {
+        return getSales(PERFORMANCE, performanceIds);
+    }
+
+    public SalesSnapshotResponse getScheduleSales(Long scheduleId) {
+        return getSales(SCHEDULE, List.of(scheduleId)).getFirst();
+    }
+
+    private List<SalesSnapshotResponse> getSales(String scope, Collection<Long> ids) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        Map<Long, SalesSnapshotResponse> snapshots = snapshots(scope, distinct, Instant.now().getEpochSecond());
+        return distinct.stream().map(snapshots::get).toList();
+    }
+
+    private Map<Long, SalesSnapshotResponse> snapshots(String scope, Collection<Long> ids, long now) {
+        Map<Long, Totals> totals = store.read(scope, ids, now);
+        Map<Long, SalesSnapshotResponse> result = new HashMap<>();
+        totals.forEach((id, t) -> result.put(id, toSnapshot(scope, id, t)));
+        return result;
+    }
+
+    private SalesSnapshotResponse toSnapshot(String scope, Long id, Totals t) {
+        int window = store.rateWindowSeconds();
+        return SalesSnapshotResponse.builder()
+                .scope(scope)
+                .id(id)
+                .bookings(t.bookings())
+                .seatsSold(t.seats() - t.cancelledSeats())
+                .revenue(BigDecimal.valueOf(t.revenueMinor(), 2))
+                .cancellations(t.cancellations())
+                .cancelledSeats(t.cancelledSeats())
+                .cancellationRate(t.bookings() == 0 ? 0.0 : (double) t.cancellations() / t.bookings())
+                .bookingsPerSecond((double) t.recentBookings() / window)
+                .rateWindowSeconds(window)
+                .build();
+    }
+
+    private void record(String scope, Long id, BookingSalesEvent event, long revenueMinor) {
+        String key = key(scope, id);
+        Counters c = counters.computeIfAbsent(key, k -> new Counters(scope, id));
+        c.add(event, revenueMinor);
+        if (c.retired) {
+            // flush가 방금 정리한 항목에 더했으면 살아 있는 항목으로 옮김
+            Delta moved = c.drain();
+            if (moved != null) {
+                counters.computeIfAbsent(key, k -> new Counters(scope, id)).restore(moved);
+            }
+        }
+    }
+
+    private void registerGauges(Long performanceId) {
+        performanceGauges.computeIfAbsent(performanceId, id -> {
+            String tag = String.valueOf(id);
+            return List.of(
+                    gauge("sales.bookings", tag, id, s -> s.getBookings()),
+                    gauge("sales.seats.sold", tag, id, s -> s.getSeatsSold()),
+                    gauge("sales.revenue", tag, id, s -> s.getRevenue().doubleValue()),
+                    gauge("sales.cancellation.rate", tag, id, SalesSnapshotResponse::getCancellationRate),
+                    gauge("sales.bookings.per_second", tag, id, SalesSnapshotResponse::getBookingsPerSecond));
+        });
+    }
+
+    private void unregisterGauges(Long performanceId) {
+        performanceGauges.computeIfPresent(performanceId, (id, gauges) -> {
+            gauges.forEach(meterRegistry::remove);
+            gaugeSnapshots.remove(id);
+            return null;
+        });
+    }
+
+    private Meter gauge(String name, String tag, Long performanceId, ToDoubleFunction<SalesSnapshotResponse> value) {
+        return Gauge.builder(name, gaugeSnapshots, snapshots -> {
+                    SalesSnapshotResponse snapshot = snapshots.get(performanceId);
+                    return snapshot == null ? 0.0 : value.applyAsDouble(snapshot);
+                })
+                .tag("performanceId", tag)
+                .register(meterRegistry);
+    }
+
+    private static long toMinor(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static String key(String scope, Long id) {
+        return scope + ":" + id;
+    }
+
+    /**
+     * Redis 반영 대기 묶음 (실패 시 같은 batchId로 재시도)
+     */
+    private record PendingBatch(String batchId, List<Delta> deltas, long epochSecond) {
+    }
+
+    /**
+     * 대상별 서버 내 누적분 (flush 때 sumThenReset으로 비움)
+     */
+    private static final class Counters {
+        private final String scope;
+        private final Long id;
+        private final LongAdder bookings = new LongAdder();
+        private final LongAdder seats = new LongAdder();
+        private final LongAdder cancellations = new LongAdder();
+        private final LongAdder cancelledSeats = new LongAdder();
+        private final LongAdder revenueMinor = new LongAdder();
+        private volatile long lastRecordedAt = System.currentTimeMillis();
+        /** 맵에서 제거됨 (이후 더해진 값은 record가 새 항목으로 옮김) */
+        private volatile boolean retired;
+
+        private Counters(String scope, Long id) {
+            this.scope = scope;
+            this.id = id;
+        }
+
+        void add(BookingSalesEvent event, long revenueMinorAmount) {
+            lastRecordedAt = System.currentTimeMillis();
+            if (event.type() == BookingSalesEvent.Type.CREATED) {
+                bookings.increment();
+                seats.add(event.seats());
+                revenueMinor.add(revenueMinorAmount);
+            } else {
+                cancellations.increment();
+                cancelledSeats.add(event.seats());
+                revenueMinor.add(-revenueMinorAmount);
+            }
+        }
+
+        boolean isEmpty() {
+            return bookings.sum() == 0 && seats.sum() == 0 && cancellations.sum() == 0
+                    && cancelledSeats.sum() == 0 && revenueMinor.sum() == 0;
+        }
+
+        Delta drain() {
+            Delta delta = new Delta(scope, id, bookings.sumThenReset(), seats.sumThenReset(),
+                    cancellations.sumThenReset(), cancelledSeats.sumThenReset(), revenueMinor.sumThenReset());
+            boolean empty = delta.bookings() == 0 && delta.seats() == 0 && delta.cancellations() == 0
+                    && delta.cancelledSeats() == 0 && delta.revenueMinor() == 0;
+            return empty ? null : delta;
+        }
+
+        void restore(Delta delta) {
+            lastRecordedAt = System.currentTimeMillis();
+            bookings.add(delta.bookings());
+            seats.add(delta.seats());
+            cancellations.add(delta.cancellations());
+            cancelledSeats.add(delta.cancelledSeats());
+            revenueMinor.add(delta.revenueMinor());
+        }
+    }
+}
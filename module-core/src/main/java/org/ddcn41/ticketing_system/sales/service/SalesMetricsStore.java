@@ -0,0 +1,176 @@
+package org.ddcn41.ticketing_system.sales.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매 카운터 Redis 저장소 (전체 서버 합산)
+ * - 각 서버가 자기 증분만 HINCRBY로 더하므로 합계는 서버 수와 무관하게 정확함
+ * - 초당 예매 수는 초 단위 버킷 키에 누적하고 짧은 TTL로 자동 정리
+ *
+ * 키 구조
+ * - sales:{scope}:{id}                  hash (bookings, seats, cancellations, cancelled_seats, revenue_minor)
+ *   bookings/seats는 누적 예매(취소 포함), revenue_minor는 취소분을 뺀 순매출
+ * - sales:rate:{scope}:{id}:{epochSec}  초당 예매 건수
+ * - sales:batch:{batchId}               반영한 flush 묶음 표시 (같은 묶음 재시도가 두 번 더해지지 않도록)
+ */
+@Component
+public class SalesMetricsStore {
+
+    static final String BOOKINGS = "bookings";
+    static final String SEATS = "seats";
+    static final String CANCELLATIONS = "cancellations";
+    static final String CANCELLED_SEATS = "cancelled_seats";
+    /** 매출 (원 단위 소수 둘째 자리까지, 100배 정수) */
+    static final String REVENUE_MINOR = "revenue_minor";
+
+    /** 반영 표시 보관 시간 — 실패한 묶음은 다음 flush 주기에 재시도하므로 넉넉히 */
+    private static final long BATCH_MARKER_TTL_SECONDS = 3600;
+
+    /**
+     * 묶음 전체를 한 번에 반영 (스크립트는 원자적으로 실행되므로 일부만 반영되는 경우가 없음)
+     * - KEYS[1] 묶음 표시, 이후 대상마다 (합계 키, 초 버킷 키)
+     * - ARGV[1] 표시 TTL, ARGV[2] 초 버킷 TTL, 이후 대상마다 증분 5개
+     *   (bookings, seats, cancellations, cancelled_seats, revenue_minor)
+     * - 표시가 이미 있으면 (응답만 유실된 재시도) 아무것도 더하지 않음
+     */
+    private static final RedisScript<Long> MERGE_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then
+              return 0
+            end
+            local fields = {'bookings', 'seats', 'cancellations', 'cancelled_seats', 'revenue_minor'}
+            local arg = 3
+            for k = 2, #KEYS, 2 do
+              for f = 1, 5 do
+                local value = tonumber(ARGV[arg + f - 1])
+                if value ~= 0 then
+                  redis.call('HINCRBY', KEYS[k], fields[f], value)
+                end
+              end
+              local booked = tonumber(ARGV[arg])
+              if booked ~= 0 then
+                redis.call('INCRBY', KEYS[k + 1], booked)
+                redis.call('EXPIRE', KEYS[k + 1], ARGV[2])
+              end
+              arg = arg + 5
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int rateWindowSeconds;
+
+    public SalesMetricsStore(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                             @Value("${sales.metrics.rate-window-seconds:60}") int rateWindowSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.rateWindowSeconds = Math.max(1, rateWindowSeconds);
+    }
+
+    public int rateWindowSeconds() {
+        return rateWindowSeconds;
+    }
+
+    /**
+     * 증분 반영 (스크립트 1회, 묶음 단위로 한 번만)
+     * - 응답을 못 받아 예외가 나도 같은 batchId로 다시 호출하면 중복 반영되지 않음
+     */
+    public void merge(String batchId, List<Delta> deltas, long epochSecond) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(1 + deltas.size() * 2);
+        List<String> args = new ArrayList<>(2 + deltas.size() * 5);
+        keys.add("sales:batch:" + batchId);
+        args.add(String.valueOf(BATCH_MARKER_TTL_SECONDS));
+        args.add(String.valueOf(rateWindowSeconds * 2L));
+        for (Delta delta : deltas) {
+            keys.add(totalsKey(delta.scope(), delta.id()));
+            keys.add(rateKey(delta.scope(), delta.id(), epochSecond));
+            args.add(String.valueOf(delta.bookings()));
+            args.add(String.valueOf(delta.seats()));
+            args.add(String.valueOf(delta.cancellations()));
+            args.add(String.valueOf(delta.cancelledSeats()));
+            args.add(String.valueOf(delta.revenueMinor()));
+        }
+        redisTemplate.execute(MERGE_SCRIPT, keys, args.toArray());
+    }
+
+    /**
+     * 여러 대상의 합계와 최근 구간 예매 건수 조회 (파이프라인 1회)
+     */
+    public Map<Long, Totals> read(String scope, Collection<Long> ids, long nowEpochSecond) {
+        List<Long> idList = List.copyOf(ids);
+        Map<Long, Totals> result = new HashMap<>();
+        if (idList.isEmpty()) {
+            return result;
+        }
+
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long id : idList) {
+                connection.hashCommands().hGetAll(bytes(totalsKey(scope, id)));
+                byte[][] rateKeys = new byte[rateWindowSeconds][];
+                for (int i = 0; i < rateWindowSeconds; i++) {
+                    rateKeys[i] = bytes(rateKey(scope, id, nowEpochSecond - i));
+                }
+                connection.stringCommands().mGet(rateKeys);
+            }
+            return null;
+        });
+
+        for (int i = 0; i < idList.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> hash = (Map<String, String>) replies.get(i * 2);
+            @SuppressWarnings("unchecked")
+            List<String> buckets = (List<String>) replies.get(i * 2 + 1);
+
+            long recent = 0;
+            if (buckets != null) {
+                for (String bucket : buckets) {
+                    recent += bucket == null ? 0 : Long.parseLong(bucket);
+                }
+            }
+            Map<String, String> values = hash == null ? Map.of() : hash;
+            result.put(idList.get(i), new Totals(
+                    number(values, BOOKINGS), number(values, SEATS), number(values, CANCELLATIONS),
+                    number(values, CANCELLED_SEATS), number(values, REVENUE_MINOR), recent));
+        }
+        return result;
+    }
+
+    private static long number(Map<String, String> hash, String field) {
+        String value = hash.get(field);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    private static String totalsKey(String scope, Long id) {
+        return "sales:" + scope + ":" + id;
+    }
+
+    private static String rateKey(String scope, Long id, long epochSecond) {
+        return "sales:rate:" + scope + ":" + id + ":" + epochSecond;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public record Delta(String scope, Long id, long bookings, long seats, long cancellations,
+                        long cancelledSeats, long revenueMinor) {
+    }
+
+    public record Totals(long bookings, long seats, long cancellations, long cancelledSeats,
+                         long revenueMinor, long recentBookings) {
+    }
+}
@@ -0,0 +1,331 @@
+package org.ddcn41.ticketing_system.seat.actor;
+
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단일 스케줄의 좌석 상태 (단일 writer 전용)
+ * - 파티션 스레드 하나에서만 접근하므로 동기화하지 않음
+ * - status: 메모리상 현재 상태, persisted: DB에 반영된 상태, dirty: 두 값이 다른 좌석
+ * - 락 보유자(holder)가 없는 LOCKED 좌석은 기존 락 경로로 잠긴 좌석이며 외부 이벤트로만 변경됨
+ * - 보유자/만료 시각이 바뀐 좌석은 holdDirty로 표시 → 다시 적재할 때 restoreHolds로 복원 (SeatActorService가 Redis에 보관)
+ */
+public class ScheduleSeatActor {
+
+    private final Long scheduleId;
+    private final Map<Long, Integer> index;
+    private final long[] seatIds;
+    private final String[] zones;
+    private final String[] grades;
+    private final SeatStatus[] status;
+    private final SeatStatus[] persisted;
+    private final String[] holderUsers;
+    private final String[] holderSessions;
+    private final long[] expiresAt;
+    private final BitSet dirty;
+    private final BitSet holdDirty;
+
+    public ScheduleSeatActor(Long scheduleId, List<SeatState> seats) {
+        int size = seats.size();
+        this.scheduleId = scheduleId;
+        this.index = new HashMap<>(size * 2);
+        this.seatIds = new long[size];
+        this.zones = new String[size];
+        this.grades = new String[size];
+        this.status = new SeatStatus[size];
+        this.persisted = new SeatStatus[size];
+        this.holderUsers = new String[size];
+        this.holderSessions = new String[size];
+        this.expiresAt = new long[size];
+        this.dirty = new BitSet(size);
+        this.holdDirty = new BitSet(size);
+
+        for (int i = 0; i < size; i++) {
+            SeatState seat = seats.get(i);
+            index.put(seat.seatId(), i);
+            seatIds[i] = seat.seatId();
+            zones[i] = seat.zone();
+            grades[i] = seat.grade();
+            status[i] = seat.status();
+            persisted[i] = seat.status();
+        }
+    }
+
+    public Long scheduleId() {
+        return scheduleId;
+    }
+
+    /**
+     * 적재 직후 보관된 락 보유자 복원
+     * - 보유자 기록이 없는 LOCKED 좌석(기록 전에 파드가 종료된 락 등)은 orphanUntil에 만료되도록 함
+     * - LOCKED가 아닌 좌석의 기록은 다음 flush 때 지워지도록 표시
+     */
+    public void restoreHolds(Map<Long, Hold> holds, long orphanUntil) {
+        holds.forEach((seatId, hold) -> {
+            Integer i = index.get(seatId);
+            if (i != null && status[i] != SeatStatus.LOCKED) {
+                holdDirty.set(i);
+            }
+        });
+        for (int i = 0; i < seatIds.length; i++) {
+            if (status[i] != SeatStatus.LOCKED) {
+                continue;
+            }
+            Hold hold = holds.get(seatIds[i]);
+            if (hold == null) {
+                expiresAt[i] = orphanUntil;
+                continue;
+            }
+            holderUsers[i] = hold.userId();
+            holderSessions[i] = hold.sessionId();
+            expiresAt[i] = hold.expiresAt();
+        }
+    }
+
+    /**
+     * 좌석 락 (전부 성공 또는 전부 실패)
+     *
+     * @return 실패 사유, 성공 시 null
+     */
+    public String lock(List<Long> ids, String userId, String sessionId, long now, long until) {
+        int[] positions = resolve(ids);
+        if (positions == null) {
+            return "일부 좌석을 찾을 수 없습니다";
+        }
+        for (int i : positions) {
+            if (status[i] == SeatStatus.BOOKED) {
+                return "이미 예약된 좌석이 포함되어 있습니다: " + seatIds[i];
+            }
+            if (status[i] == SeatStatus.LOCKED && !isHeldBy(i, userId, sessionId, now)) {
+                return "다른 사용자가 선택 중인 좌석입니다: " + seatIds[i];
+            }
+        }
+        for (int i : positions) {
+            transition(i, SeatStatus.LOCKED);
+            holderUsers[i] = userId;
+            holderSessions[i] = sessionId;
+            expiresAt[i] = until;
+            holdDirty.set(i);
+        }
+        return null;
+    }
+
+    /**
+     * 좌석 락 해제 (본인 또는 관리자)
+     *
+     * @return 요청한 좌석을 모두 해제했으면 true
+     */
+    public boolean release(List<Long> ids, String userId, String sessionId, boolean admin, long now) {
+        boolean allReleased = true;
+        for (Long seatId : ids) {
+            Integer i = index.get(seatId);
+            if (i == null || status[i] != SeatStatus.LOCKED || holderUsers[i] == null) {
+                continue;
+            }
+            if (admin || isHeldBy(i, userId, sessionId, now)) {
+                transition(i, SeatStatus.AVAILABLE);
+                clearHolder(i);
+            } else {
+                allReleased = false;
+            }
+        }
+        return allReleased;
+    }
+
+    /**
+     * 본인이 락한 좌석을 예약 확정 (하나라도 락이 없으면 전체 실패)
+     */
+    public boolean confirm(List<Long> ids, String userId, long now) {
+        int[] positions = resolve(ids);
+        if (positions == null) {
+            return false;
+        }
+        for (int i : positions) {
+            if (status[i] != SeatStatus.LOCKED || !userId.equals(holderUsers[i]) || expiresAt[i] < now) {
+                return false;
+            }
+        }
+        for (int i : positions) {
+            transition(i, SeatStatus.BOOKED);
+            clearHolder(i);
+        }
+        return true;
+    }
+
+    /**
+     * 다른 경로의 예매가 DB에 직접 BOOKED로 반영할 좌석을 메모리에서 먼저 선점 (전부 가용일 때만)
+     * - DB 반영 전 변경(dirty)이 남은 좌석은 거절하므로 호출 전에 flush 필요
+     */
+    public boolean reserveExternal(List<Long> ids) {
+        int[] positions = resolve(ids);
+        if (positions == null) {
+            return false;
+        }
+        for (int i : positions) {
+            if (status[i] != SeatStatus.AVAILABLE || dirty.get(i)) {
+                return false;
+            }
+        }
+        for (int i : positions) {
+            status[i] = SeatStatus.BOOKED;
+            persisted[i] = SeatStatus.BOOKED;
+        }
+        return true;
+    }
+
+    /**
+     * 만료된 락 해제 (보유자 기록 없이 적재된 LOCKED 좌석 포함)
+     */
+    public void expire(long now) {
+        for (int i = 0; i < seatIds.length; i++) {
+            if (status[i] == SeatStatus.LOCKED && expiresAt[i] != 0L && expiresAt[i] < now) {
+                transition(i, SeatStatus.AVAILABLE);
+                clearHolder(i);
+            }
+        }
+    }
+
+    /**
+     * 다른 경로(기존 락 API, 예매, 취소 등)로 DB에 반영된 변경을 적용
+     * - actor가 보유한 락이 걸린 좌석은 무시
+     */
+    public void applyExternal(Long seatId, SeatStatus newStatus) {
+        Integer i = index.get(seatId);
+        if (i == null || holderUsers[i] != null || dirty.get(i)) {
+            return;
+        }
+        status[i] = newStatus;
+        persisted[i] = newStatus;
+        if (newStatus != SeatStatus.LOCKED) {
+            expiresAt[i] = 0L;
+        }
+    }
+
+    /**
+     * DB 반영 대상 전이 목록을 꺼내고 반영된 것으로 표시
+     */
+    public List<SeatTransition> drainDirty() {
+        List<SeatTransition> transitions = new ArrayList<>(dirty.cardinality());
+        for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+            transitions.add(new SeatTransition(scheduleId, seatIds[i], zones[i], grades[i], persisted[i], status[i]));
+            persisted[i] = status[i];
+        }
+        dirty.clear();
+        return transitions;
+    }
+
+    /**
+     * 보관 대상 락 보유자 변경분을 꺼냄 (값이 null이면 보유자 해제)
+     */
+    public Map<Long, Hold> drainHolds() {
+        Map<Long, Hold> holds = new LinkedHashMap<>();
+        for (int i = holdDirty.nextSetBit(0); i >= 0; i = holdDirty.nextSetBit(i + 1)) {
+            holds.put(seatIds[i], holderUsers[i] == null ? null
+                    : new Hold(holderUsers[i], holderSessions[i], expiresAt[i]));
+        }
+        holdDirty.clear();
+        return holds;
+    }
+
+    /**
+     * 보유자 보관 실패 시 다음 flush에서 다시 보관하도록 표시
+     */
+    public void restoreHoldsDirty(Iterable<Long> ids) {
+        for (Long seatId : ids) {
+            Integer i = index.get(seatId);
+            if (i != null) {
+                holdDirty.set(i);
+            }
+        }
+    }
+
+    /**
+     * DB 반영 실패 시 전이를 다시 dirty로 되돌림
+     */
+    public void restoreDirty(List<SeatTransition> transitions) {
+        for (SeatTransition transition : transitions) {
+            Integer i = index.get(transition.seatId());
+            if (i != null) {
+                persisted[i] = transition.from();
+                dirty.set(i, persisted[i] != status[i]);
+            }
+        }
+    }
+
+    /**
+     * DB 반영 시 충돌한 좌석을 실제 DB 상태로 맞춤 (보유 중이던 락은 무효화)
+     */
+    public void resolveConflict(Long seatId, SeatStatus actualStatus) {
+        Integer i = index.get(seatId);
+        if (i == null) {
+            return;
+        }
+        status[i] = actualStatus;
+        persisted[i] = actualStatus;
+        dirty.clear(i);
+        clearHolder(i);
+    }
+
+    public boolean hasStatus(List<Long> ids, SeatStatus expected) {
+        int[] positions = resolve(ids);
+        if (positions == null) {
+            return false;
+        }
+        for (int i : positions) {
+            if (status[i] != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean hasDirty() {
+        return !dirty.isEmpty() || !holdDirty.isEmpty();
+    }
+
+    private void transition(int i, SeatStatus to) {
+        status[i] = to;
+        dirty.set(i, persisted[i] != to);
+    }
+
+    private boolean isHeldBy(int i, String userId, String sessionId, long now) {
+        if (holderUsers[i] == null || expiresAt[i] < now) {
+            return false;
+        }
+        return holderUsers[i].equals(userId) || (sessionId != null && sessionId.equals(holderSessions[i]));
+    }
+
+    private void clearHolder(int i) {
+        if (holderUsers[i] != null) {
+            holdDirty.set(i);
+        }
+        holderUsers[i] = null;
+        holderSessions[i] = null;
+        expiresAt[i] = 0L;
+    }
+
+    private int[] resolve(List<Long> ids) {
+        int[] positions = new int[ids.size()];
+        for (int k = 0; k < ids.size(); k++) {
+            Integer i = index.get(ids.get(k));
+            if (i == null) {
+                return null;
+            }
+            positions[k] = i;
+        }
+        return positions;
+    }
+
+    public record SeatState(Long seatId, String zone, String grade, SeatStatus status) {
+    }
+
+    public record Hold(String userId, String sessionId, long expiresAt) {
+    }
+}
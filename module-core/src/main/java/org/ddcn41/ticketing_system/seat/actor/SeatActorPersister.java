@@ -0,0 +1,99 @@
+package org.ddcn41.ticketing_system.seat.actor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 actor의 변경분을 DB에 일괄 반영
+ * - (from, to) 조합별 조건부 bulk UPDATE 한 번씩 + 가용 좌석 카운터 한 번 갱신
+ * - from 상태가 아닌 좌석(다른 경로로 먼저 변경된 좌석)은 충돌로 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatActorPersister {
+
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return 충돌한 좌석의 실제 DB 상태 (seatId -> status)
+     */
+    @Transactional
+    public Map<Long, SeatStatus> persist(Long scheduleId, List<SeatTransition> transitions) {
+        Map<String, List<SeatTransition>> groups = new LinkedHashMap<>();
+        for (SeatTransition transition : transitions) {
+            groups.computeIfAbsent(transition.from() + ">" + transition.to(), k -> new ArrayList<>()).add(transition);
+        }
+
+        List<SeatTransition> applied = new ArrayList<>(transitions.size());
+        Map<Long, SeatStatus> conflicts = new HashMap<>();
+        for (List<SeatTransition> group : groups.values()) {
+            SeatStatus from = group.getFirst().from();
+            SeatStatus to = group.getFirst().to();
+            List<Long> seatIds = group.stream().map(SeatTransition::seatId).toList();
+
+            int affected = scheduleSeatRepository.updateStatusIfCurrent(seatIds, from, to);
+            if (affected == seatIds.size()) {
+                applied.addAll(group);
+                continue;
+            }
+
+            // 일부 충돌: 실제 상태를 조회하여 반영된 좌석과 충돌 좌석을 구분
+            Map<Long, SeatStatus> actual = new HashMap<>();
+            for (ScheduleSeat seat : scheduleSeatRepository.findAllById(seatIds)) {
+                actual.put(seat.getSeatId(), seat.getStatus());
+            }
+            for (SeatTransition transition : group) {
+                SeatStatus current = actual.get(transition.seatId());
+                if (current == to) {
+                    applied.add(transition);
+                } else if (current != null) {
+                    conflicts.put(transition.seatId(), current);
+                }
+            }
+        }
+
+        updateAvailableSeats(scheduleId, applied);
+        SeatStatusChangedEvent.groupBySchedule(applied).forEach(eventPublisher::publishEvent);
+        return conflicts;
+    }
+
+    private void updateAvailableSeats(Long scheduleId, List<SeatTransition> applied) {
+        int delta = 0;
+        for (SeatTransition transition : applied) {
+            if (transition.from() == SeatStatus.AVAILABLE) {
+                delta--;
+            } else if (transition.to() == SeatStatus.AVAILABLE) {
+                delta++;
+            }
+        }
+        if (delta == 0) {
+            return;
+        }
+
+        int affected = delta > 0
+                ? scheduleRepository.incrementAvailableSeats(scheduleId, delta)
+                : scheduleRepository.decrementAvailableSeats(scheduleId, -delta);
+        if (affected == 0) {
+            log.warn("가용 좌석 카운터 범위 초과 - scheduleId: {}, delta: {}", scheduleId, delta);
+        }
+        scheduleRepository.refreshScheduleStatus(scheduleId);
+    }
+}
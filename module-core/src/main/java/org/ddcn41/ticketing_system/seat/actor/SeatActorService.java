@@ -0,0 +1,417 @@
+package org.ddcn41.ticketing_system.seat.actor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.seat.dto.SeatStatusChange;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatStreamFrame;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 스케줄 전용 단일 writer 좌석 처리 (seat.actor.enabled=true 이고 seat.actor.schedule-ids에 포함된 스케줄)
+ * - scheduleId 기준으로 고정된 단일 스레드 파티션에서만 좌석 상태를 변경하므로 낙관적 락 충돌/Redis 락이 필요 없음
+ * - 락/해제는 메모리에 즉시 반영 후 flush 주기마다 일괄 DB 반영, 예약 확정은 응답 전에 DB 반영
+ * - 멀티 파드 환경에서는 Redis 리스(seat_actor_owner:{scheduleId})를 가진 파드만 처리하고 나머지는 거절
+ * - 락 보유자/만료 시각은 flush 때 Redis 해시(seat_actor_holds:{scheduleId})에 함께 보관
+ *   → 리스 이전/리셋/재시작으로 다시 적재해도 보유자가 확정·해제할 수 있고 만료도 그대로 동작
+ */
+@Slf4j
+@Service
+public class SeatActorService implements MessageListener {
+
+    private static final String OWNER_KEY_PREFIX = "seat_actor_owner:";
+    private static final String HOLDS_KEY_PREFIX = "seat_actor_holds:";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final SeatActorPersister persister;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final boolean enabled;
+    private final Set<Long> scheduleIds;
+    private final long lockDurationMs;
+    private final long leaseMs;
+    private final long timeoutMs;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final ThreadPoolExecutor[] partitions;
+    private final Map<Long, ScheduleSeatActor> actors = new ConcurrentHashMap<>();
+
+    public SeatActorService(ScheduleSeatRepository scheduleSeatRepository,
+                            SeatActorPersister persister,
+                            @Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                            @Value("${seat.actor.enabled:false}") boolean enabled,
+                            @Value("${seat.actor.schedule-ids:}") Set<Long> scheduleIds,
+                            @Value("${seat.actor.partitions:4}") int partitionCount,
+                            @Value("${seat.actor.queue-capacity:10000}") int queueCapacity,
+                            @Value("${seat.actor.lock-duration-seconds:60}") long lockDurationSeconds,
+                            @Value("${seat.actor.lease-ms:10000}") long leaseMs,
+                            @Value("${seat.actor.timeout-ms:3000}") long timeoutMs) {
+        this.scheduleSeatRepository = scheduleSeatRepository;
+        this.persister = persister;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.scheduleIds = Set.copyOf(scheduleIds);
+        this.lockDurationMs = TimeUnit.SECONDS.toMillis(lockDurationSeconds);
+        this.leaseMs = leaseMs;
+        this.timeoutMs = timeoutMs;
+
+        this.partitions = new ThreadPoolExecutor[enabled ? partitionCount : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            String threadName = "seat-actor-" + i;
+            partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity), r -> new Thread(r, threadName));
+        }
+    }
+
+    /**
+     * 해당 스케줄이 단일 writer 모드로 처리되는지 여부
+     */
+    public boolean isManaged(Long scheduleId) {
+        return enabled && scheduleId != null && scheduleIds.contains(scheduleId);
+    }
+
+    public SeatLockResponse lock(Long scheduleId, List<Long> seatIds, String userId, String sessionId) {
+        long until = System.currentTimeMillis() + lockDurationMs;
+        String failure = execute(scheduleId, actor ->
+                actor.lock(seatIds, userId, sessionId, System.currentTimeMillis(), until));
+        if (failure != null) {
+            return SeatLockResponse.failure(failure);
+        }
+        return SeatLockResponse.success("좌석 락 성공",
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(until), ZoneId.systemDefault()));
+    }
+
+    public boolean release(Long scheduleId, List<Long> seatIds, String userId, String sessionId, boolean admin) {
+        return execute(scheduleId, actor ->
+                actor.release(seatIds, userId, sessionId, admin, System.currentTimeMillis()));
+    }
+
+    /**
+     * 예약 확정은 유실되면 안 되므로 응답 전에 DB 반영까지 완료
+     */
+    public boolean confirm(Long scheduleId, List<Long> seatIds, String userId) {
+        return execute(scheduleId, actor -> {
+            if (!actor.confirm(seatIds, userId, System.currentTimeMillis())) {
+                return false;
+            }
+            flush(actor);
+            // 다른 경로로 먼저 변경되어 충돌한 좌석이 있으면 확정 실패
+            return actor.hasStatus(seatIds, SeatStatus.BOOKED);
+        });
+    }
+
+    /**
+     * 일반 예매 경로(조건부 UPDATE로 DB에 직접 BOOKED 반영) 전에 actor 메모리에서 좌석을 선점
+     * - 아직 DB에 반영되지 않은 actor 락도 보이도록 먼저 flush 후 확인
+     * - 호출 트랜잭션이 롤백되면 선점을 되돌림 (커밋되면 DB 상태와 같으므로 그대로 둠)
+     *
+     * @return 요청 좌석이 모두 가용 상태여서 선점했으면 true
+     */
+    public boolean reserveForBooking(Long scheduleId, List<Long> seatIds) {
+        boolean reserved = execute(scheduleId, actor -> {
+            flush(actor);
+            return actor.reserveExternal(seatIds);
+        });
+        if (reserved && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        revertReservation(scheduleId, seatIds);
+                    }
+                }
+            });
+        }
+        return reserved;
+    }
+
+    /**
+     * 만료 락 정리 + 변경분 일괄 DB 반영
+     */
+    @Scheduled(fixedDelayString = "${seat.actor.flush-interval-ms:100}")
+    public void flushAll() {
+        for (ScheduleSeatActor actor : actors.values()) {
+            submit(actor.scheduleId(), () -> {
+                actor.expire(System.currentTimeMillis());
+                flush(actor);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 보유 중인 리스 갱신, 잃어버린 스케줄은 남은 변경분을 반영한 뒤 메모리 상태 폐기
+     */
+    @Scheduled(fixedDelayString = "${seat.actor.lease-renew-interval-ms:3000}")
+    public void renewLeases() {
+        for (Long scheduleId : List.copyOf(actors.keySet())) {
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(OWNER_KEY_PREFIX + scheduleId),
+                        instanceId, String.valueOf(leaseMs));
+                if (renewed == null || renewed == 0L) {
+                    log.warn("좌석 actor 리스 상실 - scheduleId: {}", scheduleId);
+                    submit(scheduleId, () -> {
+                        ScheduleSeatActor actor = actors.remove(scheduleId);
+                        if (actor != null) {
+                            flush(actor);
+                        }
+                        return null;
+                    });
+                }
+            } catch (Exception e) {
+                log.warn("좌석 actor 리스 갱신 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 다른 경로로 DB에 반영된 좌석 변경을 actor 상태에 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            SeatStreamFrame frame = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), SeatStreamFrame.class);
+            Long scheduleId = frame.getScheduleId();
+            if (!actors.containsKey(scheduleId)) {
+                return;
+            }
+            if (frame.isReset()) {
+                // 좌석 구성이 바뀌었으므로 다음 요청 시 다시 적재
+                submit(scheduleId, () -> {
+                    ScheduleSeatActor actor = actors.get(scheduleId);
+                    if (actor != null) {
+                        flush(actor);
+                        actors.remove(scheduleId);
+                    }
+                    return null;
+                });
+                return;
+            }
+            List<SeatStatusChange> changes = frame.getChanges() == null ? List.of() : frame.getChanges();
+            submit(scheduleId, () -> {
+                ScheduleSeatActor actor = actors.get(scheduleId);
+                if (actor != null) {
+                    changes.forEach(c -> actor.applyExternal(c.getSeatId(), SeatStatus.valueOf(c.getStatus())));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("좌석 actor 외부 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Long scheduleId : List.copyOf(actors.keySet())) {
+            try {
+                submit(scheduleId, () -> {
+                    ScheduleSeatActor actor = actors.remove(scheduleId);
+                    if (actor != null) {
+                        flush(actor);
+                    }
+                    return null;
+                }).get(timeoutMs, TimeUnit.MILLISECONDS);
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(OWNER_KEY_PREFIX + scheduleId), instanceId);
+            } catch (Exception e) {
+                log.warn("좌석 actor 종료 처리 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+            }
+        }
+        for (ThreadPoolExecutor partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private void revertReservation(Long scheduleId, List<Long> seatIds) {
+        try {
+            submit(scheduleId, () -> {
+                ScheduleSeatActor actor = actors.get(scheduleId);
+                if (actor != null) {
+                    seatIds.forEach(seatId -> actor.applyExternal(seatId, SeatStatus.AVAILABLE));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 되돌리지 못한 좌석은 메모리에서 BOOKED로 남으므로 다음 요청 때 다시 적재
+            log.warn("좌석 actor 선점 해제 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+            actors.remove(scheduleId);
+        }
+    }
+
+    private <T> T execute(Long scheduleId, Function<ScheduleSeatActor, T> operation) {
+        ensureOwnership(scheduleId);
+        Future<T> future = submit(scheduleId, () -> operation.apply(actors.computeIfAbsent(scheduleId, this::load)));
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SEAT_LOCK_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException be) {
+                throw be;
+            }
+            log.error("좌석 actor 처리 실패 - scheduleId: {}", scheduleId, e.getCause());
+            throw new BusinessException(ErrorCode.SEAT_LOCK_FAILED);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new BusinessException(ErrorCode.SEAT_LOCK_FAILED, "좌석 처리 대기 시간 초과");
+        }
+    }
+
+    private <T> Future<T> submit(Long scheduleId, Callable<T> task) {
+        try {
+            return partitions[Math.floorMod(scheduleId.hashCode(), partitions.length)].submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(ErrorCode.SEAT_LOCK_FAILED, "좌석 처리 요청이 많습니다. 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    private void ensureOwnership(Long scheduleId) {
+        if (actors.containsKey(scheduleId)) {
+            return;
+        }
+        String key = OWNER_KEY_PREFIX + scheduleId;
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, instanceId, leaseMs, TimeUnit.MILLISECONDS);
+        if (Boolean.TRUE.equals(acquired) || instanceId.equals(redisTemplate.opsForValue().get(key))) {
+            return;
+        }
+        throw new BusinessException(ErrorCode.SEAT_ACTOR_NOT_OWNER, "scheduleId: " + scheduleId);
+    }
+
+    private ScheduleSeatActor load(Long scheduleId) {
+        List<ScheduleSeatActor.SeatState> seats = scheduleSeatRepository.findSeatLayoutByScheduleId(scheduleId).stream()
+                .map(row -> new ScheduleSeatActor.SeatState(
+                        (Long) row[0], (String) row[1], (String) row[2], (SeatStatus) row[5]))
+                .collect(Collectors.toCollection(ArrayList::new));
+        ScheduleSeatActor actor = new ScheduleSeatActor(scheduleId, seats);
+
+        // 보유자 기록이 없는 LOCKED 좌석은 확정/해제할 수 없으므로 락 유지 시간 뒤 만료
+        Map<Long, ScheduleSeatActor.Hold> holds = readHolds(scheduleId);
+        actor.restoreHolds(holds, System.currentTimeMillis() + lockDurationMs);
+        log.info("좌석 actor 적재 - scheduleId: {}, seats: {}, holds: {}", scheduleId, seats.size(), holds.size());
+        return actor;
+    }
+
+    private Map<Long, ScheduleSeatActor.Hold> readHolds(Long scheduleId) {
+        Map<String, String> entries = redisTemplate.<String, String>opsForHash().entries(HOLDS_KEY_PREFIX + scheduleId);
+        Map<Long, ScheduleSeatActor.Hold> holds = new HashMap<>(entries.size() * 2);
+        entries.forEach((seatId, value) -> {
+            try {
+                holds.put(Long.valueOf(seatId), objectMapper.readValue(value, ScheduleSeatActor.Hold.class));
+            } catch (Exception e) {
+                log.warn("좌석 actor 보유자 기록 해석 실패 - scheduleId: {}, seatId: {}", scheduleId, seatId);
+            }
+        });
+        return holds;
+    }
+
+    /**
+     * 보유자 변경분 보관 (키 만료는 가장 늦은 락보다 길게 유지)
+     * - DB 반영 뒤에 기록하므로, 그 사이 종료되면 해당 좌석은 보유자 없는 LOCKED로 적재되어 만료됨
+     */
+    private void writeHolds(ScheduleSeatActor actor) {
+        Map<Long, ScheduleSeatActor.Hold> holds = actor.drainHolds();
+        if (holds.isEmpty()) {
+            return;
+        }
+        String key = HOLDS_KEY_PREFIX + actor.scheduleId();
+        try {
+            Map<String, String> held = new HashMap<>();
+            List<Object> cleared = new ArrayList<>();
+            for (Map.Entry<Long, ScheduleSeatActor.Hold> entry : holds.entrySet()) {
+                if (entry.getValue() == null) {
+                    cleared.add(String.valueOf(entry.getKey()));
+                } else {
+                    held.put(String.valueOf(entry.getKey()), objectMapper.writeValueAsString(entry.getValue()));
+                }
+            }
+            if (!cleared.isEmpty()) {
+                redisTemplate.opsForHash().delete(key, cleared.toArray());
+            }
+            if (!held.isEmpty()) {
+                redisTemplate.opsForHash().putAll(key, held);
+                redisTemplate.expire(key, lockDurationMs * 2, TimeUnit.MILLISECONDS);
+            }
+        } catch (Exception e) {
+            actor.restoreHoldsDirty(holds.keySet());
+            log.warn("좌석 actor 보유자 보관 실패 - scheduleId: {}, count: {}, error: {}",
+                    actor.scheduleId(), holds.size(), e.getMessage());
+        }
+    }
+
+    private void flush(ScheduleSeatActor actor) {
+        if (!actor.hasDirty()) {
+            return;
+        }
+        List<SeatTransition> transitions = actor.drainDirty();
+        if (!transitions.isEmpty()) {
+            try {
+                Map<Long, SeatStatus> conflicts = persister.persist(actor.scheduleId(), transitions);
+                conflicts.forEach(actor::resolveConflict);
+            } catch (Exception e) {
+                actor.restoreDirty(transitions);
+                log.error("좌석 actor DB 반영 실패 - scheduleId: {}, count: {}", actor.scheduleId(), transitions.size(), e);
+                throw e;
+            }
+        }
+        writeHolds(actor);
+    }
+}
@@ -0,0 +1,260 @@
+package org.ddcn41.ticketing_system.seat.allocator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 스케줄 단위 연석(連席) 배정기 (in-memory)
+ * - 좌석 배치를 (zone, grade, rowLabel) 행 단위로 묶고, 열 번호가 연속되는 구간(segment)마다 빈 좌석 BitSet 보관
+ * - claim: 조건에 맞는 행 중 가장 앞 행 → 행 중앙에 가장 가까운 연속 블록을 선택하여 즉시 점유 처리
+ * - DB 조회 없이 동작하며, 좌석 상태 변경 이벤트로 release/occupy 하여 동기화
+ *
+ * 모든 상태 변경 메서드는 인스턴스 단위로 동기화됨 (스케줄별 인스턴스이므로 경합 범위가 좁음)
+ */
+public class SeatBlockAllocator {
+
+    private final List<Segment> segments;
+    private final Map<Long, Position> positions;
+    private int freeCount;
+
+    public SeatBlockAllocator(Collection<SeatSlot> slots) {
+        Map<String, List<SeatSlot>> rows = new LinkedHashMap<>();
+        for (SeatSlot slot : slots) {
+            rows.computeIfAbsent(normalize(slot.zone()) + "|" + normalize(slot.grade()) + "|" + slot.rowLabel(),
+                    k -> new ArrayList<>()).add(slot);
+        }
+
+        this.segments = new ArrayList<>();
+        this.positions = new HashMap<>(slots.size() * 2);
+        for (List<SeatSlot> row : rows.values()) {
+            row.sort(Comparator.comparingInt(SeatSlot::colNum));
+            splitIntoSegments(row);
+        }
+        this.segments.sort(Comparator
+                .comparingInt((Segment s) -> s.rowOrder)
+                .thenComparing(s -> s.zone)
+                .thenComparing(s -> s.grade));
+    }
+
+    /**
+     * count개의 연속 좌석을 찾아 점유 처리
+     *
+     * @param grade 좌석 등급 (null이면 전체)
+     * @param zone  구역 (null이면 전체)
+     * @return 점유한 블록, 조건을 만족하는 블록이 없으면 empty
+     */
+    public synchronized Optional<Block> claim(int count, String grade, String zone) {
+        if (count <= 0 || count > freeCount) {
+            return Optional.empty();
+        }
+        String normalizedGrade = grade == null ? null : normalize(grade);
+        String normalizedZone = zone == null ? null : normalize(zone);
+
+        Segment bestSegment = null;
+        int bestStart = -1;
+        double bestOffset = Double.MAX_VALUE;
+
+        for (Segment segment : segments) {
+            // 앞 행에서 이미 후보를 찾았다면 더 뒤의 행은 볼 필요 없음
+            if (bestSegment != null && segment.rowOrder > bestSegment.rowOrder) {
+                break;
+            }
+            if (segment.freeCount < count
+                    || (normalizedGrade != null && !normalizedGrade.equals(segment.grade))
+                    || (normalizedZone != null && !normalizedZone.equals(segment.zone))) {
+                continue;
+            }
+
+            int start = segment.mostCenteredStart(count);
+            if (start < 0) {
+                continue;
+            }
+            double offset = Math.abs(start + count / 2.0 - segment.center());
+            if (offset < bestOffset) {
+                bestSegment = segment;
+                bestStart = start;
+                bestOffset = offset;
+            }
+        }
+
+        if (bestSegment == null) {
+            return Optional.empty();
+        }
+
+        List<Long> seatIds = new ArrayList<>(count);
+        List<Integer> cols = new ArrayList<>(count);
+        for (int i = bestStart; i < bestStart + count; i++) {
+            bestSegment.occupy(i);
+            seatIds.add(bestSegment.seatIds[i]);
+            cols.add(bestSegment.firstCol + i);
+        }
+        freeCount -= count;
+        return Optional.of(new Block(seatIds, bestSegment.zone, bestSegment.grade, bestSegment.rowLabel, cols));
+    }
+
+    /**
+     * 좌석을 빈 좌석으로 되돌림 (락 해제/만료/예매 취소)
+     */
+    public synchronized void release(Collection<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            Position position = positions.get(seatId);
+            if (position != null && position.segment.release(position.index)) {
+                freeCount++;
+            }
+        }
+    }
+
+    /**
+     * 좌석을 점유 상태로 표시 (다른 경로로 락/예매된 좌석)
+     */
+    public synchronized void occupy(Collection<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            Position position = positions.get(seatId);
+            if (position != null && position.segment.occupy(position.index)) {
+                freeCount--;
+            }
+        }
+    }
+
+    public synchronized int freeCount() {
+        return freeCount;
+    }
+
+    private void splitIntoSegments(List<SeatSlot> row) {
+        int from = 0;
+        for (int i = 1; i <= row.size(); i++) {
+            if (i == row.size() || row.get(i).colNum() != row.get(i - 1).colNum() + 1) {
+                Segment segment = new Segment(row.subList(from, i));
+                segments.add(segment);
+                for (int j = 0; j < segment.seatIds.length; j++) {
+                    positions.put(segment.seatIds[j], new Position(segment, j));
+                }
+                freeCount += segment.freeCount;
+                from = i;
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 행 라벨 정렬 순서 (A=1, B=2, ..., Z=26, AA=27), 알파벳이 아닌 라벨은 뒤로 보냄
+     */
+    private static int rowOrder(String rowLabel) {
+        String label = normalize(rowLabel);
+        if (label.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        int result = 0;
+        for (char ch : label.toCharArray()) {
+            if (ch < 'A' || ch > 'Z') {
+                return Integer.MAX_VALUE;
+            }
+            result = result * 26 + (ch - 'A' + 1);
+        }
+        return result;
+    }
+
+    /**
+     * 배정기 입력 좌석 (colNum은 숫자 열 번호)
+     */
+    public record SeatSlot(Long seatId, String zone, String grade, String rowLabel, int colNum, boolean available) {
+    }
+
+    /**
+     * 배정 결과 블록
+     */
+    public record Block(List<Long> seatIds, String zone, String grade, String rowLabel, List<Integer> colNums) {
+    }
+
+    private record Position(Segment segment, int index) {
+    }
+
+    /**
+     * 한 행 안에서 열 번호가 연속되는 좌석 구간
+     */
+    private static final class Segment {
+        private final String zone;
+        private final String grade;
+        private final String rowLabel;
+        private final int rowOrder;
+        private final int firstCol;
+        private final long[] seatIds;
+        private final BitSet free;
+        private int freeCount;
+
+        private Segment(List<SeatSlot> slots) {
+            SeatSlot first = slots.getFirst();
+            this.zone = normalize(first.zone());
+            this.grade = normalize(first.grade());
+            this.rowLabel = first.rowLabel();
+            this.rowOrder = rowOrder(first.rowLabel());
+            this.firstCol = first.colNum();
+            this.seatIds = new long[slots.size()];
+            this.free = new BitSet(slots.size());
+            for (int i = 0; i < slots.size(); i++) {
+                seatIds[i] = slots.get(i).seatId();
+                if (slots.get(i).available()) {
+                    free.set(i);
+                    freeCount++;
+                }
+            }
+        }
+
+        private double center() {
+            return seatIds.length / 2.0;
+        }
+
+        /**
+         * 빈 구간(run)들 중 길이가 count 이상인 구간에서 중앙에 가장 가까운 시작 인덱스
+         */
+        private int mostCenteredStart(int count) {
+            int bestStart = -1;
+            double bestOffset = Double.MAX_VALUE;
+            int target = (int) Math.round(center() - count / 2.0);
+
+            int runStart = free.nextSetBit(0);
+            while (runStart >= 0) {
+                int runEnd = free.nextClearBit(runStart);
+                if (runEnd - runStart >= count) {
+                    int start = Math.clamp(target, runStart, runEnd - count);
+                    double offset = Math.abs(start + count / 2.0 - center());
+                    if (offset < bestOffset) {
+                        bestStart = start;
+                        bestOffset = offset;
+                    }
+                }
+                runStart = runEnd < seatIds.length ? free.nextSetBit(runEnd) : -1;
+            }
+            return bestStart;
+        }
+
+        private boolean occupy(int index) {
+            if (!free.get(index)) {
+                return false;
+            }
+            free.clear(index);
+            freeCount--;
+            return true;
+        }
+
+        private boolean release(int index) {
+            if (free.get(index)) {
+                return false;
+            }
+            free.set(index);
+            freeCount++;
+            return true;
+        }
+    }
+}
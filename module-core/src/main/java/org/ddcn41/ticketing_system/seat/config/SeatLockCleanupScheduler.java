@@ -1,10 +1,13 @@
 package org.ddcn41.ticketing_system.seat.config;
 
+import org.ddcn41.ticketing_system.seat.reconcile.SeatStateReconciler;
 import org.ddcn41.ticketing_system.seat.service.SeatService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,6 +19,12 @@ public class SeatLockCleanupScheduler {
     @Autowired
     private SeatService seatService;
 
+    @Autowired
+    private SeatStateReconciler seatStateReconciler;
+
+    @Value("${seat.reconcile.enabled:true}")
+    private boolean reconcileEnabled;
+
 /*    *//**
      * 1분마다 만료된 좌석 잠금 정리
      *//*
@@ -30,17 +39,22 @@ public class SeatLockCleanupScheduler {
         }
     }
 
-    *//**
-     * 5분마다 시스템 상태 점검
-     *//*
-    @Scheduled(fixedRate = 300000) // 5분
+    */
+
+    /**
+     * 판매 중 스케줄의 Redis 락 / DB 락 / 좌석 상태 정합성 점검 및 복구
+     */
+    @Scheduled(fixedDelayString = "${seat.reconcile.interval-ms:60000}",
+            initialDelayString = "${seat.reconcile.interval-ms:60000}")
     public void systemHealthCheck() {
+        if (!reconcileEnabled) {
+            return;
+        }
         try {
-            logger.info("좌석 잠금 시스템 상태 점검 실행");
-            // 필요시 Redis와 DB 동기화 로직 추가
+            logger.debug("좌석 잠금 시스템 상태 점검 실행");
+            seatStateReconciler.reconcileLiveSchedules();
         } catch (Exception e) {
             logger.error("시스템 상태 점검 중 오류 발생", e);
         }
-    }*/
+    }
 }
-
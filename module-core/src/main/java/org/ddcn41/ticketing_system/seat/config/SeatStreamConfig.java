@@ -0,0 +1,35 @@
+package org.ddcn41.ticketing_system.seat.config;
+
+import org.ddcn41.ticketing_system.seat.actor.SeatActorService;
+import org.ddcn41.ticketing_system.seat.service.BestAvailableSeatService;
+import org.ddcn41.ticketing_system.seat.service.SeatChangeLogService;
+import org.ddcn41.ticketing_system.seat.service.SeatStreamService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 좌석 상태 변경 pub/sub 구독 설정
+ * - 모든 파드가 seat_events:* 채널을 구독하여 자신에게 연결된 SSE 클라이언트로 전달
+ * - 연석 배정기, 단일 writer actor도 같은 채널로 좌석 상태를 동기화
+ */
+@Configuration
+public class SeatStreamConfig {
+
+    @Bean
+    public RedisMessageListenerContainer seatEventListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    SeatStreamService seatStreamService,
+                                                                    BestAvailableSeatService bestAvailableSeatService,
+                                                                    SeatActorService seatActorService) {
+        PatternTopic seatEvents = new PatternTopic(SeatChangeLogService.EVENT_CHANNEL_PREFIX + "*");
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(seatStreamService, seatEvents);
+        container.addMessageListener(bestAvailableSeatService, seatEvents);
+        container.addMessageListener(seatActorService, seatEvents);
+        return container;
+    }
+}
@@ -0,0 +1,15 @@
+package org.ddcn41.ticketing_system.seat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatStatusChange {
+    private Long seatId;
+    private String status; // AVAILABLE, LOCKED, BOOKED
+}
@@ -0,0 +1,29 @@
+package org.ddcn41.ticketing_system.seat.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestAvailableSeatRequest {
+    @NotNull(message = "좌석 수는 필수입니다")
+    @Min(value = 1, message = "좌석 수는 1 이상이어야 합니다")
+    @Max(value = 10, message = "한 번에 최대 10석까지 배정할 수 있습니다")
+    private Integer count;
+
+    private String grade; // null이면 전체 등급
+
+    private String zone; // null이면 전체 구역
+
+    @NotNull(message = "사용자 ID는 필수입니다")
+    private String userId;
+
+    private String sessionId;
+}
@@ -0,0 +1,31 @@
+package org.ddcn41.ticketing_system.seat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestAvailableSeatResponse {
+    private boolean success;
+    private String message;
+    private List<Long> seatIds;
+    private String zone;
+    private String grade;
+    private String rowLabel;
+    private List<Integer> colNums;
+    private LocalDateTime expiresAt;
+
+    public static BestAvailableSeatResponse failure(String message) {
+        return BestAvailableSeatResponse.builder()
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
@@ -14,6 +14,7 @@ import java.util.List;
 @Builder
 public class SeatAvailabilityResponse {
     private Long scheduleId;
+    private Long version; // 좌석 상태 버전 (ETag / 변경분 조회 기준)
     private Integer totalSeats;
     private Integer availableSeats;
     private List<SeatDto> seats;
@@ -0,0 +1,22 @@
+package org.ddcn41.ticketing_system.seat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.ddcn41.ticketing_system.seat.dto.SeatStatusChange;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatChangesResponse {
+    private Long scheduleId;
+    private Long sinceVersion;
+    private Long version;
+    private boolean fullSnapshot; // true면 changes 대신 snapshot을 사용해야 함
+    private List<SeatStatusChange> changes;
+    private SeatAvailabilityResponse snapshot;
+}
@@ -0,0 +1,29 @@
+package org.ddcn41.ticketing_system.seat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatReconcileResponse {
+    private Long scheduleId;
+    private boolean skipped;
+    private long scannedSeats;
+    /** 유형별 발견된 불일치 수 */
+    private Map<String, Long> drift;
+    /** 유예 시간이 지나지 않아 복구를 보류한 불일치 수 */
+    private long pending;
+    /** 유형별 복구한 좌석 수 */
+    private Map<String, Long> repaired;
+    private long elapsedMs;
+
+    public long totalRepaired() {
+        return repaired == null ? 0 : repaired.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
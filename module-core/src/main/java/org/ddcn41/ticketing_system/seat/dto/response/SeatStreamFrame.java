@@ -0,0 +1,24 @@
+package org.ddcn41.ticketing_system.seat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.ddcn41.ticketing_system.seat.dto.SeatStatusChange;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 실시간 채널 메시지
+ * - Redis pub/sub 메시지와 SSE 프레임 양쪽에서 사용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatStreamFrame {
+    private Long scheduleId;
+    private Long version;
+    private boolean reset; // true면 좌석 구성이 바뀌었으므로 전체 스냅샷을 다시 조회해야 함
+    private List<SeatStatusChange> changes;
+}
@@ -0,0 +1,49 @@
+package org.ddcn41.ticketing_system.seat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 구역 단위 좌석 맵 (압축 형식)
+ * - 등급/가격은 섹션 단위로, 좌석 상태는 행 단위 문자열로 표현
+ * - availability: colStart부터 한 글자씩 A(AVAILABLE) / L(LOCKED) / B(BOOKED) / _(좌석 없음)
+ * - seatIds: availability와 같은 순서의 좌석 ID (좌석 없는 자리는 null)
+ * - 열 번호가 숫자가 아닌 행은 colStart 대신 colNums로 각 좌석의 열 번호를 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatZoneMapResponse {
+    private Long scheduleId;
+    private Long version;
+    private String zone;
+    private List<Section> sections;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Section {
+        private String grade;
+        private BigDecimal price;
+        private List<Row> rows;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Row {
+        private String rowLabel;
+        private Integer colStart;
+        private String availability;
+        private List<Long> seatIds;
+        private List<String> colNums;
+    }
+}
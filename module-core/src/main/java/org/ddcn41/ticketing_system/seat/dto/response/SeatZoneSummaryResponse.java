@@ -0,0 +1,31 @@
+package org.ddcn41.ticketing_system.seat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatZoneSummaryResponse {
+    private Long scheduleId;
+    private Long version;
+    private List<ZoneSummary> zones;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ZoneSummary {
+        private String zone;
+        private String grade;
+        private long total;
+        private long available;
+        private long locked;
+        private long booked;
+    }
+}
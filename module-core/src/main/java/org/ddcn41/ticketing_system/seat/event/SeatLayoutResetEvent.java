@@ -0,0 +1,8 @@
+package org.ddcn41.ticketing_system.seat.event;
+
+/**
+ * 스케줄 좌석 구성 자체가 바뀐 경우(초기화/재배치) 발행되는 이벤트
+ * - 증분 데이터(변경 이력, 집계 등)를 더 이상 신뢰할 수 없으므로 전체 재조회를 유도
+ */
+public record SeatLayoutResetEvent(Long scheduleId) {
+}
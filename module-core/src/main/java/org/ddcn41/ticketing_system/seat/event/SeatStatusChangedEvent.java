@@ -0,0 +1,29 @@
+package org.ddcn41.ticketing_system.seat.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스케줄 단위 좌석 상태 변경 이벤트
+ * - 트랜잭션 커밋 이후 리스너에서 처리됨 (@TransactionalEventListener)
+ */
+public record SeatStatusChangedEvent(Long scheduleId, List<SeatTransition> transitions) {
+
+    /**
+     * 전이 목록을 스케줄별 이벤트로 묶음 (실제로 상태가 바뀐 전이만 포함)
+     */
+    public static List<SeatStatusChangedEvent> groupBySchedule(List<SeatTransition> transitions) {
+        Map<Long, List<SeatTransition>> grouped = new LinkedHashMap<>();
+        for (SeatTransition transition : transitions) {
+            if (transition.scheduleId() == null || !transition.isChanged()) {
+                continue;
+            }
+            grouped.computeIfAbsent(transition.scheduleId(), id -> new ArrayList<>()).add(transition);
+        }
+        return grouped.entrySet().stream()
+                .map(e -> new SeatStatusChangedEvent(e.getKey(), List.copyOf(e.getValue())))
+                .toList();
+    }
+}
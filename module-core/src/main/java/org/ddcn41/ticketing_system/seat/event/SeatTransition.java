@@ -0,0 +1,38 @@
+package org.ddcn41.ticketing_system.seat.event;
+
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat;
+
+/**
+ * 단일 좌석의 상태 전이 (from -> to)
+ */
+public record SeatTransition(
+        Long scheduleId,
+        Long seatId,
+        String zone,
+        String grade,
+        ScheduleSeat.SeatStatus from,
+        ScheduleSeat.SeatStatus to
+) {
+
+    /**
+     * 좌석의 현재 상태를 from으로 하는 전이 생성 (상태 변경 직전에 호출)
+     */
+    public static SeatTransition of(ScheduleSeat seat, ScheduleSeat.SeatStatus to) {
+        return of(seat, seat.getStatus(), to);
+    }
+
+    public static SeatTransition of(ScheduleSeat seat, ScheduleSeat.SeatStatus from, ScheduleSeat.SeatStatus to) {
+        return new SeatTransition(
+                seat.getSchedule() != null ? seat.getSchedule().getScheduleId() : null,
+                seat.getSeatId(),
+                seat.getZone(),
+                seat.getGrade(),
+                from,
+                to
+        );
+    }
+
+    public boolean isChanged() {
+        return from != to;
+    }
+}
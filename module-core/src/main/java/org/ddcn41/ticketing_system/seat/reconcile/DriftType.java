@@ -0,0 +1,15 @@
+package org.ddcn41.ticketing_system.seat.reconcile;
+
+/**
+ * Redis 좌석 락(seat_lock:*), seat_locks 행, ScheduleSeat.status 간 불일치 유형
+ */
+public enum DriftType {
+    /** LOCKED 좌석인데 Redis 락도 유효한 DB 락도 없음 (영원히 풀리지 않는 좌석) */
+    PHANTOM_LOCK,
+    /** AVAILABLE 좌석인데 Redis 락이 남아 있음 (다른 사용자의 잠금을 막음) */
+    ORPHAN_REDIS_LOCK,
+    /** LOCKED가 아닌 좌석에 ACTIVE 상태의 DB 락이 남아 있음 */
+    STALE_DB_LOCK,
+    /** 예매 완료 좌석에 Redis 락 또는 ACTIVE DB 락이 남아 있음 */
+    BOOKED_WITH_ACTIVE_LOCK
+}
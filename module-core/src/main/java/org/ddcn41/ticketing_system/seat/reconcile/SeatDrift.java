@@ -0,0 +1,13 @@
+package org.ddcn41.ticketing_system.seat.reconcile;
+
+/**
+ * 점검 중 발견된 단일 좌석의 불일치
+ *
+ * @param redisOwner 관측 시점의 Redis 락 값 (없으면 null, 조건부 삭제에 사용)
+ */
+record SeatDrift(Long seatId, String zone, String grade, DriftType type, String redisOwner) {
+
+    String key() {
+        return type + ":" + seatId;
+    }
+}
@@ -0,0 +1,84 @@
+package org.ddcn41.ticketing_system.seat.reconcile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.entity.SeatLock;
+import org.ddcn41.ticketing_system.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
+import org.ddcn41.ticketing_system.seat.repository.SeatLockRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 상태 불일치의 DB 측 복구 (배치 단위 트랜잭션)
+ * - 모든 UPDATE는 조건부라 점검 이후 정상 경로로 상태가 바뀐 좌석은 건드리지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatDriftRepairer {
+
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final SeatLockRepository seatLockRepository;
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 유효한 락이 없는 LOCKED 좌석을 AVAILABLE로 되돌리고 가용 좌석 수/변경 이벤트 반영
+     *
+     * @return 실제로 해제한 좌석 수
+     */
+    @Transactional
+    public int releasePhantomLocks(Long scheduleId, List<SeatDrift> drifts) {
+        Map<Long, SeatDrift> bySeatId = drifts.stream()
+                .collect(Collectors.toMap(SeatDrift::seatId, Function.identity(), (a, b) -> a));
+        List<Long> seatIds = List.copyOf(bySeatId.keySet());
+
+        int released = scheduleSeatRepository.releaseUnheldLocks(seatIds, LocalDateTime.now());
+        if (released == 0) {
+            return 0;
+        }
+
+        List<Long> releasedIds = scheduleSeatRepository.findAllById(seatIds).stream()
+                .filter(seat -> seat.getStatus() == SeatStatus.AVAILABLE)
+                .map(ScheduleSeat::getSeatId)
+                .toList();
+        seatLockRepository.updateActiveLockStatus(releasedIds, SeatLock.LockStatus.EXPIRED);
+
+        if (scheduleRepository.incrementAvailableSeats(scheduleId, released) == 0) {
+            log.warn("가용 좌석 카운터 범위 초과 - scheduleId: {}, delta: {}", scheduleId, released);
+        }
+        scheduleRepository.refreshScheduleStatus(scheduleId);
+
+        List<SeatTransition> transitions = releasedIds.stream()
+                .map(bySeatId::get)
+                .map(d -> new SeatTransition(scheduleId, d.seatId(), d.zone(), d.grade(), SeatStatus.LOCKED, SeatStatus.AVAILABLE))
+                .toList();
+        SeatStatusChangedEvent.groupBySchedule(transitions).forEach(eventPublisher::publishEvent);
+        return released;
+    }
+
+    /**
+     * 좌석들의 남은 ACTIVE DB 락 종료
+     *
+     * @return 변경된 락 행 수
+     */
+    @Transactional
+    public int closeActiveLocks(List<Long> seatIds, SeatLock.LockStatus status) {
+        if (seatIds.isEmpty()) {
+            return 0;
+        }
+        return seatLockRepository.updateActiveLockStatus(seatIds, status);
+    }
+}
@@ -0,0 +1,358 @@
+package org.ddcn41.ticketing_system.seat.reconcile;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.seat.actor.SeatActorService;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatReconcileResponse;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.entity.SeatLock;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 좌석 락 / seat_locks / ScheduleSeat.status 정합성 점검 및 복구
+ * - 좌석을 seatId keyset 페이지로 읽고, 페이지마다 seat_lock 키를 MGET 한 번으로 조회해 대조
+ * - 같은 불일치가 grace-ms 이상 연속으로 관측될 때만 복구 (진행 중인 잠금/예매 트랜잭션 오탐 방지)
+ * - 복구는 유형별 배치로 실행하고, 실행당 복구 상한과 배치 간 대기로 속도 제한
+ * - 좌석 actor가 관리하는 스케줄은 actor 메모리가 기준이므로 건너뜀
+ */
+@Slf4j
+@Service
+public class SeatStateReconciler {
+
+    private static final String REDIS_LOCK_PREFIX = "seat_lock:";
+    private static final String LEADER_KEY = "seat_reconcile:leader";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> COMPARE_AND_DELETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final SeatDriftRepairer repairer;
+    private final SeatActorService seatActorService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final int pageSize;
+    private final int maxRepairsPerRun;
+    private final long graceMs;
+    private final long batchPauseMs;
+    private final long leaseMs;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<DriftType, Counter> driftCounters = new EnumMap<>(DriftType.class);
+    private final Map<DriftType, Counter> repairCounters = new EnumMap<>(DriftType.class);
+
+    /**
+     * 스케줄별 미복구 불일치 최초 관측 시각 (drift key -> epoch ms)
+     */
+    private final Map<Long, Map<String, Long>> suspects = new ConcurrentHashMap<>();
+
+    public SeatStateReconciler(ScheduleSeatRepository scheduleSeatRepository,
+                               PerformanceScheduleRepository scheduleRepository,
+                               SeatDriftRepairer repairer,
+                               SeatActorService seatActorService,
+                               @Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${seat.reconcile.page-size:500}") int pageSize,
+                               @Value("${seat.reconcile.max-repairs-per-run:500}") int maxRepairsPerRun,
+                               @Value("${seat.reconcile.grace-ms:30000}") long graceMs,
+                               @Value("${seat.reconcile.batch-pause-ms:50}") long batchPauseMs,
+                               @Value("${seat.reconcile.interval-ms:60000}") long intervalMs) {
+        this.scheduleSeatRepository = scheduleSeatRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.repairer = repairer;
+        this.seatActorService = seatActorService;
+        this.redisTemplate = redisTemplate;
+        this.pageSize = Math.max(1, pageSize);
+        this.maxRepairsPerRun = Math.max(0, maxRepairsPerRun);
+        this.graceMs = graceMs;
+        this.batchPauseMs = batchPauseMs;
+        this.leaseMs = intervalMs * 2;
+
+        for (DriftType type : DriftType.values()) {
+            String tag = type.name().toLowerCase(Locale.ROOT);
+            driftCounters.put(type, Counter.builder("seat.reconcile.drift")
+                    .description("좌석 상태 불일치 관측 수")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+            repairCounters.put(type, Counter.builder("seat.reconcile.repaired")
+                    .description("좌석 상태 불일치 복구 수")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 판매 중인(OPEN, 공연 전) 스케줄 전체 점검 및 복구 — 여러 인스턴스 중 리더 한 곳에서만 실행
+     */
+    public void reconcileLiveSchedules() {
+        if (!acquireLeadership()) {
+            log.debug("좌석 정합성 점검 건너뜀 - 다른 인스턴스가 실행 중");
+            return;
+        }
+
+        List<Long> scheduleIds = scheduleRepository.findOpenScheduleIds(LocalDateTime.now());
+        suspects.keySet().retainAll(scheduleIds);
+
+        long budget = maxRepairsPerRun;
+        long driftTotal = 0;
+        long repairedTotal = 0;
+        for (Long scheduleId : scheduleIds) {
+            SeatReconcileResponse result = reconcile(scheduleId, budget > 0, budget);
+            driftTotal += result.getDrift().values().stream().mapToLong(Long::longValue).sum();
+            repairedTotal += result.totalRepaired();
+            budget -= result.totalRepaired();
+        }
+
+        if (driftTotal > 0) {
+            log.info("좌석 정합성 점검 완료 - schedules: {}, drift: {}, repaired: {}",
+                    scheduleIds.size(), driftTotal, repairedTotal);
+        }
+    }
+
+    /**
+     * 단일 스케줄 점검 (repair=false면 불일치만 집계)
+     */
+    public SeatReconcileResponse reconcile(Long scheduleId, boolean repair) {
+        return reconcile(scheduleId, repair, maxRepairsPerRun);
+    }
+
+    private SeatReconcileResponse reconcile(Long scheduleId, boolean repair, long budget) {
+        long startedMs = System.currentTimeMillis();
+        if (seatActorService.isManaged(scheduleId)) {
+            return SeatReconcileResponse.builder()
+                    .scheduleId(scheduleId)
+                    .skipped(true)
+                    .drift(Map.of())
+                    .repaired(Map.of())
+                    .build();
+        }
+
+        Map<String, Long> previous = suspects.getOrDefault(scheduleId, Map.of());
+        Map<String, Long> current = new HashMap<>();
+        Map<DriftType, Long> drift = new EnumMap<>(DriftType.class);
+        Map<DriftType, Long> repaired = new EnumMap<>(DriftType.class);
+        long scanned = 0;
+        long pending = 0;
+        long afterSeatId = 0L;
+
+        while (true) {
+            List<Object[]> page = scheduleSeatRepository.findSeatLockStatePage(
+                    scheduleId, afterSeatId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            scanned += page.size();
+            afterSeatId = (Long) page.getLast()[0];
+
+            Map<DriftType, List<SeatDrift>> ready = new EnumMap<>(DriftType.class);
+            for (SeatDrift found : classify(page)) {
+                drift.merge(found.type(), 1L, Long::sum);
+                driftCounters.get(found.type()).increment();
+
+                long firstSeen = previous.getOrDefault(found.key(), startedMs);
+                current.put(found.key(), firstSeen);
+                if (startedMs - firstSeen >= graceMs) {
+                    ready.computeIfAbsent(found.type(), t -> new ArrayList<>()).add(found);
+                } else {
+                    pending++;
+                }
+            }
+
+            long remaining = budget - sum(repaired);
+            if (repair && remaining > 0 && !ready.isEmpty()) {
+                for (Map.Entry<DriftType, List<SeatDrift>> entry : ready.entrySet()) {
+                    List<SeatDrift> batch = entry.getValue().subList(0, (int) Math.min(entry.getValue().size(), remaining));
+                    int fixed = repairBatch(scheduleId, entry.getKey(), batch);
+                    batch.forEach(d -> current.remove(d.key()));
+                    if (fixed > 0) {
+                        repaired.merge(entry.getKey(), (long) fixed, Long::sum);
+                        repairCounters.get(entry.getKey()).increment(fixed);
+                    }
+                    remaining -= batch.size();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                }
+                pause();
+            }
+
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        if (current.isEmpty()) {
+            suspects.remove(scheduleId);
+        } else {
+            suspects.put(scheduleId, current);
+        }
+
+        if (!repaired.isEmpty()) {
+            log.info("좌석 상태 불일치 복구 - scheduleId: {}, drift: {}, repaired: {}", scheduleId, drift, repaired);
+        }
+        return SeatReconcileResponse.builder()
+                .scheduleId(scheduleId)
+                .scannedSeats(scanned)
+                .drift(toNames(drift))
+                .pending(pending)
+                .repaired(toNames(repaired))
+                .elapsedMs(System.currentTimeMillis() - startedMs)
+                .build();
+    }
+
+    /**
+     * 페이지 한 개 대조 (row: seatId, status, zone, grade, 활성 DB 락 최대 만료 시각)
+     */
+    private List<SeatDrift> classify(List<Object[]> page) {
+        List<String> keys = page.stream().map(row -> REDIS_LOCK_PREFIX + row[0]).toList();
+        List<String> owners = redisTemplate.opsForValue().multiGet(keys);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<SeatDrift> drifts = new ArrayList<>();
+        for (int i = 0; i < page.size(); i++) {
+            Object[] row = page.get(i);
+            SeatStatus status = (SeatStatus) row[1];
+            LocalDateTime dbLockUntil = (LocalDateTime) row[4];
+            String owner = owners != null ? owners.get(i) : null;
+
+            boolean dbHeld = dbLockUntil != null && dbLockUntil.isAfter(now);
+            boolean redisHeld = owner != null;
+            DriftType type = switch (status) {
+                case LOCKED -> !dbHeld && !redisHeld ? DriftType.PHANTOM_LOCK : null;
+                case AVAILABLE -> redisHeld ? DriftType.ORPHAN_REDIS_LOCK
+                        : dbLockUntil != null ? DriftType.STALE_DB_LOCK : null;
+                case BOOKED -> redisHeld || dbLockUntil != null ? DriftType.BOOKED_WITH_ACTIVE_LOCK : null;
+            };
+            if (type != null) {
+                drifts.add(new SeatDrift((Long) row[0], (String) row[2], (String) row[3], type, owner));
+            }
+        }
+        return drifts;
+    }
+
+    private int repairBatch(Long scheduleId, DriftType type, List<SeatDrift> batch) {
+        try {
+            return switch (type) {
+                case PHANTOM_LOCK -> repairer.releasePhantomLocks(scheduleId, withoutRedisLock(batch));
+                case ORPHAN_REDIS_LOCK -> {
+                    int deleted = deleteRedisLocks(batch);
+                    repairer.closeActiveLocks(seatIds(batch), SeatLock.LockStatus.EXPIRED);
+                    yield deleted;
+                }
+                case STALE_DB_LOCK -> repairer.closeActiveLocks(seatIds(batch), SeatLock.LockStatus.EXPIRED) > 0
+                        ? batch.size() : 0;
+                case BOOKED_WITH_ACTIVE_LOCK -> {
+                    deleteRedisLocks(batch);
+                    repairer.closeActiveLocks(seatIds(batch), SeatLock.LockStatus.RELEASED);
+                    yield batch.size();
+                }
+            };
+        } catch (Exception e) {
+            log.error("좌석 상태 불일치 복구 실패 - scheduleId: {}, type: {}, seats: {}", scheduleId, type, batch.size(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 점검 이후 새로 잠긴 좌석 제외 (복구 직전 Redis 재확인)
+     */
+    private List<SeatDrift> withoutRedisLock(List<SeatDrift> batch) {
+        List<String> owners = redisTemplate.opsForValue().multiGet(
+                batch.stream().map(d -> REDIS_LOCK_PREFIX + d.seatId()).toList());
+        if (owners == null) {
+            return batch;
+        }
+        List<SeatDrift> unheld = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (owners.get(i) == null) {
+                unheld.add(batch.get(i));
+            }
+        }
+        return unheld;
+    }
+
+    /**
+     * 관측한 값과 같을 때만 Redis 락 삭제 (그 사이 다시 잠긴 좌석 보호)
+     */
+    private int deleteRedisLocks(List<SeatDrift> batch) {
+        int deleted = 0;
+        for (SeatDrift d : batch) {
+            if (d.redisOwner() == null) {
+                continue;
+            }
+            Long result = redisTemplate.execute(COMPARE_AND_DELETE_SCRIPT,
+                    List.of(REDIS_LOCK_PREFIX + d.seatId()), d.redisOwner());
+            if (Objects.equals(result, 1L)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private boolean acquireLeadership() {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEADER_KEY, instanceId, Duration.ofMillis(leaseMs));
+        if (Boolean.TRUE.equals(acquired)) {
+            return true;
+        }
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEADER_KEY), instanceId, String.valueOf(leaseMs));
+        return Objects.equals(renewed, 1L);
+    }
+
+    private void pause() {
+        if (batchPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Long> seatIds(List<SeatDrift> batch) {
+        return batch.stream().map(SeatDrift::seatId).toList();
+    }
+
+    private static long sum(Map<DriftType, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static Map<String, Long> toNames(Map<DriftType, Long> counts) {
+        Map<String, Long> named = new LinkedHashMap<>();
+        counts.forEach((type, count) -> named.put(type.name(), count));
+        return named;
+    }
+}
@@ -0,0 +1,432 @@
+package org.ddcn41.ticketing_system.seat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.venue.seatmap.SeatMapDiff.SeatCoordinate;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 대량 생성/집계용 JDBC 저장소
+ * - ScheduleSeat는 IDENTITY 전략이라 JPA saveAll로는 행마다 INSERT가 나가므로, 대량 생성은 JDBC 배치 또는 COPY로 처리
+ * - (schedule_id, zone, row_label, col_num) 유니크 키 충돌은 ON CONFLICT DO NOTHING으로 무시 (재실행 안전)
+ *   유니크 키는 NULLS NOT DISTINCT로 정의되어 있어야 zone이 없는 좌석도 중복되지 않음 (data-v2.sql)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleSeatJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO schedule_seats (schedule_id, grade, zone, row_label, col_num, price, status, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 'AVAILABLE', 0, now(), now()) " +
+            "ON CONFLICT (schedule_id, zone, row_label, col_num) DO NOTHING";
+
+    private static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE IF NOT EXISTS schedule_seats_staging (" +
+            "grade VARCHAR(10), zone VARCHAR(50), row_label VARCHAR(10), col_num VARCHAR(10), price DECIMAL(10,2)" +
+            ") ON COMMIT DROP";
+
+    private static final String COPY_SQL =
+            "COPY schedule_seats_staging (grade, zone, row_label, col_num, price) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MERGE_STAGING_SQL =
+            "INSERT INTO schedule_seats (schedule_id, grade, zone, row_label, col_num, price, status, version, created_at, updated_at) " +
+            "SELECT ?, grade, zone, row_label, col_num, price, 'AVAILABLE', 0, now(), now() FROM schedule_seats_staging " +
+            "ON CONFLICT (schedule_id, zone, row_label, col_num) DO NOTHING";
+
+    private static final String CLONE_TEMPLATE_SQL =
+            "INSERT INTO schedule_seats (schedule_id, grade, zone, row_label, col_num, price, status, version, created_at, updated_at) " +
+            "SELECT ?, t.grade, t.zone, t.row_label, t.col_num, COALESCE(p.price, 0), 'AVAILABLE', 0, now(), now() " +
+            "FROM venue_seat_templates t " +
+            "LEFT JOIN unnest(?::varchar[], ?::numeric[]) AS p(grade, price) ON p.grade = t.grade " +
+            "WHERE t.venue_id = ? AND t.fingerprint = ? " +
+            "ORDER BY t.seat_no " +
+            "ON CONFLICT (schedule_id, zone, row_label, col_num) DO NOTHING";
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*), COUNT(*) FILTER (WHERE status = 'AVAILABLE') FROM schedule_seats WHERE schedule_id = ?";
+
+    private static final String REPRICE_SQL =
+            "UPDATE schedule_seats SET price = ?, version = version + 1, updated_at = now() " +
+            "WHERE schedule_id = ? AND grade = ? AND COALESCE(price, 0) <> ?";
+
+    /**
+     * 좌표 배열 조인 조건 (zone은 NULL일 수 있음)
+     */
+    private static final String COORDINATE_MATCH =
+            "s.zone IS NOT DISTINCT FROM c.zone AND s.row_label = c.row_label AND s.col_num = c.col_num";
+
+    /**
+     * 좌석 맵 변경 대상 좌석(좌표 목록 + 가격이 바뀐 등급) 행 잠금, seat_id 순으로 잠가 좌석 락 경로와 교착을 피함
+     */
+    private static final String LOCK_CHANGED_SEATS_SQL =
+            "SELECT s.seat_id FROM schedule_seats s WHERE s.seat_id IN (" +
+            "  SELECT s.seat_id FROM schedule_seats s " +
+            "  JOIN unnest(?::varchar[], ?::varchar[], ?::varchar[]) AS c(zone, row_label, col_num) ON " + COORDINATE_MATCH + " " +
+            "  WHERE s.schedule_id = ANY(?) " +
+            "  UNION " +
+            "  SELECT s.seat_id FROM schedule_seats s WHERE s.schedule_id = ANY(?) AND s.grade = ANY(?)" +
+            ") ORDER BY s.seat_id FOR UPDATE OF s";
+
+    /**
+     * 스케줄 내 좌표 목록의 좌석 ID (예매 요청 좌표 일괄 조회)
+     */
+    private static final String FIND_BY_COORDINATES_SQL =
+            "SELECT s.seat_id FROM schedule_seats s " +
+            "JOIN unnest(?::varchar[], ?::varchar[], ?::varchar[]) AS c(zone, row_label, col_num) ON " + COORDINATE_MATCH + " " +
+            "WHERE s.schedule_id = ?";
+
+    private static final String LOCK_SCHEDULES_SQL =
+            "SELECT schedule_id FROM performance_schedules WHERE schedule_id = ANY(?) ORDER BY schedule_id FOR UPDATE";
+
+    /**
+     * 좌석 맵 변경을 막는 좌석 (스케줄별 수)
+     * - 제거 좌표: 가용 상태가 아니거나 예매 이력이 있는 좌석
+     * - 등급 변경 좌표 / 가격 변경 등급: 결제 진행 중(LOCKED)인 좌석 (예매 완료 좌석은 판매 당시 등급·가격 유지)
+     */
+    private static final String BLOCKED_BY_CHANGE_SQL =
+            "SELECT b.schedule_id, COUNT(DISTINCT b.seat_id) FROM (" +
+            "  SELECT s.schedule_id, s.seat_id FROM schedule_seats s " +
+            "  JOIN unnest(?::varchar[], ?::varchar[], ?::varchar[]) AS c(zone, row_label, col_num) ON " + COORDINATE_MATCH + " " +
+            "  WHERE s.schedule_id = ANY(?) " +
+            "  AND (s.status <> 'AVAILABLE' OR EXISTS (SELECT 1 FROM booking_seats bs WHERE bs.seat_id = s.seat_id)) " +
+            "  UNION ALL " +
+            "  SELECT s.schedule_id, s.seat_id FROM schedule_seats s " +
+            "  JOIN unnest(?::varchar[], ?::varchar[], ?::varchar[]) AS c(zone, row_label, col_num) ON " + COORDINATE_MATCH + " " +
+            "  WHERE s.schedule_id = ANY(?) AND s.status = 'LOCKED' " +
+            "  UNION ALL " +
+            "  SELECT s.schedule_id, s.seat_id FROM schedule_seats s " +
+            "  WHERE s.schedule_id = ANY(?) AND s.grade = ANY(?) AND s.status = 'LOCKED'" +
+            ") b GROUP BY b.schedule_id";
+
+    private static final String DELETE_COORDINATES_SQL =
+            "WITH doomed AS (" +
+            "  SELECT s.seat_id FROM schedule_seats s " +
+            "  JOIN unnest(?::varchar[], ?::varchar[], ?::varchar[]) AS c(zone, row_label, col_num) ON " + COORDINATE_MATCH + " " +
+            "  WHERE s.schedule_id = ANY(?) AND s.status = 'AVAILABLE'" +
+            "), cleared AS (" +
+            "  DELETE FROM seat_locks l USING doomed d WHERE l.seat_id = d.seat_id" +
+            ") " +
+            "DELETE FROM schedule_seats s USING doomed d WHERE s.seat_id = d.seat_id";
+
+    private static final String INSERT_COORDINATES_SQL =
+            "INSERT INTO schedule_seats (schedule_id, grade, zone, row_label, col_num, price, status, version, created_at, updated_at) " +
+            "SELECT sch.schedule_id, c.grade, c.zone, c.row_label, c.col_num, c.price, 'AVAILABLE', 0, now(), now() " +
+            "FROM unnest(?::bigint[]) AS sch(schedule_id) " +
+            "CROSS JOIN unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::numeric[]) AS c(zone, row_label, col_num, grade, price) " +
+            "ON CONFLICT (schedule_id, zone, row_label, col_num) DO NOTHING";
+
+    private static final String REGRADE_COORDINATES_SQL =
+            "UPDATE schedule_seats s SET grade = c.grade, price = c.price, version = s.version + 1, updated_at = now() " +
+            "FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::numeric[]) AS c(zone, row_label, col_num, grade, price) " +
+            "WHERE " + COORDINATE_MATCH + " AND s.schedule_id = ANY(?) AND s.status = 'AVAILABLE'";
+
+    private static final String REPRICE_GRADES_SQL =
+            "UPDATE schedule_seats s SET price = p.price, version = s.version + 1, updated_at = now() " +
+            "FROM unnest(?::varchar[], ?::numeric[]) AS p(grade, price) " +
+            "WHERE s.grade = p.grade AND COALESCE(s.price, 0) <> p.price AND s.schedule_id = ANY(?) AND s.status = 'AVAILABLE'";
+
+    private static final String REFRESH_SCHEDULE_COUNTS_SQL =
+            "UPDATE performance_schedules ps SET total_seats = c.total, available_seats = c.available, updated_at = now() " +
+            "FROM (SELECT schedule_id, COUNT(*) AS total, COUNT(*) FILTER (WHERE status = 'AVAILABLE') AS available " +
+            "      FROM schedule_seats WHERE schedule_id = ANY(?) GROUP BY schedule_id) c " +
+            "WHERE ps.schedule_id = c.schedule_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * JDBC 배치 INSERT (이미 있는 좌석은 무시)
+     */
+    public void insertSeats(Long scheduleId, List<SeatRow> seats) {
+        if (seats.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, seats, seats.size(), (ps, seat) -> {
+            ps.setLong(1, scheduleId);
+            ps.setString(2, seat.grade());
+            ps.setString(3, seat.zone());
+            ps.setString(4, seat.rowLabel());
+            ps.setString(5, seat.colNum());
+            ps.setBigDecimal(6, seat.price());
+        });
+    }
+
+    /**
+     * PostgreSQL COPY로 임시 테이블에 적재 후 한 번의 INSERT ... SELECT로 반영 (이미 있는 좌석은 무시)
+     * - 현재 트랜잭션의 커넥션을 사용하며 임시 테이블은 커밋 시 삭제
+     */
+    public void copySeats(Long scheduleId, List<SeatRow> seats) {
+        if (seats.isEmpty()) {
+            return;
+        }
+        StringBuilder csv = new StringBuilder(seats.size() * 32);
+        for (SeatRow seat : seats) {
+            appendCsv(csv, seat.grade()).append(',');
+            appendCsv(csv, seat.zone()).append(',');
+            appendCsv(csv, seat.rowLabel()).append(',');
+            appendCsv(csv, seat.colNum()).append(',');
+            csv.append(seat.price() == null ? "" : seat.price().toPlainString()).append('\n');
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+                statement.execute("TRUNCATE schedule_seats_staging");
+            }
+            try {
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new SQLException("좌석 COPY 실패", e);
+            }
+            return null;
+        });
+        jdbcTemplate.update(MERGE_STAGING_SQL, scheduleId);
+    }
+
+    /**
+     * 공연장 좌석 템플릿을 스케줄 좌석으로 복제 (단일 INSERT ... SELECT, 가격은 등급별 가격표로 적용)
+     *
+     * @return 새로 생성된 좌석 수
+     */
+    public int cloneFromTemplate(Long scheduleId, Long venueId, String fingerprint, Map<String, BigDecimal> pricing) {
+        String[] grades = pricing.keySet().toArray(String[]::new);
+        BigDecimal[] prices = pricing.values().toArray(BigDecimal[]::new);
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(CLONE_TEMPLATE_SQL);
+            ps.setLong(1, scheduleId);
+            ps.setArray(2, connection.createArrayOf("varchar", grades));
+            ps.setArray(3, connection.createArrayOf("numeric", prices));
+            ps.setLong(4, venueId);
+            ps.setString(5, fingerprint);
+            return ps;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션의 커넥션이 PostgreSQL COPY를 지원하는지 여부
+     */
+    public boolean isCopySupported() {
+        Boolean supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.isWrapperFor(PGConnection.class));
+        return Boolean.TRUE.equals(supported);
+    }
+
+    /**
+     * 총 좌석 수 / 가용 좌석 수 (단일 집계 쿼리)
+     */
+    public SeatCounts countSeats(Long scheduleId) {
+        return jdbcTemplate.queryForObject(COUNT_SQL,
+                (rs, rowNum) -> new SeatCounts(rs.getLong(1), rs.getLong(2)),
+                scheduleId);
+    }
+
+    /**
+     * 등급별 가격이 다른 기존 좌석만 일괄 갱신
+     *
+     * @return 갱신된 좌석 수
+     */
+    public int repriceByGrade(Long scheduleId, Map<String, BigDecimal> pricing) {
+        int updated = 0;
+        for (Map.Entry<String, BigDecimal> entry : pricing.entrySet()) {
+            updated += jdbcTemplate.update(REPRICE_SQL, entry.getValue(), scheduleId, entry.getKey(), entry.getValue());
+        }
+        return updated;
+    }
+
+    /**
+     * 스케줄에서 좌표 목록과 정확히 일치하는 좌석 ID (구역이 없는 좌석은 zone=null 좌표로 조회)
+     */
+    public List<Long> findSeatIdsByCoordinates(Long scheduleId, List<SeatCoordinate> coordinates) {
+        if (coordinates.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(FIND_BY_COORDINATES_SQL);
+            int i = bindCoordinates(connection, ps, 1, coordinates, false);
+            ps.setLong(i, scheduleId);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    /**
+     * 좌석 맵 변경 대상 좌석과 스케줄 행을 트랜잭션 끝까지 잠금
+     * - 잠근 뒤의 상태 확인(countBlockedChanges)과 DELETE/UPDATE 사이에 좌석이 LOCKED/BOOKED로 바뀌지 않도록 보장
+     * - 좌석 → 스케줄 순서 (좌석 락/예매 경로가 좌석 UPDATE 후 스케줄 가용 좌석 수를 갱신하는 순서와 같음)
+     */
+    public void lockForSeatMapChange(List<Long> scheduleIds, List<SeatCoordinate> coordinates, Collection<String> grades) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(LOCK_CHANGED_SEATS_SQL);
+            int i = bindCoordinates(connection, ps, 1, coordinates, false);
+            ps.setArray(i++, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            ps.setArray(i++, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            ps.setArray(i, connection.createArrayOf("varchar", grades.toArray()));
+            return ps;
+        }, rs -> {
+        });
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(LOCK_SCHEDULES_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            return ps;
+        }, rs -> {
+        });
+    }
+
+    /**
+     * 좌석 맵 변경을 막는 좌석 수 (스케줄별, 없으면 빈 맵)
+     *
+     * @param removed  제거 좌표 (가용 상태가 아니거나 예매 이력이 있으면 차단)
+     * @param regraded 등급 변경 좌표 (LOCKED면 차단)
+     * @param grades   가격 변경 등급 (LOCKED면 차단)
+     */
+    public Map<Long, Long> countBlockedChanges(List<Long> scheduleIds, List<SeatCoordinate> removed,
+                                               List<SeatCoordinate> regraded, Collection<String> grades) {
+        Map<Long, Long> blocked = new LinkedHashMap<>();
+        if (scheduleIds.isEmpty() || (removed.isEmpty() && regraded.isEmpty() && grades.isEmpty())) {
+            return blocked;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(BLOCKED_BY_CHANGE_SQL);
+            int i = bindCoordinates(connection, ps, 1, removed, false);
+            ps.setArray(i++, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            i = bindCoordinates(connection, ps, i, regraded, false);
+            ps.setArray(i++, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            ps.setArray(i++, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            ps.setArray(i, connection.createArrayOf("varchar", grades.toArray()));
+            return ps;
+        }, rs -> {
+            blocked.put(rs.getLong(1), rs.getLong(2));
+        });
+        return blocked;
+    }
+
+    /**
+     * 여러 스케줄에서 좌표 목록의 가용 좌석 삭제 (해당 좌석의 락 이력 포함)
+     */
+    public int deleteCoordinates(List<Long> scheduleIds, List<SeatCoordinate> removed) {
+        if (scheduleIds.isEmpty() || removed.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_COORDINATES_SQL);
+            int i = bindCoordinates(connection, ps, 1, removed, false);
+            ps.setArray(i, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * 여러 스케줄에 좌표 목록의 좌석 추가 (이미 있으면 무시)
+     */
+    public int insertCoordinates(List<Long> scheduleIds, List<SeatCoordinate> added) {
+        if (scheduleIds.isEmpty() || added.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_COORDINATES_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            bindCoordinates(connection, ps, 2, added, true);
+            return ps;
+        });
+    }
+
+    /**
+     * 여러 스케줄에서 좌표 목록의 등급/가격 변경 (가용 좌석만, 예매 완료 좌석은 판매 당시 등급 유지)
+     */
+    public int regradeCoordinates(List<Long> scheduleIds, List<SeatCoordinate> regraded) {
+        if (scheduleIds.isEmpty() || regraded.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(REGRADE_COORDINATES_SQL);
+            int i = bindCoordinates(connection, ps, 1, regraded, true);
+            ps.setArray(i, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * 여러 스케줄에서 등급별 가격 일괄 변경 (가용 좌석만, 예매 완료 좌석은 판매 당시 가격 유지)
+     */
+    public int repriceGrades(List<Long> scheduleIds, Map<String, BigDecimal> pricing) {
+        if (scheduleIds.isEmpty() || pricing.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(REPRICE_GRADES_SQL);
+            ps.setArray(1, connection.createArrayOf("varchar", pricing.keySet().toArray()));
+            ps.setArray(2, connection.createArrayOf("numeric", pricing.values().toArray()));
+            ps.setArray(3, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * 스케줄들의 총좌석/가용좌석을 실제 좌석 기준으로 한 번에 재계산
+     */
+    public int refreshScheduleCounts(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(REFRESH_SCHEDULE_COUNTS_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", scheduleIds.toArray()));
+            return ps;
+        });
+    }
+
+    private static int bindCoordinates(Connection connection, PreparedStatement ps, int index,
+                                       List<SeatCoordinate> seats, boolean withGradeAndPrice) throws SQLException {
+        int size = seats.size();
+        String[] zones = new String[size];
+        String[] rowLabels = new String[size];
+        String[] colNums = new String[size];
+        String[] grades = new String[size];
+        BigDecimal[] prices = new BigDecimal[size];
+        for (int k = 0; k < size; k++) {
+            SeatCoordinate seat = seats.get(k);
+            zones[k] = seat.zone();
+            rowLabels[k] = seat.rowLabel();
+            colNums[k] = seat.colNum();
+            grades[k] = seat.grade();
+            prices[k] = seat.price();
+        }
+
+        ps.setArray(index++, connection.createArrayOf("varchar", zones));
+        ps.setArray(index++, connection.createArrayOf("varchar", rowLabels));
+        ps.setArray(index++, connection.createArrayOf("varchar", colNums));
+        if (withGradeAndPrice) {
+            ps.setArray(index++, connection.createArrayOf("varchar", grades));
+            ps.setArray(index++, connection.createArrayOf("numeric", prices));
+        }
+        return index;
+    }
+
+    private static StringBuilder appendCsv(StringBuilder csv, String value) {
+        if (value == null) {
+            return csv; // 따옴표 없는 빈 값 = NULL
+        }
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    public record SeatRow(String zone, String grade, String rowLabel, String colNum, BigDecimal price) {
+    }
+
+    public record SeatCounts(long total, long available) {
+    }
+}
@@ -1,12 +1,15 @@
 package org.ddcn41.ticketing_system.seat.repository;
 
 import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -106,6 +109,69 @@ public interface ScheduleSeatRepository extends JpaRepository<ScheduleSeat, Long
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     int deleteBySchedule_ScheduleId(Long scheduleId);
 
+    /**
+     * 좌석 배정기 구성용 경량 조회 (seatId, zone, grade, rowLabel, colNum, status)
+     */
+    @Query("SELECT s.seatId, s.zone, s.grade, s.rowLabel, s.colNum, s.status FROM ScheduleSeat s " +
+            "WHERE s.schedule.scheduleId = :scheduleId")
+    List<Object[]> findSeatLayoutByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 여러 스케줄의 구역/등급/상태별 좌석 수 (좌석 집계 캐시 재구성용)
+     */
+    @Query("SELECT s.schedule.scheduleId, s.zone, s.grade, s.status, COUNT(s) FROM ScheduleSeat s " +
+            "WHERE s.schedule.scheduleId IN :scheduleIds " +
+            "GROUP BY s.schedule.scheduleId, s.zone, s.grade, s.status")
+    List<Object[]> countSeatsByScheduleIdsAndZoneAndGradeAndStatus(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    /**
+     * 특정 구역 좌석 경량 조회 (seatId, grade, rowLabel, colNum, price, status)
+     */
+    @Query("SELECT s.seatId, s.grade, s.rowLabel, s.colNum, s.price, s.status FROM ScheduleSeat s " +
+            "WHERE s.schedule.scheduleId = :scheduleId AND s.zone = :zone")
+    List<Object[]> findZoneSeatsByScheduleId(@Param("scheduleId") Long scheduleId, @Param("zone") String zone);
+
+    /**
+     * 현재 상태가 from인 좌석만 to로 일괄 변경 (단일 writer 배치 반영용)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE ScheduleSeat s SET s.status = :to, s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.seatId IN :seatIds AND s.status = :from")
+    int updateStatusIfCurrent(@Param("seatIds") List<Long> seatIds,
+                              @Param("from") ScheduleSeat.SeatStatus from,
+                              @Param("to") ScheduleSeat.SeatStatus to);
+
+    /**
+     * 좌석 상태 정합성 점검용 keyset 페이지 조회 (seatId, status, zone, grade, 활성 DB 락의 최대 만료 시각)
+     */
+    @Query("SELECT s.seatId, s.status, s.zone, s.grade, MAX(l.expiresAt) FROM ScheduleSeat s " +
+            "LEFT JOIN SeatLock l ON l.seat = s AND l.status = 'ACTIVE' " +
+            "WHERE s.schedule.scheduleId = :scheduleId AND s.seatId > :afterSeatId " +
+            "GROUP BY s.seatId, s.status, s.zone, s.grade ORDER BY s.seatId")
+    List<Object[]> findSeatLockStatePage(@Param("scheduleId") Long scheduleId,
+                                         @Param("afterSeatId") Long afterSeatId,
+                                         Pageable pageable);
+
+    /**
+     * 유효한 활성 DB 락이 없는 LOCKED 좌석만 AVAILABLE로 되돌림 (정합성 복구용)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE ScheduleSeat s SET s.status = 'AVAILABLE', s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.seatId IN :seatIds AND s.status = 'LOCKED' AND NOT EXISTS (" +
+            "SELECT 1 FROM SeatLock l WHERE l.seat = s AND l.status = 'ACTIVE' AND l.expiresAt > :now)")
+    int releaseUnheldLocks(@Param("seatIds") List<Long> seatIds, @Param("now") LocalDateTime now);
+
+    /**
+     * AVAILABLE 좌석만 BOOKED로 일괄 변경 (예매 확정용)
+     * - 쓰기 지연 중인 변경은 먼저 flush하되 영속성 컨텍스트는 비우지 않음 (같은 트랜잭션의 예매/사용자 엔티티 유지)
+     * - 이미 로드된 좌석 엔티티는 UPDATE 이전 상태이므로 호출자가 분리(detach)해야 함
+     * - 단일 writer(actor) 스케줄은 메모리에만 있는 락을 보지 못하므로 호출 전에 SeatActorService.reserveForBooking 필요
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ScheduleSeat s SET s.status = 'BOOKED', s.version = s.version + 1, s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.seatId IN :seatIds AND s.status = 'AVAILABLE'")
+    int markBookedIfAvailable(@Param("seatIds") List<Long> seatIds);
+
     /**
      * 스케줄 + 좌표로 단일 좌석 조회
      */
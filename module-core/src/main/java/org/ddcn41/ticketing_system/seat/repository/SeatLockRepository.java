@@ -4,6 +4,7 @@ import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat;
 import org.ddcn41.ticketing_system.seat.entity.SeatLock;
 import org.ddcn41.ticketing_system.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -61,4 +62,11 @@ public interface SeatLockRepository extends JpaRepository<SeatLock, Long> {
      */
     @Query("SELECT sl FROM SeatLock sl WHERE sl.status = 'ACTIVE' AND sl.expiresAt BETWEEN :start AND :end")
     List<SeatLock> findLocksExpiringBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
-}
\ No newline at end of file
+
+    /**
+     * 좌석들의 활성 락 상태 일괄 변경 (정합성 복구용)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE SeatLock sl SET sl.status = :status WHERE sl.seat.seatId IN :seatIds AND sl.status = 'ACTIVE'")
+    int updateActiveLockStatus(@Param("seatIds") List<Long> seatIds, @Param("status") SeatLock.LockStatus status);
+}
@@ -0,0 +1,310 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.seat.allocator.SeatBlockAllocator;
+import org.ddcn41.ticketing_system.seat.dto.SeatStatusChange;
+import org.ddcn41.ticketing_system.seat.dto.request.BestAvailableSeatRequest;
+import org.ddcn41.ticketing_system.seat.dto.response.BestAvailableSeatResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatStreamFrame;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연석 자동 배정 서비스
+ * - 스케줄별 SeatBlockAllocator를 최초 요청 시 한 번만 DB에서 구성하고 이후에는 메모리에서 배정
+ *   (구성은 맵 잠금 밖에서 한 스레드만 수행, 구성 중 수신한 좌석 변경은 모아 두었다가 구성 직후 반영)
+ * - 배정된 블록은 일반 락 경로(SeatCommandService.lockSeats)로 점유하며, 성공하지 못하면(예외 포함) 해당 좌석만 DB와 재동기화
+ * - 모든 파드의 좌석 변경(seat_events:*)을 구독하여 배정기 상태를 최신으로 유지
+ * - idle-expire-ms 동안 배정 요청이 없는 스케줄의 배정기는 정리 (지난 공연 배정기가 메모리에 쌓이지 않도록, 다음 요청 시 다시 구성)
+ */
+@Slf4j
+@Service
+public class BestAvailableSeatService implements MessageListener {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SeatCommandService seatCommandService;
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final long idleExpireMs;
+
+    private final Map<Long, SeatBlockAllocator> allocators = new ConcurrentHashMap<>();
+    private final Map<Long, PendingAllocator> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> lastUsedAt = new ConcurrentHashMap<>();
+
+    public BestAvailableSeatService(SeatCommandService seatCommandService, ScheduleSeatRepository scheduleSeatRepository,
+                                    @Value("${seat.best-available.idle-expire-ms:1800000}") long idleExpireMs) {
+        this.seatCommandService = seatCommandService;
+        this.scheduleSeatRepository = scheduleSeatRepository;
+        this.idleExpireMs = idleExpireMs;
+    }
+
+    /**
+     * 조건에 맞는 최적의 연속 좌석을 찾아 락까지 수행
+     */
+    public BestAvailableSeatResponse allocate(Long scheduleId, BestAvailableSeatRequest request, String userId) {
+        SeatBlockAllocator allocator = allocatorFor(scheduleId);
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Optional<SeatBlockAllocator.Block> claimed = allocator.claim(
+                    request.getCount(), request.getGrade(), request.getZone());
+            if (claimed.isEmpty()) {
+                return BestAvailableSeatResponse.failure("조건에 맞는 연속 좌석이 없습니다");
+            }
+
+            SeatBlockAllocator.Block block = claimed.get();
+            boolean locked = false;
+            try {
+                SeatLockResponse lock = seatCommandService.lockSeats(scheduleId, block.seatIds(), userId, request.getSessionId());
+                if (lock.isSuccess()) {
+                    locked = true;
+                    return BestAvailableSeatResponse.builder()
+                            .success(true)
+                            .message("좌석 배정 성공")
+                            .seatIds(block.seatIds())
+                            .zone(block.zone())
+                            .grade(block.grade())
+                            .rowLabel(block.rowLabel())
+                            .colNums(block.colNums())
+                            .expiresAt(lock.getExpiresAt())
+                            .build();
+                }
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != ErrorCode.SEAT_LOCK_FAILED) {
+                    throw e;
+                }
+                // 다른 경로로 먼저 점유된 좌석이 있었음 → 아래에서 재동기화 후 재시도
+            } finally {
+                // 락 실패/예외/타임아웃 모두 claim으로 점유 표시한 좌석을 실제 상태로 되돌림 (배정기에 유령 점유가 남지 않도록)
+                if (!locked) {
+                    resync(scheduleId, allocator, block.seatIds());
+                }
+            }
+        }
+
+        return BestAvailableSeatResponse.failure("좌석 선점 경쟁으로 배정에 실패했습니다. 다시 시도해주세요");
+    }
+
+    /**
+     * 좌석 변경 메시지 수신 → 배정기 상태 반영 (배정기가 구성된 스케줄만)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SeatStreamFrame frame = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), SeatStreamFrame.class);
+            if (frame.isReset()) {
+                PendingAllocator building = pending.get(frame.getScheduleId());
+                if (building != null) {
+                    building.invalidate();
+                }
+                allocators.remove(frame.getScheduleId());
+                return;
+            }
+            if (frame.getChanges() == null) {
+                return;
+            }
+            SeatBlockAllocator allocator = allocators.get(frame.getScheduleId());
+            if (allocator == null) {
+                PendingAllocator building = pending.get(frame.getScheduleId());
+                if (building != null && building.buffer(frame.getChanges())) {
+                    return;
+                }
+                // 구성이 방금 끝났다면 등록된 배정기에 바로 반영
+                allocator = allocators.get(frame.getScheduleId());
+                if (allocator == null) {
+                    return;
+                }
+            }
+            apply(allocator, frame.getChanges());
+        } catch (Exception e) {
+            log.warn("좌석 배정기 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배정기 조회, 없으면 구성
+     * - DB 조회는 ConcurrentHashMap 잠금 밖에서 수행 (같은 스케줄의 동시 요청은 먼저 시작한 구성 결과를 기다림)
+     * - 구성 중 도착한 좌석 변경을 스냅샷에 덧씌운 뒤 등록하므로 그 사이의 이벤트가 유실되지 않음
+     */
+    SeatBlockAllocator allocatorFor(Long scheduleId) {
+        lastUsedAt.put(scheduleId, System.currentTimeMillis());
+        SeatBlockAllocator allocator = allocators.get(scheduleId);
+        if (allocator != null) {
+            return allocator;
+        }
+
+        PendingAllocator building = new PendingAllocator();
+        PendingAllocator existing = pending.putIfAbsent(scheduleId, building);
+        if (existing != null) {
+            return existing.await();
+        }
+
+        try {
+            allocator = allocators.get(scheduleId);
+            if (allocator == null) {
+                allocator = buildAllocator(scheduleId);
+            }
+            building.publish(scheduleId, allocator);
+            return allocator;
+        } catch (RuntimeException e) {
+            building.fail(e);
+            throw e;
+        } finally {
+            pending.remove(scheduleId, building);
+        }
+    }
+
+    /**
+     * 유휴 스케줄 배정기 정리
+     * - 정리 중 들어온 요청은 이미 가진 배정기를 그대로 쓰고, 그다음 요청부터 DB에서 다시 구성
+     */
+    @Scheduled(fixedDelayString = "${seat.best-available.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleExpireMs;
+        lastUsedAt.forEach((scheduleId, usedAt) -> {
+            if (usedAt <= cutoff && lastUsedAt.remove(scheduleId, usedAt)) {
+                SeatBlockAllocator allocator = allocators.remove(scheduleId);
+                if (allocator != null) {
+                    log.info("유휴 좌석 배정기 정리 - scheduleId: {}", scheduleId);
+                }
+            }
+        });
+    }
+
+    private SeatBlockAllocator buildAllocator(Long scheduleId) {
+        List<Object[]> rows = scheduleSeatRepository.findSeatLayoutByScheduleId(scheduleId);
+        if (rows.isEmpty()) {
+            throw new BusinessException(ErrorCode.SEAT_NOT_FOUND, "scheduleId: " + scheduleId);
+        }
+
+        List<SeatBlockAllocator.SeatSlot> slots = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Integer colNum = parseColNum((String) row[4]);
+            if (colNum == null) {
+                continue; // 숫자 열 번호가 아닌 좌석은 연석 배정 대상에서 제외
+            }
+            slots.add(new SeatBlockAllocator.SeatSlot(
+                    (Long) row[0], (String) row[1], (String) row[2], (String) row[3], colNum,
+                    row[5] == ScheduleSeat.SeatStatus.AVAILABLE));
+        }
+        log.info("좌석 배정기 구성 완료 - scheduleId: {}, seats: {}", scheduleId, slots.size());
+        return new SeatBlockAllocator(slots);
+    }
+
+    /**
+     * 배정한 좌석만 DB 상태로 재동기화
+     * - DB 조회도 실패하면 배정기를 버려서 다음 요청이 DB에서 다시 구성하도록 함
+     */
+    private void resync(Long scheduleId, SeatBlockAllocator allocator, List<Long> seatIds) {
+        try {
+            List<SeatStatusChange> actual = scheduleSeatRepository.findAllById(seatIds).stream()
+                    .map(seat -> SeatStatusChange.builder()
+                            .seatId(seat.getSeatId())
+                            .status(seat.getStatus().name())
+                            .build())
+                    .toList();
+            apply(allocator, actual);
+        } catch (RuntimeException e) {
+            log.warn("좌석 배정기 재동기화 실패, 배정기 폐기 - scheduleId: {}, {}", scheduleId, e.getMessage());
+            allocators.remove(scheduleId, allocator);
+        }
+    }
+
+    private void apply(SeatBlockAllocator allocator, List<SeatStatusChange> changes) {
+        List<Long> released = new ArrayList<>();
+        List<Long> occupied = new ArrayList<>();
+        for (SeatStatusChange change : changes) {
+            if (ScheduleSeat.SeatStatus.AVAILABLE.name().equals(change.getStatus())) {
+                released.add(change.getSeatId());
+            } else {
+                occupied.add(change.getSeatId());
+            }
+        }
+        allocator.release(released);
+        allocator.occupy(occupied);
+    }
+
+    /**
+     * 구성 중인 배정기 (구성 완료 전까지 수신한 좌석 변경 보관)
+     */
+    private final class PendingAllocator {
+        private final CompletableFuture<SeatBlockAllocator> result = new CompletableFuture<>();
+        private final List<SeatStatusChange> missed = new ArrayList<>();
+        private boolean done;
+        private boolean invalidated;
+
+        /**
+         * @return false면 이미 구성이 끝났으므로 호출자가 등록된 배정기에 직접 반영해야 함
+         */
+        synchronized boolean buffer(List<SeatStatusChange> changes) {
+            if (done) {
+                return false;
+            }
+            missed.addAll(changes);
+            return true;
+        }
+
+        synchronized void invalidate() {
+            invalidated = true;
+        }
+
+        /**
+         * 놓친 변경을 반영한 뒤 등록 (좌석 구성이 바뀐 경우에는 이번 요청에만 쓰고 등록하지 않음)
+         */
+        void publish(Long scheduleId, SeatBlockAllocator allocator) {
+            synchronized (this) {
+                apply(allocator, missed);
+                missed.clear();
+                if (!invalidated) {
+                    allocators.put(scheduleId, allocator);
+                }
+                done = true;
+            }
+            result.complete(allocator);
+        }
+
+        synchronized void fail(RuntimeException e) {
+            done = true;
+            result.completeExceptionally(e);
+        }
+
+        SeatBlockAllocator await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static Integer parseColNum(String colNum) {
+        try {
+            return Integer.valueOf(colNum.trim());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatJdbcRepository;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatJdbcRepository.SeatCounts;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatJdbcRepository.SeatRow;
+import org.ddcn41.ticketing_system.venue.repository.VenueSeatTemplateRepository;
+import org.ddcn41.ticketing_system.venue.seatmap.CompiledSeatMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 좌석 맵 기준 스케줄 좌석 대량 생성
+ * - 템플릿 모드는 DB 안에서 복제하고, jdbc/copy 모드는 batch-size 단위로 생성해 JDBC 배치 INSERT 또는 COPY로 전송
+ * - 기존 좌석은 유니크 키 충돌로 건너뛰고, 등급 가격이 바뀐 좌석만 일괄 UPDATE
+ * - 호출자의 트랜잭션 안에서 실행
+ *
+ * seat.initialization.mode
+ * - jpa: 기존 엔티티 saveAll 경로 (이 컴포넌트 미사용)
+ * - template: 공연장 좌석 템플릿에서 INSERT ... SELECT 한 번으로 복제 (기본값, 템플릿은 좌석 맵 버전마다 한 번만 전개)
+ * - jdbc: JDBC 배치 INSERT ... ON CONFLICT DO NOTHING
+ * - copy: PostgreSQL COPY (PostgreSQL 커넥션이 아니면 jdbc로 대체)
+ */
+@Slf4j
+@Component
+public class ScheduleSeatBulkGenerator {
+
+    private final ScheduleSeatJdbcRepository jdbcRepository;
+    private final VenueSeatTemplateRepository templateRepository;
+    private final Mode mode;
+    private final int batchSize;
+
+    public ScheduleSeatBulkGenerator(ScheduleSeatJdbcRepository jdbcRepository,
+                                     VenueSeatTemplateRepository templateRepository,
+                                     @Value("${seat.initialization.mode:template}") String mode,
+                                     @Value("${seat.initialization.batch-size:1000}") int batchSize) {
+        this.jdbcRepository = jdbcRepository;
+        this.templateRepository = templateRepository;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.JPA;
+    }
+
+    /**
+     * 좌석 맵의 모든 좌석을 생성하고 가격을 맞춘 뒤 좌석 수 집계 반환
+     */
+    public Result generate(Long scheduleId, Long venueId, CompiledSeatMap seatMap) {
+        SeatCounts before = jdbcRepository.countSeats(scheduleId);
+        long startedAt = System.currentTimeMillis();
+
+        Map<String, BigDecimal> pricing = new LinkedHashMap<>();
+        for (CompiledSeatMap.Section section : seatMap.sections()) {
+            pricing.putIfAbsent(section.grade(), seatMap.priceOrZero(section.grade()));
+        }
+
+        Mode applied = mode;
+        if (mode == Mode.TEMPLATE) {
+            templateRepository.ensureTemplate(venueId, seatMap);
+            jdbcRepository.cloneFromTemplate(scheduleId, venueId, seatMap.fingerprint(), pricing);
+        } else {
+            boolean useCopy = mode == Mode.COPY && jdbcRepository.isCopySupported();
+            if (mode == Mode.COPY && !useCopy) {
+                log.warn("PostgreSQL COPY를 사용할 수 없어 JDBC 배치로 좌석 생성 - scheduleId: {}", scheduleId);
+            }
+            applied = useCopy ? Mode.COPY : Mode.JDBC;
+            stream(scheduleId, seatMap, useCopy);
+        }
+
+        int repriced = jdbcRepository.repriceByGrade(scheduleId, pricing);
+        SeatCounts after = jdbcRepository.countSeats(scheduleId);
+        int created = Math.toIntExact(after.total() - before.total());
+
+        log.info("좌석 대량 생성 완료 - scheduleId: {}, mode: {}, created: {}, repriced: {}, elapsed: {}ms",
+                scheduleId, applied, created, repriced, System.currentTimeMillis() - startedAt);
+        return new Result(created, Math.toIntExact(after.total()), Math.toIntExact(after.available()));
+    }
+
+    private void stream(Long scheduleId, CompiledSeatMap seatMap, boolean useCopy) {
+        List<SeatRow> buffer = new ArrayList<>(batchSize);
+        for (CompiledSeatMap.Section section : seatMap.sections()) {
+            BigDecimal price = seatMap.priceOrZero(section.grade());
+            for (String rowLabel : section.rowLabels()) {
+                for (int c = 0; c < section.cols(); c++) {
+                    buffer.add(new SeatRow(section.zone(), section.grade(), rowLabel,
+                            String.valueOf(section.seatStart() + c), price));
+                    if (buffer.size() >= batchSize) {
+                        write(scheduleId, buffer, useCopy);
+                    }
+                }
+            }
+        }
+        write(scheduleId, buffer, useCopy);
+    }
+
+    private void write(Long scheduleId, List<SeatRow> buffer, boolean useCopy) {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        if (useCopy) {
+            jdbcRepository.copySeats(scheduleId, buffer);
+        } else {
+            jdbcRepository.insertSeats(scheduleId, buffer);
+        }
+        buffer.clear();
+    }
+
+    private enum Mode {
+        JPA, TEMPLATE, JDBC, COPY
+    }
+
+    public record Result(int created, int total, int available) {
+    }
+}
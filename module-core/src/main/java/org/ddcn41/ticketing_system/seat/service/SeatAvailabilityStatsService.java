@@ -0,0 +1,275 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.event.SeatLayoutResetEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 스케줄 × 구역 × 등급 × 상태별 좌석 수 집계 (Redis hash)
+ * - 좌석 상태 전이 커밋 후 해당 필드만 HINCRBY로 증분 갱신 (좌석 테이블 스캔 없음)
+ * - 키가 없으면(최초 조회, TTL 만료, 좌석 재배치) 조회 시점에 GROUP BY 한 번으로 재구성
+ * - 재구성과 동시에 커밋된 전이는 한쪽에 누락/중복될 수 있으므로 TTL마다 DB 기준으로 다시 맞춤
+ *
+ * 키 구조
+ * - seat_stats:{scheduleId}  field "zone|grade|STATUS" → 좌석 수, field "_" → 재구성 표시(좌석 없는 스케줄 구분)
+ *   zone/grade 안의 '\' 와 '|' 는 '\' 로 이스케이프 (구역명에 구분자가 들어가도 필드가 섞이지 않음)
+ */
+@Slf4j
+@Service
+public class SeatAvailabilityStatsService {
+
+    private static final String KEY_PREFIX = "seat_stats:{";
+    private static final String MARKER_FIELD = "_";
+
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            for i = 1, #ARGV, 2 do
+              redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            for i = 2, #ARGV, 2 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlSeconds;
+
+    public SeatAvailabilityStatsService(ScheduleSeatRepository scheduleSeatRepository,
+                                        @Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                        @Value("${seat.stats.ttl-seconds:600}") long ttlSeconds) {
+        this.scheduleSeatRepository = scheduleSeatRepository;
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 좌석 상태 변경 커밋 후 집계 증분 반영 (집계가 없으면 다음 조회 때 재구성)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        for (SeatTransition t : event.transitions()) {
+            deltas.merge(field(t.zone(), t.grade(), t.from()), -1L, Long::sum);
+            deltas.merge(field(t.zone(), t.grade(), t.to()), 1L, Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((field, delta) -> {
+            args.add(field);
+            args.add(String.valueOf(delta));
+        });
+        try {
+            redisTemplate.execute(APPLY_SCRIPT, List.of(key(event.scheduleId())), args.toArray());
+        } catch (Exception e) {
+            // 증분을 잃은 집계는 신뢰할 수 없으므로 삭제하여 재구성 유도
+            log.warn("좌석 집계 증분 반영 실패 - scheduleId: {}, error: {}", event.scheduleId(), e.getMessage());
+            evict(event.scheduleId());
+        }
+    }
+
+    /**
+     * 좌석 배치 재생성 후 집계 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatLayoutReset(SeatLayoutResetEvent event) {
+        evict(event.scheduleId());
+    }
+
+    /**
+     * 스케줄의 구역/등급/상태별 좌석 수
+     */
+    public List<SeatCount> getCounts(Long scheduleId) {
+        return getCounts(List.of(scheduleId)).getOrDefault(scheduleId, List.of());
+    }
+
+    /**
+     * 여러 스케줄의 구역/등급/상태별 좌석 수 (Redis 파이프라인 1회 + 누락분 GROUP BY 1회)
+     */
+    public Map<Long, List<SeatCount>> getCounts(Collection<Long> scheduleIds) {
+        List<Long> ids = scheduleIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, List<SeatCount>> result = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        List<Long> missing = new ArrayList<>();
+        try {
+            List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long id : ids) {
+                    connection.hashCommands().hGetAll(key(id).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Map<String, String> hash = (Map<String, String>) hashes.get(i);
+                if (hash == null || hash.isEmpty()) {
+                    missing.add(ids.get(i));
+                } else {
+                    result.put(ids.get(i), parse(hash));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("좌석 집계 조회 실패, DB 집계로 대체 - error: {}", e.getMessage());
+            missing = ids;
+        }
+
+        if (!missing.isEmpty()) {
+            result.putAll(rebuild(missing));
+        }
+        return result;
+    }
+
+    /**
+     * 스케줄별 등급 → 잔여 좌석 수 (등급명 순)
+     */
+    public Map<Long, Map<String, Integer>> getAvailableByGrade(Collection<Long> scheduleIds) {
+        Map<Long, Map<String, Integer>> result = new HashMap<>();
+        getCounts(scheduleIds).forEach((scheduleId, counts) -> {
+            Map<String, Integer> byGrade = new TreeMap<>();
+            for (SeatCount count : counts) {
+                int available = count.status() == SeatStatus.AVAILABLE ? Math.toIntExact(count.count()) : 0;
+                byGrade.merge(Objects.toString(count.grade(), ""), available, Integer::sum);
+            }
+            result.put(scheduleId, byGrade);
+        });
+        return result;
+    }
+
+    public void evict(Long scheduleId) {
+        try {
+            redisTemplate.delete(key(scheduleId));
+        } catch (Exception e) {
+            log.warn("좌석 집계 무효화 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private Map<Long, List<SeatCount>> rebuild(List<Long> scheduleIds) {
+        Map<Long, List<SeatCount>> rebuilt = new LinkedHashMap<>();
+        scheduleIds.forEach(id -> rebuilt.put(id, new ArrayList<>()));
+        for (Object[] row : scheduleSeatRepository.countSeatsByScheduleIdsAndZoneAndGradeAndStatus(scheduleIds)) {
+            rebuilt.get((Long) row[0]).add(new SeatCount((String) row[1], (String) row[2],
+                    (SeatStatus) row[3], ((Number) row[4]).longValue()));
+        }
+
+        rebuilt.forEach((scheduleId, counts) -> {
+            List<String> args = new ArrayList<>(counts.size() * 2 + 3);
+            args.add(String.valueOf(ttlSeconds));
+            args.add(MARKER_FIELD);
+            args.add("1");
+            for (SeatCount count : counts) {
+                args.add(field(count.zone(), count.grade(), count.status()));
+                args.add(String.valueOf(count.count()));
+            }
+            try {
+                redisTemplate.execute(LOAD_SCRIPT, List.of(key(scheduleId)), args.toArray());
+            } catch (Exception e) {
+                log.warn("좌석 집계 저장 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+            }
+        });
+        return rebuilt;
+    }
+
+    static List<SeatCount> parse(Map<String, String> hash) {
+        List<SeatCount> counts = new ArrayList<>(hash.size());
+        for (Map.Entry<String, String> entry : hash.entrySet()) {
+            List<String> parts = split(entry.getKey());
+            if (parts.size() != 3) {
+                continue; // 표시 필드
+            }
+            long count = Long.parseLong(entry.getValue());
+            if (count <= 0) {
+                continue;
+            }
+            counts.add(new SeatCount(
+                    emptyToNull(parts.get(0)),
+                    emptyToNull(parts.get(1)),
+                    SeatStatus.valueOf(parts.get(2)),
+                    count));
+        }
+        return counts;
+    }
+
+    static String field(String zone, String grade, SeatStatus status) {
+        return escape(zone) + "|" + escape(grade) + "|" + status.name();
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : value.replace("\\", "\\\\").replace("|", "\\|");
+    }
+
+    /**
+     * 이스케이프되지 않은 '|' 기준으로 분리
+     */
+    private static List<String> split(String field) {
+        List<String> parts = new ArrayList<>(3);
+        StringBuilder part = new StringBuilder();
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '\\' && i + 1 < field.length()) {
+                part.append(field.charAt(++i));
+            } else if (c == '|') {
+                parts.add(part.toString());
+                part.setLength(0);
+            } else {
+                part.append(c);
+            }
+        }
+        parts.add(part.toString());
+        return parts;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String key(Long scheduleId) {
+        return KEY_PREFIX + scheduleId + "}";
+    }
+
+    /**
+     * 구역/등급/상태 단위 좌석 수
+     */
+    public record SeatCount(String zone, String grade, SeatStatus status, long count) {
+    }
+}
@@ -0,0 +1,289 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.seat.dto.SeatStatusChange;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatStreamFrame;
+import org.ddcn41.ticketing_system.seat.event.SeatLayoutResetEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄별 좌석 상태 버전 및 최근 변경 이력(ring buffer) 관리
+ * - 좌석 상태가 바뀔 때마다 버전을 1 증가시키고 변경분을 Redis 리스트에 기록
+ * - 클라이언트는 since 버전 이후의 변경분만 받아 로컬 좌석맵을 갱신
+ * - 버전이 버퍼 범위를 벗어나면 전체 스냅샷으로 대체
+ *
+ * 키 구조 (클러스터 환경에서 같은 슬롯에 배치되도록 hash tag 사용)
+ * - seat_state:{scheduleId}:version  현재 버전
+ * - seat_state:{scheduleId}:changes  "version:seatId:STATUS" 항목 리스트
+ * - seat_state:{scheduleId}:floor    이 버전 이후의 변경분은 모두 보존됨
+ *
+ * 기록 후 seat_events:{scheduleId} 채널로 변경분을 발행하여 모든 파드의 실시간 구독자에게 전달
+ * 기록에 실패하면 이력을 리셋하고 reset 프레임을 발행 (리셋도 실패하면 Redis가 복구될 때까지 재시도)
+ * → 이전 버전의 ETag/since는 더 이상 맞지 않아 클라이언트와 좌석 actor가 전체 스냅샷으로 복구
+ */
+@Slf4j
+@Service
+public class SeatChangeLogService {
+
+    public static final String EVENT_CHANNEL_PREFIX = "seat_events:";
+
+    private static final String KEY_PREFIX = "seat_state:{";
+
+    /**
+     * 버전 키가 없으면(최초 또는 TTL 만료) 서버 시각(ms)으로 초기화
+     * - 만료 후 재생성되어도 버전이 과거 값으로 되돌아가지 않도록 보장
+     */
+    private static final String INIT_SNIPPET = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              local t = redis.call('TIME')
+              local base = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+              redis.call('SET', KEYS[1], base)
+              redis.call('SET', KEYS[3], base)
+              redis.call('DEL', KEYS[2])
+            end
+            """;
+
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(INIT_SNIPPET + """
+            local v = redis.call('INCR', KEYS[1])
+            for i = 3, #ARGV do
+              redis.call('RPUSH', KEYS[2], v .. ':' .. ARGV[i])
+            end
+            local cap = tonumber(ARGV[1])
+            local len = redis.call('LLEN', KEYS[2])
+            if len > cap then
+              redis.call('LTRIM', KEYS[2], len - cap, -1)
+              local oldest = redis.call('LINDEX', KEYS[2], 0)
+              local oldestVersion = string.match(oldest, '^(%d+):')
+              redis.call('SET', KEYS[3], oldestVersion)
+            end
+            local ttl = tonumber(ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ttl)
+            redis.call('EXPIRE', KEYS[2], ttl)
+            redis.call('EXPIRE', KEYS[3], ttl)
+            return v
+            """, Long.class);
+
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(INIT_SNIPPET + """
+            local v = redis.call('INCR', KEYS[1])
+            redis.call('DEL', KEYS[2])
+            redis.call('SET', KEYS[3], v)
+            local ttl = tonumber(ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ttl)
+            redis.call('EXPIRE', KEYS[3], ttl)
+            return v
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(INIT_SNIPPET + """
+            local result = { redis.call('GET', KEYS[1]), redis.call('GET', KEYS[3]) }
+            if tonumber(ARGV[1]) >= 0 then
+              local entries = redis.call('LRANGE', KEYS[2], 0, -1)
+              for i = 1, #entries do
+                result[#result + 1] = entries[i]
+              end
+            end
+            return result
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int capacity;
+    private final long ttlSeconds;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 변경분 기록과 리셋이 모두 실패해 이력이 실제 좌석 상태와 어긋난 스케줄
+     */
+    private final Set<Long> pendingResets = ConcurrentHashMap.newKeySet();
+
+    public SeatChangeLogService(@Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                @Value("${seat.change-log.capacity:2048}") int capacity,
+                                @Value("${seat.change-log.ttl-seconds:21600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = capacity;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 좌석 상태 변경 커밋 후 변경 이력 기록
+     * - 기록 실패는 좌석 트랜잭션에 영향을 주지 않음 (이력을 리셋해 클라이언트가 스냅샷으로 복구)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        if (pendingResets.contains(event.scheduleId())) {
+            // 아직 리셋하지 못한 이력에 변경분을 이어 붙이면 빠진 변경이 있는 delta가 만들어짐
+            invalidate(event.scheduleId());
+            return;
+        }
+        try {
+            Long version = append(event.scheduleId(), event.transitions());
+            broadcast(SeatStreamFrame.builder()
+                    .scheduleId(event.scheduleId())
+                    .version(version)
+                    .reset(false)
+                    .changes(event.transitions().stream()
+                            .map(t -> SeatStatusChange.builder().seatId(t.seatId()).status(t.to().name()).build())
+                            .toList())
+                    .build());
+        } catch (Exception e) {
+            log.warn("좌석 변경 이력 기록 실패 - scheduleId: {}, error: {}", event.scheduleId(), e.getMessage());
+            invalidate(event.scheduleId());
+        }
+    }
+
+    /**
+     * 좌석 배치 재생성(초기화) 후 변경 이력 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatLayoutReset(SeatLayoutResetEvent event) {
+        invalidate(event.scheduleId());
+    }
+
+    /**
+     * 리셋하지 못한 스케줄 재시도 (Redis 복구 후 첫 리셋이 성공할 때까지)
+     */
+    @Scheduled(fixedDelayString = "${seat.change-log.reset-retry-ms:1000}")
+    public void retryPendingResets() {
+        for (Long scheduleId : List.copyOf(pendingResets)) {
+            if (!invalidate(scheduleId)) {
+                return; // Redis가 아직 복구되지 않음
+            }
+        }
+    }
+
+    /**
+     * 변경분 기록 후 새 버전 반환
+     */
+    public Long append(Long scheduleId, List<SeatTransition> transitions) {
+        List<String> args = new ArrayList<>(transitions.size() + 2);
+        args.add(String.valueOf(capacity));
+        args.add(String.valueOf(ttlSeconds));
+        for (SeatTransition transition : transitions) {
+            args.add(transition.seatId() + ":" + transition.to().name());
+        }
+        return redisTemplate.execute(APPEND_SCRIPT, keys(scheduleId), args.toArray());
+    }
+
+    /**
+     * 변경 이력을 비우고 버전 증가 (이전 버전을 가진 클라이언트는 전체 스냅샷을 받게 됨)
+     */
+    public Long reset(Long scheduleId) {
+        return redisTemplate.execute(RESET_SCRIPT, keys(scheduleId), String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * 현재 좌석 상태 버전 조회 (Redis 장애 또는 리셋 대기 중이면 null)
+     */
+    public Long currentVersion(Long scheduleId) {
+        if (pendingResets.contains(scheduleId)) {
+            return null;
+        }
+        try {
+            List<?> result = redisTemplate.execute(READ_SCRIPT, keys(scheduleId), "-1");
+            return result == null || result.isEmpty() ? null : Long.valueOf(String.valueOf(result.get(0)));
+        } catch (Exception e) {
+            log.warn("좌석 상태 버전 조회 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * since 버전 이후의 변경분 조회
+     *
+     * @return 변경분 (좌석별 최종 상태로 압축), 버퍼 범위를 벗어났거나 조회 실패/리셋 대기 중이면 null
+     */
+    public Delta changesSince(Long scheduleId, long since) {
+        if (pendingResets.contains(scheduleId)) {
+            return null;
+        }
+        List<?> result;
+        try {
+            result = redisTemplate.execute(READ_SCRIPT, keys(scheduleId), "0");
+        } catch (Exception e) {
+            log.warn("좌석 변경 이력 조회 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+            return null;
+        }
+        if (result == null || result.size() < 2) {
+            return null;
+        }
+
+        long current = Long.parseLong(String.valueOf(result.get(0)));
+        long floor = Long.parseLong(String.valueOf(result.get(1)));
+        if (since > current || since < floor) {
+            return null;
+        }
+
+        Map<Long, String> latest = new LinkedHashMap<>();
+        for (int i = 2; i < result.size(); i++) {
+            String[] parts = String.valueOf(result.get(i)).split(":");
+            if (parts.length != 3 || Long.parseLong(parts[0]) <= since) {
+                continue;
+            }
+            Long seatId = Long.valueOf(parts[1]);
+            latest.remove(seatId); // 마지막 변경 순서를 유지
+            latest.put(seatId, parts[2]);
+        }
+
+        List<SeatStatusChange> changes = latest.entrySet().stream()
+                .map(e -> SeatStatusChange.builder().seatId(e.getKey()).status(e.getValue()).build())
+                .toList();
+        return new Delta(current, changes);
+    }
+
+    /**
+     * 이력 리셋 + reset 프레임 발행 (실패하면 재시도 대상으로 남김)
+     *
+     * @return 리셋에 성공했으면 true
+     */
+    private boolean invalidate(Long scheduleId) {
+        Long version;
+        try {
+            version = reset(scheduleId);
+            pendingResets.remove(scheduleId);
+        } catch (Exception e) {
+            pendingResets.add(scheduleId);
+            log.warn("좌석 변경 이력 초기화 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+            return false;
+        }
+        try {
+            broadcast(SeatStreamFrame.builder()
+                    .scheduleId(scheduleId)
+                    .version(version)
+                    .reset(true)
+                    .changes(List.of())
+                    .build());
+        } catch (Exception e) {
+            log.warn("좌석 reset 프레임 발행 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+        }
+        return true;
+    }
+
+    private void broadcast(SeatStreamFrame frame) throws Exception {
+        redisTemplate.convertAndSend(EVENT_CHANNEL_PREFIX + frame.getScheduleId(), objectMapper.writeValueAsString(frame));
+    }
+
+    private List<String> keys(Long scheduleId) {
+        String prefix = KEY_PREFIX + scheduleId + "}:";
+        return List.of(prefix + "version", prefix + "changes", prefix + "floor");
+    }
+
+    public record Delta(long version, List<SeatStatusChange> changes) {
+    }
+}
@@ -0,0 +1,55 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.seat.actor.SeatActorService;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.user.entity.User;
+import org.ddcn41.ticketing_system.user.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 좌석 락/해제/확정 진입점
+ * - 단일 writer 모드 대상 스케줄은 SeatActorService로, 그 외에는 기존 SeatService로 위임
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatCommandService {
+
+    private final SeatService seatService;
+    private final SeatActorService seatActorService;
+    private final UserRepository userRepository;
+
+    public SeatLockResponse lockSeats(Long scheduleId, List<Long> seatIds, String userId, String sessionId) {
+        if (!seatActorService.isManaged(scheduleId)) {
+            return seatService.lockSeats(seatIds, userId, sessionId);
+        }
+        findUser(userId);
+        return seatActorService.lock(scheduleId, seatIds, userId, sessionId);
+    }
+
+    public boolean releaseSeats(Long scheduleId, List<Long> seatIds, String userId, String sessionId) {
+        if (!seatActorService.isManaged(scheduleId)) {
+            return seatService.releaseSeats(seatIds, userId, sessionId);
+        }
+        User user = findUser(userId);
+        return seatActorService.release(scheduleId, seatIds, userId, sessionId, user.getRole() == User.Role.ADMIN);
+    }
+
+    public boolean confirmSeats(List<Long> seatIds, String userId) {
+        Long scheduleId = seatService.validateSeatsInSameSchedule(seatIds);
+        if (!seatActorService.isManaged(scheduleId)) {
+            return seatService.confirmSeats(seatIds, userId);
+        }
+        findUser(userId);
+        return seatActorService.confirm(scheduleId, seatIds, userId);
+    }
+
+    private User findUser(String userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "userId: " + userId));
+    }
+}
@@ -0,0 +1,414 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.dto.seat.InitializeSeatsJobResponse;
+import org.ddcn41.ticketing_system.common.dto.seat.InitializeSeatsResponse;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 스케줄 좌석 초기화 비동기 작업
+ * - 제한된 워커 풀에서 스케줄 단위로 initialize 호출 (스케줄마다 별도 트랜잭션)
+ * - 진행 상황은 Redis에 기록하여 어느 파드에서든 조회 가능
+ * - 완료된 스케줄 ID를 집합으로 남겨 두므로, 중단된 작업은 resume 시 완료된 스케줄을 건너뛰고 이어서 실행
+ *   (미리보기 작업은 좌석을 만들지 않으므로 완료 집합을 남기지 않음 → 재개 시 전체를 다시 미리보기)
+ * - 실행 권한은 seat_init_job:running 리스(SET NX)로 하나의 작업에만 부여, 실행 중인 파드가 heartbeat로 주기적으로 연장
+ *   (파드가 죽으면 stale-ms 뒤 리스가 만료되어 INTERRUPTED로 보이고 resume 가능)
+ *
+ * Redis 키
+ * - seat_init_job:{jobId}          : 작업 상태 해시 (status, dryRun, total, done, failed, rowsCreated, startedAt, updatedAt, heartbeatAt, finishedAt)
+ * - seat_init_job:{jobId}:done     : 완료된 스케줄 ID 집합
+ * - seat_init_job:{jobId}:failures : 실패한 스케줄 ID → 사유
+ * - seat_init_job:latest           : 가장 최근 작업 ID
+ * - seat_init_job:running          : 실행 중인 작업 ID (TTL = stale-ms)
+ */
+@Slf4j
+@Service
+public class SeatInitializationJobService {
+
+    private static final String JOB_KEY_PREFIX = "seat_init_job:";
+    private static final String LATEST_JOB_KEY = JOB_KEY_PREFIX + "latest";
+    private static final String RUNNING_KEY = JOB_KEY_PREFIX + "running";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+    private static final String STATUS_INTERRUPTED = "INTERRUPTED";
+
+    private static final int MAX_FAILURE_MESSAGE_LENGTH = 200;
+
+    private final ScheduleSeatInitializationService scheduleSeatInitializationService;
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int workers;
+    private final Duration ttl;
+    private final long staleMs;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService heartbeat;
+    private final Set<String> localJobs = ConcurrentHashMap.newKeySet();
+    private volatile boolean shuttingDown;
+
+    public SeatInitializationJobService(ScheduleSeatInitializationService scheduleSeatInitializationService,
+                                        PerformanceScheduleRepository scheduleRepository,
+                                        @Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                                        @Value("${seat.initialization.job.workers:4}") int workers,
+                                        @Value("${seat.initialization.job.ttl-hours:72}") long ttlHours,
+                                        @Value("${seat.initialization.job.stale-ms:300000}") long staleMs) {
+        this.scheduleSeatInitializationService = scheduleSeatInitializationService;
+        this.scheduleRepository = scheduleRepository;
+        this.redisTemplate = redisTemplate;
+        this.workers = Math.max(1, workers);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.staleMs = staleMs;
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(this.workers, this.workers, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(this.workers * 4),
+                r -> new Thread(r, "seat-init-" + threadSeq.incrementAndGet()));
+        this.executor.allowCoreThreadTimeOut(true);
+
+        long heartbeatMs = Math.max(1000L, staleMs / 3);
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "seat-init-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 새 작업 시작 (진행 중인 작업이 있으면 거부)
+     */
+    public InitializeSeatsJobResponse start(boolean dryRun) {
+        String jobId = UUID.randomUUID().toString();
+        claimRun(jobId);
+
+        List<Long> scheduleIds;
+        try {
+            scheduleIds = scheduleRepository.findAllScheduleIds();
+        } catch (RuntimeException e) {
+            releaseRun(jobId);
+            throw e;
+        }
+        String now = String.valueOf(System.currentTimeMillis());
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", STATUS_RUNNING);
+        fields.put("dryRun", String.valueOf(dryRun));
+        fields.put("total", String.valueOf(scheduleIds.size()));
+        fields.put("done", "0");
+        fields.put("failed", "0");
+        fields.put("rowsCreated", "0");
+        fields.put("startedAt", now);
+        fields.put("updatedAt", now);
+        fields.put("heartbeatAt", now);
+        redisTemplate.opsForHash().putAll(jobKey(jobId), fields);
+        redisTemplate.expire(jobKey(jobId), ttl);
+        redisTemplate.opsForValue().set(LATEST_JOB_KEY, jobId, ttl);
+
+        log.info("좌석 초기화 작업 시작 - jobId: {}, schedules: {}, dryRun: {}", jobId, scheduleIds.size(), dryRun);
+        launch(jobId, dryRun, scheduleIds, Set.of());
+        return getStatus(jobId);
+    }
+
+    /**
+     * 중단된 작업 재개 (완료된 스케줄은 건너뛰고 실패한 스케줄은 다시 시도)
+     */
+    public InitializeSeatsJobResponse resume(String jobId) {
+        Map<String, String> job = loadJob(jobId);
+        if (STATUS_COMPLETED.equals(job.get("status")) && parseLong(job.get("failed")) == 0) {
+            return getStatus(jobId);
+        }
+        claimRun(jobId);
+
+        List<Long> scheduleIds;
+        Set<String> done;
+        try {
+            Set<String> completed = redisTemplate.opsForSet().members(doneKey(jobId));
+            done = completed == null ? Set.of() : completed;
+            scheduleIds = scheduleRepository.findAllScheduleIds();
+        } catch (RuntimeException e) {
+            releaseRun(jobId);
+            throw e;
+        }
+        long alreadyDone = scheduleIds.stream().filter(id -> done.contains(String.valueOf(id))).count();
+
+        String now = String.valueOf(System.currentTimeMillis());
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", STATUS_RUNNING);
+        fields.put("total", String.valueOf(scheduleIds.size()));
+        fields.put("done", String.valueOf(alreadyDone));
+        fields.put("failed", "0");
+        fields.put("updatedAt", now);
+        fields.put("heartbeatAt", now);
+        redisTemplate.delete(failuresKey(jobId));
+        redisTemplate.opsForHash().putAll(jobKey(jobId), fields);
+        redisTemplate.opsForHash().delete(jobKey(jobId), "finishedAt");
+
+        log.info("좌석 초기화 작업 재개 - jobId: {}, done: {}, remaining: {}",
+                jobId, alreadyDone, scheduleIds.size() - alreadyDone);
+        launch(jobId, Boolean.parseBoolean(job.get("dryRun")), scheduleIds, done);
+        return getStatus(jobId);
+    }
+
+    public InitializeSeatsJobResponse getStatus(String jobId) {
+        Map<String, String> job = loadJob(jobId);
+
+        int total = (int) parseLong(job.get("total"));
+        int done = (int) parseLong(job.get("done"));
+        int failed = (int) parseLong(job.get("failed"));
+        long rowsCreated = parseLong(job.get("rowsCreated"));
+        long startedAt = parseLong(job.get("startedAt"));
+        long updatedAt = parseLong(job.get("updatedAt"));
+        Long finishedAt = job.containsKey("finishedAt") ? parseLong(job.get("finishedAt")) : null;
+
+        String status = job.get("status");
+        if (STATUS_RUNNING.equals(status) && !isActive(jobId)) {
+            status = STATUS_INTERRUPTED; // 실행하던 파드가 종료됨
+        }
+
+        long elapsedMs = Math.max(1L, (finishedAt != null ? finishedAt : updatedAt) - startedAt);
+        Map<Long, String> failures = new TreeMap<>();
+        redisTemplate.<String, String>opsForHash().entries(failuresKey(jobId))
+                .forEach((id, reason) -> failures.put(Long.valueOf(id), reason));
+
+        return InitializeSeatsJobResponse.builder()
+                .jobId(jobId)
+                .status(status)
+                .dryRun(Boolean.parseBoolean(job.get("dryRun")))
+                .total(total)
+                .done(done)
+                .failed(failed)
+                .remaining(Math.max(0, total - done - failed))
+                .rowsCreated(rowsCreated)
+                .rowsPerSecond(rowsCreated * 1000.0 / elapsedMs)
+                .startedAt(toLocalDateTime(startedAt))
+                .updatedAt(toLocalDateTime(updatedAt))
+                .finishedAt(finishedAt == null ? null : toLocalDateTime(finishedAt))
+                .failures(failures)
+                .build();
+    }
+
+    public InitializeSeatsJobResponse getLatestStatus() {
+        String latest = redisTemplate.opsForValue().get(LATEST_JOB_KEY);
+        if (latest == null) {
+            throw new BusinessException(ErrorCode.SEAT_INIT_JOB_NOT_FOUND);
+        }
+        return getStatus(latest);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        heartbeat.shutdownNow();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private void launch(String jobId, boolean dryRun, List<Long> scheduleIds, Set<String> done) {
+        Queue<Long> pending = new ConcurrentLinkedQueue<>();
+        for (Long scheduleId : scheduleIds) {
+            if (!done.contains(String.valueOf(scheduleId))) {
+                pending.add(scheduleId);
+            }
+        }
+
+        int workerCount = Math.min(workers, pending.size());
+        if (workerCount == 0) {
+            finish(jobId);
+            return;
+        }
+
+        localJobs.add(jobId);
+        AtomicInteger activeWorkers = new AtomicInteger(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            executor.execute(() -> {
+                try {
+                    drain(jobId, dryRun, pending);
+                } finally {
+                    if (activeWorkers.decrementAndGet() == 0) {
+                        finish(jobId);
+                    }
+                }
+            });
+        }
+    }
+
+    private void drain(String jobId, boolean dryRun, Queue<Long> pending) {
+        Long scheduleId;
+        while (!shuttingDown && (scheduleId = pending.poll()) != null) {
+            try {
+                InitializeSeatsResponse result = scheduleSeatInitializationService.initialize(scheduleId, dryRun);
+                recordDone(jobId, scheduleId, result.getCreated(), dryRun);
+            } catch (RuntimeException e) {
+                log.warn("스케줄 좌석 초기화 실패 - jobId: {}, scheduleId: {}, error: {}", jobId, scheduleId, e.getMessage());
+                recordFailure(jobId, scheduleId, e);
+            }
+        }
+    }
+
+    private void recordDone(String jobId, Long scheduleId, int created, boolean dryRun) {
+        try {
+            if (!dryRun) {
+                redisTemplate.opsForSet().add(doneKey(jobId), String.valueOf(scheduleId));
+                redisTemplate.expire(doneKey(jobId), ttl);
+            }
+            redisTemplate.opsForHash().increment(jobKey(jobId), "done", 1);
+            redisTemplate.opsForHash().increment(jobKey(jobId), "rowsCreated", created);
+            redisTemplate.opsForHash().put(jobKey(jobId), "updatedAt", String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("좌석 초기화 진행 기록 실패 - jobId: {}, scheduleId: {}", jobId, scheduleId, e);
+        }
+    }
+
+    private void recordFailure(String jobId, Long scheduleId, RuntimeException cause) {
+        String reason = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+        try {
+            redisTemplate.opsForHash().put(failuresKey(jobId), String.valueOf(scheduleId),
+                    reason.length() > MAX_FAILURE_MESSAGE_LENGTH ? reason.substring(0, MAX_FAILURE_MESSAGE_LENGTH) : reason);
+            redisTemplate.expire(failuresKey(jobId), ttl);
+            redisTemplate.opsForHash().increment(jobKey(jobId), "failed", 1);
+            redisTemplate.opsForHash().put(jobKey(jobId), "updatedAt", String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("좌석 초기화 실패 기록 실패 - jobId: {}, scheduleId: {}", jobId, scheduleId, e);
+        }
+    }
+
+    private void finish(String jobId) {
+        localJobs.remove(jobId);
+        String status = shuttingDown ? STATUS_INTERRUPTED : STATUS_COMPLETED;
+        try {
+            String now = String.valueOf(System.currentTimeMillis());
+            redisTemplate.opsForHash().putAll(jobKey(jobId), Map.of("status", status, "updatedAt", now, "finishedAt", now));
+        } catch (Exception e) {
+            log.warn("좌석 초기화 작업 종료 기록 실패 - jobId: {}", jobId, e);
+        }
+        releaseRun(jobId);
+        log.info("좌석 초기화 작업 종료 - jobId: {}, status: {}", jobId, status);
+    }
+
+    /**
+     * 실행 리스 획득 (이미 다른 작업이 실행 중이면 거부)
+     */
+    private void claimRun(String jobId) {
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(RUNNING_KEY, jobId, Duration.ofMillis(staleMs));
+        if (!Boolean.TRUE.equals(claimed)) {
+            String holder = redisTemplate.opsForValue().get(RUNNING_KEY);
+            throw new BusinessException(ErrorCode.SEAT_INIT_JOB_RUNNING, "jobId: " + holder);
+        }
+    }
+
+    private void releaseRun(String jobId) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(RUNNING_KEY), jobId);
+        } catch (Exception e) {
+            log.warn("좌석 초기화 실행 리스 해제 실패 - jobId: {}, error: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 파드에서 실행 중인 작업의 리스 연장 + heartbeatAt 기록 (스케줄 하나가 오래 걸려도 중단으로 보이지 않도록)
+     */
+    private void heartbeat() {
+        for (String jobId : localJobs) {
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(RUNNING_KEY), jobId, String.valueOf(staleMs));
+                if (renewed == null || renewed == 0L) {
+                    log.warn("좌석 초기화 실행 리스 상실 - jobId: {}", jobId);
+                }
+                redisTemplate.opsForHash().put(jobKey(jobId), "heartbeatAt", String.valueOf(System.currentTimeMillis()));
+            } catch (Exception e) {
+                log.warn("좌석 초기화 heartbeat 실패 - jobId: {}, error: {}", jobId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이 파드에서 실행 중이거나, 실행 리스를 보유한 작업 (리스는 heartbeat로만 연장되므로 파드가 죽으면 stale-ms 뒤 만료)
+     */
+    private boolean isActive(String jobId) {
+        if (localJobs.contains(jobId)) {
+            return true;
+        }
+        return jobId.equals(redisTemplate.opsForValue().get(RUNNING_KEY));
+    }
+
+    private Map<String, String> loadJob(String jobId) {
+        Map<String, String> job = redisTemplate.<String, String>opsForHash().entries(jobKey(jobId));
+        if (job.isEmpty()) {
+            throw new BusinessException(ErrorCode.SEAT_INIT_JOB_NOT_FOUND, "jobId: " + jobId);
+        }
+        return job;
+    }
+
+    private static String jobKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId;
+    }
+
+    private static String doneKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId + ":done";
+    }
+
+    private static String failuresKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId + ":failures";
+    }
+
+    private static long parseLong(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -6,20 +6,25 @@ import org.ddcn41.ticketing_system.common.exception.ErrorCode;
 import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
 import org.ddcn41.ticketing_system.seat.dto.SeatDto;
 import org.ddcn41.ticketing_system.seat.dto.response.SeatAvailabilityResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatChangesResponse;
 import org.ddcn41.ticketing_system.seat.dto.response.SeatLockResponse;
 import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat;
 import org.ddcn41.ticketing_system.seat.entity.SeatLock;
+import org.ddcn41.ticketing_system.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
 import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
 import org.ddcn41.ticketing_system.seat.repository.SeatLockRepository;
 import org.ddcn41.ticketing_system.user.entity.User;
 import org.ddcn41.ticketing_system.user.repository.UserRepository;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -41,6 +46,8 @@ public class SeatService {
     private final PerformanceScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final SeatChangeLogService seatChangeLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
 
@@ -48,13 +55,15 @@ public class SeatService {
     private static final int LOCK_DURATION_MINUTES = 1;
     private static final String REDIS_LOCK_PREFIX = "seat_lock:";
 
-    public SeatService(ObjectProvider<SeatService> seatServiceProvider, ScheduleSeatRepository scheduleSeatRepository, SeatLockRepository seatLockRepository, PerformanceScheduleRepository scheduleRepository, UserRepository userRepository, @Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate) {
+    public SeatService(ObjectProvider<SeatService> seatServiceProvider, ScheduleSeatRepository scheduleSeatRepository, SeatLockRepository seatLockRepository, PerformanceScheduleRepository scheduleRepository, UserRepository userRepository, @Qualifier("stringRedisTemplate") RedisTemplate<String, String> redisTemplate, SeatChangeLogService seatChangeLogService, ApplicationEventPublisher eventPublisher) {
         this.seatServiceProvider = seatServiceProvider;
         this.scheduleSeatRepository = scheduleSeatRepository;
         this.seatLockRepository = seatLockRepository;
         this.scheduleRepository = scheduleRepository;
         this.userRepository = userRepository;
         this.redisTemplate = redisTemplate;
+        this.seatChangeLogService = seatChangeLogService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -62,6 +71,15 @@ public class SeatService {
      */
     @Transactional(readOnly = true)
     public SeatAvailabilityResponse getSeatsAvailability(Long scheduleId) {
+        return getSeatsAvailability(scheduleId, seatChangeLogService.currentVersion(scheduleId));
+    }
+
+    /**
+     * 스케줄의 모든 좌석 상태 조회 (버전 지정)
+     * - 버전은 좌석 조회 이전에 읽은 값이어야 함 (이후 변경분은 델타로 다시 적용되어도 무방)
+     */
+    @Transactional(readOnly = true)
+    public SeatAvailabilityResponse getSeatsAvailability(Long scheduleId, Long version) {
         List<ScheduleSeat> seats = scheduleSeatRepository.findBySchedule_ScheduleId(scheduleId);
 
         List<SeatDto> seatDtos = seats.stream()
@@ -74,12 +92,49 @@ public class SeatService {
 
         return SeatAvailabilityResponse.builder()
                 .scheduleId(scheduleId)
+                .version(version)
                 .totalSeats(seats.size())
                 .availableSeats((int) availableCount)
                 .seats(seatDtos)
                 .build();
     }
 
+    /**
+     * 현재 좌석 상태 버전 조회 (ETag 용, Redis 장애 시 null)
+     */
+    @Transactional(readOnly = true)
+    public Long getSeatStateVersion(Long scheduleId) {
+        return seatChangeLogService.currentVersion(scheduleId);
+    }
+
+    /**
+     * since 버전 이후 변경된 좌석만 조회
+     * - 버전이 너무 오래되었거나 변경 이력을 사용할 수 없으면 전체 스냅샷 반환
+     */
+    @Transactional(readOnly = true)
+    public SeatChangesResponse getSeatChanges(Long scheduleId, long since) {
+        SeatChangeLogService.Delta delta = seatChangeLogService.changesSince(scheduleId, since);
+        if (delta != null) {
+            return SeatChangesResponse.builder()
+                    .scheduleId(scheduleId)
+                    .sinceVersion(since)
+                    .version(delta.version())
+                    .fullSnapshot(false)
+                    .changes(delta.changes())
+                    .build();
+        }
+
+        SeatAvailabilityResponse snapshot = getSeatsAvailability(scheduleId);
+        return SeatChangesResponse.builder()
+                .scheduleId(scheduleId)
+                .sinceVersion(since)
+                .version(snapshot.getVersion())
+                .fullSnapshot(true)
+                .changes(List.of())
+                .snapshot(snapshot)
+                .build();
+    }
+
     /**
      * 특정 좌석들의 가용성 확인
      */
@@ -155,6 +210,7 @@ public class SeatService {
 
             int newlyLocked = 0;
             Long scheduleIdForCounter = null;
+            List<SeatTransition> transitions = new ArrayList<>();
             for (ScheduleSeat seat : seats) {
                 // 기존 락이 있다면 연장, 없다면 새로 생성
                 Optional<SeatLock> existingLock = seatLockRepository
@@ -181,6 +237,7 @@ public class SeatService {
                 if (seat.getStatus() == ScheduleSeat.SeatStatus.AVAILABLE) {
                     newlyLocked++;
                 }
+                transitions.add(SeatTransition.of(seat, ScheduleSeat.SeatStatus.LOCKED));
                 seat.setStatus(ScheduleSeat.SeatStatus.LOCKED);
                 scheduleSeatRepository.save(seat);
 
@@ -198,6 +255,7 @@ public class SeatService {
                 scheduleRepository.refreshScheduleStatus(scheduleIdForCounter);
             }
 
+            publishSeatTransitions(transitions);
             return SeatLockResponse.success("좌석 락 성공", expiresAt);
 
         } catch (BusinessException e) {
@@ -219,6 +277,7 @@ public class SeatService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "userId: " + userId));
 
         boolean allReleased = true;
+        List<SeatTransition> transitions = new ArrayList<>();
 
         for (Long seatId : seatIds) {
             Optional<SeatLock> lockOpt = seatLockRepository
@@ -229,13 +288,14 @@ public class SeatService {
 
                 // 권한 확인 (본인 또는 관리자)
                 if (isSameUserOrSession(lock, user, sessionId) || user.getRole() == User.Role.ADMIN) {
-                    releaseSingleSeat(lock);
+                    transitions.add(releaseSingleSeat(lock));
                 } else {
                     allReleased = false;
                 }
             }
         }
 
+        publishSeatTransitions(transitions);
         return allReleased;
     }
 
@@ -247,6 +307,7 @@ public class SeatService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND, "userId: " + userId));
 
         List<ScheduleSeat> seats = scheduleSeatRepository.findAllById(seatIds);
+        List<SeatTransition> transitions = new ArrayList<>();
 
         for (ScheduleSeat seat : seats) {
             // 해당 사용자의 락이 있는지 확인
@@ -255,6 +316,7 @@ public class SeatService {
 
             if (lockOpt.isPresent()) {
                 // 좌석 상태를 예약됨으로 변경
+                transitions.add(SeatTransition.of(seat, ScheduleSeat.SeatStatus.BOOKED));
                 seat.setStatus(ScheduleSeat.SeatStatus.BOOKED);
                 scheduleSeatRepository.save(seat);
 
@@ -272,6 +334,7 @@ public class SeatService {
             }
         }
 
+        publishSeatTransitions(transitions);
         return true;
     }
 
@@ -283,9 +346,11 @@ public class SeatService {
 
         int restored = 0;
         Long scheduleIdForCounter = null;
+        List<SeatTransition> transitions = new ArrayList<>();
 
         for (ScheduleSeat seat : seats) {
             if (seat.getStatus() == ScheduleSeat.SeatStatus.BOOKED) {
+                transitions.add(SeatTransition.of(seat, ScheduleSeat.SeatStatus.AVAILABLE));
                 seat.setStatus(ScheduleSeat.SeatStatus.AVAILABLE);
                 scheduleSeatRepository.save(seat);
                 restored++;
@@ -303,6 +368,7 @@ public class SeatService {
             scheduleRepository.refreshScheduleStatus(scheduleIdForCounter);
         }
 
+        publishSeatTransitions(transitions);
         return true;
     }
 
@@ -313,9 +379,11 @@ public class SeatService {
         List<SeatLock> expiredLocks = seatLockRepository
                 .findByStatusAndExpiresAtBefore(SeatLock.LockStatus.ACTIVE, LocalDateTime.now());
 
+        List<SeatTransition> transitions = new ArrayList<>();
         for (SeatLock lock : expiredLocks) {
-            releaseSingleSeat(lock);
+            transitions.add(releaseSingleSeat(lock));
         }
+        publishSeatTransitions(transitions);
     }
 
     /**
@@ -328,9 +396,11 @@ public class SeatService {
         List<SeatLock> userLocks = seatLockRepository
                 .findByUserAndStatus(user, SeatLock.LockStatus.ACTIVE);
 
+        List<SeatTransition> transitions = new ArrayList<>();
         for (SeatLock lock : userLocks) {
-            releaseSingleSeat(lock);
+            transitions.add(releaseSingleSeat(lock));
         }
+        publishSeatTransitions(transitions);
     }
 
     /**
@@ -447,7 +517,7 @@ public class SeatService {
 
     // === Private Helper Methods ===
 
-    private void releaseSingleSeat(SeatLock lock) {
+    private SeatTransition releaseSingleSeat(SeatLock lock) {
         try {
             // 락 상태 변경
             lock.setStatus(SeatLock.LockStatus.RELEASED);
@@ -457,6 +527,7 @@ public class SeatService {
             ScheduleSeat seat = lock.getSeat();
             boolean wasLockedOrBooked = (seat.getStatus() == ScheduleSeat.SeatStatus.LOCKED)
                     || (seat.getStatus() == ScheduleSeat.SeatStatus.BOOKED);
+            SeatTransition transition = SeatTransition.of(seat, ScheduleSeat.SeatStatus.AVAILABLE);
             seat.setStatus(ScheduleSeat.SeatStatus.AVAILABLE);
             scheduleSeatRepository.save(seat);
 
@@ -474,11 +545,22 @@ public class SeatService {
             String lockKey = REDIS_LOCK_PREFIX + seat.getSeatId();
             redisTemplate.delete(lockKey);
 
+            return transition;
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.SEAT_LOCK_CANCEL_FAILED);
         }
     }
 
+    /**
+     * 좌석 상태 전이를 스케줄별 이벤트로 발행 (커밋 후 리스너에서 처리)
+     */
+    private void publishSeatTransitions(List<SeatTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        SeatStatusChangedEvent.groupBySchedule(transitions).forEach(eventPublisher::publishEvent);
+    }
+
     private void rollbackRedisLocks(List<String> lockKeys, String lockValue) {
         for (String lockKey : lockKeys) {
             try {
@@ -0,0 +1,194 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.seat.dto.SeatStatusChange;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatStreamFrame;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 스케줄별 좌석 상태 실시간 전송 (SSE)
+ * - Redis pub/sub(seat_events:*)로 모든 파드의 좌석 변경을 수신
+ * - 수신한 변경분은 스케줄별로 모아 두었다가 flush 주기마다 하나의 프레임으로 전송
+ *   (매진 직전 폭주 상황에서도 클라이언트당 초당 프레임 수가 일정하게 유지됨)
+ * - 이 파드에 구독자가 없는 스케줄의 메시지는 버림
+ */
+@Slf4j
+@Service
+public class SeatStreamService implements MessageListener {
+
+    private static final String FRAME_EVENT = "seat-changes";
+    private static final String INIT_EVENT = "seat-version";
+
+    private final SeatChangeLogService seatChangeLogService;
+    private final long emitterTimeoutMs;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, PendingFrame> pendingFrames = new ConcurrentHashMap<>();
+
+    public SeatStreamService(SeatChangeLogService seatChangeLogService,
+                             @Value("${seat.stream.timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.seatChangeLogService = seatChangeLogService;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    /**
+     * 스케줄 좌석 상태 구독
+     * - 연결 직후 현재 버전을 전송하므로 클라이언트는 해당 버전 기준으로 스냅샷/변경분을 조회
+     */
+    public SseEmitter subscribe(Long scheduleId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        List<SseEmitter> scheduleEmitters = emitters.computeIfAbsent(scheduleId, id -> new CopyOnWriteArrayList<>());
+        scheduleEmitters.add(emitter);
+
+        Runnable remove = () -> removeEmitter(scheduleId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        try {
+            Long version = seatChangeLogService.currentVersion(scheduleId);
+            emitter.send(SseEmitter.event()
+                    .name(INIT_EVENT)
+                    .data(objectMapper.writeValueAsString(SeatStreamFrame.builder()
+                            .scheduleId(scheduleId)
+                            .version(version)
+                            .reset(false)
+                            .changes(List.of())
+                            .build())));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Redis pub/sub 메시지 수신 → 스케줄별 대기 프레임에 병합
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SeatStreamFrame frame = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), SeatStreamFrame.class);
+            if (frame.getScheduleId() == null || !emitters.containsKey(frame.getScheduleId())) {
+                return;
+            }
+            // compute는 flush의 remove와 원자적으로 동작하므로 병합 중인 변경분이 유실되지 않음
+            pendingFrames.compute(frame.getScheduleId(), (id, pending) -> {
+                PendingFrame target = pending != null ? pending : new PendingFrame();
+                target.merge(frame);
+                return target;
+            });
+        } catch (Exception e) {
+            log.warn("좌석 이벤트 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 중인 변경분을 스케줄별 단일 프레임으로 전송
+     */
+    @Scheduled(fixedDelayString = "${seat.stream.flush-interval-ms:200}")
+    public void flush() {
+        for (Long scheduleId : new ArrayList<>(pendingFrames.keySet())) {
+            PendingFrame pending = pendingFrames.remove(scheduleId);
+            List<SseEmitter> scheduleEmitters = emitters.get(scheduleId);
+            if (pending == null || scheduleEmitters == null || scheduleEmitters.isEmpty()) {
+                continue;
+            }
+
+            String payload;
+            try {
+                payload = objectMapper.writeValueAsString(pending.toFrame(scheduleId));
+            } catch (IOException e) {
+                log.warn("좌석 프레임 직렬화 실패 - scheduleId: {}, error: {}", scheduleId, e.getMessage());
+                continue;
+            }
+
+            for (SseEmitter emitter : scheduleEmitters) {
+                send(scheduleId, emitter, SseEmitter.event().name(FRAME_EVENT).data(payload));
+            }
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서 유휴 연결 종료 방지용 heartbeat
+     */
+    @Scheduled(fixedDelayString = "${seat.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        emitters.forEach((scheduleId, scheduleEmitters) -> {
+            for (SseEmitter emitter : scheduleEmitters) {
+                send(scheduleId, emitter, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    private void send(Long scheduleId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (Exception e) {
+            // 끊어진 연결은 정리
+            removeEmitter(scheduleId, emitter);
+        }
+    }
+
+    private void removeEmitter(Long scheduleId, SseEmitter emitter) {
+        emitters.computeIfPresent(scheduleId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * flush 주기 동안 누적된 변경분 (좌석별 최종 상태만 유지)
+     */
+    private static final class PendingFrame {
+        private final Map<Long, String> changes = new LinkedHashMap<>();
+        private long version;
+        private boolean reset;
+
+        synchronized void merge(SeatStreamFrame frame) {
+            if (frame.getVersion() != null) {
+                version = Math.max(version, frame.getVersion());
+            }
+            if (frame.isReset()) {
+                // 좌석 구성이 바뀌면 이전 변경분은 의미가 없음
+                reset = true;
+                changes.clear();
+                return;
+            }
+            if (reset || frame.getChanges() == null) {
+                return;
+            }
+            for (SeatStatusChange change : frame.getChanges()) {
+                changes.remove(change.getSeatId());
+                changes.put(change.getSeatId(), change.getStatus());
+            }
+        }
+
+        synchronized SeatStreamFrame toFrame(Long scheduleId) {
+            return SeatStreamFrame.builder()
+                    .scheduleId(scheduleId)
+                    .version(version)
+                    .reset(reset)
+                    .changes(changes.entrySet().stream()
+                            .map(e -> SeatStatusChange.builder().seatId(e.getKey()).status(e.getValue()).build())
+                            .toList())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatZoneMapResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatZoneSummaryResponse;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 구역 단위 좌석 조회 (대형 공연장용 경량 응답)
+ * - 구역/등급별 상태 요약
+ * - 구역 좌석 맵: 등급·가격은 섹션 단위로, 좌석 상태는 행 단위 문자열로 압축
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SeatZoneService {
+
+    private final ScheduleSeatRepository scheduleSeatRepository;
+    private final SeatAvailabilityStatsService seatAvailabilityStatsService;
+
+    /**
+     * 구역/등급별 좌석 상태 요약 (증분 집계 사용, 좌석 테이블 스캔 없음)
+     */
+    public SeatZoneSummaryResponse getZoneSummary(Long scheduleId, Long version) {
+        Map<String, SeatZoneSummaryResponse.ZoneSummary> summaries = new TreeMap<>();
+        for (SeatAvailabilityStatsService.SeatCount row : seatAvailabilityStatsService.getCounts(scheduleId)) {
+            String zone = row.zone();
+            String grade = row.grade();
+            SeatStatus status = row.status();
+            long count = row.count();
+
+            SeatZoneSummaryResponse.ZoneSummary summary = summaries.computeIfAbsent(
+                    Objects.toString(zone, "") + "|" + Objects.toString(grade, ""),
+                    k -> SeatZoneSummaryResponse.ZoneSummary.builder().zone(zone).grade(grade).build());
+            summary.setTotal(summary.getTotal() + count);
+            switch (status) {
+                case AVAILABLE -> summary.setAvailable(summary.getAvailable() + count);
+                case LOCKED -> summary.setLocked(summary.getLocked() + count);
+                case BOOKED -> summary.setBooked(summary.getBooked() + count);
+            }
+        }
+
+        return SeatZoneSummaryResponse.builder()
+                .scheduleId(scheduleId)
+                .version(version)
+                .zones(new ArrayList<>(summaries.values()))
+                .build();
+    }
+
+    /**
+     * 구역 좌석 맵 (섹션 = 등급 + 가격, 행 단위 상태 문자열)
+     */
+    public SeatZoneMapResponse getZoneSeatMap(Long scheduleId, String zone, Long version) {
+        List<Object[]> rows = scheduleSeatRepository.findZoneSeatsByScheduleId(scheduleId, zone);
+        if (rows.isEmpty()) {
+            throw new BusinessException(ErrorCode.SEAT_NOT_FOUND, "scheduleId: " + scheduleId + ", zone: " + zone);
+        }
+
+        // (등급, 가격) → 행 라벨 → 좌석 목록
+        Map<String, SectionBuilder> sections = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            String grade = (String) row[1];
+            BigDecimal price = (BigDecimal) row[4];
+            String sectionKey = grade + "|" + (price == null ? "" : price.stripTrailingZeros().toPlainString());
+            sections.computeIfAbsent(sectionKey, k -> new SectionBuilder(grade, price))
+                    .rows.computeIfAbsent((String) row[2], k -> new ArrayList<>())
+                    .add(ZoneSeat.of((Long) row[0], (String) row[3], (SeatStatus) row[5]));
+        }
+
+        List<SeatZoneMapResponse.Section> result = sections.values().stream()
+                .map(SectionBuilder::build)
+                .toList();
+
+        return SeatZoneMapResponse.builder()
+                .scheduleId(scheduleId)
+                .version(version)
+                .zone(zone)
+                .sections(result)
+                .build();
+    }
+
+    // === Private Helper Methods ===
+
+    private static SeatZoneMapResponse.Row encodeRow(String rowLabel, List<ZoneSeat> seats) {
+        if (seats.stream().allMatch(s -> s.colNumber() != null)) {
+            seats.sort(Comparator.comparing(ZoneSeat::colNumber));
+            int colStart = seats.getFirst().colNumber();
+            int width = seats.getLast().colNumber() - colStart + 1;
+
+            char[] availability = new char[width];
+            Arrays.fill(availability, '_');
+            List<Long> seatIds = new ArrayList<>(Collections.nCopies(width, (Long) null));
+            for (ZoneSeat seat : seats) {
+                int offset = seat.colNumber() - colStart;
+                availability[offset] = statusCode(seat.status());
+                seatIds.set(offset, seat.seatId());
+            }
+            return SeatZoneMapResponse.Row.builder()
+                    .rowLabel(rowLabel)
+                    .colStart(colStart)
+                    .availability(new String(availability))
+                    .seatIds(seatIds)
+                    .build();
+        }
+
+        // 숫자가 아닌 열 번호가 섞인 행은 열 번호를 그대로 전달
+        seats.sort(Comparator.comparing(ZoneSeat::colNum, Comparator.nullsLast(Comparator.naturalOrder())));
+        StringBuilder availability = new StringBuilder(seats.size());
+        seats.forEach(seat -> availability.append(statusCode(seat.status())));
+        return SeatZoneMapResponse.Row.builder()
+                .rowLabel(rowLabel)
+                .availability(availability.toString())
+                .seatIds(seats.stream().map(ZoneSeat::seatId).toList())
+                .colNums(seats.stream().map(ZoneSeat::colNum).toList())
+                .build();
+    }
+
+    private static char statusCode(SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> 'A';
+            case LOCKED -> 'L';
+            case BOOKED -> 'B';
+        };
+    }
+
+    /**
+     * 행 라벨 정렬 (A, B, ..., Z, AA 순서 — 길이 우선 후 사전순, 라벨 없는 좌석은 맨 뒤)
+     */
+    private static final Comparator<String> ROW_LABEL_ORDER = Comparator.nullsLast(
+            Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+
+    private static final class SectionBuilder {
+        private final String grade;
+        private final BigDecimal price;
+        private final Map<String, List<ZoneSeat>> rows = new TreeMap<>(ROW_LABEL_ORDER);
+
+        private SectionBuilder(String grade, BigDecimal price) {
+            this.grade = grade;
+            this.price = price;
+        }
+
+        private SeatZoneMapResponse.Section build() {
+            return SeatZoneMapResponse.Section.builder()
+                    .grade(grade)
+                    .price(price)
+                    .rows(rows.entrySet().stream()
+                            .map(e -> encodeRow(e.getKey(), e.getValue()))
+                            .toList())
+                    .build();
+        }
+    }
+
+    private record ZoneSeat(Long seatId, String colNum, Integer colNumber, SeatStatus status) {
+        static ZoneSeat of(Long seatId, String colNum, SeatStatus status) {
+            Integer colNumber = null;
+            if (colNum != null) {
+                try {
+                    colNumber = Integer.valueOf(colNum.trim());
+                } catch (NumberFormatException e) {
+                    colNumber = null;
+                }
+            }
+            return new ZoneSeat(seatId, colNum, colNumber, status);
+        }
+    }
+}
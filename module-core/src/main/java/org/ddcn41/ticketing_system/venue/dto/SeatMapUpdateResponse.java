@@ -0,0 +1,32 @@
+package org.ddcn41.ticketing_system.venue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 맵 변경 결과 (좌표 단위 차이 + 반영된 스케줄)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatMapUpdateResponse {
+    private Long venueId;
+    private String fingerprint;
+
+    private int addedSeats;
+    private int removedSeats;
+    private int regradedSeats;
+    private Map<String, BigDecimal> repricedGrades;
+
+    /**
+     * 변경이 반영된 예정 스케줄
+     */
+    private List<Long> updatedScheduleIds;
+}
@@ -0,0 +1,106 @@
+package org.ddcn41.ticketing_system.venue.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.venue.seatmap.CompiledSeatMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공연장 좌석 템플릿 (venue_seat_templates) JDBC 저장소
+ * - 좌석 맵 버전(fingerprint)마다 좌석 좌표를 한 번만 전개해 두고, 스케줄 좌석은 이 테이블에서 INSERT ... SELECT로 복제
+ * - 공연장 단위 advisory lock: 템플릿을 읽는(복제하는) 트랜잭션은 공유 잠금을 커밋까지 유지하고,
+ *   이전 버전 삭제는 다른 트랜잭션이 공유 잠금을 갖고 있지 않을 때만 수행 (복제 중인 버전이 지워지지 않음)
+ * - 같은 버전을 동시에 전개해도 ON CONFLICT DO NOTHING으로 한 벌만 남음
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class VenueSeatTemplateRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String EXISTS_SQL =
+            "SELECT EXISTS (SELECT 1 FROM venue_seat_templates WHERE venue_id = ? AND fingerprint = ?)";
+
+    private static final String LOCK_SHARED_SQL = "SELECT pg_advisory_xact_lock_shared(?)";
+
+    private static final String TRY_LOCK_EXCLUSIVE_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+
+    private static final String DELETE_OTHER_VERSIONS_SQL =
+            "DELETE FROM venue_seat_templates WHERE venue_id = ? AND fingerprint <> ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO venue_seat_templates (venue_id, fingerprint, seat_no, grade, zone, row_label, col_num) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    /**
+     * advisory lock 네임스페이스 (다른 용도의 advisory lock과 키가 겹치지 않도록 상위 비트 사용)
+     */
+    private static final long LOCK_NAMESPACE = 0x5EA7_0000_0000_0000L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좌석 맵 버전의 템플릿이 없으면 전개 (호출자 트랜잭션 안에서 실행)
+     * - 공연장 공유 잠금을 커밋까지 유지하므로, 이어서 같은 트랜잭션에서 복제하는 동안 템플릿이 삭제되지 않음
+     *
+     * @return 새로 전개했으면 true
+     */
+    public boolean ensureTemplate(Long venueId, CompiledSeatMap seatMap) {
+        String fingerprint = seatMap.fingerprint();
+        jdbcTemplate.queryForObject(LOCK_SHARED_SQL, Object.class, lockKey(venueId));
+        if (exists(venueId, fingerprint)) {
+            return false;
+        }
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        int seatNo = 0;
+        for (CompiledSeatMap.Section section : seatMap.sections()) {
+            for (String rowLabel : section.rowLabels()) {
+                for (int c = 0; c < section.cols(); c++) {
+                    batch.add(new Object[]{venueId, fingerprint, seatNo++, section.grade(), section.zone(),
+                            rowLabel, String.valueOf(section.seatStart() + c)});
+                    if (batch.size() >= BATCH_SIZE) {
+                        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                        batch.clear();
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+
+        log.info("공연장 좌석 템플릿 전개 - venueId: {}, fingerprint: {}, seats: {}", venueId, fingerprint, seatNo);
+        pruneOtherVersions(venueId, fingerprint);
+        return true;
+    }
+
+    /**
+     * 이전 버전 템플릿 삭제 (다른 트랜잭션이 이 공연장 템플릿을 복제 중이면 건너뛰고 다음 전개 때 다시 시도)
+     * - 배타 잠금은 대기하지 않고 시도만 하므로 공유 잠금을 가진 트랜잭션끼리 교착되지 않음
+     */
+    private void pruneOtherVersions(Long venueId, String fingerprint) {
+        Boolean locked = jdbcTemplate.queryForObject(TRY_LOCK_EXCLUSIVE_SQL, Boolean.class, lockKey(venueId));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("공연장 좌석 템플릿 복제 중 - 이전 버전 삭제 보류 (venueId: {})", venueId);
+            return;
+        }
+        int deleted = jdbcTemplate.update(DELETE_OTHER_VERSIONS_SQL, venueId, fingerprint);
+        if (deleted > 0) {
+            log.info("이전 버전 공연장 좌석 템플릿 삭제 - venueId: {}, rows: {}", venueId, deleted);
+        }
+    }
+
+    private static long lockKey(Long venueId) {
+        return LOCK_NAMESPACE | venueId;
+    }
+
+    private boolean exists(Long venueId, String fingerprint) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, venueId, fingerprint));
+    }
+}
@@ -0,0 +1,138 @@
+package org.ddcn41.ticketing_system.venue.seatmap;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 공연장 좌석 맵 JSON을 한 번 해석해 둔 불변 모델
+ * - sections: JSON 순서를 유지한 섹션 목록 (행 라벨은 미리 전개)
+ * - rowIndex: (ZONE|ROW) → 해당 행을 가진 섹션 목록 (열 범위 비교로 좌표 검증)
+ * - 가격표: 원본 키 그대로 → 대소문자/공백 정규화 키 순서로 조회
+ */
+public final class CompiledSeatMap {
+
+    public static final CompiledSeatMap EMPTY = new CompiledSeatMap(null, List.of(), Map.of(), Map.of(), Map.of());
+
+    private final String fingerprint;
+    private final List<Section> sections;
+    private final Map<String, List<Section>> rowIndex;
+    private final Map<String, BigDecimal> exactPrices;
+    private final Map<String, BigDecimal> normalizedPrices;
+
+    CompiledSeatMap(String fingerprint,
+                    List<Section> sections,
+                    Map<String, List<Section>> rowIndex,
+                    Map<String, BigDecimal> exactPrices,
+                    Map<String, BigDecimal> normalizedPrices) {
+        this.fingerprint = fingerprint;
+        this.sections = sections;
+        this.rowIndex = rowIndex;
+        this.exactPrices = exactPrices;
+        this.normalizedPrices = normalizedPrices;
+    }
+
+    /**
+     * 좌석 맵 원본 JSON의 SHA-256 (좌석 맵 버전 식별용)
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public List<Section> sections() {
+        return sections;
+    }
+
+    public boolean isEmpty() {
+        return sections.isEmpty();
+    }
+
+    public int seatCount() {
+        return sections.stream().mapToInt(s -> s.rowLabels().size() * s.cols()).sum();
+    }
+
+    /**
+     * 좌표가 좌석 맵에 존재하는지 검증 (grade/zone이 비어 있으면 조건 없음)
+     */
+    public boolean contains(String grade, String zone, String rowLabel, String colNum) {
+        if (rowLabel == null || colNum == null) {
+            return false;
+        }
+        int col;
+        try {
+            col = Integer.parseInt(colNum.trim());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        String normalizedRow = normalize(rowLabel);
+        String normalizedGrade = normalize(grade);
+
+        if (zone == null || zone.isBlank()) {
+            return sections.stream().anyMatch(s ->
+                    s.matchesGrade(normalizedGrade) && s.rowLabels().contains(normalizedRow) && s.containsCol(col));
+        }
+
+        List<Section> candidates = rowIndex.get(rowKey(zone, normalizedRow));
+        if (candidates == null) {
+            return false;
+        }
+        for (Section section : candidates) {
+            if (section.matchesGrade(normalizedGrade) && section.containsCol(col)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 등급별 가격 (원본 키 일치 → 정규화 키 일치 순), 없으면 null
+     */
+    public BigDecimal priceOf(String grade) {
+        if (grade == null) {
+            return null;
+        }
+        BigDecimal exact = exactPrices.get(grade);
+        return exact != null ? exact : normalizedPrices.get(normalize(grade));
+    }
+
+    public BigDecimal priceOrZero(String grade) {
+        BigDecimal price = priceOf(grade == null ? "" : grade);
+        return price == null ? BigDecimal.ZERO : price;
+    }
+
+    /**
+     * 등급 → 가격 (좌석 맵에 적힌 원본 키 그대로)
+     */
+    public Map<String, BigDecimal> prices() {
+        return exactPrices;
+    }
+
+    static String rowKey(String zone, String normalizedRow) {
+        return normalize(zone) + "|" + normalizedRow;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 좌석 맵 섹션
+     *
+     * @param zone      원본 구역명
+     * @param grade     원본 등급명 (없으면 빈 문자열)
+     * @param rowLabels 전개된 행 라벨 (대문자)
+     * @param cols      행당 좌석 수
+     * @param seatStart 첫 좌석 번호
+     */
+    public record Section(String zone, String grade, List<String> rowLabels, int cols, int seatStart) {
+
+        public boolean containsCol(int col) {
+            return col >= seatStart && col < seatStart + cols;
+        }
+
+        boolean matchesGrade(String normalizedGrade) {
+            return normalizedGrade.isEmpty() || normalizedGrade.equals(normalize(grade));
+        }
+    }
+}
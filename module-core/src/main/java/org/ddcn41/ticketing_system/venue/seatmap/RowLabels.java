@@ -0,0 +1,48 @@
+package org.ddcn41.ticketing_system.venue.seatmap;
+
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 행 라벨 전개 (A..Z, AA..AZ, BA.. 증가)
+ */
+final class RowLabels {
+
+    private RowLabels() {
+    }
+
+    static List<String> range(String start, int count) {
+        int base = alphaToInt(start);
+        List<String> labels = new ArrayList<>(count);
+        for (int r = 0; r < count; r++) {
+            labels.add(intToAlpha(base + r));
+        }
+        return List.copyOf(labels);
+    }
+
+    private static int alphaToInt(String s) {
+        int value = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch < 'A' || ch > 'Z') {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid row label: " + s);
+            }
+            value = value * 26 + (ch - 'A' + 1);
+        }
+        return value - 1; // zero-based
+    }
+
+    private static String intToAlpha(int value) {
+        value = value + 1; // one-based
+        StringBuilder sb = new StringBuilder();
+        while (value > 0) {
+            int remainder = (value - 1) % 26;
+            sb.append((char) ('A' + remainder));
+            value = (value - 1) / 26;
+        }
+        return sb.reverse().toString();
+    }
+}
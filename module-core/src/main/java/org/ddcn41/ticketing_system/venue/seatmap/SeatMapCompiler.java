@@ -0,0 +1,123 @@
+package org.ddcn41.ticketing_system.venue.seatmap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 맵 JSON → CompiledSeatMap 변환
+ * - 불완전 섹션(rows/cols 0 이하, rowLabelFrom 없음)은 제외
+ * - 숫자로 해석되지 않는 가격은 제외
+ */
+public final class SeatMapCompiler {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private SeatMapCompiler() {
+    }
+
+    public static CompiledSeatMap compile(String seatMapJson) {
+        if (seatMapJson == null || seatMapJson.isBlank()) {
+            return CompiledSeatMap.EMPTY;
+        }
+
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(seatMapJson);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_MAP, "좌석 맵 JSON 파싱 실패");
+        }
+
+        JsonNode sectionsNode = root.path("sections");
+        if (!sectionsNode.isArray()) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_MAP, "좌석 맵 JSON의 sections 형식이 올바르지 않습니다");
+        }
+
+        List<CompiledSeatMap.Section> sections = new ArrayList<>(sectionsNode.size());
+        Map<String, List<CompiledSeatMap.Section>> rowIndex = new HashMap<>();
+        for (JsonNode node : sectionsNode) {
+            CompiledSeatMap.Section section = compileSection(node);
+            if (section == null) {
+                continue;
+            }
+            sections.add(section);
+            for (String rowLabel : section.rowLabels()) {
+                rowIndex.computeIfAbsent(CompiledSeatMap.rowKey(section.zone(), rowLabel), k -> new ArrayList<>(1))
+                        .add(section);
+            }
+        }
+        rowIndex.replaceAll((k, v) -> List.copyOf(v));
+
+        Map<String, BigDecimal> exactPrices = new LinkedHashMap<>();
+        Map<String, BigDecimal> normalizedPrices = new HashMap<>();
+        JsonNode pricingNode = root.path("pricing");
+        if (pricingNode.isObject()) {
+            for (var entry : pricingNode.properties()) {
+                BigDecimal price;
+                try {
+                    price = new BigDecimal(entry.getValue().asText());
+                } catch (NumberFormatException ignored) {
+                    continue;
+                }
+                exactPrices.put(entry.getKey(), price);
+                normalizedPrices.putIfAbsent(CompiledSeatMap.normalize(entry.getKey()), price);
+            }
+        }
+
+        return new CompiledSeatMap(
+                fingerprint(seatMapJson),
+                List.copyOf(sections),
+                Map.copyOf(rowIndex),
+                Collections.unmodifiableMap(exactPrices),
+                Map.copyOf(normalizedPrices));
+    }
+
+    /**
+     * 원본 JSON의 SHA-256 (hex)
+     */
+    public static String fingerprint(String seatMapJson) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(seatMapJson.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CompiledSeatMap.Section compileSection(JsonNode node) {
+        int rows = node.path("rows").asInt(0);
+        int cols = node.path("cols").asInt(0);
+        String rowLabelFrom = textOrNull(node, "rowLabelFrom");
+        if (rows <= 0 || cols <= 0 || rowLabelFrom == null || rowLabelFrom.isBlank()) {
+            return null; // 불완전 섹션은 스킵
+        }
+
+        String grade = textOrNull(node, "grade");
+        int seatStart = node.path("seatStart").asInt(1);
+        return new CompiledSeatMap.Section(
+                textOrNull(node, "zone"),
+                grade == null ? "" : grade,
+                RowLabels.range(CompiledSeatMap.normalize(rowLabelFrom), rows),
+                cols,
+                seatStart);
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
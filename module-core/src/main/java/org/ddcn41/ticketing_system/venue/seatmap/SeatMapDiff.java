@@ -0,0 +1,83 @@
+package org.ddcn41.ticketing_system.venue.seatmap;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 두 좌석 맵 버전 간 좌표 단위 차이
+ * - added: 새 맵에만 있는 좌석 (등급/가격 포함)
+ * - removed: 이전 맵에만 있는 좌석
+ * - regraded: 양쪽에 있지만 등급이 바뀐 좌석 (새 등급/가격)
+ * - repricedGrades: 등급 가격이 바뀐 등급 → 새 가격 (등급 단위로 일괄 적용)
+ */
+public record SeatMapDiff(List<SeatCoordinate> added,
+                          List<SeatCoordinate> removed,
+                          List<SeatCoordinate> regraded,
+                          Map<String, BigDecimal> repricedGrades) {
+
+    public static SeatMapDiff between(CompiledSeatMap before, CompiledSeatMap after) {
+        Map<String, SeatCoordinate> oldSeats = expand(before);
+        Map<String, SeatCoordinate> newSeats = expand(after);
+
+        List<SeatCoordinate> added = new ArrayList<>();
+        List<SeatCoordinate> regraded = new ArrayList<>();
+        for (Map.Entry<String, SeatCoordinate> entry : newSeats.entrySet()) {
+            SeatCoordinate previous = oldSeats.get(entry.getKey());
+            if (previous == null) {
+                added.add(entry.getValue());
+            } else if (!previous.grade().equals(entry.getValue().grade())) {
+                regraded.add(entry.getValue());
+            }
+        }
+
+        List<SeatCoordinate> removed = new ArrayList<>();
+        for (Map.Entry<String, SeatCoordinate> entry : oldSeats.entrySet()) {
+            if (!newSeats.containsKey(entry.getKey())) {
+                removed.add(entry.getValue());
+            }
+        }
+
+        Map<String, BigDecimal> repricedGrades = new LinkedHashMap<>();
+        for (CompiledSeatMap.Section section : after.sections()) {
+            BigDecimal newPrice = after.priceOrZero(section.grade());
+            if (before.priceOrZero(section.grade()).compareTo(newPrice) != 0) {
+                repricedGrades.putIfAbsent(section.grade(), newPrice);
+            }
+        }
+
+        return new SeatMapDiff(List.copyOf(added), List.copyOf(removed), List.copyOf(regraded), Map.copyOf(repricedGrades));
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && regraded.isEmpty() && repricedGrades.isEmpty();
+    }
+
+    /**
+     * 좌석 맵의 모든 좌석 좌표 (섹션이 겹치면 앞선 섹션 우선 — 좌석 생성 시 ON CONFLICT와 동일)
+     */
+    private static Map<String, SeatCoordinate> expand(CompiledSeatMap seatMap) {
+        Map<String, SeatCoordinate> seats = new LinkedHashMap<>(Math.max(16, seatMap.seatCount() * 2));
+        for (CompiledSeatMap.Section section : seatMap.sections()) {
+            BigDecimal price = seatMap.priceOrZero(section.grade());
+            for (String rowLabel : section.rowLabels()) {
+                for (int c = 0; c < section.cols(); c++) {
+                    SeatCoordinate seat = new SeatCoordinate(section.zone(), rowLabel,
+                            String.valueOf(section.seatStart() + c), section.grade(), price);
+                    seats.putIfAbsent(seat.key(), seat);
+                }
+            }
+        }
+        return seats;
+    }
+
+    public record SeatCoordinate(String zone, String rowLabel, String colNum, String grade, BigDecimal price) {
+
+        String key() {
+            return Objects.toString(zone, "") + "|" + rowLabel + "|" + colNum;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.ddcn41.ticketing_system.venue.seatmap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.venue.entity.Venue;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연장별 컴파일된 좌석 맵 캐시
+ * - 최초 조회 시 한 번만 JSON을 해석하고 이후에는 캐시된 모델을 공유
+ * - 캐시 항목은 원본 JSON 문자열과 비교하여(같은 엔티티면 참조 비교로 끝남), 다른 경로(직접 SQL 등)로 좌석 맵이 바뀌어도 재컴파일
+ *   (길이/hashCode는 충돌할 수 있어 다른 좌석 맵을 같은 것으로 볼 수 있으므로 쓰지 않음)
+ * - 공연장 수정/삭제 시 invalidate로 즉시 제거
+ */
+@Slf4j
+@Component
+public class SeatMapRegistry {
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 공연장의 컴파일된 좌석 맵 조회 (좌석 맵이 없으면 EMPTY)
+     */
+    public CompiledSeatMap get(Venue venue) {
+        if (venue == null) {
+            throw new BusinessException(ErrorCode.VENUE_NOT_FOUND);
+        }
+        String seatMapJson = venue.getSeatMapJson();
+        if (venue.getVenueId() == null) {
+            return SeatMapCompiler.compile(seatMapJson);
+        }
+
+        Entry cached = cache.get(venue.getVenueId());
+        if (cached != null && cached.matches(seatMapJson)) {
+            return cached.seatMap();
+        }
+
+        CompiledSeatMap compiled = SeatMapCompiler.compile(seatMapJson);
+        cache.put(venue.getVenueId(), Entry.of(seatMapJson, compiled));
+        log.debug("좌석 맵 컴파일 - venueId: {}, sections: {}", venue.getVenueId(), compiled.sections().size());
+        return compiled;
+    }
+
+    public void invalidate(Long venueId) {
+        if (venueId != null) {
+            cache.remove(venueId);
+        }
+    }
+
+    private record Entry(String source, CompiledSeatMap seatMap) {
+
+        static Entry of(String seatMapJson, CompiledSeatMap seatMap) {
+            return new Entry(seatMapJson, seatMap);
+        }
+
+        boolean matches(String seatMapJson) {
+            return Objects.equals(source, seatMapJson);
+        }
+    }
+}
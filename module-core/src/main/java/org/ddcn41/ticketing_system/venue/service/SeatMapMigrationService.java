@@ -0,0 +1,97 @@
+package org.ddcn41.ticketing_system.venue.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
+import org.ddcn41.ticketing_system.seat.event.SeatLayoutResetEvent;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatJdbcRepository;
+import org.ddcn41.ticketing_system.venue.dto.SeatMapUpdateResponse;
+import org.ddcn41.ticketing_system.venue.entity.Venue;
+import org.ddcn41.ticketing_system.venue.repository.VenueRepository;
+import org.ddcn41.ticketing_system.venue.seatmap.CompiledSeatMap;
+import org.ddcn41.ticketing_system.venue.seatmap.SeatMapCompiler;
+import org.ddcn41.ticketing_system.venue.seatmap.SeatMapDiff;
+import org.ddcn41.ticketing_system.venue.seatmap.SeatMapRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공연장 좌석 맵 변경 반영
+ * - 이전/새 좌석 맵을 좌표 단위로 비교하여 추가/삭제/등급 변경/가격 변경만 추출
+ * - 공연장의 예정 스케줄 전체에 집합 연산(INSERT/DELETE/UPDATE ... unnest)으로 한 번에 반영
+ * - 변경 대상 좌석과 스케줄을 먼저 행 잠금한 뒤 확인하므로, 확인과 반영 사이에 좌석 상태가 바뀌지 않음
+ * - 삭제 대상 좌석에 예약·락·예매 이력이 있거나, 등급/가격이 바뀌는 좌석이 결제 진행 중(LOCKED)이면
+ *   전체 변경을 거부 (일부 스케줄만 반영하면 다음 변경의 비교 기준이 어긋나므로)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapMigrationService {
+
+    private final VenueRepository venueRepository;
+    private final PerformanceScheduleRepository scheduleRepository;
+    private final ScheduleSeatJdbcRepository scheduleSeatJdbcRepository;
+    private final SeatMapRegistry seatMapRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public SeatMapUpdateResponse updateSeatMap(Long venueId, String seatMapJson) {
+        Venue venue = venueRepository.findById(venueId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.VENUE_NOT_FOUND, "venueId: " + venueId));
+
+        CompiledSeatMap after = SeatMapCompiler.compile(seatMapJson);
+        if (after.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_MAP, "유효한 좌석 섹션이 없습니다");
+        }
+        CompiledSeatMap before = seatMapRegistry.get(venue);
+        SeatMapDiff diff = SeatMapDiff.between(before, after);
+
+        List<Long> targets = scheduleRepository.findUpcomingScheduleIdsByVenueId(venueId, LocalDateTime.now());
+
+        if (!diff.isEmpty() && !targets.isEmpty()) {
+            List<SeatMapDiff.SeatCoordinate> changed = new ArrayList<>(diff.removed());
+            changed.addAll(diff.regraded());
+            scheduleSeatJdbcRepository.lockForSeatMapChange(targets, changed, diff.repricedGrades().keySet());
+
+            Map<Long, Long> blocked = scheduleSeatJdbcRepository.countBlockedChanges(
+                    targets, diff.removed(), diff.regraded(), diff.repricedGrades().keySet());
+            if (!blocked.isEmpty()) {
+                log.warn("좌석 맵 변경 거부 - venueId: {}, 차단 좌석 수(스케줄별): {}", venueId, blocked);
+                throw new BusinessException(ErrorCode.SEAT_MAP_CHANGE_BLOCKED, "scheduleId별 좌석 수: " + blocked);
+            }
+
+            int deleted = scheduleSeatJdbcRepository.deleteCoordinates(targets, diff.removed());
+            int inserted = scheduleSeatJdbcRepository.insertCoordinates(targets, diff.added());
+            int regraded = scheduleSeatJdbcRepository.regradeCoordinates(targets, diff.regraded());
+            int repriced = scheduleSeatJdbcRepository.repriceGrades(targets, diff.repricedGrades());
+            scheduleSeatJdbcRepository.refreshScheduleCounts(targets);
+            targets.forEach(scheduleRepository::refreshScheduleStatus);
+            targets.forEach(id -> eventPublisher.publishEvent(new SeatLayoutResetEvent(id)));
+
+            log.info("좌석 맵 변경 반영 - venueId: {}, schedules: {}, deleted: {}, inserted: {}, regraded: {}, repriced: {}",
+                    venueId, targets.size(), deleted, inserted, regraded, repriced);
+        }
+
+        venue.setSeatMapJson(seatMapJson);
+        venueRepository.save(venue);
+        seatMapRegistry.invalidate(venueId);
+
+        return SeatMapUpdateResponse.builder()
+                .venueId(venueId)
+                .fingerprint(after.fingerprint())
+                .addedSeats(diff.added().size())
+                .removedSeats(diff.removed().size())
+                .regradedSeats(diff.regraded().size())
+                .repricedGrades(diff.repricedGrades())
+                .updatedScheduleIds(diff.isEmpty() ? List.of() : targets)
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import org.ddcn41.ticketing_system.common.exception.ErrorCode;
 import org.ddcn41.ticketing_system.venue.dto.VenueDto;
 import org.ddcn41.ticketing_system.venue.entity.Venue;
 import org.ddcn41.ticketing_system.venue.repository.VenueRepository;
+import org.ddcn41.ticketing_system.venue.seatmap.SeatMapRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +17,7 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class VenueService {
     private final VenueRepository venueRepository;
+    private final SeatMapRegistry seatMapRegistry;
 
     // 모든 공연장 조회
     public List<VenueDto> getAllVenues() {
@@ -59,6 +61,7 @@ public class VenueService {
         venue.setContact(venueDto.getContact());
 
         Venue updatedVenue = venueRepository.save(venue);
+        seatMapRegistry.invalidate(venueId);
         return convertToDto(updatedVenue);
     }
 
@@ -69,6 +72,7 @@ public class VenueService {
             throw new BusinessException(ErrorCode.VENUE_NOT_FOUND, "venueId: " + venueId);
         }
         venueRepository.deleteById(venueId);
+        seatMapRegistry.invalidate(venueId);
     }
 
     // 공연장 좌석 배치도 JSON 조회
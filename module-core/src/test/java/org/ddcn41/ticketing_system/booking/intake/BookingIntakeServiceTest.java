@@ -0,0 +1,91 @@
+package org.ddcn41.ticketing_system.booking.intake;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ddcn41.ticketing_system.booking.dto.request.CreateBookingRequestDto;
+import org.ddcn41.ticketing_system.booking.dto.response.CreateBookingResponseDto;
+import org.ddcn41.ticketing_system.booking.service.BookingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingIntakeServiceTest {
+
+    private static final String OWNER = "user-001";
+    private static final String LOST = "user-002";
+
+    private final BookingService bookingService = mock(BookingService.class);
+    private final BookingTicketStore ticketStore = mock(BookingTicketStore.class);
+    private final CountDownLatch firstBookingStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstBooking = new CountDownLatch(1);
+
+    private BookingIntakeService service;
+
+    @BeforeEach
+    void setUp() {
+        when(ticketStore.claimTtl()).thenReturn(Duration.ofSeconds(30));
+        when(ticketStore.claimUser(anyString(), anyString())).thenReturn(true);
+        when(ticketStore.renewClaim(eq(OWNER), anyString())).thenReturn(true);
+        when(bookingService.createBooking(eq(OWNER), any())).thenAnswer(invocation -> {
+            // 첫 예매가 파티션을 잡고 있는 동안 두 번째 요청은 큐에서 대기
+            firstBookingStarted.countDown();
+            releaseFirstBooking.await(10, TimeUnit.SECONDS);
+            return CreateBookingResponseDto.builder().bookingId(1L).bookingNumber("DDCN-1").build();
+        });
+
+        // 파티션 1개 → 같은 스레드에서 순서대로 처리
+        service = new BookingIntakeService(bookingService, ticketStore, new SimpleMeterRegistry(), true, 1, 10, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstBooking.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    void queuedTicketWhoseClaimRenewalFailedIsNotBooked() throws Exception {
+        when(ticketStore.renewClaim(eq(LOST), anyString())).thenReturn(false);
+        service.submit(OWNER, request());
+        firstBookingStarted.await(10, TimeUnit.SECONDS);
+        service.submit(LOST, request());
+
+        service.renewClaims();
+        releaseFirstBooking.countDown();
+
+        verify(ticketStore, timeout(5_000)).succeed(anyString(), eq(1L), eq("DDCN-1"));
+        verify(bookingService, after(300).never()).createBooking(eq(LOST), any());
+        verify(ticketStore, times(1)).markProcessing(anyString());
+    }
+
+    @Test
+    void claimLostBetweenRenewalsIsCheckedBeforeBooking() throws Exception {
+        service.submit(OWNER, request());
+        firstBookingStarted.await(10, TimeUnit.SECONDS);
+        service.submit(LOST, request());
+
+        // 연장 주기가 돌기 전에 만료됨 → 워커가 시작 직전에 확인
+        when(ticketStore.renewClaim(eq(LOST), anyString())).thenReturn(false);
+        releaseFirstBooking.countDown();
+
+        verify(ticketStore, timeout(5_000)).renewClaim(eq(LOST), anyString());
+        verify(bookingService, after(300).never()).createBooking(eq(LOST), any());
+    }
+
+    private static CreateBookingRequestDto request() {
+        return CreateBookingRequestDto.builder().scheduleId(16L).build();
+    }
+}
@@ -0,0 +1,92 @@
+package org.ddcn41.ticketing_system.booking.number;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 100_000;
+
+    @Test
+    void uniqueAndOrderedPerThreadUnderContention() throws Exception {
+        BookingNumberGenerator generator = new BookingNumberGenerator(7, 1000);
+        Set<String> numbers = ConcurrentHashMap.newKeySet(THREADS * PER_THREAD * 2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    String previous = "";
+                    boolean ordered = true;
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        String number = generator.next();
+                        ordered &= number.compareTo(previous) > 0;
+                        numbers.add(number);
+                        previous = number;
+                    }
+                    return ordered;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(60, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(numbers).hasSize(THREADS * PER_THREAD);
+        assertThat(numbers).allSatisfy(number -> assertThat(number)
+                .hasSize(18)
+                .startsWith(BookingNumberGenerator.PREFIX)
+                .matches("DDCN-[0-9A-HJKMNP-TV-Z]{13}"));
+    }
+
+    @Test
+    void monotonicWhenClockStallsOrMovesBackwards() {
+        AtomicLong now = new AtomicLong(BookingNumberGenerator.EPOCH_MS + 10_000);
+        BookingNumberGenerator generator = new BookingNumberGenerator(3, 10_000, now::get);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 20_000; i++) { // 한 밀리초 시퀀스(4096)를 넘겨 다음 밀리초로 올림
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        now.addAndGet(-5_000);
+        assertThat(generator.nextId()).isGreaterThan(previous);
+    }
+
+    @Test
+    void distinctAcrossNodesAtSameInstant() {
+        AtomicLong now = new AtomicLong(BookingNumberGenerator.EPOCH_MS + 1);
+        BookingNumberGenerator a = new BookingNumberGenerator(1, 0, now::get);
+        BookingNumberGenerator b = new BookingNumberGenerator(2, 0, now::get);
+
+        assertThat(a.next()).isNotEqualTo(b.next());
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new BookingNumberGenerator(BookingNumberGenerator.MAX_NODE_ID + 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package org.ddcn41.ticketing_system.booking.number;
+
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BookingNumberServiceTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+    }
+
+    @Test
+    void startsWithoutRedisAndAcquiresTheNodeLater() {
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(true);
+
+        BookingNumberService service = new BookingNumberService(redisTemplate, -1, 60_000, 5_000, 1_000);
+        verifyNoInteractions(redisTemplate);
+
+        assertUnavailable(service);
+        // 재시도 간격 안에서는 Redis를 다시 부르지 않고 바로 거절
+        assertUnavailable(service);
+        verify(valueOps, times(1)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+
+        service.renewLease();
+        assertThat(service.next()).startsWith(BookingNumberGenerator.PREFIX);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stopsIssuingOnceRenewalsFailForTheLease() throws Exception {
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        BookingNumberService service = new BookingNumberService(redisTemplate, -1, 300, 100, 1_000);
+        service.renewLease();
+        assertThat(service.next()).startsWith(BookingNumberGenerator.PREFIX);
+
+        // 갱신이 계속 실패해 lease-ms - lease-margin-ms가 지나면 다른 파드가 같은 노드를 가져갈 수 있으므로 중단
+        service.renewLease();
+        Thread.sleep(250);
+        service.renewLease();
+        assertUnavailable(service);
+    }
+
+    @Test
+    void fixedNodeIdNeverUsesRedis() {
+        BookingNumberService service = new BookingNumberService(redisTemplate, 7, 60_000, 5_000, 1_000);
+
+        assertThat(service.next()).startsWith(BookingNumberGenerator.PREFIX);
+        service.renewLease();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private static void assertUnavailable(BookingNumberService service) {
+        assertThatThrownBy(service::next)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.BOOKING_NUMBER_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,103 @@
+package org.ddcn41.ticketing_system.booking.repository;
+
+import org.ddcn41.ticketing_system.booking.repository.BookingBulkCancelRepository.CancelledBooking;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.ddcn41.ticketing_system.support.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingBulkCancelRepositoryTest extends PostgresTestSupport {
+
+    private static final List<Long> TARGET = List.of(SCHEDULE_ID);
+    private static final String REASON = "공연 취소";
+
+    private BookingBulkCancelRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new BookingBulkCancelRepository(jdbcTemplate);
+    }
+
+    @Test
+    void cancelChunkCancelsConfirmedBookingsOfTargetSchedulesInOrder() {
+        long first = insertBooking(SCHEDULE_ID, "CONFIRMED", "100000", seat(SCHEDULE_ID, "1"));
+        long second = insertBooking(SCHEDULE_ID, "CONFIRMED", "80000", seat(SCHEDULE_ID, "2"), seat(SCHEDULE_ID, "3"));
+        long third = insertBooking(SCHEDULE_ID, "CONFIRMED", "50000", seat(SCHEDULE_ID, "4"));
+        insertBooking(SCHEDULE_ID, "CANCELLED", "70000", seat(SCHEDULE_ID, "5"));
+        long other = insertBooking(OTHER_SCHEDULE_ID, "CONFIRMED", "60000", seat(OTHER_SCHEDULE_ID, "1"));
+
+        List<CancelledBooking> cancelled = repository.cancelChunk(TARGET, 2, REASON, LocalDateTime.now());
+
+        assertThat(cancelled).extracting(CancelledBooking::bookingId).containsExactly(first, second);
+        assertThat(cancelled).extracting(CancelledBooking::performanceId).containsOnly(PERFORMANCE_ID);
+        assertThat(cancelled.get(1).seatCount()).isEqualTo(2);
+        assertThat(bookingStatus(first)).isEqualTo("CANCELLED");
+        assertThat(bookingStatus(third)).isEqualTo("CONFIRMED");
+        assertThat(bookingStatus(other)).isEqualTo("CONFIRMED");
+        assertThat(repository.countConfirmed(TARGET)).isEqualTo(1);
+    }
+
+    @Test
+    void cancelChunkSkipsBookingsLockedByAnotherTransaction() throws Exception {
+        long locked = insertBooking(SCHEDULE_ID, "CONFIRMED", "100000", seat(SCHEDULE_ID, "1"));
+        long free = insertBooking(SCHEDULE_ID, "CONFIRMED", "80000", seat(SCHEDULE_ID, "2"));
+
+        List<CancelledBooking> cancelled = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT booking_id FROM bookings WHERE booking_id = ? FOR UPDATE",
+                    Long.class, locked);
+
+            // 잠긴 예매를 기다리지 않고 다음 예매만 취소 → 잠긴 예매는 다음 청크/재시도에서 처리
+            CompletableFuture<List<CancelledBooking>> chunk = CompletableFuture.supplyAsync(
+                    () -> repository.cancelChunk(TARGET, 10, REASON, LocalDateTime.now()));
+            return chunk.join();
+        });
+
+        assertThat(cancelled).extracting(CancelledBooking::bookingId).containsExactly(free);
+        assertThat(bookingStatus(locked)).isEqualTo("CONFIRMED");
+        assertThat(repository.countConfirmed(TARGET)).isEqualTo(1);
+    }
+
+    @Test
+    void restoreSeatsReturnsTransitionsOfBookedSeatsOnly() {
+        long booked = seat(SCHEDULE_ID, "1");
+        long alreadyAvailable = insertSeat(SCHEDULE_ID, "A", "1", "2", "VIP", "100000", "AVAILABLE");
+        long booking = insertBooking(SCHEDULE_ID, "CONFIRMED", "100000", booked, alreadyAvailable);
+
+        List<SeatTransition> restored = repository.restoreSeats(List.of(booking), LocalDateTime.now());
+
+        assertThat(restored).containsExactly(
+                new SeatTransition(SCHEDULE_ID, booked, "A", "VIP", SeatStatus.BOOKED, SeatStatus.AVAILABLE));
+        assertThat(seatStatus(booked)).isEqualTo("AVAILABLE");
+        assertThat(seatStatus(alreadyAvailable)).isEqualTo("AVAILABLE");
+    }
+
+    @Test
+    void insertRefundsRequestsOneRefundPerBooking() {
+        long first = insertBooking(SCHEDULE_ID, "CANCELLED", "100000", seat(SCHEDULE_ID, "1"));
+        long second = insertBooking(SCHEDULE_ID, "CANCELLED", "80000", seat(SCHEDULE_ID, "2"));
+
+        int inserted = repository.insertRefunds(List.of(first, second), REASON, LocalDateTime.now());
+
+        assertThat(inserted).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(refund_amount) FROM refunds WHERE status = 'REQUESTED' AND reason = ?",
+                BigDecimal.class, REASON)).isEqualByComparingTo("180000");
+    }
+
+    private long seat(long scheduleId, String col) {
+        return insertSeat(scheduleId, "A", "1", col, "VIP", "100000", "BOOKED");
+    }
+
+    private String bookingStatus(long bookingId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM bookings WHERE booking_id = ?", String.class, bookingId);
+    }
+}
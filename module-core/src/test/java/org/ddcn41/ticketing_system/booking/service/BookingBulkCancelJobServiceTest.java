@@ -0,0 +1,142 @@
+package org.ddcn41.ticketing_system.booking.service;
+
+import org.ddcn41.ticketing_system.booking.service.BookingBulkCancelService.ChunkResult;
+import org.ddcn41.ticketing_system.common.dto.booking.BulkCancelRequest;
+import org.ddcn41.ticketing_system.common.exception.BusinessException;
+import org.ddcn41.ticketing_system.common.exception.ErrorCode;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceRepository;
+import org.ddcn41.ticketing_system.performance.repository.PerformanceScheduleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingBulkCancelJobServiceTest {
+
+    private static final long PERFORMANCE_ID = 11L;
+    private static final List<Long> SCHEDULE_IDS = List.of(16L, 17L);
+
+    private final BookingBulkCancelService bulkCancelService = mock(BookingBulkCancelService.class);
+    private final PerformanceScheduleRepository scheduleRepository = mock(PerformanceScheduleRepository.class);
+    private final PerformanceRepository performanceRepository = mock(PerformanceRepository.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashOps = mock(HashOperations.class);
+
+    private BookingBulkCancelJobService service;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOps);
+        when(hashOps.entries(anyString())).thenReturn(runningJob());
+        when(performanceRepository.existsById(PERFORMANCE_ID)).thenReturn(true);
+        when(scheduleRepository.findScheduleIdsByPerformanceId(PERFORMANCE_ID)).thenReturn(SCHEDULE_IDS);
+
+        service = new BookingBulkCancelJobService(bulkCancelService, scheduleRepository, performanceRepository,
+                redisTemplate, 1, 100, 0, 0, 72, 300_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void closesTargetsBeforeTheFirstChunkAndCompletes() {
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(bulkCancelService.countConfirmed(SCHEDULE_IDS)).thenReturn(3L, 0L);
+        when(bulkCancelService.cancelChunk(eq(SCHEDULE_IDS), anyInt(), anyString(), any()))
+                .thenReturn(new ChunkResult(3, 4, new BigDecimal("300000")), ChunkResult.EMPTY);
+
+        service.start(performanceRequest());
+
+        Map<Object, Object> finished = finishedFields();
+        assertThat(finished).containsEntry("status", "COMPLETED").containsEntry("remaining", "0");
+
+        // 예매를 막은 뒤에 취소를 시작하고, 끝나면 가용 좌석 수만 다시 계산
+        InOrder order = inOrder(bulkCancelService);
+        order.verify(bulkCancelService).close(SCHEDULE_IDS, PERFORMANCE_ID);
+        order.verify(bulkCancelService).countConfirmed(SCHEDULE_IDS);
+        order.verify(bulkCancelService, times(2)).cancelChunk(eq(SCHEDULE_IDS), anyInt(), anyString(), any());
+        order.verify(bulkCancelService).recompute(SCHEDULE_IDS);
+        verify(hashOps).increment(anyString(), eq("cancelled"), eq(3L));
+    }
+
+    @Test
+    void bookingsLeftLockedAfterRetriesAreReportedAsPartial() {
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(bulkCancelService.countConfirmed(SCHEDULE_IDS)).thenReturn(2L);
+        when(bulkCancelService.cancelChunk(eq(SCHEDULE_IDS), anyInt(), anyString(), any()))
+                .thenReturn(ChunkResult.EMPTY);
+
+        service.start(performanceRequest());
+
+        Map<Object, Object> finished = finishedFields();
+        assertThat(finished).containsEntry("status", "PARTIAL").containsEntry("remaining", "2");
+        // 첫 빈 청크 + 재시도 10회
+        verify(bulkCancelService, times(11)).cancelChunk(eq(SCHEDULE_IDS), anyInt(), anyString(), any());
+        verify(bulkCancelService).recompute(SCHEDULE_IDS);
+    }
+
+    @Test
+    void targetHeldByAnActiveJobIsRejectedWithoutClosing() {
+        when(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(valueOps.get("booking_cancel_job:target:PERFORMANCE:" + PERFORMANCE_ID)).thenReturn("other-job");
+
+        assertThatThrownBy(() -> service.start(performanceRequest()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.BOOKING_CANCEL_JOB_RUNNING);
+
+        verify(bulkCancelService, never()).close(anyList(), any());
+        verify(redisTemplate).delete(anyString());
+    }
+
+    private BulkCancelRequest performanceRequest() {
+        BulkCancelRequest request = new BulkCancelRequest();
+        request.setScope("PERFORMANCE");
+        request.setTargetId(PERFORMANCE_ID);
+        request.setRequestedBy("admin");
+        return request;
+    }
+
+    private Map<Object, Object> finishedFields() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Object, Object>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(hashOps, timeout(5_000).times(2)).putAll(anyString(), fields.capture());
+        return fields.getAllValues().get(1);
+    }
+
+    private static Map<Object, Object> runningJob() {
+        String now = String.valueOf(System.currentTimeMillis());
+        return Map.<Object, Object>of("status", "RUNNING", "scope", "PERFORMANCE", "updatedAt", now, "startedAt", now);
+    }
+}
@@ -0,0 +1,54 @@
+package org.ddcn41.ticketing_system.global.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedBodyRequestWrapperTest {
+
+    @Test
+    void bodyCanBeReadRepeatedly() throws Exception {
+        CachedBodyRequestWrapper wrapper = new CachedBodyRequestWrapper(request("{\"a\":1}"));
+
+        assertThat(new String(wrapper.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"a\":1}");
+        assertThat(wrapper.getReader().readLine()).isEqualTo("{\"a\":1}");
+    }
+
+    @Test
+    void readListenerIsNotifiedThatAllDataIsAvailable() throws Exception {
+        ServletInputStream input = new CachedBodyRequestWrapper(request("{}")).getInputStream();
+        List<String> calls = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                calls.add("available");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        assertThat(calls).containsExactly("available", "done");
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/bookings");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,207 @@
+package org.ddcn41.ticketing_system.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyFilterTest {
+
+    private static final String PATH = "/v1/bookings";
+    private static final String SCOPE = PATH + ":user-1";
+    private static final String KEY = "key-1";
+    private static final String BODY = "{\"scheduleId\":1}";
+
+    private final IdempotencyStore store = mock(IdempotencyStore.class);
+    private final IdempotencyFilter filter = new IdempotencyFilter(store, new ObjectMapper(), List.of(PATH), 0, 10);
+    private final AtomicInteger handled = new AtomicInteger();
+    private final FilterChain chain = (request, response) -> {
+        handled.incrementAndGet();
+        assertThat(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        ((HttpServletResponse) response).setStatus(201);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"bookingId\":7}");
+    };
+
+    @BeforeEach
+    void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "user-1", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void firstRequestProceedsAndStoresTheResponse() throws Exception {
+        when(store.tryBegin(SCOPE, KEY, fingerprint(BODY))).thenReturn("claim");
+
+        MockHttpServletResponse response = send(BODY);
+
+        assertThat(handled).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"bookingId\":7}");
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(store).complete(eq(SCOPE), eq(KEY), eq("claim"), saved.capture());
+        assertThat(saved.getValue().isCompleted()).isTrue();
+        assertThat(saved.getValue().getStatus()).isEqualTo(201);
+        assertThat(saved.getValue().getBody()).isEqualTo("{\"bookingId\":7}");
+    }
+
+    @Test
+    void completedKeyIsReplayedWithoutProcessing() throws Exception {
+        when(store.find(SCOPE, KEY)).thenReturn(IdempotencyRecord.builder()
+                .completed(true).fingerprint(fingerprint(BODY))
+                .status(201).contentType("application/json").body("{\"bookingId\":7}")
+                .build());
+
+        MockHttpServletResponse response = send(BODY);
+
+        assertThat(handled).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"bookingId\":7}");
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        when(store.find(SCOPE, KEY)).thenReturn(IdempotencyRecord.builder()
+                .completed(true).fingerprint(fingerprint("{\"scheduleId\":2}")).status(201)
+                .build());
+
+        MockHttpServletResponse response = send(BODY);
+
+        assertThat(handled).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    void inFlightKeyIsRejectedImmediately() throws Exception {
+        when(store.find(SCOPE, KEY)).thenReturn(IdempotencyRecord.builder()
+                .completed(false).fingerprint(fingerprint(BODY)).owner("other")
+                .build());
+
+        MockHttpServletResponse response = send(BODY);
+
+        assertThat(handled).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    void inFlightKeyWaitsForTheResultAndReplaysIt() throws Exception {
+        IdempotencyFilter waiting = new IdempotencyFilter(store, new ObjectMapper(), List.of(PATH), 2_000, 10);
+        when(store.find(SCOPE, KEY)).thenReturn(
+                IdempotencyRecord.builder().completed(false).fingerprint(fingerprint(BODY)).owner("other").build(),
+                IdempotencyRecord.builder().completed(false).fingerprint(fingerprint(BODY)).owner("other").build(),
+                IdempotencyRecord.builder()
+                        .completed(true).fingerprint(fingerprint(BODY))
+                        .status(201).contentType("application/json").body("{\"bookingId\":7}")
+                        .build());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        waiting.doFilter(request(BODY), response, chain);
+
+        // 재시도가 409 대신 먼저 처리된 요청의 응답을 받음
+        assertThat(handled).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"bookingId\":7}");
+    }
+
+    @Test
+    void inFlightKeyStillRunningAfterTheWaitIsRejected() throws Exception {
+        IdempotencyFilter waiting = new IdempotencyFilter(store, new ObjectMapper(), List.of(PATH), 100, 10);
+        when(store.find(SCOPE, KEY)).thenReturn(IdempotencyRecord.builder()
+                .completed(false).fingerprint(fingerprint(BODY)).owner("other")
+                .build());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        long started = System.currentTimeMillis();
+        waiting.doFilter(request(BODY), response, chain);
+
+        assertThat(System.currentTimeMillis() - started).isGreaterThanOrEqualTo(100);
+        assertThat(handled).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    void serverErrorReleasesTheKey() throws Exception {
+        when(store.tryBegin(SCOPE, KEY, fingerprint(BODY))).thenReturn("claim");
+        FilterChain failing = (request, response) -> ((HttpServletResponse) response).setStatus(503);
+
+        MockHttpServletRequest request = request(BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, failing);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        verify(store).abandon(SCOPE, KEY, "claim");
+        verify(store, never()).complete(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void storeFailureFailsOpen() throws Exception {
+        when(store.tryBegin(anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        MockHttpServletResponse response = send(BODY);
+
+        assertThat(handled).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    void responseIsReturnedEvenIfStoringItFails() throws Exception {
+        when(store.tryBegin(SCOPE, KEY, fingerprint(BODY))).thenReturn("claim");
+        when(store.complete(eq(SCOPE), eq(KEY), eq("claim"), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        MockHttpServletResponse response = send(BODY);
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"bookingId\":7}");
+    }
+
+    private MockHttpServletResponse send(String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(body), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader(IdempotencyFilter.HEADER, KEY);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static String fingerprint(String body) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
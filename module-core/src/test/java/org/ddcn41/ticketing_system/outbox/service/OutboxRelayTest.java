@@ -0,0 +1,109 @@
+package org.ddcn41.ticketing_system.outbox.service;
+
+import org.ddcn41.ticketing_system.outbox.entity.OutboxEvent;
+import org.ddcn41.ticketing_system.outbox.handler.OutboxEventHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private static final String TYPE = "TEST_EVENT";
+
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final OutboxEventHandler handler = mock(OutboxEventHandler.class);
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(handler.eventType()).thenReturn(TYPE);
+        when(outboxService.renewLease(any())).thenReturn(true);
+        relay = new OutboxRelay(outboxService, List.of(handler), 10, 3, 2_000, 300_000, 72, 60_000);
+    }
+
+    @Test
+    void dispatchedEventsAreMarkedTogether() throws Exception {
+        OutboxEvent first = event(1L, TYPE, 1);
+        OutboxEvent second = event(2L, TYPE, 1);
+        when(outboxService.claim(10)).thenReturn(List.of(first, second));
+
+        assertThat(relay.dispatchBatch()).isEqualTo(2);
+
+        verify(handler).handle(first);
+        verify(handler).handle(second);
+        verify(outboxService).markDispatched(List.of(1L, 2L));
+    }
+
+    @Test
+    void failedEventIsRetriedWithExponentialBackoff() throws Exception {
+        OutboxEvent event = event(1L, TYPE, 2);
+        when(outboxService.claim(10)).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("boom")).when(handler).handle(event);
+
+        LocalDateTime before = LocalDateTime.now();
+        relay.dispatchBatch();
+
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxService).markRetry(eq(1L), nextAttempt.capture(), anyString());
+        assertThat(nextAttempt.getValue()).isAfterOrEqualTo(before.plusSeconds(4)); // 2000ms * 2^(2-1)
+        verify(outboxService).markDispatched(List.of());
+    }
+
+    @Test
+    void eventIsFailedAfterMaxAttempts() throws Exception {
+        OutboxEvent event = event(1L, TYPE, 3);
+        when(outboxService.claim(10)).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("boom")).when(handler).handle(event);
+
+        relay.dispatchBatch();
+
+        verify(outboxService).markFailed(eq(1L), anyString());
+        verify(outboxService, never()).markRetry(any(), any(), any());
+    }
+
+    @Test
+    void eventReclaimedByAnotherRelayIsSkipped() throws Exception {
+        OutboxEvent lost = event(1L, TYPE, 1);
+        OutboxEvent kept = event(2L, TYPE, 1);
+        when(outboxService.claim(10)).thenReturn(List.of(lost, kept));
+        when(outboxService.renewLease(lost)).thenReturn(false);
+
+        relay.dispatchBatch();
+
+        verify(handler, never()).handle(lost);
+        verify(handler).handle(kept);
+        verify(outboxService).markDispatched(List.of(2L));
+    }
+
+    @Test
+    void eventWithoutHandlerIsFailed() {
+        when(outboxService.claim(10)).thenReturn(List.of(event(1L, "UNKNOWN", 1)));
+
+        relay.dispatchBatch();
+
+        verify(outboxService).markFailed(eq(1L), anyString());
+    }
+
+    private static OutboxEvent event(Long id, String type, int attempts) {
+        return OutboxEvent.builder()
+                .eventId(id)
+                .eventType(type)
+                .idempotencyKey(type + ":" + id)
+                .payload("{}")
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package org.ddcn41.ticketing_system.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ddcn41.ticketing_system.outbox.entity.OutboxEvent;
+import org.ddcn41.ticketing_system.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxServiceTest {
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final OutboxService service = new OutboxService(repository, new ObjectMapper());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "leaseMs", 60_000L);
+    }
+
+    @Test
+    void claimLeasesEventsAndCountsTheAttempt() {
+        OutboxEvent first = event(1L, 0);
+        OutboxEvent second = event(2L, 3);
+        when(repository.lockDispatchable(any(), eq(10))).thenReturn(List.of(first, second));
+
+        LocalDateTime before = LocalDateTime.now();
+        List<OutboxEvent> claimed = service.claim(10);
+
+        assertThat(claimed).extracting(OutboxEvent::getAttempts).containsExactly(1, 4);
+        verify(repository).markProcessing(eq(List.of(1L, 2L)),
+                argThat(leaseUntil -> !leaseUntil.isBefore(before.plus(Duration.ofMillis(60_000)))));
+    }
+
+    @Test
+    void claimWithNothingDispatchableLeasesNothing() {
+        when(repository.lockDispatchable(any(), anyInt())).thenReturn(List.of());
+
+        assertThat(service.claim(10)).isEmpty();
+        verify(repository, never()).markProcessing(anyList(), any());
+    }
+
+    @Test
+    void renewLeaseIsFencedByAttempts() {
+        OutboxEvent event = event(1L, 2);
+        when(repository.renewLease(eq(1L), eq(2), any())).thenReturn(1);
+        when(repository.renewLease(eq(1L), eq(3), any())).thenReturn(0);
+
+        assertThat(service.renewLease(event)).isTrue();
+        event.setAttempts(3);
+        assertThat(service.renewLease(event)).isFalse();
+    }
+
+    private static OutboxEvent event(Long id, int attempts) {
+        return OutboxEvent.builder()
+                .eventId(id)
+                .eventType(OutboxService.AUDIT_EVENT)
+                .idempotencyKey("key-" + id)
+                .payload("{}")
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package org.ddcn41.ticketing_system.performance.repository;
+
+import org.ddcn41.ticketing_system.performance.repository.PerformanceSalesRepository.SalesSummary;
+import org.ddcn41.ticketing_system.support.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerformanceSalesRepositoryTest extends PostgresTestSupport {
+
+    private PerformanceSalesRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new PerformanceSalesRepository(jdbcTemplate);
+    }
+
+    @Test
+    void createAndCancelAreVisibleBeforeAndAfterTheMerge() {
+        repository.seed(PERFORMANCE_ID);
+
+        repository.apply(PERFORMANCE_ID, 1, 2, new BigDecimal("200000"));
+        repository.apply(PERFORMANCE_ID, 1, 1, new BigDecimal("80000"));
+        repository.apply(PERFORMANCE_ID, -1, -2, new BigDecimal("-200000"));
+
+        // 병합 전에도 조회는 증감분을 더해서 보여 줌
+        assertThat(summary()).isEqualTo(new SalesSummary(1, 1, new BigDecimal("80000.00")));
+
+        assertThat(repository.merge(100)).isEqualTo(3);
+        assertThat(pendingDeltas()).isZero();
+        assertThat(summary()).isEqualTo(new SalesSummary(1, 1, new BigDecimal("80000.00")));
+    }
+
+    @Test
+    void mergeMovesAtMostTheBatchSize() {
+        repository.seed(PERFORMANCE_ID);
+        repository.apply(PERFORMANCE_ID, 1, 1, new BigDecimal("10000"));
+        repository.apply(PERFORMANCE_ID, 1, 1, new BigDecimal("10000"));
+        repository.apply(PERFORMANCE_ID, 1, 1, new BigDecimal("10000"));
+
+        assertThat(repository.merge(2)).isEqualTo(2);
+        assertThat(pendingDeltas()).isEqualTo(1);
+        assertThat(repository.merge(2)).isEqualTo(1);
+        assertThat(summary()).isEqualTo(new SalesSummary(3, 3, new BigDecimal("30000.00")));
+    }
+
+    @Test
+    void bookingWithoutSummaryRowIsCountedOnceByTheBackfill() {
+        insertBooking(SCHEDULE_ID, "CONFIRMED", "100000", seat("1"));
+        insertBooking(OTHER_SCHEDULE_ID, "CANCELLED", "50000", seat("2"));
+        insertBooking(OTHER_SCHEDULE_ID, "CONFIRMED", "70000", seat("3"), seat("4"));
+        repository.apply(PERFORMANCE_ID, 1, 2, new BigDecimal("70000"));
+
+        // 요약 행이 없으면 병합하지 않고 남겨 둠
+        assertThat(repository.merge(100)).isZero();
+        assertThat(summary()).isNull();
+
+        // 집계가 이미 이 예매를 세므로 증감분은 같은 문장에서 지워짐
+        assertThat(repository.backfill(List.of(PERFORMANCE_ID))).isEqualTo(1);
+        assertThat(pendingDeltas()).isZero();
+        assertThat(summary()).isEqualTo(new SalesSummary(2, 3, new BigDecimal("170000.00")));
+    }
+
+    @Test
+    void bookingRacingTheFirstBackfillIsCountedExactlyOnce() {
+        insertBooking(SCHEDULE_ID, "CONFIRMED", "100000", seat("1"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            insertBooking(SCHEDULE_ID, "CONFIRMED", "80000", seat("2"));
+            repository.apply(PERFORMANCE_ID, 1, 1, new BigDecimal("80000"));
+
+            // 다른 연결의 backfill은 커밋되지 않은 예매도 증감분도 보지 못함 → 집계에서 빠지고 증감분은 남음
+            assertThat(CompletableFuture.supplyAsync(() -> repository.backfill(List.of(PERFORMANCE_ID))))
+                    .succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(1);
+        });
+
+        assertThat(pendingDeltas()).isEqualTo(1);
+        assertThat(repository.merge(100)).isEqualTo(1);
+        assertThat(summary()).isEqualTo(new SalesSummary(2, 2, new BigDecimal("180000.00")));
+    }
+
+    @Test
+    void bookingDoesNotWaitForAnUncommittedBackfill() {
+        insertBooking(SCHEDULE_ID, "CONFIRMED", "100000", seat("1"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.backfill(List.of(PERFORMANCE_ID));
+
+            // 예매 트랜잭션은 요약 행을 건드리지 않으므로 backfill 커밋을 기다리지 않음
+            CompletableFuture<Void> concurrent = CompletableFuture.runAsync(() ->
+                    transactionTemplate.executeWithoutResult(inner -> {
+                        insertBooking(SCHEDULE_ID, "CONFIRMED", "80000", seat("2"));
+                        repository.apply(PERFORMANCE_ID, 1, 1, new BigDecimal("80000"));
+                    }));
+            assertThat(concurrent).succeedsWithin(5, TimeUnit.SECONDS);
+        });
+
+        // backfill 집계 뒤에 커밋된 예매 → 증감분이 남아 병합으로 한 번만 더해짐
+        assertThat(repository.merge(100)).isEqualTo(1);
+        assertThat(summary()).isEqualTo(new SalesSummary(2, 2, new BigDecimal("180000.00")));
+    }
+
+    @Test
+    void bookingDoesNotWaitForALockedSummaryRow() {
+        repository.seed(PERFORMANCE_ID);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT performance_id FROM performance_sales WHERE performance_id = ? FOR UPDATE",
+                    Long.class, PERFORMANCE_ID);
+
+            assertThat(CompletableFuture.runAsync(() ->
+                    repository.apply(PERFORMANCE_ID, 1, 1, new BigDecimal("80000"))))
+                    .succeedsWithin(5, TimeUnit.SECONDS);
+        });
+
+        assertThat(summary()).isEqualTo(new SalesSummary(1, 1, new BigDecimal("80000.00")));
+    }
+
+    private long seat(String col) {
+        return insertSeat(SCHEDULE_ID, "A", "1", col, "VIP", "0", "BOOKED");
+    }
+
+    private int pendingDeltas() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM performance_sales_deltas", Integer.class);
+    }
+
+    private SalesSummary summary() {
+        return repository.findByPerformanceIds(List.of(PERFORMANCE_ID)).get(PERFORMANCE_ID);
+    }
+}
@@ -0,0 +1,72 @@
+package org.ddcn41.ticketing_system.sales.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ddcn41.ticketing_system.sales.event.BookingSalesEvent;
+import org.ddcn41.ticketing_system.sales.service.SalesMetricsStore.Delta;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SalesMetricsServiceTest {
+
+    private static final long PERFORMANCE_ID = 11L;
+    private static final long SCHEDULE_ID = 16L;
+
+    private final SalesMetricsStore store = mock(SalesMetricsStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void failedMergeIsRetriedAsTheSameBatchWithoutRestoringCounters() {
+        SalesMetricsService service = new SalesMetricsService(store, meterRegistry, true, 1_800_000);
+        doThrow(new IllegalStateException("timeout")).doNothing()
+                .when(store).merge(anyString(), anyList(), anyLong());
+
+        service.onBookingSales(BookingSalesEvent.created(PERFORMANCE_ID, SCHEDULE_ID, 2, new BigDecimal("200000")));
+        service.flush();
+        service.onBookingSales(BookingSalesEvent.created(PERFORMANCE_ID, SCHEDULE_ID, 1, new BigDecimal("80000")));
+        service.flush();
+
+        ArgumentCaptor<String> batchIds = ArgumentCaptor.forClass(String.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Delta>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(store, times(3)).merge(batchIds.capture(), deltas.capture(), anyLong());
+
+        // 실패한 묶음은 같은 batchId, 같은 증분으로 재시도 → 그 뒤 새 누적분만 별도 묶음으로
+        assertThat(batchIds.getAllValues().get(1)).isEqualTo(batchIds.getAllValues().get(0));
+        assertThat(deltas.getAllValues().get(1)).isEqualTo(deltas.getAllValues().get(0));
+        assertThat(batchIds.getAllValues().get(2)).isNotEqualTo(batchIds.getAllValues().get(0));
+        assertThat(deltas.getAllValues().get(2))
+                .containsExactlyInAnyOrder(
+                        new Delta(SalesMetricsService.PERFORMANCE, PERFORMANCE_ID, 1, 1, 0, 0, 8_000_000),
+                        new Delta(SalesMetricsService.SCHEDULE, SCHEDULE_ID, 1, 1, 0, 0, 8_000_000));
+    }
+
+    @Test
+    void idlePerformancesLoseTheirGauges() throws Exception {
+        SalesMetricsService service = new SalesMetricsService(store, meterRegistry, true, 1);
+        doNothing().when(store).merge(anyString(), anyList(), anyLong());
+
+        service.onBookingSales(BookingSalesEvent.created(PERFORMANCE_ID, SCHEDULE_ID, 2, new BigDecimal("200000")));
+        assertThat(meterRegistry.find("sales.bookings").tag("performanceId", "11").gauge()).isNotNull();
+
+        // 누적분을 반영해 비었고 idle-expire-ms 동안 판매가 없으면 정리
+        Thread.sleep(5);
+        service.flush();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+
+        service.onBookingSales(BookingSalesEvent.created(PERFORMANCE_ID, SCHEDULE_ID, 1, new BigDecimal("80000")));
+        assertThat(meterRegistry.find("sales.bookings").tag("performanceId", "11").gauge()).isNotNull();
+    }
+}
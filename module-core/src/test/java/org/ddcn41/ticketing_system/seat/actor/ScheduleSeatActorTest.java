@@ -0,0 +1,99 @@
+package org.ddcn41.ticketing_system.seat.actor;
+
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleSeatActorTest {
+
+    private static final long NOW = 1_000L;
+
+    private final ScheduleSeatActor actor = new ScheduleSeatActor(1L, List.of(
+            new ScheduleSeatActor.SeatState(1L, "A", "VIP", SeatStatus.AVAILABLE),
+            new ScheduleSeatActor.SeatState(2L, "A", "VIP", SeatStatus.AVAILABLE),
+            new ScheduleSeatActor.SeatState(3L, "A", "VIP", SeatStatus.BOOKED)));
+
+    @Test
+    void reserveExternalRejectsSeatsLockedOnlyInMemory() {
+        assertThat(actor.lock(List.of(2L), "user-1", "s-1", NOW, NOW + 60_000)).isNull();
+
+        assertThat(actor.reserveExternal(List.of(1L, 2L))).isFalse();
+        assertThat(actor.hasStatus(List.of(1L), SeatStatus.AVAILABLE)).isTrue();
+    }
+
+    @Test
+    void reserveExternalRejectsUnflushedReleases() {
+        actor.lock(List.of(1L), "user-1", "s-1", NOW, NOW + 60_000);
+        actor.drainDirty();
+        actor.release(List.of(1L), "user-1", "s-1", false, NOW);
+
+        assertThat(actor.reserveExternal(List.of(1L))).isFalse();
+    }
+
+    @Test
+    void reservedSeatsAreBookedWithoutDirtyAndCanBeReverted() {
+        assertThat(actor.reserveExternal(List.of(1L, 2L))).isTrue();
+
+        assertThat(actor.hasStatus(List.of(1L, 2L), SeatStatus.BOOKED)).isTrue();
+        assertThat(actor.hasDirty()).isFalse();
+        assertThat(actor.lock(List.of(1L), "user-2", "s-2", NOW, NOW + 60_000)).isNotNull();
+
+        actor.applyExternal(1L, SeatStatus.AVAILABLE);
+        actor.applyExternal(2L, SeatStatus.AVAILABLE);
+        assertThat(actor.lock(List.of(1L, 2L), "user-2", "s-2", NOW, NOW + 60_000)).isNull();
+    }
+
+    @Test
+    void reserveExternalRejectsBookedOrUnknownSeats() {
+        assertThat(actor.reserveExternal(List.of(1L, 3L))).isFalse();
+        assertThat(actor.reserveExternal(List.of(1L, 99L))).isFalse();
+        assertThat(actor.hasStatus(List.of(1L), SeatStatus.AVAILABLE)).isTrue();
+    }
+
+    @Test
+    void restoredHoldersCanConfirmAndReleaseAfterReload() {
+        ScheduleSeatActor reloaded = new ScheduleSeatActor(1L, List.of(
+                new ScheduleSeatActor.SeatState(1L, "A", "VIP", SeatStatus.LOCKED),
+                new ScheduleSeatActor.SeatState(2L, "A", "VIP", SeatStatus.LOCKED)));
+        reloaded.restoreHolds(Map.of(
+                1L, new ScheduleSeatActor.Hold("user-1", "s-1", NOW + 60_000),
+                2L, new ScheduleSeatActor.Hold("user-2", "s-2", NOW + 60_000)), NOW + 60_000);
+
+        assertThat(reloaded.confirm(List.of(1L), "user-1", NOW)).isTrue();
+        assertThat(reloaded.release(List.of(2L), "user-2", "s-2", false, NOW)).isTrue();
+        assertThat(reloaded.hasStatus(List.of(2L), SeatStatus.AVAILABLE)).isTrue();
+        assertThat(reloaded.drainHolds()).containsOnlyKeys(1L, 2L).containsEntry(1L, null).containsEntry(2L, null);
+    }
+
+    @Test
+    void lockedSeatsWithoutHolderExpireAfterReload() {
+        ScheduleSeatActor reloaded = new ScheduleSeatActor(1L, List.of(
+                new ScheduleSeatActor.SeatState(1L, "A", "VIP", SeatStatus.LOCKED),
+                new ScheduleSeatActor.SeatState(2L, "A", "VIP", SeatStatus.AVAILABLE)));
+        reloaded.restoreHolds(Map.of(2L, new ScheduleSeatActor.Hold("user-1", "s-1", NOW + 60_000)), NOW + 60_000);
+
+        reloaded.expire(NOW + 1);
+        assertThat(reloaded.hasStatus(List.of(1L), SeatStatus.LOCKED)).isTrue();
+
+        reloaded.expire(NOW + 60_001);
+        assertThat(reloaded.hasStatus(List.of(1L), SeatStatus.AVAILABLE)).isTrue();
+        assertThat(reloaded.drainDirty()).hasSize(1);
+        // 좌석 2의 남은 보유자 기록은 다음 flush 때 삭제
+        Map<Long, ScheduleSeatActor.Hold> holds = reloaded.drainHolds();
+        assertThat(holds).containsOnlyKeys(2L);
+        assertThat(holds.get(2L)).isNull();
+    }
+
+    @Test
+    void lockRecordsTheHolderToKeep() {
+        actor.lock(List.of(1L), "user-1", "s-1", NOW, NOW + 60_000);
+
+        assertThat(actor.drainHolds())
+                .containsExactly(Map.entry(1L, new ScheduleSeatActor.Hold("user-1", "s-1", NOW + 60_000)));
+        assertThat(actor.drainHolds()).isEmpty();
+    }
+}
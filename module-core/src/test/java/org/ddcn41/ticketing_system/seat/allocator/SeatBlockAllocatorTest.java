@@ -0,0 +1,105 @@
+package org.ddcn41.ticketing_system.seat.allocator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatBlockAllocatorTest {
+
+    @Test
+    void claimsMostCenteredBlockInFrontRow() {
+        SeatBlockAllocator allocator = new SeatBlockAllocator(rows("Z1", "R", 2, 10, Set.of()));
+
+        Optional<SeatBlockAllocator.Block> block = allocator.claim(2, null, null);
+
+        assertThat(block).isPresent();
+        assertThat(block.get().rowLabel()).isEqualTo("A");
+        assertThat(block.get().colNums()).containsExactly(5, 6);
+        assertThat(allocator.freeCount()).isEqualTo(18);
+    }
+
+    @Test
+    void skipsRowWithoutLongEnoughRun() {
+        // A행 3열 점유 → A행에는 3연석이 없음
+        SeatBlockAllocator allocator = new SeatBlockAllocator(rows("Z1", "R", 2, 5, Set.of(3L)));
+
+        Optional<SeatBlockAllocator.Block> block = allocator.claim(3, null, null);
+
+        assertThat(block).isPresent();
+        assertThat(block.get().rowLabel()).isEqualTo("B");
+        assertThat(block.get().colNums()).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void doesNotBridgeMissingColumns() {
+        List<SeatBlockAllocator.SeatSlot> slots = List.of(
+                new SeatBlockAllocator.SeatSlot(1L, "Z1", "R", "A", 1, true),
+                new SeatBlockAllocator.SeatSlot(2L, "Z1", "R", "A", 2, true),
+                new SeatBlockAllocator.SeatSlot(4L, "Z1", "R", "A", 4, true),
+                new SeatBlockAllocator.SeatSlot(5L, "Z1", "R", "A", 5, true));
+        SeatBlockAllocator allocator = new SeatBlockAllocator(slots);
+
+        assertThat(allocator.claim(3, null, null)).isEmpty();
+        assertThat(allocator.claim(2, null, null)).isPresent();
+    }
+
+    @Test
+    void filtersByGradeAndZoneIgnoringCase() {
+        List<SeatBlockAllocator.SeatSlot> slots = new ArrayList<>(rows("Z1", "R", 1, 4, Set.of()));
+        slots.addAll(rows("Z2", "VIP", 1, 4, Set.of(), 100));
+        SeatBlockAllocator allocator = new SeatBlockAllocator(slots);
+
+        Optional<SeatBlockAllocator.Block> vip = allocator.claim(2, "vip", null);
+        Optional<SeatBlockAllocator.Block> zone = allocator.claim(2, null, "z1");
+
+        assertThat(vip).isPresent();
+        assertThat(vip.get().grade()).isEqualTo("VIP");
+        assertThat(vip.get().seatIds()).allSatisfy(id -> assertThat(id).isGreaterThan(100L));
+        assertThat(zone).isPresent();
+        assertThat(zone.get().zone()).isEqualTo("Z1");
+        assertThat(allocator.claim(1, "S", null)).isEmpty();
+    }
+
+    @Test
+    void releaseAndOccupyKeepFreeCountConsistent() {
+        SeatBlockAllocator allocator = new SeatBlockAllocator(rows("Z1", "R", 1, 4, Set.of()));
+
+        SeatBlockAllocator.Block block = allocator.claim(4, null, null).orElseThrow();
+        assertThat(allocator.freeCount()).isZero();
+        assertThat(allocator.claim(1, null, null)).isEmpty();
+
+        allocator.occupy(block.seatIds());   // 이미 점유된 좌석은 중복 차감하지 않음
+        assertThat(allocator.freeCount()).isZero();
+
+        allocator.release(List.of(2L, 3L, 999L));
+        allocator.release(List.of(2L));
+        assertThat(allocator.freeCount()).isEqualTo(2);
+        assertThat(allocator.claim(2, null, null).orElseThrow().seatIds()).containsExactly(2L, 3L);
+    }
+
+    private static List<SeatBlockAllocator.SeatSlot> rows(String zone, String grade, int rowCount, int cols,
+                                                          Set<Long> occupied) {
+        return rows(zone, grade, rowCount, cols, occupied, 0);
+    }
+
+    /**
+     * seatId = offset + (행 번호 * 100) + 열 번호, A행은 offset + 1 ~ cols
+     */
+    private static List<SeatBlockAllocator.SeatSlot> rows(String zone, String grade, int rowCount, int cols,
+                                                          Set<Long> occupied, long offset) {
+        List<SeatBlockAllocator.SeatSlot> slots = new ArrayList<>();
+        for (int r = 0; r < rowCount; r++) {
+            String rowLabel = String.valueOf((char) ('A' + r));
+            for (int c = 1; c <= cols; c++) {
+                long seatId = offset + r * 100L + c;
+                slots.add(new SeatBlockAllocator.SeatSlot(seatId, zone, grade, rowLabel, c, !occupied.contains(seatId)));
+            }
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,159 @@
+package org.ddcn41.ticketing_system.seat.repository;
+
+import org.ddcn41.ticketing_system.support.PostgresTestSupport;
+import org.ddcn41.ticketing_system.venue.seatmap.SeatMapDiff.SeatCoordinate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleSeatJdbcRepositoryTest extends PostgresTestSupport {
+
+    private static final List<Long> SCHEDULES = List.of(SCHEDULE_ID, OTHER_SCHEDULE_ID);
+
+    private ScheduleSeatJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ScheduleSeatJdbcRepository(jdbcTemplate);
+    }
+
+    @Test
+    void countBlockedChangesReportsSeatsInUseOrWithHistory() {
+        insertSeat(SCHEDULE_ID, "A", "1", "1", "VIP", "100000", "AVAILABLE");
+        insertSeat(SCHEDULE_ID, "A", "1", "2", "VIP", "100000", "LOCKED");
+        long booked = insertSeat(SCHEDULE_ID, "A", "1", "3", "VIP", "100000", "AVAILABLE");
+        insertBooking(SCHEDULE_ID, "CANCELLED", "100000", booked);
+        insertSeat(OTHER_SCHEDULE_ID, "A", "1", "1", "VIP", "100000", "BOOKED");
+
+        Map<Long, Long> blocked = repository.countBlockedChanges(SCHEDULES,
+                List.of(coordinate("A", "1", "1"), coordinate("A", "1", "2"), coordinate("A", "1", "3")),
+                List.of(), Set.of());
+
+        assertThat(blocked).containsOnly(Map.entry(SCHEDULE_ID, 2L), Map.entry(OTHER_SCHEDULE_ID, 1L));
+    }
+
+    @Test
+    void countBlockedChangesReportsLockedSeatsOnRegradeOrReprice() {
+        insertSeat(SCHEDULE_ID, "A", "1", "1", "VIP", "100000", "LOCKED");
+        insertSeat(SCHEDULE_ID, "A", "1", "2", "VIP", "100000", "BOOKED");
+        insertSeat(OTHER_SCHEDULE_ID, "B", "1", "1", "R", "80000", "LOCKED");
+        insertSeat(OTHER_SCHEDULE_ID, "B", "1", "2", "S", "60000", "LOCKED");
+
+        Map<Long, Long> blocked = repository.countBlockedChanges(SCHEDULES,
+                List.of(), List.of(coordinate("A", "1", "1"), coordinate("A", "1", "2")), Set.of("R"));
+
+        assertThat(blocked).containsOnly(Map.entry(SCHEDULE_ID, 1L), Map.entry(OTHER_SCHEDULE_ID, 1L));
+    }
+
+    @Test
+    void countBlockedChangesIsEmptyWhenOnlyAvailableSeatsChange() {
+        insertSeat(SCHEDULE_ID, null, "1", "1", "VIP", "100000", "AVAILABLE");
+        insertSeat(SCHEDULE_ID, "A", "1", "1", "R", "80000", "BOOKED");
+
+        Map<Long, Long> blocked = repository.countBlockedChanges(SCHEDULES,
+                List.of(coordinate(null, "1", "1")), List.of(), Set.of("VIP"));
+
+        assertThat(blocked).isEmpty();
+    }
+
+    @Test
+    void findSeatIdsByCoordinatesMatchesExactCoordinatesIncludingNullZone() {
+        long zoneless = insertSeat(SCHEDULE_ID, null, "1", "1", "VIP", "100000", "AVAILABLE");
+        long zoned = insertSeat(SCHEDULE_ID, "A", "2", "3", "R", "80000", "AVAILABLE");
+        // 각 좌표 성분은 요청에 있지만 조합은 요청에 없는 좌석
+        insertSeat(SCHEDULE_ID, "A", "1", "3", "R", "80000", "AVAILABLE");
+        insertSeat(SCHEDULE_ID, null, "2", "1", "VIP", "100000", "AVAILABLE");
+        insertSeat(OTHER_SCHEDULE_ID, null, "1", "1", "VIP", "100000", "AVAILABLE");
+
+        List<Long> seatIds = repository.findSeatIdsByCoordinates(SCHEDULE_ID,
+                List.of(coordinate(null, "1", "1"), coordinate("A", "2", "3"), coordinate("B", "9", "9")));
+
+        assertThat(seatIds).containsExactlyInAnyOrder(zoneless, zoned);
+    }
+
+    @Test
+    void deleteCoordinatesRemovesOnlyAvailableSeatsAndTheirLocks() {
+        long available = insertSeat(SCHEDULE_ID, null, "1", "1", "VIP", "100000", "AVAILABLE");
+        long locked = insertSeat(SCHEDULE_ID, null, "1", "2", "VIP", "100000", "LOCKED");
+        long kept = insertSeat(SCHEDULE_ID, null, "2", "1", "VIP", "100000", "AVAILABLE");
+        jdbcTemplate.update("INSERT INTO seat_locks (seat_id, user_id, expires_at, status) VALUES (?, ?, now(), 'EXPIRED')",
+                available, USER_ID);
+
+        int deleted = repository.deleteCoordinates(SCHEDULES,
+                List.of(coordinate(null, "1", "1"), coordinate(null, "1", "2")));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(seatIds(SCHEDULE_ID)).containsExactlyInAnyOrder(locked, kept);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM seat_locks", Long.class)).isZero();
+    }
+
+    @Test
+    void insertCoordinatesIsIdempotentForSeatsWithoutZone() {
+        List<SeatCoordinate> added = List.of(
+                new SeatCoordinate(null, "1", "1", "VIP", new BigDecimal("100000")),
+                new SeatCoordinate("A", "1", "1", "R", new BigDecimal("80000")));
+
+        assertThat(repository.insertCoordinates(SCHEDULES, added)).isEqualTo(4);
+        assertThat(repository.insertCoordinates(SCHEDULES, added)).isZero();
+        assertThat(seatIds(SCHEDULE_ID)).hasSize(2);
+        assertThat(seatIds(OTHER_SCHEDULE_ID)).hasSize(2);
+    }
+
+    @Test
+    void regradeAndRepriceTouchOnlyAvailableSeats() {
+        long available = insertSeat(SCHEDULE_ID, "A", "1", "1", "R", "80000", "AVAILABLE");
+        long locked = insertSeat(SCHEDULE_ID, "A", "1", "2", "R", "80000", "LOCKED");
+        long booked = insertSeat(SCHEDULE_ID, "A", "1", "3", "R", "80000", "BOOKED");
+        long sameGrade = insertSeat(SCHEDULE_ID, "B", "1", "1", "S", "60000", "AVAILABLE");
+        long sameGradeBooked = insertSeat(SCHEDULE_ID, "B", "1", "2", "S", "60000", "BOOKED");
+
+        int regraded = repository.regradeCoordinates(SCHEDULES, List.of(
+                new SeatCoordinate("A", "1", "1", "VIP", new BigDecimal("100000")),
+                new SeatCoordinate("A", "1", "2", "VIP", new BigDecimal("100000")),
+                new SeatCoordinate("A", "1", "3", "VIP", new BigDecimal("100000"))));
+        int repriced = repository.repriceGrades(SCHEDULES, Map.of("S", new BigDecimal("65000")));
+
+        assertThat(regraded).isEqualTo(1);
+        assertThat(repriced).isEqualTo(1);
+        assertThat(gradeAndPrice(available)).isEqualTo("VIP/100000.00");
+        assertThat(gradeAndPrice(locked)).isEqualTo("R/80000.00");
+        assertThat(gradeAndPrice(booked)).isEqualTo("R/80000.00");
+        assertThat(gradeAndPrice(sameGrade)).isEqualTo("S/65000.00");
+        assertThat(gradeAndPrice(sameGradeBooked)).isEqualTo("S/60000.00");
+    }
+
+    @Test
+    void lockForSeatMapChangeSucceedsWithinTransactionAndRefreshCountsFollowsSeats() {
+        insertSeat(SCHEDULE_ID, "A", "1", "1", "R", "80000", "AVAILABLE");
+        insertSeat(SCHEDULE_ID, "A", "1", "2", "R", "80000", "BOOKED");
+
+        Integer refreshed = transactionTemplate.execute(status -> {
+            repository.lockForSeatMapChange(SCHEDULES, List.of(coordinate("A", "1", "1")), Set.of("R"));
+            return repository.refreshScheduleCounts(SCHEDULES);
+        });
+
+        assertThat(refreshed).isEqualTo(1); // 좌석이 없는 스케줄 17은 그대로
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT total_seats, available_seats FROM performance_schedules WHERE schedule_id = ?", SCHEDULE_ID))
+                .containsEntry("total_seats", 2).containsEntry("available_seats", 1);
+    }
+
+    private List<Long> seatIds(long scheduleId) {
+        return jdbcTemplate.queryForList("SELECT seat_id FROM schedule_seats WHERE schedule_id = ?", Long.class, scheduleId);
+    }
+
+    private String gradeAndPrice(long seatId) {
+        return jdbcTemplate.queryForObject("SELECT grade || '/' || price FROM schedule_seats WHERE seat_id = ?",
+                String.class, seatId);
+    }
+
+    private static SeatCoordinate coordinate(String zone, String rowLabel, String colNum) {
+        return new SeatCoordinate(zone, rowLabel, colNum, null, null);
+    }
+}
@@ -0,0 +1,199 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ddcn41.ticketing_system.seat.allocator.SeatBlockAllocator;
+import org.ddcn41.ticketing_system.seat.dto.SeatStatusChange;
+import org.ddcn41.ticketing_system.seat.dto.request.BestAvailableSeatRequest;
+import org.ddcn41.ticketing_system.seat.dto.response.BestAvailableSeatResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatLockResponse;
+import org.ddcn41.ticketing_system.seat.dto.response.SeatStreamFrame;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BestAvailableSeatServiceTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SeatCommandService seatCommandService;
+    private ScheduleSeatRepository scheduleSeatRepository;
+    private BestAvailableSeatService service;
+
+    @BeforeEach
+    void setUp() {
+        seatCommandService = mock(SeatCommandService.class);
+        scheduleSeatRepository = mock(ScheduleSeatRepository.class);
+        service = new BestAvailableSeatService(seatCommandService, scheduleSeatRepository, 1_800_000);
+    }
+
+    @Test
+    void replaysChangesReceivedWhileBuilding() throws Exception {
+        when(scheduleSeatRepository.findSeatLayoutByScheduleId(SCHEDULE_ID)).thenAnswer(invocation -> {
+            // DB 스냅샷을 읽은 직후 다른 파드에서 좌석 2개가 점유됨
+            service.onMessage(frame(false, change(2L, "LOCKED"), change(3L, "BOOKED")), null);
+            return layout(5);
+        });
+
+        SeatBlockAllocator allocator = service.allocatorFor(SCHEDULE_ID);
+
+        assertThat(allocator.freeCount()).isEqualTo(3);
+        assertThat(service.allocatorFor(SCHEDULE_ID)).isSameAs(allocator);
+
+        service.onMessage(frame(false, change(2L, "AVAILABLE")), null);
+        assertThat(allocator.freeCount()).isEqualTo(4);
+    }
+
+    @Test
+    void resetDuringBuildIsNotCached() {
+        when(scheduleSeatRepository.findSeatLayoutByScheduleId(SCHEDULE_ID)).thenAnswer(invocation -> {
+            service.onMessage(frame(true), null);
+            return layout(5);
+        });
+
+        service.allocatorFor(SCHEDULE_ID);
+        service.allocatorFor(SCHEDULE_ID);
+
+        verify(scheduleSeatRepository, times(2)).findSeatLayoutByScheduleId(SCHEDULE_ID);
+    }
+
+    @Test
+    void concurrentCallersShareOneBuild() throws Exception {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(scheduleSeatRepository.findSeatLayoutByScheduleId(SCHEDULE_ID)).thenAnswer(invocation -> {
+            building.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return layout(5);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SeatBlockAllocator>> results = new ArrayList<>();
+            results.add(executor.submit(() -> service.allocatorFor(SCHEDULE_ID)));
+            assertThat(building.await(10, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> service.allocatorFor(SCHEDULE_ID)));
+            }
+            release.countDown();
+
+            SeatBlockAllocator first = results.getFirst().get(10, TimeUnit.SECONDS);
+            for (Future<SeatBlockAllocator> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(scheduleSeatRepository, times(1)).findSeatLayoutByScheduleId(SCHEDULE_ID);
+    }
+
+    @Test
+    void unexpectedLockErrorReturnsTheClaimedSeats() {
+        when(scheduleSeatRepository.findSeatLayoutByScheduleId(SCHEDULE_ID)).thenReturn(layout(5));
+        when(seatCommandService.lockSeats(anyLong(), anyList(), any(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        when(scheduleSeatRepository.findAllById(anyList())).thenAnswer(invocation -> availableSeats(invocation.getArgument(0)));
+
+        assertThatThrownBy(() -> service.allocate(SCHEDULE_ID, request(2), "user-001"))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        // BusinessException이 아닌 예외여도 claim한 좌석을 DB 상태로 되돌림
+        assertThat(service.allocatorFor(SCHEDULE_ID).freeCount()).isEqualTo(5);
+    }
+
+    @Test
+    void failedLocksAreResyncedBeforeEachRetry() {
+        when(scheduleSeatRepository.findSeatLayoutByScheduleId(SCHEDULE_ID)).thenReturn(layout(5));
+        when(seatCommandService.lockSeats(anyLong(), anyList(), any(), any()))
+                .thenReturn(SeatLockResponse.failure("경합"));
+        when(scheduleSeatRepository.findAllById(anyList())).thenAnswer(invocation -> availableSeats(invocation.getArgument(0)));
+
+        BestAvailableSeatResponse response = service.allocate(SCHEDULE_ID, request(2), "user-001");
+
+        assertThat(response.isSuccess()).isFalse();
+        verify(seatCommandService, times(3)).lockSeats(anyLong(), anyList(), any(), any());
+        assertThat(service.allocatorFor(SCHEDULE_ID).freeCount()).isEqualTo(5);
+    }
+
+    @Test
+    void failedResyncDropsTheAllocator() {
+        when(scheduleSeatRepository.findSeatLayoutByScheduleId(SCHEDULE_ID)).thenReturn(layout(5));
+        when(seatCommandService.lockSeats(anyLong(), anyList(), any(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        when(scheduleSeatRepository.findAllById(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        SeatBlockAllocator allocator = service.allocatorFor(SCHEDULE_ID);
+        assertThatThrownBy(() -> service.allocate(SCHEDULE_ID, request(2), "user-001"))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(service.allocatorFor(SCHEDULE_ID)).isNotSameAs(allocator);
+        verify(scheduleSeatRepository, times(2)).findSeatLayoutByScheduleId(SCHEDULE_ID);
+    }
+
+    @Test
+    void idleAllocatorsAreEvictedAndRebuiltOnDemand() {
+        service = new BestAvailableSeatService(seatCommandService, scheduleSeatRepository, 0);
+        when(scheduleSeatRepository.findSeatLayoutByScheduleId(SCHEDULE_ID)).thenReturn(layout(5));
+
+        SeatBlockAllocator allocator = service.allocatorFor(SCHEDULE_ID);
+        service.evictIdle();
+
+        assertThat(service.allocatorFor(SCHEDULE_ID)).isNotSameAs(allocator);
+        verify(scheduleSeatRepository, times(2)).findSeatLayoutByScheduleId(SCHEDULE_ID);
+    }
+
+    private static BestAvailableSeatRequest request(int count) {
+        return BestAvailableSeatRequest.builder().count(count).userId("user-001").sessionId("session-1").build();
+    }
+
+    private static List<ScheduleSeat> availableSeats(List<Long> seatIds) {
+        return seatIds.stream()
+                .map(id -> ScheduleSeat.builder().seatId(id).status(ScheduleSeat.SeatStatus.AVAILABLE).build())
+                .toList();
+    }
+
+    private DefaultMessage frame(boolean reset, SeatStatusChange... changes) throws Exception {
+        SeatStreamFrame frame = SeatStreamFrame.builder()
+                .scheduleId(SCHEDULE_ID)
+                .version(1L)
+                .reset(reset)
+                .changes(reset ? null : List.of(changes))
+                .build();
+        return new DefaultMessage(("seat_events:" + SCHEDULE_ID).getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(frame));
+    }
+
+    private static SeatStatusChange change(Long seatId, String status) {
+        return SeatStatusChange.builder().seatId(seatId).status(status).build();
+    }
+
+    private static List<Object[]> layout(int cols) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int c = 1; c <= cols; c++) {
+            rows.add(new Object[]{(long) c, "Z1", "R", "A", String.valueOf(c), ScheduleSeat.SeatStatus.AVAILABLE});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,40 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.service.SeatAvailabilityStatsService.SeatCount;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatAvailabilityStatsServiceTest {
+
+    @Test
+    void fieldsRoundTripZonesAndGradesContainingSeparators() {
+        Map<String, String> hash = Map.of(
+                SeatAvailabilityStatsService.field("A|B", "VIP", SeatStatus.AVAILABLE), "3",
+                SeatAvailabilityStatsService.field("C\\", "R|S", SeatStatus.LOCKED), "2",
+                SeatAvailabilityStatsService.field(null, "S", SeatStatus.BOOKED), "1");
+
+        assertThat(SeatAvailabilityStatsService.parse(hash)).containsExactlyInAnyOrder(
+                new SeatCount("A|B", "VIP", SeatStatus.AVAILABLE, 3),
+                new SeatCount("C\\", "R|S", SeatStatus.LOCKED, 2),
+                new SeatCount(null, "S", SeatStatus.BOOKED, 1));
+    }
+
+    @Test
+    void separatorsInsideValuesDoNotCollide() {
+        assertThat(SeatAvailabilityStatsService.field("A|B", "C", SeatStatus.AVAILABLE))
+                .isNotEqualTo(SeatAvailabilityStatsService.field("A", "B|C", SeatStatus.AVAILABLE));
+    }
+
+    @Test
+    void parseSkipsMarkerAndEmptyCounts() {
+        Map<String, String> hash = Map.of(
+                "_", "1",
+                SeatAvailabilityStatsService.field("A", "VIP", SeatStatus.LOCKED), "0");
+
+        assertThat(SeatAvailabilityStatsService.parse(hash)).isEmpty();
+    }
+}
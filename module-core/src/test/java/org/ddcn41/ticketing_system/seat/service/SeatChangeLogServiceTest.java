@@ -0,0 +1,103 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.event.SeatStatusChangedEvent;
+import org.ddcn41.ticketing_system.seat.event.SeatTransition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeatChangeLogServiceTest {
+
+    private static final long SCHEDULE_ID = 16L;
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final AtomicBoolean redisDown = new AtomicBoolean();
+    private final AtomicBoolean appendFails = new AtomicBoolean();
+
+    private SeatChangeLogService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            if (redisDown.get()) {
+                throw new RedisConnectionFailureException("down");
+            }
+            String script = invocation.<RedisScript<?>>getArgument(0).getScriptAsString();
+            if (script.contains("RPUSH")) {
+                if (appendFails.get()) {
+                    throw new RedisConnectionFailureException("timeout");
+                }
+                return 11L;
+            }
+            if (script.contains("LRANGE")) {
+                return List.of("12", "12");
+            }
+            return 12L; // reset
+        });
+        service = new SeatChangeLogService(redisTemplate, 2048, 21600);
+    }
+
+    @Test
+    void failedAppendResetsTheLogAndBroadcastsAResetFrame() {
+        appendFails.set(true);
+
+        service.onSeatStatusChanged(lockedEvent());
+
+        verify(redisTemplate).convertAndSend(eq("seat_events:16"), contains("\"reset\":true"));
+        verify(redisTemplate, never()).convertAndSend(anyString(), contains("\"reset\":false"));
+        // 리셋으로 floor가 현재 버전이 되므로 이전 버전 기준 delta는 없음 → 스냅샷
+        assertThat(service.changesSince(SCHEDULE_ID, 11)).isNull();
+    }
+
+    @Test
+    void logIsHiddenUntilAFailedResetIsRetried() {
+        redisDown.set(true);
+        service.onSeatStatusChanged(lockedEvent());
+
+        redisDown.set(false);
+        // 리셋 전에는 버전을 내주지 않음 (이전 ETag에 304를 주지 않도록) 그리고 변경분도 이어 붙이지 않음
+        assertThat(service.currentVersion(SCHEDULE_ID)).isNull();
+        service.onSeatStatusChanged(lockedEvent());
+        verify(redisTemplate).convertAndSend(eq("seat_events:16"), contains("\"reset\":true"));
+
+        assertThat(service.currentVersion(SCHEDULE_ID)).isEqualTo(12L);
+    }
+
+    @Test
+    void pendingResetIsRetriedOnSchedule() {
+        redisDown.set(true);
+        service.onSeatStatusChanged(lockedEvent());
+        service.retryPendingResets();
+        assertThat(service.currentVersion(SCHEDULE_ID)).isNull();
+
+        redisDown.set(false);
+        service.retryPendingResets();
+
+        assertThat(service.currentVersion(SCHEDULE_ID)).isEqualTo(12L);
+        verify(redisTemplate).convertAndSend(eq("seat_events:16"), contains("\"reset\":true"));
+    }
+
+    private static SeatStatusChangedEvent lockedEvent() {
+        return new SeatStatusChangedEvent(SCHEDULE_ID, List.of(
+                new SeatTransition(SCHEDULE_ID, 1L, "A", "VIP", SeatStatus.AVAILABLE, SeatStatus.LOCKED)));
+    }
+}
@@ -0,0 +1,46 @@
+package org.ddcn41.ticketing_system.seat.service;
+
+import org.ddcn41.ticketing_system.seat.dto.response.SeatZoneMapResponse;
+import org.ddcn41.ticketing_system.seat.entity.ScheduleSeat.SeatStatus;
+import org.ddcn41.ticketing_system.seat.repository.ScheduleSeatRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatZoneServiceTest {
+
+    private final ScheduleSeatRepository scheduleSeatRepository = mock(ScheduleSeatRepository.class);
+    private final SeatZoneService service =
+            new SeatZoneService(scheduleSeatRepository, mock(SeatAvailabilityStatsService.class));
+
+    @Test
+    void encodesRowsInLabelOrderWithMissingLabelsLast() {
+        BigDecimal price = new BigDecimal("50000");
+        when(scheduleSeatRepository.findZoneSeatsByScheduleId(1L, "A")).thenReturn(List.of(
+                new Object[]{10L, "R", null, "1", price, SeatStatus.AVAILABLE},
+                new Object[]{3L, "R", "AA", "1", price, SeatStatus.BOOKED},
+                new Object[]{1L, "R", "B", "2", price, SeatStatus.LOCKED},
+                new Object[]{2L, "R", "B", "4", price, SeatStatus.AVAILABLE},
+                new Object[]{4L, "R", "C", null, price, SeatStatus.AVAILABLE},
+                new Object[]{5L, "R", "C", "x", price, SeatStatus.BOOKED}));
+
+        SeatZoneMapResponse response = service.getZoneSeatMap(1L, "A", 7L);
+
+        List<SeatZoneMapResponse.Row> rows = response.getSections().getFirst().getRows();
+        assertThat(rows).extracting(SeatZoneMapResponse.Row::getRowLabel).containsExactly("B", "C", "AA", null);
+
+        SeatZoneMapResponse.Row rowB = rows.get(0);
+        assertThat(rowB.getColStart()).isEqualTo(2);
+        assertThat(rowB.getAvailability()).isEqualTo("L_A");
+        assertThat(rowB.getSeatIds()).containsExactly(1L, null, 2L);
+
+        SeatZoneMapResponse.Row rowC = rows.get(1);
+        assertThat(rowC.getColNums()).containsExactly("x", null);
+        assertThat(rowC.getAvailability()).isEqualTo("BA");
+    }
+}
@@ -0,0 +1,77 @@
+package org.ddcn41.ticketing_system.support;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * JDBC/SQL 테스트 공통 (PostgreSQL 컨테이너 + data-v2.sql 스키마/샘플 데이터)
+ * - 테스트마다 data-v2.sql을 다시 실행하여 초기 상태로 되돌림 (스크립트가 테이블을 DROP 후 생성)
+ * - 샘플 데이터: venue 8 / performance 11 / schedule 16, 17, 사용자 user-001 ~ user-006
+ * - Docker가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresTestSupport {
+
+    protected static final long VENUE_ID = 8L;
+    protected static final long PERFORMANCE_ID = 11L;
+    protected static final long SCHEDULE_ID = 16L;
+    protected static final long OTHER_SCHEDULE_ID = 17L;
+    protected static final String USER_ID = "user-001";
+
+    @Container
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    protected DriverManagerDataSource dataSource;
+    protected JdbcTemplate jdbcTemplate;
+    protected TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void resetDatabase() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        new ResourceDatabasePopulator(new FileSystemResource(schemaFile())).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    protected long insertSeat(long scheduleId, String zone, String rowLabel, String colNum,
+                              String grade, String price, String status) {
+        Long seatId = jdbcTemplate.queryForObject(
+                "INSERT INTO schedule_seats (schedule_id, grade, zone, row_label, col_num, price, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?) RETURNING seat_id",
+                Long.class, scheduleId, grade, zone, rowLabel, colNum, new BigDecimal(price), status);
+        return seatId;
+    }
+
+    protected long insertBooking(long scheduleId, String status, String totalAmount, long... seatIds) {
+        Long bookingId = jdbcTemplate.queryForObject(
+                "INSERT INTO bookings (booking_number, user_id, schedule_id, seat_count, total_amount, status) " +
+                "VALUES ('T-' || gen_random_uuid(), ?, ?, ?, ?, ?) RETURNING booking_id",
+                Long.class, USER_ID, scheduleId, seatIds.length, new BigDecimal(totalAmount), status);
+        for (long seatId : seatIds) {
+            jdbcTemplate.update("INSERT INTO booking_seats (booking_id, seat_id, seat_price) VALUES (?, ?, 0)",
+                    bookingId, seatId);
+        }
+        return bookingId;
+    }
+
+    protected String seatStatus(long seatId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM schedule_seats WHERE seat_id = ?", String.class, seatId);
+    }
+
+    private static Path schemaFile() {
+        Path fromModule = Path.of("..", "data-v2.sql");
+        return Files.exists(fromModule) ? fromModule : Path.of("data-v2.sql");
+    }
+}
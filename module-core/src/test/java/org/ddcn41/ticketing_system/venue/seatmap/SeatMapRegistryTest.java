@@ -0,0 +1,42 @@
+package org.ddcn41.ticketing_system.venue.seatmap;
+
+import org.ddcn41.ticketing_system.venue.entity.Venue;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatMapRegistryTest {
+
+    private final SeatMapRegistry registry = new SeatMapRegistry();
+
+    @Test
+    void sameSeatMapIsCompiledOnce() {
+        String json = seatMap("A");
+
+        CompiledSeatMap first = registry.get(venue(json));
+
+        assertThat(registry.get(venue(new String(json)))).isSameAs(first);
+    }
+
+    @Test
+    void seatMapWithTheSameLengthAndHashCodeIsRecompiled() {
+        // "Aa"와 "BB"는 String.hashCode가 같음 → 길이/해시만으로는 구분되지 않는 좌석 맵
+        String before = seatMap("Aa");
+        String after = seatMap("BB");
+        assertThat(after).hasSameSizeAs(before);
+        assertThat(after.hashCode()).isEqualTo(before.hashCode());
+
+        registry.get(venue(before));
+        CompiledSeatMap changed = registry.get(venue(after));
+
+        assertThat(changed.sections()).extracting(CompiledSeatMap.Section::zone).containsExactly("BB");
+    }
+
+    private static Venue venue(String seatMapJson) {
+        return Venue.builder().venueId(8L).seatMapJson(seatMapJson).build();
+    }
+
+    private static String seatMap(String zone) {
+        return "{\"sections\":[{\"zone\":\"" + zone + "\",\"grade\":\"VIP\",\"rows\":1,\"cols\":2,\"rowLabelFrom\":\"A\"}]}";
+    }
+}
@@ -1,7 +1,7 @@
 package org.ddcn41.ticketing_system.metric.config;
 
-import org.springframework.boot.actuate.audit.AuditEventRepository;
-import org.springframework.boot.actuate.audit.InMemoryAuditEventRepository;
+import org.ddcn41.ticketing_system.metric.repository.SequencedAuditEventRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,7 +9,7 @@ import org.springframework.context.annotation.Configuration;
 public class AuditConfig {
 
     @Bean
-    public AuditEventRepository auditEventRepository() {
-        return new InMemoryAuditEventRepository();
+    public SequencedAuditEventRepository auditEventRepository(@Value("${audit.capacity:1000}") int capacity) {
+        return new SequencedAuditEventRepository(capacity);
     }
 }
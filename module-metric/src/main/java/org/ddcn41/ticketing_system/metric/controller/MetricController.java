@@ -1,6 +1,7 @@
 package org.ddcn41.ticketing_system.metric.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
 import org.ddcn41.ticketing_system.metric.dto.AuditLogDto;
 import org.ddcn41.ticketing_system.metric.service.AuditEventService;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,13 @@ public class MetricController {
         return ResponseEntity.ok(auditEventService.getAllAuditEvents());
     }
 
+    @GetMapping("/auditevents/cursor")
+    public ResponseEntity<CursorPage<AuditLogDto>> getAuditEventsByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false, defaultValue = "100") Integer limit) {
+        return ResponseEntity.ok(auditEventService.getAuditEventsByCursor(cursor, limit));
+    }
+
     @PostMapping("/auditevents")
     public ResponseEntity<AuditLogDto> recordMetrics(@RequestBody AuditLogDto auditLogDto) {
         return ResponseEntity.ok(auditEventService.addAuditEvent(auditLogDto));
@@ -0,0 +1,91 @@
+package org.ddcn41.ticketing_system.metric.repository;
+
+import org.springframework.boot.actuate.audit.AuditEvent;
+import org.springframework.boot.actuate.audit.AuditEventRepository;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * 순번을 붙여 보관하는 메모리 감사 이벤트 저장소 (InMemoryAuditEventRepository와 같은 고정 크기 링 버퍼)
+ * - 이벤트마다 단조 증가 순번을 부여하여 커서 조회가 순번 기준으로 이어지도록 함
+ *   (시각 + 건너뛸 개수 커서는 오래된 이벤트가 밀려나면 건너뛰거나 중복됨)
+ * - 순번으로 버퍼 위치를 바로 계산하므로 페이지 조회는 필요한 건수만 읽음
+ */
+public class SequencedAuditEventRepository implements AuditEventRepository {
+
+    private final Object monitor = new Object();
+    private final AuditEvent[] events;
+
+    /** 다음에 추가될 이벤트의 순번 (1부터 시작) */
+    private long nextSequence = 1;
+
+    public SequencedAuditEventRepository(int capacity) {
+        Assert.isTrue(capacity > 0, "capacity must be positive");
+        this.events = new AuditEvent[capacity];
+    }
+
+    @Override
+    public void add(AuditEvent event) {
+        Assert.notNull(event, "AuditEvent must not be null");
+        synchronized (monitor) {
+            events[slot(nextSequence)] = event;
+            nextSequence++;
+        }
+    }
+
+    /**
+     * 조건에 맞는 이벤트 (최신순, InMemoryAuditEventRepository와 같은 동작)
+     */
+    @Override
+    public List<AuditEvent> find(String principal, Instant after, String type) {
+        List<AuditEvent> result = new LinkedList<>();
+        synchronized (monitor) {
+            for (long sequence = nextSequence - 1; sequence >= oldestSequence(); sequence--) {
+                AuditEvent event = events[slot(sequence)];
+                if (isMatch(principal, after, type, event)) {
+                    result.add(event);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * afterSequence 다음 순번부터 오래된 순으로 최대 limit건
+     * - afterSequence가 이미 밀려난 순번이면 보관 중인 가장 오래된 이벤트부터
+     */
+    public List<SequencedAuditEvent> findAfter(long afterSequence, int limit) {
+        List<SequencedAuditEvent> page = new ArrayList<>(Math.min(limit, events.length));
+        synchronized (monitor) {
+            if (afterSequence >= nextSequence - 1) {
+                return page;
+            }
+            for (long sequence = Math.max(afterSequence + 1, oldestSequence());
+                 sequence < nextSequence && page.size() < limit; sequence++) {
+                page.add(new SequencedAuditEvent(sequence, events[slot(sequence)]));
+            }
+        }
+        return page;
+    }
+
+    private long oldestSequence() {
+        return Math.max(1, nextSequence - events.length);
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % events.length);
+    }
+
+    private static boolean isMatch(String principal, Instant after, String type, AuditEvent event) {
+        return (principal == null || event.getPrincipal().equals(principal))
+                && (after == null || event.getTimestamp().isAfter(after))
+                && (type == null || event.getType().equals(type));
+    }
+
+    public record SequencedAuditEvent(long sequence, AuditEvent event) {
+    }
+}
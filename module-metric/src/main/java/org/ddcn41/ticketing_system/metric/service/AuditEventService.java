@@ -1,21 +1,54 @@
 package org.ddcn41.ticketing_system.metric.service;
 
 import lombok.RequiredArgsConstructor;
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
+import org.ddcn41.ticketing_system.common.dto.KeysetCursor;
 import org.ddcn41.ticketing_system.metric.dto.AuditLogDto;
+import org.ddcn41.ticketing_system.metric.repository.SequencedAuditEventRepository;
+import org.ddcn41.ticketing_system.metric.repository.SequencedAuditEventRepository.SequencedAuditEvent;
 import org.ddcn41.ticketing_system.metric.util.AuditEventBuilder;
 import org.springframework.boot.actuate.audit.AuditEvent;
-import org.springframework.boot.actuate.audit.AuditEventRepository;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AuditEventService {
-    private final AuditEventRepository auditEventRepository;
 
+    /**
+     * 중복 판별용으로 기억하는 최근 eventKey 수 (아웃박스 재시도는 보통 수 분 안에 일어나므로 충분)
+     */
+    private static final int RECENT_EVENT_KEYS = 10_000;
+
+    private final SequencedAuditEventRepository auditEventRepository;
+
+    private final Map<String, Boolean> recentEventKeys = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > RECENT_EVENT_KEYS;
+        }
+    };
+
+    /**
+     * 감사 이벤트 기록
+     * - data.eventKey(아웃박스 멱등 키)가 최근에 기록된 것과 같으면 재전달로 보고 건너뜀
+     */
     public AuditLogDto addAuditEvent(AuditLogDto auditLogDto) {
+        Object eventKey = auditLogDto.getData() == null ? null : auditLogDto.getData().get("eventKey");
+        if (eventKey != null) {
+            synchronized (recentEventKeys) {
+                if (recentEventKeys.putIfAbsent(eventKey.toString(), Boolean.TRUE) != null) {
+                    return auditLogDto;
+                }
+            }
+        }
+
         AuditEvent auditEvent = AuditEventBuilder.builder()
                 .principal(auditLogDto.getPrincipal())
                 .type(auditLogDto.getType())
@@ -34,6 +67,34 @@ public class AuditEventService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 커서 조회 (기록 순서 오름차순) — 커서의 순번 다음 이벤트부터 limit건까지 반환
+     * 커서 id는 저장소가 부여한 순번이므로 오래된 이벤트가 밀려나도 건너뛰거나 중복되지 않음
+     * (커서 위치가 이미 밀려났으면 보관 중인 가장 오래된 이벤트부터)
+     */
+    public CursorPage<AuditLogDto> getAuditEventsByCursor(String cursor, int limit) {
+        int size = Math.max(limit, 1);
+        KeysetCursor position = KeysetCursor.decodeOr(cursor, null);
+        long afterSequence = position == null ? 0L : position.idAsLong();
+
+        List<SequencedAuditEvent> events = auditEventRepository.findAfter(afterSequence, size + 1);
+        boolean hasNext = events.size() > size;
+        List<SequencedAuditEvent> page = hasNext ? events.subList(0, size) : events;
+
+        String nextCursor = null;
+        if (hasNext) {
+            SequencedAuditEvent last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(LocalDateTime.ofInstant(last.event().getTimestamp(), ZoneOffset.UTC),
+                    String.valueOf(last.sequence())).encode();
+        }
+
+        return CursorPage.<AuditLogDto>builder()
+                .items(page.stream().map(e -> convertToAuditLogDto(e.event())).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     private AuditLogDto convertToAuditLogDto(AuditEvent auditEvent) {
 
         return AuditLogDto.builder()
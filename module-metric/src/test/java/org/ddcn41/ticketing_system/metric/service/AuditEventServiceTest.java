@@ -0,0 +1,87 @@
+package org.ddcn41.ticketing_system.metric.service;
+
+import org.ddcn41.ticketing_system.common.dto.CursorPage;
+import org.ddcn41.ticketing_system.metric.dto.AuditLogDto;
+import org.ddcn41.ticketing_system.metric.repository.SequencedAuditEventRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AuditEventServiceTest {
+
+    private final SequencedAuditEventRepository repository = new SequencedAuditEventRepository(5);
+    private final AuditEventService service = new AuditEventService(repository);
+
+    @Test
+    void cursorPagesVisitEveryEventOnceInOrder() {
+        addEvents(1, 2, 3, 4, 5);
+
+        CursorPage<AuditLogDto> first = service.getAuditEventsByCursor(null, 2);
+        CursorPage<AuditLogDto> second = service.getAuditEventsByCursor(first.getNextCursor(), 2);
+        CursorPage<AuditLogDto> third = service.getAuditEventsByCursor(second.getNextCursor(), 2);
+
+        assertEquals(List.of("1", "2"), principals(first));
+        assertEquals(List.of("3", "4"), principals(second));
+        assertEquals(List.of("5"), principals(third));
+        assertFalse(third.isHasNext());
+        assertNull(third.getNextCursor());
+    }
+
+    @Test
+    void evictionBetweenPagesNeitherRepeatsNorSkipsRetainedEvents() {
+        addEvents(1, 2, 3, 4, 5);
+        CursorPage<AuditLogDto> first = service.getAuditEventsByCursor(null, 2);
+
+        addEvents(6, 7); // 1, 2 밀려남
+
+        CursorPage<AuditLogDto> second = service.getAuditEventsByCursor(first.getNextCursor(), 10);
+        assertEquals(List.of("3", "4", "5", "6", "7"), principals(second));
+
+        addEvents(8, 9, 10, 11, 12, 13); // 커서 위치(7)까지 모두 밀려남
+        CursorPage<AuditLogDto> resumed = service.getAuditEventsByCursor(first.getNextCursor(), 10);
+        assertEquals(List.of("9", "10", "11", "12", "13"), principals(resumed));
+    }
+
+    @Test
+    void findKeepsNewestFirstOrder() {
+        addEvents(1, 2, 3, 4, 5, 6);
+
+        List<String> principals = new ArrayList<>();
+        repository.find(null, null, null).forEach(e -> principals.add(e.getPrincipal()));
+        assertEquals(List.of("6", "5", "4", "3", "2"), principals);
+    }
+
+    @Test
+    void redeliveredEventKeyIsRecordedOnce() {
+        AuditLogDto event = AuditLogDto.builder()
+                .principal("user-1")
+                .type("BOOKING_CREATED")
+                .data(Map.of("eventKey", "AUDIT_EVENT:1"))
+                .build();
+
+        service.addAuditEvent(event);
+        service.addAuditEvent(event);
+
+        assertEquals(1, repository.find(null, null, null).size());
+    }
+
+    private void addEvents(int... principals) {
+        for (int principal : principals) {
+            service.addAuditEvent(AuditLogDto.builder()
+                    .principal(String.valueOf(principal))
+                    .type("TEST")
+                    .data(Map.of())
+                    .build());
+        }
+    }
+
+    private static List<String> principals(CursorPage<AuditLogDto> page) {
+        return page.getItems().stream().map(AuditLogDto::getPrincipal).toList();
+    }
+}
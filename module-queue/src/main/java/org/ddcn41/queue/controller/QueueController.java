@@ -219,14 +219,17 @@ public class QueueController {
     }
 
     /**
-     * 토큰 사용 완료 (인증 불필요)
+     * 토큰 사용 완료 (인증 불필요, Idempotency-Key가 같은 재요청은 한 번만 처리)
      */
     @PostMapping("/token/{token}/use")
     @Operation(summary = "토큰 사용 완료")
-    public ResponseEntity<ApiResponse<Void>> useToken(@PathVariable String token) {
+    public ResponseEntity<ApiResponse<Void>> useToken(
+            @PathVariable String token,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
         try {
-            queueService.useToken(token);
-            return ResponseEntity.ok(ApiResponse.success("토큰 사용 처리 완료"));
+            boolean processed = queueService.useToken(token, idempotencyKey);
+            return ResponseEntity.ok(ApiResponse.success(processed ? "토큰 사용 처리 완료" : "이미 처리된 토큰 사용 요청"));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("토큰을 찾을 수 없습니다"));
@@ -13,6 +13,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.security.SecureRandom;
@@ -52,6 +54,11 @@ public class QueueService {
     private static final String SESSION_KEY_PREFIX = "active_sessions:";
     private static final String HEARTBEAT_KEY_PREFIX = "heartbeat:";
     private static final String ACTIVE_TOKENS_KEY_PREFIX = "active_tokens:";
+    private static final String TOKEN_USE_KEY_PREFIX = "token_use:";
+    private static final String TOKEN_USE_PROCESSING = "PROCESSING";
+    private static final String TOKEN_USE_DONE = "DONE";
+    private static final Duration TOKEN_USE_PROCESSING_TTL = Duration.ofSeconds(30);
+    private static final Duration TOKEN_USE_DONE_TTL = Duration.ofDays(1);
 
     /**
      * 대기열 생성 시 직접 입장 세션 추적용
@@ -407,6 +414,41 @@ public class QueueService {
         return queueToken.isActiveForBooking();
     }
 
+    /**
+     * 멱등 키 기반 토큰 사용 완료 (예매 서비스 아웃박스의 재시도가 활성 토큰 수를 중복 감소시키지 않도록)
+     * - 같은 키로 이미 처리된 요청이면 아무것도 하지 않고 false
+     * - 같은 키 요청이 처리 중이면 409 (호출 측이 재시도)
+     * - 완료 표시는 커밋 후 기록, 롤백되면 선점을 지워 재시도 허용
+     */
+    public boolean useToken(String token, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            useToken(token);
+            return true;
+        }
+
+        String key = TOKEN_USE_KEY_PREFIX + idempotencyKey;
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, TOKEN_USE_PROCESSING, TOKEN_USE_PROCESSING_TTL))) {
+            if (TOKEN_USE_DONE.equals(redisTemplate.opsForValue().get(key))) {
+                log.info(">>> 이미 처리된 토큰 사용 요청: {}", idempotencyKey);
+                return false;
+            }
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 토큰 사용 요청을 처리 중입니다");
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    redisTemplate.opsForValue().set(key, TOKEN_USE_DONE, TOKEN_USE_DONE_TTL);
+                } else {
+                    redisTemplate.delete(key);
+                }
+            }
+        });
+        useToken(token);
+        return true;
+    }
+
     /**
      * 토큰 사용 완료 - Redis와 DB 동기화
      */